@@ -0,0 +1,152 @@
+package io.jenkins.plugins.lark.notice.config;
+
+import hudson.Extension;
+import hudson.model.Describable;
+import hudson.model.Descriptor;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.kohsuke.stapler.DataBoundConstructor;
+import org.kohsuke.stapler.DataBoundSetter;
+
+/**
+ * Background delivery settings for build notifications.
+ *
+ * <p>When enabled, build triggers only prepare the notification context and hand the actual sends to
+ * a bounded in-memory queue served by a small worker pool, so build start and completion do not wait
+ * for webhook round-trips.</p>
+ *
+ * <p>Independently of the queue, {@link #isDurable() durable} delivery journals every robot message under
+ * {@code JENKINS_HOME} before it is sent, so undelivered notifications survive restarts and long outages.</p>
+ *
+ * @author xm.z
+ */
+@Getter
+@Setter
+@ToString
+@Extension
+public class LarkDeliveryQueueConfig extends Descriptor<LarkDeliveryQueueConfig>
+        implements Describable<LarkDeliveryQueueConfig> {
+
+    /**
+     * Default number of queued notification batches.
+     */
+    public static final int DEFAULT_CAPACITY = 256;
+
+    /**
+     * Default number of delivery workers.
+     */
+    public static final int DEFAULT_WORKERS = 2;
+
+    /**
+     * Default time a build waits for its notifications when send failures may fail the build.
+     */
+    public static final int DEFAULT_MAX_WAIT_SECONDS = 30;
+
+    /**
+     * Upper bound for the worker pool size.
+     */
+    public static final int MAX_WORKERS = 32;
+
+    /**
+     * Whether notifications are delivered in the background.
+     */
+    private boolean enabled;
+
+    /**
+     * Maximum number of queued notification batches; new batches are dropped when full.
+     */
+    private int capacity;
+
+    /**
+     * Number of worker threads delivering queued notifications.
+     */
+    private int workers;
+
+    /**
+     * Maximum seconds a build waits for its notifications when
+     * {@link LarkGlobalConfig#isFailBuildOnNotificationFailure()} is on.
+     */
+    private int maxWaitSeconds;
+
+    /**
+     * Whether messages are journaled to the on-disk outbox before sending.
+     */
+    private boolean durable;
+
+    /**
+     * Creates a queue config initialized with default values.
+     */
+    public LarkDeliveryQueueConfig() {
+        super(LarkDeliveryQueueConfig.class);
+        this.capacity = DEFAULT_CAPACITY;
+        this.workers = DEFAULT_WORKERS;
+        this.maxWaitSeconds = DEFAULT_MAX_WAIT_SECONDS;
+    }
+
+    /**
+     * Creates a queue config with explicit values.
+     *
+     * @param enabled        whether background delivery is enabled
+     * @param capacity       maximum number of queued batches
+     * @param workers        number of delivery workers
+     * @param maxWaitSeconds maximum seconds a build waits for its notifications
+     */
+    @DataBoundConstructor
+    public LarkDeliveryQueueConfig(boolean enabled, int capacity, int workers, int maxWaitSeconds) {
+        this();
+        this.enabled = enabled;
+        this.capacity = capacity;
+        this.workers = workers;
+        this.maxWaitSeconds = maxWaitSeconds;
+    }
+
+    /**
+     * Sets whether messages are journaled to the on-disk outbox before sending.
+     *
+     * @param durable {@code true} to keep undelivered messages across restarts
+     */
+    @DataBoundSetter
+    public void setDurable(boolean durable) {
+        this.durable = durable;
+    }
+
+    /**
+     * Returns a new config instance with default values.
+     *
+     * @return default queue config
+     */
+    public static LarkDeliveryQueueConfig defaultConfig() {
+        return new LarkDeliveryQueueConfig();
+    }
+
+    /**
+     * Returns a copy with missing or invalid values replaced by defaults.
+     *
+     * @param queueConfig queue config to normalize, may be null
+     * @return normalized queue config
+     */
+    public static LarkDeliveryQueueConfig normalize(LarkDeliveryQueueConfig queueConfig) {
+        if (queueConfig == null) {
+            return defaultConfig();
+        }
+        LarkDeliveryQueueConfig normalized = new LarkDeliveryQueueConfig(
+                queueConfig.isEnabled(),
+                queueConfig.getCapacity() < 1 ? DEFAULT_CAPACITY : queueConfig.getCapacity(),
+                queueConfig.getWorkers() < 1 ? DEFAULT_WORKERS : Math.min(queueConfig.getWorkers(), MAX_WORKERS),
+                queueConfig.getMaxWaitSeconds() < 0 ? DEFAULT_MAX_WAIT_SECONDS : queueConfig.getMaxWaitSeconds()
+        );
+        normalized.setDurable(queueConfig.isDurable());
+        return normalized;
+    }
+
+    /**
+     * Returns the descriptor for UI binding.
+     *
+     * @return descriptor for this queue config
+     */
+    @Override
+    public Descriptor<LarkDeliveryQueueConfig> getDescriptor() {
+        return this;
+    }
+}
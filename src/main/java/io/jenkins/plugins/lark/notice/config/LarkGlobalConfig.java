@@ -3,20 +3,31 @@ package io.jenkins.plugins.lark.notice.config;
 import hudson.Extension;
 import hudson.model.Describable;
 import hudson.model.Descriptor;
+import hudson.util.FormValidation;
+import io.jenkins.plugins.lark.notice.Messages;
 import io.jenkins.plugins.lark.notice.config.LarkRobotConfig.LarkRobotConfigDescriptor;
 import io.jenkins.plugins.lark.notice.config.security.LarkPermissions;
 import io.jenkins.plugins.lark.notice.enums.NoticeOccasionEnum;
 import io.jenkins.plugins.lark.notice.enums.RobotType;
+import io.jenkins.plugins.lark.notice.sdk.HttpTransportRegistry;
 import io.jenkins.plugins.lark.notice.sdk.MessageSenderRegistry;
+import io.jenkins.plugins.lark.notice.sdk.RateLimiterRegistry;
+import io.jenkins.plugins.lark.notice.sdk.SharedFileRateLimitBackend;
 import jenkins.model.Jenkins;
 import lombok.Getter;
 import lombok.ToString;
 import net.sf.json.JSONObject;
+import org.apache.commons.lang3.StringUtils;
 import org.kohsuke.stapler.DataBoundConstructor;
 import org.kohsuke.stapler.DataBoundSetter;
+import org.kohsuke.stapler.QueryParameter;
 import org.kohsuke.stapler.StaplerRequest2;
+import org.kohsuke.stapler.interceptor.RequirePOST;
 
+import java.io.IOException;
 import java.net.ProxySelector;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -52,6 +63,33 @@ public class LarkGlobalConfig extends Descriptor<LarkGlobalConfig> implements De
      */
     private boolean failBuildOnNotificationFailure = true;
 
+    /**
+     * Whether pipeline steps send from the agent running them by default instead of from the controller.
+     */
+    private boolean sendFromAgent;
+
+    /**
+     * Unix domain socket of a local relay process that performs all controller-side webhook calls;
+     * blank sends directly from the Jenkins JVM.
+     */
+    private String relaySocketPath;
+
+    /**
+     * Memory-mapped file through which controllers on the same host share robot rate limits;
+     * blank keeps the limits per controller.
+     */
+    private String rateLimitStateFile;
+
+    /**
+     * Seconds within which an identical message to the same robot is suppressed; {@code 0} disables deduplication.
+     */
+    private int dedupWindowSeconds;
+
+    /**
+     * Background delivery queue settings; {@code null} in configurations saved before the queue existed.
+     */
+    private LarkDeliveryQueueConfig deliveryQueueConfig;
+
     /**
      * Set of occasion names (corresponding to {@link NoticeOccasionEnum}) that trigger notifications.
      */
@@ -94,6 +132,7 @@ public class LarkGlobalConfig extends Descriptor<LarkGlobalConfig> implements De
     public LarkGlobalConfig() {
         super(LarkGlobalConfig.class);
         load();
+        RateLimiterRegistry.getInstance().useSharedStateFile(rateLimitStateFile);
     }
 
     /**
@@ -181,6 +220,121 @@ public class LarkGlobalConfig extends Descriptor<LarkGlobalConfig> implements De
         this.failBuildOnNotificationFailure = failBuildOnNotificationFailure;
     }
 
+    /**
+     * Sets the global default for whether pipeline steps run the webhook call on their current agent.
+     *
+     * @param sendFromAgent {@code true} to send from the agent; steps outside a {@code node} block still send
+     *                      from the controller
+     */
+    @DataBoundSetter
+    public void setSendFromAgent(boolean sendFromAgent) {
+        this.sendFromAgent = sendFromAgent;
+    }
+
+    /**
+     * Sets the Unix domain socket of the local relay that performs webhook calls for the controller.
+     * <p>Clears cached senders in {@link MessageSenderRegistry} so the next send picks up the new route.</p>
+     *
+     * @param relaySocketPath absolute socket path, or blank to send directly
+     */
+    @DataBoundSetter
+    public void setRelaySocketPath(String relaySocketPath) {
+        MessageSenderRegistry.getInstance().clear();
+        this.relaySocketPath = StringUtils.trimToNull(relaySocketPath);
+    }
+
+    /**
+     * Validates the relay socket path entered in the global configuration form.
+     *
+     * @param value socket path
+     * @return validation result
+     */
+    @RequirePOST
+    public FormValidation doCheckRelaySocketPath(@QueryParameter String value) {
+        if (!Jenkins.get().hasPermission(LarkPermissions.CONFIGURE)) {
+            return FormValidation.error(Messages.form_validation_permission_denied());
+        }
+        if (StringUtils.isBlank(value)) {
+            return FormValidation.ok();
+        }
+        Path socketPath = Path.of(value.trim());
+        if (!socketPath.isAbsolute()) {
+            return FormValidation.error(Messages.form_validation_relay_socket_relative());
+        }
+        return Files.exists(socketPath) ? FormValidation.ok()
+                : FormValidation.warning(Messages.form_validation_relay_socket_missing());
+    }
+
+    /**
+     * Sets the file through which controllers on this host share robot rate limits.
+     * <p>Switches {@link RateLimiterRegistry} to the new state right away.</p>
+     *
+     * @param rateLimitStateFile absolute file path, or blank to limit per controller
+     */
+    @DataBoundSetter
+    public void setRateLimitStateFile(String rateLimitStateFile) {
+        this.rateLimitStateFile = StringUtils.trimToNull(rateLimitStateFile);
+        RateLimiterRegistry.getInstance().useSharedStateFile(this.rateLimitStateFile);
+    }
+
+    /**
+     * Sets the window within which identical messages to the same robot are sent only once.
+     *
+     * @param dedupWindowSeconds window in seconds; {@code 0} or less disables deduplication
+     */
+    @DataBoundSetter
+    public void setDedupWindowSeconds(int dedupWindowSeconds) {
+        this.dedupWindowSeconds = Math.max(0, dedupWindowSeconds);
+    }
+
+    /**
+     * Validates the shared rate limit file entered in the global configuration form.
+     *
+     * @param value file path
+     * @return validation result
+     */
+    @RequirePOST
+    public FormValidation doCheckRateLimitStateFile(@QueryParameter String value) {
+        if (!Jenkins.get().hasPermission(LarkPermissions.CONFIGURE)) {
+            return FormValidation.error(Messages.form_validation_permission_denied());
+        }
+        if (StringUtils.isBlank(value)) {
+            return FormValidation.ok();
+        }
+        Path file = Path.of(value.trim());
+        if (!file.isAbsolute()) {
+            return FormValidation.error(Messages.form_validation_rateLimit_stateFile_relative());
+        }
+        try {
+            Optional<String> networkType = SharedFileRateLimitBackend.networkFileSystemOf(file);
+            if (networkType.isPresent()) {
+                return FormValidation.error(Messages.form_validation_rateLimit_stateFile_network(networkType.get()));
+            }
+        } catch (IOException e) {
+            return FormValidation.warning(Messages.form_validation_rateLimit_stateFile_unreadable());
+        }
+        return FormValidation.ok();
+    }
+
+    /**
+     * Returns the background delivery queue settings, falling back to defaults (queue disabled).
+     *
+     * @return normalized delivery queue settings
+     */
+    public LarkDeliveryQueueConfig getDeliveryQueueConfig() {
+        return LarkDeliveryQueueConfig.normalize(deliveryQueueConfig);
+    }
+
+    /**
+     * Updates the background delivery queue settings.
+     *
+     * @param deliveryQueueConfig The new queue settings, or {@code null} for defaults.
+     */
+    @DataBoundSetter
+    public void setDeliveryQueueConfig(LarkDeliveryQueueConfig deliveryQueueConfig) {
+        this.deliveryQueueConfig = deliveryQueueConfig == null ? null : LarkDeliveryQueueConfig.normalize(deliveryQueueConfig);
+    }
+
     /**
      * Updates the set of build occasions that trigger a notification.
      *
@@ -193,13 +347,15 @@ public class LarkGlobalConfig extends Descriptor<LarkGlobalConfig> implements De
 
     /**
      * Updates the global proxy configuration.
-     * <p>Clears cached senders in {@link MessageSenderRegistry} to force reconnection through the new proxy path.</p>
+     * <p>Clears cached senders in {@link MessageSenderRegistry} and pooled clients in {@link HttpTransportRegistry}
+     * to force reconnection through the new proxy path.</p>
      *
      * @param proxyConfig The new proxy configuration, or {@code null} to disable proxy usage.
      */
     @DataBoundSetter
     public void setProxyConfig(LarkProxyConfig proxyConfig) {
         MessageSenderRegistry.getInstance().clear();
+        HttpTransportRegistry.getInstance().invalidate();
         this.proxyConfig = proxyConfig;
     }
 
@@ -270,6 +426,15 @@ public class LarkGlobalConfig extends Descriptor<LarkGlobalConfig> implements De
         return Jenkins.get().getDescriptorByType(LarkProxyConfig.class);
     }
 
+    /**
+     * Returns the delivery queue configuration Descriptor. Used for UI binding in Jelly via {@code f:property}.
+     *
+     * @return The descriptor instance of {@link LarkDeliveryQueueConfig}.
+     */
+    public LarkDeliveryQueueConfig getLarkDeliveryQueueConfigDescriptor() {
+        return Jenkins.get().getDescriptorByType(LarkDeliveryQueueConfig.class);
+    }
+
     /**
      * Returns the robot configuration Descriptor. Used for UI dynamic list rendering via {@code f:repeatable}.
      *
@@ -8,12 +8,14 @@ import lombok.Setter;
 import lombok.ToString;
 import org.apache.commons.lang3.StringUtils;
 import org.kohsuke.stapler.DataBoundConstructor;
+import org.kohsuke.stapler.DataBoundSetter;
 
 import java.io.IOException;
 import java.net.*;
 import java.net.Proxy.Type;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * Represents the configuration for Lark notification proxy, used to configure the proxy server information for Lark notifications.
@@ -26,6 +28,7 @@ import java.util.List;
  *     <li>type: The proxy type, supporting SOCKS and HTTP.</li>
  *     <li>host: The hostname or IP address of the proxy server.</li>
  *     <li>port: The port number of the proxy server.</li>
+ *     <li>noProxyHosts: Hosts, domain suffixes and CIDR ranges reached without the proxy.</li>
  * </ul>
  *
  * <p>LarkProxyConfig contains an obtainProxySelector method for obtaining an instance of the proxy selector for the proxy server.</p>
@@ -58,6 +61,11 @@ public class LarkProxyConfig extends Descriptor<LarkProxyConfig> implements Desc
      */
     private Integer port;
 
+    /**
+     * Hosts, domain suffixes and CIDR ranges that bypass the proxy, see {@link NoProxyMatcher}.
+     */
+    private String noProxyHosts;
+
     /**
      * Creates a new instance of LarkProxyConfig.
      */
@@ -93,6 +101,15 @@ public class LarkProxyConfig extends Descriptor<LarkProxyConfig> implements Desc
         }
     }
 
+    /**
+     * Sets the hosts that are reached without the proxy.
+     *
+     * @param noProxyHosts comma or line separated host, domain suffix and CIDR patterns
+     */
+    @DataBoundSetter
+    public void setNoProxyHosts(String noProxyHosts) {
+        this.noProxyHosts = StringUtils.trimToNull(noProxyHosts);
+    }
 
     /**
      * Returns the descriptor for LarkProxyConfig.
@@ -106,37 +123,100 @@ public class LarkProxyConfig extends Descriptor<LarkProxyConfig> implements Desc
 
     /**
      * Obtains an instance of the proxy selector for the proxy server, returning NO_PROXY if no proxy is needed.
+     * Selectors built from identical settings are equal, which lets pooled HTTP clients be shared between senders.
+     * The proxy address is taken from {@link ProxyAddressCache}, so selecting does not look the proxy host up
+     * on every request.
      *
      * @return An instance of the proxy selector for the proxy server.
      */
     public ProxySelector obtainProxySelector() {
-        return new ProxySelector() {
-            /**
-             * Selects proxies for the given URI based on the current proxy settings.
-             *
-             * @param uri target URI
-             * @return list of proxies to try
-             */
-            @Override
-            public List<Proxy> select(URI uri) {
-                if (!enabled || type == Type.DIRECT || StringUtils.isEmpty(host) || port == null) {
-                    return Collections.singletonList(Proxy.NO_PROXY);
-                }
-                InetSocketAddress inetSocketAddress = new InetSocketAddress(host, port);
-                return Collections.singletonList(new Proxy(type, inetSocketAddress));
+        return new ConfiguredProxySelector(enabled, type, host, port, noProxyHosts);
+    }
+
+    /**
+     * Proxy selector with value semantics over the proxy settings it was created from.
+     */
+    private static final class ConfiguredProxySelector extends ProxySelector {
+
+        private final boolean enabled;
+
+        private final Type type;
+
+        private final String host;
+
+        private final Integer port;
+
+        private final String noProxyHosts;
+
+        private final NoProxyMatcher noProxy;
+
+        private ConfiguredProxySelector(boolean enabled, Type type, String host, Integer port, String noProxyHosts) {
+            this.enabled = enabled;
+            this.type = type;
+            this.host = host;
+            this.port = port;
+            this.noProxyHosts = noProxyHosts;
+            this.noProxy = NoProxyMatcher.compile(noProxyHosts);
+        }
+
+        /**
+         * Selects proxies for the given URI based on the current proxy settings; hosts matching the no-proxy
+         * patterns are reached directly.
+         *
+         * @param uri target URI
+         * @return list of proxies to try
+         */
+        @Override
+        public List<Proxy> select(URI uri) {
+            if (isDirect() || (uri != null && noProxy.matches(uri.getHost()))) {
+                return Collections.singletonList(Proxy.NO_PROXY);
+            }
+            InetSocketAddress inetSocketAddress = ProxyAddressCache.getInstance().resolve(host, port);
+            return Collections.singletonList(new Proxy(type, inetSocketAddress));
+        }
+
+        /**
+         * Handles proxy connection failures. This implementation intentionally ignores failures.
+         *
+         * @param uri target URI
+         * @param sa  socket address of the proxy
+         * @param ioe failure exception
+         */
+        @Override
+        public void connectFailed(URI uri, SocketAddress sa, IOException ioe) {
+            /* ignore */
+        }
+
+        private boolean isDirect() {
+            return !enabled || type == Type.DIRECT || StringUtils.isEmpty(host) || port == null;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof ConfiguredProxySelector that)) {
+                return false;
+            }
+            if (isDirect() || that.isDirect()) {
+                return isDirect() == that.isDirect();
             }
+            return type == that.type && Objects.equals(host, that.host) && Objects.equals(port, that.port)
+                    && Objects.equals(noProxyHosts, that.noProxyHosts);
+        }
+
+        @Override
+        public int hashCode() {
+            return isDirect() ? 0 : Objects.hash(type, host, port, noProxyHosts);
+        }
 
-            /**
-             * Handles proxy connection failures. This implementation intentionally ignores failures.
-             *
-             * @param uri target URI
-             * @param sa  socket address of the proxy
-             * @param ioe failure exception
-             */
-            @Override
-            public void connectFailed(URI uri, SocketAddress sa, IOException ioe) {
-                /* ignore */
+        @Override
+        public String toString() {
+            if (isDirect()) {
+                return "DIRECT";
             }
-        };
+            return type + " " + host + ":" + port + (noProxy.isEmpty() ? "" : " (no proxy: " + noProxyHosts + ")");
+        }
     }
 }
@@ -0,0 +1,113 @@
+package io.jenkins.plugins.lark.notice.config;
+
+import hudson.Extension;
+import hudson.model.Describable;
+import hudson.model.Descriptor;
+import io.jenkins.plugins.lark.notice.enums.RobotType;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.kohsuke.stapler.DataBoundConstructor;
+
+/**
+ * Per-robot rate limit for outbound webhook calls.
+ *
+ * <p>Limits left at {@code 0} fall back to the documented defaults of the robot platform, see
+ * {@link RobotType#getDefaultRequestsPerSecond()} and {@link RobotType#getDefaultRequestsPerMinute()}.</p>
+ *
+ * @author xm.z
+ */
+@Getter
+@Setter
+@ToString
+@Extension
+public class LarkRateLimitConfig extends Descriptor<LarkRateLimitConfig> implements Describable<LarkRateLimitConfig> {
+
+    /**
+     * Default time a send may wait for a permit before it is rejected.
+     */
+    public static final long DEFAULT_MAX_WAIT_MS = 10_000L;
+
+    /**
+     * Whether sends to this robot are rate limited.
+     */
+    private boolean enabled;
+
+    /**
+     * Requests allowed per second, {@code 0} for the platform default.
+     */
+    private int requestsPerSecond;
+
+    /**
+     * Requests allowed per minute, {@code 0} for the platform default.
+     */
+    private int requestsPerMinute;
+
+    /**
+     * Maximum time in milliseconds a send waits for a permit.
+     */
+    private long maxWaitMs;
+
+    /**
+     * Creates a rate limit config initialized with default values.
+     */
+    public LarkRateLimitConfig() {
+        super(LarkRateLimitConfig.class);
+        this.enabled = true;
+        this.maxWaitMs = DEFAULT_MAX_WAIT_MS;
+    }
+
+    /**
+     * Creates a rate limit config with explicit values.
+     *
+     * @param enabled           whether sends are rate limited
+     * @param requestsPerSecond requests per second, {@code 0} for the platform default
+     * @param requestsPerMinute requests per minute, {@code 0} for the platform default
+     * @param maxWaitMs         maximum time a send waits for a permit
+     */
+    @DataBoundConstructor
+    public LarkRateLimitConfig(boolean enabled, int requestsPerSecond, int requestsPerMinute, long maxWaitMs) {
+        this();
+        this.enabled = enabled;
+        this.requestsPerSecond = requestsPerSecond;
+        this.requestsPerMinute = requestsPerMinute;
+        this.maxWaitMs = maxWaitMs;
+    }
+
+    /**
+     * Returns a new config instance with default values.
+     *
+     * @return default rate limit config
+     */
+    public static LarkRateLimitConfig defaultConfig() {
+        return new LarkRateLimitConfig();
+    }
+
+    /**
+     * Returns a copy with negative values replaced by defaults.
+     *
+     * @param rateLimitConfig rate limit config to normalize, may be null
+     * @return normalized rate limit config
+     */
+    public static LarkRateLimitConfig normalize(LarkRateLimitConfig rateLimitConfig) {
+        if (rateLimitConfig == null) {
+            return defaultConfig();
+        }
+        return new LarkRateLimitConfig(
+                rateLimitConfig.isEnabled(),
+                Math.max(0, rateLimitConfig.getRequestsPerSecond()),
+                Math.max(0, rateLimitConfig.getRequestsPerMinute()),
+                rateLimitConfig.getMaxWaitMs() < 0 ? DEFAULT_MAX_WAIT_MS : rateLimitConfig.getMaxWaitMs()
+        );
+    }
+
+    /**
+     * Returns the descriptor for UI binding.
+     *
+     * @return descriptor for this rate limit config
+     */
+    @Override
+    public Descriptor<LarkRateLimitConfig> getDescriptor() {
+        return this;
+    }
+}
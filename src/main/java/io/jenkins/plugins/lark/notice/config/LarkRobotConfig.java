@@ -8,6 +8,8 @@ import hudson.util.Secret;
 import io.jenkins.plugins.lark.notice.Messages;
 import io.jenkins.plugins.lark.notice.config.security.LarkPermissions;
 import io.jenkins.plugins.lark.notice.enums.*;
+import io.jenkins.plugins.lark.notice.sdk.EndpointLatencyProber;
+import io.jenkins.plugins.lark.notice.sdk.EndpointProbeStats;
 import io.jenkins.plugins.lark.notice.service.RobotConfigTestService;
 import io.jenkins.plugins.lark.notice.tools.ApiResponse;
 import io.jenkins.plugins.lark.notice.tools.HttpResponses;
@@ -83,6 +85,31 @@ public class LarkRobotConfig implements Describable<LarkRobotConfig> {
      */
     private LarkRetryConfig retryConfig;
 
+    /**
+     * Rate limit configuration for this robot.
+     */
+    private LarkRateLimitConfig rateLimitConfig;
+
+    /**
+     * Network timeouts and delivery deadline for this robot.
+     */
+    private LarkTimeoutConfig timeoutConfig;
+
+    /**
+     * Additional webhooks sharing this robot's traffic.
+     */
+    private List<LarkRobotPoolMember> poolMembers;
+
+    /**
+     * Comma separated ids of the robots that take over, in order, when this robot keeps failing.
+     */
+    private String fallbackRobots;
+
+    /**
+     * Alternative base URLs of a Lark-compatible webhook; sends go to the fastest healthy one.
+     */
+    private String alternateBaseUrls;
+
     /**
      * Locale strategy used by built-in default message content for this robot.
      */
@@ -226,6 +253,102 @@ public class LarkRobotConfig implements Describable<LarkRobotConfig> {
         return LarkRetryConfig.normalize(retryConfig);
     }
 
+    /**
+     * Returns rate limit configuration, falling back to platform defaults when none is configured.
+     *
+     * @return rate limit config
+     */
+    public LarkRateLimitConfig getRateLimitConfig() {
+        return LarkRateLimitConfig.normalize(rateLimitConfig);
+    }
+
+    /**
+     * Returns timeout configuration, falling back to platform defaults when none is configured.
+     *
+     * @return timeout config
+     */
+    public LarkTimeoutConfig getTimeoutConfig() {
+        return LarkTimeoutConfig.normalize(timeoutConfig);
+    }
+
+    /**
+     * Returns the additional webhooks of this robot's pool.
+     *
+     * @return pool members, empty when the robot uses a single webhook
+     */
+    public List<LarkRobotPoolMember> getPoolMembers() {
+        return poolMembers == null ? Collections.emptyList() : Collections.unmodifiableList(poolMembers);
+    }
+
+    /**
+     * Returns the number of webhooks this robot sends through, including its own.
+     *
+     * @return pool size, at least {@code 1}
+     */
+    public int getPoolSize() {
+        return 1 + (int) getPoolMembers().stream()
+                .filter(member -> StringUtils.isNotBlank(member.getWebhook()))
+                .count();
+    }
+
+    /**
+     * Returns the alternative base URLs as entered in the robot editor.
+     *
+     * @return comma or line separated base URLs, may be null
+     */
+    public String getAlternateBaseUrls() {
+        return alternateBaseUrls;
+    }
+
+    /**
+     * Returns the base URLs this robot's webhook can be sent through: the configured one first, followed by the
+     * alternatives. Only Lark-compatible webhooks can move between base URLs.
+     *
+     * @return candidate base URLs, empty when the webhook has no alternatives
+     */
+    public List<String> getEndpointCandidates() {
+        String baseUrl = RobotWebhookResolver.extractBaseUrl(getWebhook());
+        List<String> alternates = RobotWebhookResolver.parseBaseUrls(alternateBaseUrls);
+        if (baseUrl.isEmpty() || alternates.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<String> candidates = new ArrayList<>();
+        candidates.add(baseUrl);
+        alternates.stream().filter(candidate -> !candidates.contains(candidate)).forEach(candidates::add);
+        return candidates.size() > 1 ? Collections.unmodifiableList(candidates) : Collections.emptyList();
+    }
+
+    /**
+     * Returns the cached latency probes of this robot's candidate base URLs for the robot editor.
+     *
+     * @return probe results, empty when the robot has no alternative base URLs
+     */
+    public List<EndpointProbeStats> getEndpointProbeResults() {
+        List<String> candidates = getEndpointCandidates();
+        return candidates.isEmpty() ? Collections.emptyList() : EndpointLatencyProber.getInstance().stats(candidates);
+    }
+
+    /**
+     * Returns the fallback robot ids as entered in the robot editor.
+     *
+     * @return comma separated robot ids, may be null
+     */
+    public String getFallbackRobots() {
+        return fallbackRobots;
+    }
+
+    /**
+     * Returns the ordered ids of the robots that take over when this robot returns a permanent error or keeps
+     * failing. Duplicates and this robot's own id are removed.
+     *
+     * @return fallback robot ids, empty when no failover is configured
+     */
+    public List<String> getFallbackRobotIds() {
+        return parseRobotIds(fallbackRobots).stream()
+                .filter(robotId -> !robotId.equals(id))
+                .toList();
+    }
+
     /**
      * Returns the message locale strategy configured for this robot.
      *
@@ -271,6 +394,72 @@ public class LarkRobotConfig implements Describable<LarkRobotConfig> {
         this.retryConfig = retryConfig;
     }
 
+    /**
+     * Updates rate limit configuration for this robot.
+     *
+     * @param rateLimitConfig rate limit configuration, or null to reset to platform defaults
+     */
+    @DataBoundSetter
+    public void setRateLimitConfig(LarkRateLimitConfig rateLimitConfig) {
+        this.rateLimitConfig = rateLimitConfig;
+    }
+
+    /**
+     * Updates timeout configuration for this robot.
+     *
+     * @param timeoutConfig timeout configuration, or null to reset to platform defaults
+     */
+    @DataBoundSetter
+    public void setTimeoutConfig(LarkTimeoutConfig timeoutConfig) {
+        this.timeoutConfig = timeoutConfig;
+    }
+
+    /**
+     * Updates the additional webhooks of this robot's pool.
+     *
+     * @param poolMembers pool members, or null for a single webhook
+     */
+    @DataBoundSetter
+    public void setPoolMembers(List<LarkRobotPoolMember> poolMembers) {
+        this.poolMembers = poolMembers == null ? null : new ArrayList<>(poolMembers);
+    }
+
+    /**
+     * Updates the alternative base URLs of a Lark-compatible webhook.
+     *
+     * @param alternateBaseUrls comma or line separated base URLs, or null to always use the configured one
+     */
+    @DataBoundSetter
+    public void setAlternateBaseUrls(String alternateBaseUrls) {
+        this.alternateBaseUrls = StringUtils.trimToNull(alternateBaseUrls);
+    }
+
+    /**
+     * Updates the robots that take over when this robot keeps failing.
+     *
+     * @param fallbackRobots comma separated robot ids in failover order, or null to disable failover
+     */
+    @DataBoundSetter
+    public void setFallbackRobots(String fallbackRobots) {
+        this.fallbackRobots = StringUtils.trimToNull(fallbackRobots);
+    }
+
+    /**
+     * Splits a comma or whitespace separated robot id list, keeping the first occurrence of each id.
+     *
+     * @param robotIds raw robot id list, may be null
+     * @return distinct robot ids in input order
+     */
+    static List<String> parseRobotIds(String robotIds) {
+        if (StringUtils.isBlank(robotIds)) {
+            return Collections.emptyList();
+        }
+        return Arrays.stream(robotIds.split("[,\\s]+"))
+                .filter(StringUtils::isNotBlank)
+                .distinct()
+                .toList();
+    }
+
     /**
      * Updates the locale strategy used for built-in default messages sent by this robot.
      *
@@ -369,6 +558,24 @@ public class LarkRobotConfig implements Describable<LarkRobotConfig> {
             return Jenkins.get().getDescriptorByType(LarkRetryConfig.class);
         }
 
+        /**
+         * Gets the rate limit config descriptor for UI binding.
+         *
+         * @return rate limit config descriptor
+         */
+        public LarkRateLimitConfig getLarkRateLimitConfigDescriptor() {
+            return Jenkins.get().getDescriptorByType(LarkRateLimitConfig.class);
+        }
+
+        /**
+         * Gets the timeout config descriptor for UI binding.
+         *
+         * @return timeout config descriptor
+         */
+        public LarkTimeoutConfig getLarkTimeoutConfigDescriptor() {
+            return Jenkins.get().getDescriptorByType(LarkTimeoutConfig.class);
+        }
+
         /**
          * Returns the explicit locale strategy used to seed new robot forms.
          *
@@ -393,6 +600,24 @@ public class LarkRobotConfig implements Describable<LarkRobotConfig> {
                     FormValidation.error(Messages.form_validation_name_required());
         }
 
+        /**
+         * Validates that every fallback robot id refers to a configured robot.
+         *
+         * @param value comma separated fallback robot ids
+         * @return warning naming the first unknown id, otherwise ok
+         */
+        @RequirePOST
+        public FormValidation doCheckFallbackRobots(@QueryParameter String value) {
+            if (!Jenkins.get().hasPermission(LarkPermissions.CONFIGURE)) {
+                return FormValidation.error(Messages.form_validation_permission_denied());
+            }
+            return parseRobotIds(value).stream()
+                    .filter(robotId -> LarkGlobalConfig.getRobot(robotId).isEmpty())
+                    .findFirst()
+                    .map(robotId -> FormValidation.warning(Messages.form_validation_fallback_robot_unknown(robotId)))
+                    .orElseGet(FormValidation::ok);
+        }
+
         /**
          * Validates whether the Webhook key is empty
          *
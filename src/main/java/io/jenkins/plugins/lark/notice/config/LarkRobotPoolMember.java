@@ -0,0 +1,105 @@
+package io.jenkins.plugins.lark.notice.config;
+
+import hudson.Extension;
+import hudson.model.Describable;
+import hudson.model.Descriptor;
+import hudson.util.Secret;
+import jenkins.model.Jenkins;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.kohsuke.stapler.DataBoundConstructor;
+
+/**
+ * One additional webhook of a robot pool: another bot in the same group that shares the robot's traffic.
+ *
+ * <p>Members use the robot's platform, keywords and SSL policy. A member without its own signing secret uses
+ * the robot's secret.</p>
+ *
+ * @author xm.z
+ */
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+public class LarkRobotPoolMember implements Describable<LarkRobotPoolMember> {
+
+    /**
+     * Default member weight.
+     */
+    public static final int DEFAULT_WEIGHT = 1;
+
+    /**
+     * Webhook URL of the member bot, stored securely.
+     */
+    private Secret webhook;
+
+    /**
+     * Signing secret of the member bot, stored securely; blank to use the robot's secret.
+     */
+    private Secret secret;
+
+    /**
+     * Relative share of the pool's traffic.
+     */
+    private int weight = DEFAULT_WEIGHT;
+
+    /**
+     * Data-bound constructor for a pool member.
+     *
+     * @param webhook webhook URL of the member bot
+     * @param secret  signing secret, blank to use the robot's secret
+     * @param weight  relative share of the pool's traffic
+     */
+    @DataBoundConstructor
+    public LarkRobotPoolMember(String webhook, String secret, int weight) {
+        this.webhook = Secret.fromString(webhook);
+        this.secret = Secret.fromString(secret);
+        this.weight = weight;
+    }
+
+    /**
+     * Retrieves the plain text webhook URL.
+     *
+     * @return webhook URL, or {@code null} when unset
+     */
+    public String getWebhook() {
+        return webhook == null ? null : webhook.getPlainText();
+    }
+
+    /**
+     * Retrieves the plain text signing secret.
+     *
+     * @return signing secret, or {@code null} when unset
+     */
+    public String getSecret() {
+        return secret == null ? null : secret.getPlainText();
+    }
+
+    /**
+     * Returns the weight, treating invalid values as the default.
+     *
+     * @return effective weight, at least {@code 1}
+     */
+    public int getWeight() {
+        return weight < 1 ? DEFAULT_WEIGHT : weight;
+    }
+
+    /**
+     * Provides the descriptor for this class which is used by Jenkins for UI binding and instantiation.
+     *
+     * @return The descriptor instance for this class.
+     */
+    @Override
+    public Descriptor<LarkRobotPoolMember> getDescriptor() {
+        return Jenkins.get().getDescriptorByType(LarkRobotPoolMemberDescriptor.class);
+    }
+
+    /**
+     * Descriptor for {@link LarkRobotPoolMember}.
+     */
+    @Extension
+    public static class LarkRobotPoolMemberDescriptor extends Descriptor<LarkRobotPoolMember> {
+    }
+}
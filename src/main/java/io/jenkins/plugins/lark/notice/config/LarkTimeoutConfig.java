@@ -0,0 +1,139 @@
+package io.jenkins.plugins.lark.notice.config;
+
+import hudson.Extension;
+import hudson.model.Describable;
+import hudson.model.Descriptor;
+import io.jenkins.plugins.lark.notice.enums.RobotType;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.kohsuke.stapler.DataBoundConstructor;
+
+import java.time.Duration;
+
+/**
+ * Per-robot network timeouts and the end-to-end delivery deadline.
+ *
+ * <p>Timeouts left at {@code 0} fall back to the defaults of the robot platform, see
+ * {@link RobotType#getDefaultConnectTimeoutSeconds()} and {@link RobotType#getDefaultReadTimeoutSeconds()}.
+ * The deadline bounds one notification including every retry and backoff delay.</p>
+ *
+ * @author xm.z
+ */
+@Getter
+@Setter
+@ToString
+@Extension
+public class LarkTimeoutConfig extends Descriptor<LarkTimeoutConfig> implements Describable<LarkTimeoutConfig> {
+
+    /**
+     * Fallback connect timeout for robots without a recognized platform.
+     */
+    public static final int DEFAULT_CONNECT_TIMEOUT_SECONDS = 5;
+
+    /**
+     * Fallback read timeout for robots without a recognized platform.
+     */
+    public static final int DEFAULT_READ_TIMEOUT_SECONDS = 10;
+
+    /**
+     * Default time one notification may take across all attempts.
+     */
+    public static final int DEFAULT_DEADLINE_SECONDS = 60;
+
+    /**
+     * Connect timeout in seconds, {@code 0} for the platform default.
+     */
+    private int connectTimeoutSeconds;
+
+    /**
+     * Time in seconds to wait for the webhook answer, {@code 0} for the platform default.
+     */
+    private int readTimeoutSeconds;
+
+    /**
+     * Time in seconds one notification may take across all attempts.
+     */
+    private int deadlineSeconds;
+
+    /**
+     * Creates a timeout config initialized with default values.
+     */
+    public LarkTimeoutConfig() {
+        super(LarkTimeoutConfig.class);
+        this.deadlineSeconds = DEFAULT_DEADLINE_SECONDS;
+    }
+
+    /**
+     * Creates a timeout config with explicit values.
+     *
+     * @param connectTimeoutSeconds connect timeout in seconds, {@code 0} for the platform default
+     * @param readTimeoutSeconds    read timeout in seconds, {@code 0} for the platform default
+     * @param deadlineSeconds       time one notification may take across all attempts
+     */
+    @DataBoundConstructor
+    public LarkTimeoutConfig(int connectTimeoutSeconds, int readTimeoutSeconds, int deadlineSeconds) {
+        this();
+        this.connectTimeoutSeconds = connectTimeoutSeconds;
+        this.readTimeoutSeconds = readTimeoutSeconds;
+        this.deadlineSeconds = deadlineSeconds;
+    }
+
+    /**
+     * Returns a new config instance with default values.
+     *
+     * @return default timeout config
+     */
+    public static LarkTimeoutConfig defaultConfig() {
+        return new LarkTimeoutConfig();
+    }
+
+    /**
+     * Returns a copy with negative values replaced by defaults.
+     *
+     * @param timeoutConfig timeout config to normalize, may be null
+     * @return normalized timeout config
+     */
+    public static LarkTimeoutConfig normalize(LarkTimeoutConfig timeoutConfig) {
+        if (timeoutConfig == null) {
+            return defaultConfig();
+        }
+        return new LarkTimeoutConfig(
+                Math.max(0, timeoutConfig.getConnectTimeoutSeconds()),
+                Math.max(0, timeoutConfig.getReadTimeoutSeconds()),
+                timeoutConfig.getDeadlineSeconds() < 1 ? DEFAULT_DEADLINE_SECONDS : timeoutConfig.getDeadlineSeconds()
+        );
+    }
+
+    /**
+     * Resolves the connect timeout for the given platform.
+     *
+     * @param robotType robot platform, may be null
+     * @return effective connect timeout
+     */
+    public Duration connectTimeout(RobotType robotType) {
+        int fallback = robotType == null ? DEFAULT_CONNECT_TIMEOUT_SECONDS : robotType.getDefaultConnectTimeoutSeconds();
+        return Duration.ofSeconds(connectTimeoutSeconds > 0 ? connectTimeoutSeconds : fallback);
+    }
+
+    /**
+     * Resolves the read timeout for the given platform.
+     *
+     * @param robotType robot platform, may be null
+     * @return effective read timeout
+     */
+    public Duration readTimeout(RobotType robotType) {
+        int fallback = robotType == null ? DEFAULT_READ_TIMEOUT_SECONDS : robotType.getDefaultReadTimeoutSeconds();
+        return Duration.ofSeconds(readTimeoutSeconds > 0 ? readTimeoutSeconds : fallback);
+    }
+
+    /**
+     * Returns the descriptor for UI binding.
+     *
+     * @return descriptor for this timeout config
+     */
+    @Override
+    public Descriptor<LarkTimeoutConfig> getDescriptor() {
+        return this;
+    }
+}
@@ -0,0 +1,204 @@
+package io.jenkins.plugins.lark.notice.config;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Precompiled matcher for hosts that must be reached without the proxy.
+ *
+ * <p>Patterns are separated by commas or whitespace and may be an exact host name, a domain suffix written as
+ * {@code .example.com} or {@code *.example.com} (matching the domain and all of its subdomains), an IP
+ * address, a CIDR range such as {@code 10.0.0.0/8} or {@code fd00::/8}, or {@code *} for every host. CIDR
+ * ranges only match hosts written as IP literals; host names are never resolved for matching.</p>
+ *
+ * @author xm.z
+ */
+public final class NoProxyMatcher {
+
+    private static final NoProxyMatcher NONE = new NoProxyMatcher(false, Set.of(), List.of(), List.of());
+
+    private static final Pattern SEPARATORS = Pattern.compile("[,;\\s]+");
+
+    private static final Pattern IPV4 = Pattern.compile("\\d{1,3}(\\.\\d{1,3}){3}");
+
+    private final boolean matchAll;
+
+    private final Set<String> hosts;
+
+    private final List<String> suffixes;
+
+    private final List<Cidr> ranges;
+
+    private NoProxyMatcher(boolean matchAll, Set<String> hosts, List<String> suffixes, List<Cidr> ranges) {
+        this.matchAll = matchAll;
+        this.hosts = hosts;
+        this.suffixes = suffixes;
+        this.ranges = ranges;
+    }
+
+    /**
+     * Compiles a no-proxy pattern list. Invalid CIDR entries are ignored.
+     *
+     * @param patterns pattern list, may be null
+     * @return compiled matcher
+     */
+    public static NoProxyMatcher compile(String patterns) {
+        if (StringUtils.isBlank(patterns)) {
+            return NONE;
+        }
+        boolean matchAll = false;
+        Set<String> hosts = new HashSet<>();
+        List<String> suffixes = new ArrayList<>();
+        List<Cidr> ranges = new ArrayList<>();
+        for (String raw : SEPARATORS.split(patterns.trim())) {
+            String pattern = normalizeHost(raw);
+            if (pattern.isEmpty()) {
+                continue;
+            }
+            if ("*".equals(pattern)) {
+                matchAll = true;
+            } else if (pattern.contains("/")) {
+                Cidr cidr = Cidr.parse(pattern);
+                if (cidr != null) {
+                    ranges.add(cidr);
+                }
+            } else if (pattern.startsWith("*.")) {
+                suffixes.add(pattern.substring(1));
+            } else if (pattern.startsWith(".")) {
+                suffixes.add(pattern);
+            } else {
+                hosts.add(pattern);
+            }
+        }
+        return new NoProxyMatcher(matchAll, Set.copyOf(hosts), List.copyOf(suffixes), List.copyOf(ranges));
+    }
+
+    /**
+     * Returns whether requests to the given host bypass the proxy.
+     *
+     * @param host target host name or IP literal, may be null
+     * @return {@code true} when the host matches a pattern
+     */
+    public boolean matches(String host) {
+        if (matchAll) {
+            return true;
+        }
+        String candidate = normalizeHost(host);
+        if (candidate.isEmpty()) {
+            return false;
+        }
+        if (hosts.contains(candidate)) {
+            return true;
+        }
+        for (String suffix : suffixes) {
+            if (candidate.endsWith(suffix) || candidate.equals(suffix.substring(1))) {
+                return true;
+            }
+        }
+        if (ranges.isEmpty()) {
+            return false;
+        }
+        byte[] address = ipLiteral(candidate);
+        if (address == null) {
+            return false;
+        }
+        for (Cidr range : ranges) {
+            if (range.contains(address)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns whether no pattern is configured.
+     *
+     * @return {@code true} when every host goes through the proxy
+     */
+    public boolean isEmpty() {
+        return !matchAll && hosts.isEmpty() && suffixes.isEmpty() && ranges.isEmpty();
+    }
+
+    private static String normalizeHost(String host) {
+        String value = StringUtils.trimToEmpty(host).toLowerCase(Locale.ROOT);
+        if (value.startsWith("[") && value.contains("]")) {
+            value = value.substring(1, value.indexOf(']'));
+        }
+        return value.endsWith(".") && value.length() > 1 ? value.substring(0, value.length() - 1) : value;
+    }
+
+    /**
+     * Parses an IP literal without consulting DNS.
+     *
+     * @return address bytes, or {@code null} when the value is not an IP literal
+     */
+    private static byte[] ipLiteral(String value) {
+        if (IPV4.matcher(value).matches()) {
+            String[] octets = value.split("\\.");
+            byte[] address = new byte[4];
+            for (int i = 0; i < 4; i++) {
+                int octet = Integer.parseInt(octets[i]);
+                if (octet > 255) {
+                    return null;
+                }
+                address[i] = (byte) octet;
+            }
+            return address;
+        }
+        if (!value.contains(":")) {
+            return null;
+        }
+        try {
+            return InetAddress.getByName(value).getAddress();
+        } catch (UnknownHostException | SecurityException e) {
+            return null;
+        }
+    }
+
+    private record Cidr(byte[] network, int prefixLength) {
+
+        static Cidr parse(String pattern) {
+            int slash = pattern.indexOf('/');
+            byte[] network = ipLiteral(pattern.substring(0, slash));
+            if (network == null) {
+                return null;
+            }
+            int prefixLength;
+            try {
+                prefixLength = Integer.parseInt(pattern.substring(slash + 1));
+            } catch (NumberFormatException e) {
+                return null;
+            }
+            if (prefixLength < 0 || prefixLength > network.length * 8) {
+                return null;
+            }
+            return new Cidr(network, prefixLength);
+        }
+
+        boolean contains(byte[] address) {
+            if (address.length != network.length) {
+                return false;
+            }
+            int fullBytes = prefixLength / 8;
+            for (int i = 0; i < fullBytes; i++) {
+                if (address[i] != network[i]) {
+                    return false;
+                }
+            }
+            int remainingBits = prefixLength % 8;
+            if (remainingBits == 0) {
+                return true;
+            }
+            int mask = 0xFF << (8 - remainingBits);
+            return (address[fullBytes] & mask) == (network[fullBytes] & mask);
+        }
+    }
+}
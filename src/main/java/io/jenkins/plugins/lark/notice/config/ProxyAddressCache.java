@@ -0,0 +1,149 @@
+package io.jenkins.plugins.lark.notice.config;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.InetSocketAddress;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+
+/**
+ * Caches resolved proxy server addresses so selecting a proxy does not look the proxy host up on every request.
+ *
+ * <p>The first selection resolves synchronously. Afterwards the cached address is always returned at once and
+ * refreshed on a background thread once it is older than {@link #REFRESH_AFTER_NANOS}; a failed lookup keeps
+ * the last good address and is retried after {@link #RETRY_FAILED_NANOS}.</p>
+ *
+ * @author xm.z
+ */
+@Slf4j
+public final class ProxyAddressCache {
+
+    /**
+     * Age after which a resolved address is refreshed in the background.
+     */
+    static final long REFRESH_AFTER_NANOS = TimeUnit.MINUTES.toNanos(5);
+
+    /**
+     * Age after which a failed lookup is tried again.
+     */
+    static final long RETRY_FAILED_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+    private static final ProxyAddressCache INSTANCE = new ProxyAddressCache(InetSocketAddress::new,
+            Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "lark-notice-proxy-resolver");
+                thread.setDaemon(true);
+                return thread;
+            }));
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private final BiFunction<String, Integer, InetSocketAddress> resolver;
+
+    private final Executor refresher;
+
+    private final AtomicLong lookups = new AtomicLong();
+
+    private volatile long lastLookupMicros = -1L;
+
+    ProxyAddressCache(BiFunction<String, Integer, InetSocketAddress> resolver, Executor refresher) {
+        // shared through getInstance(); package-private for tests
+        this.resolver = resolver;
+        this.refresher = refresher;
+    }
+
+    /**
+     * Returns the shared cache instance.
+     *
+     * @return singleton cache
+     */
+    public static ProxyAddressCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the proxy address for the given host and port, resolving it on first use.
+     *
+     * @param host proxy host name or IP literal
+     * @param port proxy port
+     * @return resolved address, or an unresolved one when the host cannot be looked up
+     */
+    public InetSocketAddress resolve(String host, int port) {
+        return resolve(host, port, System.nanoTime());
+    }
+
+    InetSocketAddress resolve(String host, int port, long now) {
+        String key = host + ":" + port;
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return entries.computeIfAbsent(key, ignored -> lookup(host, port, null, now)).address;
+        }
+        if (entry.isStale(now) && entry.refreshing.compareAndSet(false, true)) {
+            try {
+                refresher.execute(() -> entries.put(key, lookup(host, port, entry, now)));
+            } catch (RejectedExecutionException e) {
+                entry.refreshing.set(false);
+            }
+        }
+        return entry.address;
+    }
+
+    /**
+     * Returns how long the most recent proxy host lookup took.
+     *
+     * @return lookup time in microseconds, or {@code -1} when no lookup happened yet
+     */
+    public long lastLookupMicros() {
+        return lastLookupMicros;
+    }
+
+    /**
+     * Returns how many proxy host lookups were made since startup.
+     *
+     * @return lookup count
+     */
+    public long lookups() {
+        return lookups.get();
+    }
+
+    private Entry lookup(String host, int port, Entry previous, long now) {
+        long started = System.nanoTime();
+        InetSocketAddress address = resolver.apply(host, port);
+        long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - started);
+        lookups.incrementAndGet();
+        lastLookupMicros = micros;
+        boolean resolved = address != null && !address.isUnresolved();
+        log.debug("Resolved proxy host {} in {} us (resolved={})", host, micros, resolved);
+        if (!resolved && previous != null && previous.resolved) {
+            return new Entry(previous.address, true, now - REFRESH_AFTER_NANOS + RETRY_FAILED_NANOS);
+        }
+        return new Entry(address == null ? InetSocketAddress.createUnresolved(host, port) : address, resolved, now);
+    }
+
+    private static final class Entry {
+
+        private final InetSocketAddress address;
+
+        private final boolean resolved;
+
+        private final long resolvedAtNanos;
+
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+
+        private Entry(InetSocketAddress address, boolean resolved, long resolvedAtNanos) {
+            this.address = address;
+            this.resolved = resolved;
+            this.resolvedAtNanos = resolvedAtNanos;
+        }
+
+        private boolean isStale(long now) {
+            return now - resolvedAtNanos >= (resolved ? REFRESH_AFTER_NANOS : RETRY_FAILED_NANOS);
+        }
+    }
+}
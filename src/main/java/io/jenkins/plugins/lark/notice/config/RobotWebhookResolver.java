@@ -7,6 +7,9 @@ import org.apache.commons.lang3.StringUtils;
 
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
 
 /**
  * Resolves submitted robot endpoint settings into one canonical webhook URL.
@@ -190,6 +193,38 @@ public final class RobotWebhookResolver {
         }
     }
 
+    /**
+     * Parses a comma or whitespace separated list of base URLs, dropping invalid entries and duplicates.
+     *
+     * @param baseUrls raw base URL list, may be null
+     * @return normalized base URLs in input order
+     */
+    public static List<String> parseBaseUrls(String baseUrls) {
+        if (StringUtils.isBlank(baseUrls)) {
+            return List.of();
+        }
+        return Arrays.stream(baseUrls.split("[,\\s]+"))
+                .map(RobotWebhookResolver::normalizeBaseUrl)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+    }
+
+    /**
+     * Moves a Lark-compatible webhook to another base URL, keeping its path and token.
+     *
+     * @param webhook canonical webhook URL
+     * @param baseUrl normalized target base URL
+     * @return webhook on the target base URL, or the input when it is not Lark-compatible
+     */
+    public static String rebase(String webhook, String baseUrl) {
+        String currentBaseUrl = extractBaseUrl(webhook);
+        if (currentBaseUrl.isEmpty() || baseUrl == null || currentBaseUrl.equals(baseUrl)) {
+            return webhook;
+        }
+        return baseUrl + webhook.trim().substring(currentBaseUrl.length());
+    }
+
     private static final class ParsedWebhook {
 
         private final String scheme;
@@ -12,7 +12,27 @@ import io.jenkins.plugins.lark.notice.config.LarkGlobalConfig;
 import io.jenkins.plugins.lark.notice.config.security.LarkPermissions;
 import io.jenkins.plugins.lark.notice.config.snapshot.LarkConfigSnapshot;
 import io.jenkins.plugins.lark.notice.config.snapshot.LarkConfigSnapshotMapper;
+import io.jenkins.plugins.lark.notice.sdk.CircuitBreakerRegistry;
+import io.jenkins.plugins.lark.notice.sdk.CircuitBreakerStats;
+import io.jenkins.plugins.lark.notice.sdk.ConcurrencyLimiterRegistry;
+import io.jenkins.plugins.lark.notice.sdk.ConcurrencyLimiterStats;
+import io.jenkins.plugins.lark.notice.sdk.DeduplicationStats;
+import io.jenkins.plugins.lark.notice.sdk.FailureClass;
+import io.jenkins.plugins.lark.notice.sdk.FailureMetrics;
+import io.jenkins.plugins.lark.notice.sdk.HttpTransportRegistry;
+import io.jenkins.plugins.lark.notice.sdk.HttpTransportStats;
+import io.jenkins.plugins.lark.notice.sdk.MessageSenderRegistry;
+import io.jenkins.plugins.lark.notice.sdk.NotificationDeduplicator;
+import io.jenkins.plugins.lark.notice.sdk.RateLimiterRegistry;
+import io.jenkins.plugins.lark.notice.sdk.RateLimiterStats;
+import io.jenkins.plugins.lark.notice.sdk.RetryBudget;
+import io.jenkins.plugins.lark.notice.sdk.RetryBudgetStats;
+import io.jenkins.plugins.lark.notice.sdk.RobotPoolStats;
+import io.jenkins.plugins.lark.notice.sdk.outbox.NotificationOutbox;
+import io.jenkins.plugins.lark.notice.sdk.outbox.OutboxStats;
 import io.jenkins.plugins.lark.notice.service.ConfigSnapshotImportService;
+import io.jenkins.plugins.lark.notice.service.NotificationDeliveryQueue;
+import io.jenkins.plugins.lark.notice.service.NotificationDeliveryQueueStats;
 import io.jenkins.plugins.lark.notice.service.RobotJobBindingService;
 import io.jenkins.plugins.lark.notice.tools.ApiResponse;
 import io.jenkins.plugins.lark.notice.tools.HttpResponses;
@@ -28,6 +48,7 @@ import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -141,6 +162,110 @@ public class LarkManagementLink extends ManagementLink {
         return io.jenkins.plugins.lark.notice.config.LarkGlobalConfig.getRobot(getRequestedRobotId());
     }
 
+    /**
+     * Exposes the pooled HTTP transports for the status page.
+     *
+     * @return transport statistics, busiest first
+     */
+    public List<HttpTransportStats> getTransportStats() {
+        return HttpTransportRegistry.getInstance().stats();
+    }
+
+    /**
+     * Exposes per-robot rate limiter figures for the status page.
+     *
+     * @return limiter statistics ordered by robot name
+     */
+    public List<RateLimiterStats> getRateLimiterStats() {
+        return RateLimiterRegistry.getInstance().stats();
+    }
+
+    /**
+     * Exposes per-robot adaptive concurrency limits for the status page.
+     *
+     * @return limiter statistics ordered by robot name
+     */
+    public List<ConcurrencyLimiterStats> getConcurrencyLimiterStats() {
+        return ConcurrencyLimiterRegistry.getInstance().stats();
+    }
+
+    /**
+     * Exposes per-member load and health of pooled robots for the status page.
+     *
+     * @return pool statistics ordered by robot name
+     */
+    public List<RobotPoolStats> getRobotPoolStats() {
+        return MessageSenderRegistry.getInstance().poolStats();
+    }
+
+    /**
+     * Exposes per-robot circuit breaker states for the status page.
+     *
+     * @return breaker statistics ordered by robot name
+     */
+    public List<CircuitBreakerStats> getCircuitBreakerStats() {
+        return CircuitBreakerRegistry.getInstance().stats();
+    }
+
+    /**
+     * Exposes plugin-wide retry budget usage for the status page.
+     *
+     * @return retry budget statistics
+     */
+    public RetryBudgetStats getRetryBudgetStats() {
+        return RetryBudget.getInstance().stats();
+    }
+
+    /**
+     * Exposes notification deduplication figures for the status page.
+     *
+     * @return deduplication statistics
+     */
+    public DeduplicationStats getDeduplicationStats() {
+        return NotificationDeduplicator.getInstance().stats();
+    }
+
+    /**
+     * Exposes failed attempt counters per failure class for the status page.
+     *
+     * @return failed attempts per class
+     */
+    public Map<FailureClass, Long> getFailureCounts() {
+        return FailureMetrics.getInstance().snapshot();
+    }
+
+    /**
+     * Exposes background delivery queue figures for the status page.
+     *
+     * @return queue statistics
+     */
+    public NotificationDeliveryQueueStats getDeliveryQueueStats() {
+        return NotificationDeliveryQueue.getInstance().stats(getGlobalConfig().getDeliveryQueueConfig());
+    }
+
+    /**
+     * Exposes durable outbox figures for the status page.
+     *
+     * @return outbox statistics, or {@code null} when durable delivery is disabled
+     */
+    public OutboxStats getOutboxStats() {
+        return NotificationOutbox.isEnabled() ? NotificationOutbox.getInstance().stats() : null;
+    }
+
+    /**
+     * Re-queues every dead letter of the durable outbox; the drainer delivers them in throttled batches.
+     *
+     * @return redirect back to the status page
+     */
+    @POST
+    public HttpResponse doReplayDeadLetters() {
+        Jenkins.get().checkPermission(LarkPermissions.CONFIGURE);
+        if (NotificationOutbox.isEnabled()) {
+            NotificationOutbox.getInstance().replayDeadLetters();
+        }
+        return FormApply.success("status");
+    }
+
     /**
      * Processes the configuration submission for the Lark plugin. If the user has administrative
      * permissions, this method updates the plugin's global configuration based on the submitted form data.
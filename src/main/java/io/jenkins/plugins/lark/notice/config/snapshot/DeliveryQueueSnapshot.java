@@ -0,0 +1,58 @@
+package io.jenkins.plugins.lark.notice.config.snapshot;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.jenkins.plugins.lark.notice.config.LarkDeliveryQueueConfig;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Snapshot of background delivery queue settings.
+ *
+ * @author xm.z
+ */
+@Data
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DeliveryQueueSnapshot {
+
+    /**
+     * Whether background delivery is enabled.
+     */
+    private boolean enabled;
+
+    /**
+     * Maximum number of queued notification batches.
+     */
+    private Integer capacity;
+
+    /**
+     * Number of delivery workers.
+     */
+    private Integer workers;
+
+    /**
+     * Maximum seconds a build waits for its notifications.
+     */
+    private Integer maxWaitSeconds;
+
+    /**
+     * Whether messages are journaled to the on-disk outbox before sending.
+     */
+    private boolean durable;
+
+    /**
+     * Converts this snapshot into a queue config, defaulting omitted fields.
+     *
+     * @return normalized queue config
+     */
+    public LarkDeliveryQueueConfig toQueueConfig() {
+        LarkDeliveryQueueConfig queueConfig = new LarkDeliveryQueueConfig(
+                enabled,
+                capacity == null ? LarkDeliveryQueueConfig.DEFAULT_CAPACITY : capacity,
+                workers == null ? LarkDeliveryQueueConfig.DEFAULT_WORKERS : workers,
+                maxWaitSeconds == null ? LarkDeliveryQueueConfig.DEFAULT_MAX_WAIT_SECONDS : maxWaitSeconds
+        );
+        queueConfig.setDurable(durable);
+        return LarkDeliveryQueueConfig.normalize(queueConfig);
+    }
+}
@@ -81,6 +81,11 @@ public final class LarkConfigImportPlanner {
         LarkConfigSnapshotMapper.ImportedGlobalConfig merged = new LarkConfigSnapshotMapper.ImportedGlobalConfig();
         merged.setVerbose(imported.isVerbose());
         merged.setFailBuildOnNotificationFailure(imported.isFailBuildOnNotificationFailure());
+        merged.setSendFromAgent(imported.isSendFromAgent());
+        merged.setRelaySocketPath(imported.getRelaySocketPath());
+        merged.setRateLimitStateFile(imported.getRateLimitStateFile());
+        merged.setDedupWindowSeconds(imported.getDedupWindowSeconds());
+        merged.setDeliveryQueueConfig(LarkConfigSnapshotMapper.copyDeliveryQueueConfig(imported.getDeliveryQueueConfig()));
         merged.setNoticeOccasions(new LinkedHashSet<>(imported.getNoticeOccasions()));
         merged.setProxyConfig(LarkConfigSnapshotMapper.copyProxyConfig(imported.getProxyConfig()));
 
@@ -102,6 +107,11 @@ public final class LarkConfigImportPlanner {
         LarkConfigSnapshotMapper.ImportedGlobalConfig copy = new LarkConfigSnapshotMapper.ImportedGlobalConfig();
         copy.setVerbose(imported.isVerbose());
         copy.setFailBuildOnNotificationFailure(imported.isFailBuildOnNotificationFailure());
+        copy.setSendFromAgent(imported.isSendFromAgent());
+        copy.setRelaySocketPath(imported.getRelaySocketPath());
+        copy.setRateLimitStateFile(imported.getRateLimitStateFile());
+        copy.setDedupWindowSeconds(imported.getDedupWindowSeconds());
+        copy.setDeliveryQueueConfig(LarkConfigSnapshotMapper.copyDeliveryQueueConfig(imported.getDeliveryQueueConfig()));
         copy.setNoticeOccasions(new LinkedHashSet<>(imported.getNoticeOccasions()));
         copy.setProxyConfig(LarkConfigSnapshotMapper.copyProxyConfig(imported.getProxyConfig()));
 
@@ -55,6 +55,31 @@ public class LarkConfigSnapshot {
      */
     private boolean failBuildOnNotificationFailure = true;
 
+    /**
+     * Global default controlling whether pipeline steps send from their agent.
+     */
+    private boolean sendFromAgent;
+
+    /**
+     * Unix domain socket of the local relay process, or {@code null} when sending directly.
+     */
+    private String relaySocketPath;
+
+    /**
+     * File through which controllers on one host share robot rate limits, or {@code null} for per-controller limits.
+     */
+    private String rateLimitStateFile;
+
+    /**
+     * Seconds within which identical messages to the same robot are suppressed, {@code 0} when disabled.
+     */
+    private int dedupWindowSeconds;
+
+    /**
+     * Exported background delivery queue settings.
+     */
+    private DeliveryQueueSnapshot deliveryQueueConfig;
+
     /**
      * Globally enabled notice occasions.
      */
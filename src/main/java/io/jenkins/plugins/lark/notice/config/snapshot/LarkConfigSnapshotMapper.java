@@ -37,6 +37,11 @@ public final class LarkConfigSnapshotMapper {
         snapshot.setExportedAt(OffsetDateTime.now(ZoneOffset.UTC).toString());
         snapshot.setVerbose(globalConfig.isVerbose());
         snapshot.setFailBuildOnNotificationFailure(globalConfig.isFailBuildOnNotificationFailure());
+        snapshot.setSendFromAgent(globalConfig.isSendFromAgent());
+        snapshot.setRelaySocketPath(globalConfig.getRelaySocketPath());
+        snapshot.setRateLimitStateFile(globalConfig.getRateLimitStateFile());
+        snapshot.setDedupWindowSeconds(globalConfig.getDedupWindowSeconds());
+        snapshot.setDeliveryQueueConfig(toDeliveryQueueSnapshot(globalConfig.getDeliveryQueueConfig()));
         snapshot.setNoticeOccasions(new LinkedHashSet<>(globalConfig.getNoticeOccasions()));
         snapshot.setProxyConfig(toProxySnapshot(globalConfig.getProxyConfig()));
         snapshot.setRobotConfigs(mapRobotSnapshots(globalConfig.getRobotConfigs()));
@@ -53,6 +58,11 @@ public final class LarkConfigSnapshotMapper {
         ImportedGlobalConfig imported = new ImportedGlobalConfig();
         imported.setVerbose(snapshot.isVerbose());
         imported.setFailBuildOnNotificationFailure(snapshot.isFailBuildOnNotificationFailure());
+        imported.setSendFromAgent(snapshot.isSendFromAgent());
+        imported.setRelaySocketPath(snapshot.getRelaySocketPath());
+        imported.setRateLimitStateFile(snapshot.getRateLimitStateFile());
+        imported.setDedupWindowSeconds(snapshot.getDedupWindowSeconds());
+        imported.setDeliveryQueueConfig(toDeliveryQueueConfig(snapshot.getDeliveryQueueConfig()));
         imported.setNoticeOccasions(snapshot.getNoticeOccasions() == null
                 ? new LinkedHashSet<>()
                 : new LinkedHashSet<>(snapshot.getNoticeOccasions()));
@@ -65,6 +75,10 @@ public final class LarkConfigSnapshotMapper {
         return toProxyConfig(toProxySnapshot(proxyConfig));
     }
 
+    static LarkDeliveryQueueConfig copyDeliveryQueueConfig(LarkDeliveryQueueConfig queueConfig) {
+        return toDeliveryQueueConfig(toDeliveryQueueSnapshot(queueConfig));
+    }
+
     static LarkRobotConfig copyRobotConfig(LarkRobotConfig robotConfig) {
         if (robotConfig == null) {
             return null;
@@ -80,10 +94,24 @@ public final class LarkConfigSnapshotMapper {
         snapshot.setEnabled(proxyConfig.isEnabled());
         snapshot.setHost(proxyConfig.getHost());
         snapshot.setPort(proxyConfig.getPort());
+        snapshot.setNoProxyHosts(proxyConfig.getNoProxyHosts());
         snapshot.setType(proxyConfig.getType() == null ? Proxy.Type.DIRECT.name() : proxyConfig.getType().name());
         return snapshot;
     }
 
+    private static DeliveryQueueSnapshot toDeliveryQueueSnapshot(LarkDeliveryQueueConfig queueConfig) {
+        if (queueConfig == null) {
+            return null;
+        }
+        DeliveryQueueSnapshot snapshot = new DeliveryQueueSnapshot();
+        snapshot.setEnabled(queueConfig.isEnabled());
+        snapshot.setCapacity(queueConfig.getCapacity());
+        snapshot.setWorkers(queueConfig.getWorkers());
+        snapshot.setMaxWaitSeconds(queueConfig.getMaxWaitSeconds());
+        snapshot.setDurable(queueConfig.isDurable());
+        return snapshot;
+    }
+
     private static RobotSnapshot toRobotSnapshot(LarkRobotConfig robotConfig) {
         RobotSnapshot snapshot = new RobotSnapshot();
         snapshot.setId(robotConfig.getId());
@@ -93,6 +121,17 @@ public final class LarkConfigSnapshotMapper {
         snapshot.setEndpointMode(robotConfig.getEndpointMode());
         snapshot.setMessageLocaleStrategy(robotConfig.getMessageLocaleStrategy());
         snapshot.setRetryConfig(toRetrySnapshot(robotConfig.getRetryConfig()));
+        snapshot.setRateLimitConfig(toRateLimitSnapshot(robotConfig.getRateLimitConfig()));
+        snapshot.setTimeoutConfig(toTimeoutSnapshot(robotConfig.getTimeoutConfig()));
+        List<PoolMemberSnapshot> poolMembers = robotConfig.getPoolMembers().stream()
+                .filter(member -> StringUtils.isNotBlank(member.getWebhook()))
+                .map(LarkConfigSnapshotMapper::toPoolMemberSnapshot)
+                .toList();
+        snapshot.setPoolMembers(poolMembers.isEmpty() ? null : new ArrayList<>(poolMembers));
+        List<String> fallbackRobotIds = robotConfig.getFallbackRobotIds();
+        snapshot.setFallbackRobotIds(fallbackRobotIds.isEmpty() ? null : new ArrayList<>(fallbackRobotIds));
+        List<String> alternateBaseUrls = RobotWebhookResolver.parseBaseUrls(robotConfig.getAlternateBaseUrls());
+        snapshot.setAlternateBaseUrls(alternateBaseUrls.isEmpty() ? null : new ArrayList<>(alternateBaseUrls));
 
         List<SecurityPolicySnapshot> policies = robotConfig.getSecurityPolicyConfigs().stream()
                 .filter(policyConfig -> StringUtils.isNotBlank(policyConfig.getValue()))
@@ -124,6 +163,37 @@ public final class LarkConfigSnapshotMapper {
         return snapshot;
     }
 
+    private static RateLimitSnapshot toRateLimitSnapshot(LarkRateLimitConfig rateLimitConfig) {
+        if (rateLimitConfig == null) {
+            return null;
+        }
+        RateLimitSnapshot snapshot = new RateLimitSnapshot();
+        snapshot.setEnabled(rateLimitConfig.isEnabled());
+        snapshot.setRequestsPerSecond(rateLimitConfig.getRequestsPerSecond());
+        snapshot.setRequestsPerMinute(rateLimitConfig.getRequestsPerMinute());
+        snapshot.setMaxWaitMs(rateLimitConfig.getMaxWaitMs());
+        return snapshot;
+    }
+
+    private static PoolMemberSnapshot toPoolMemberSnapshot(LarkRobotPoolMember member) {
+        PoolMemberSnapshot snapshot = new PoolMemberSnapshot();
+        snapshot.setWebhook(member.getWebhook());
+        snapshot.setSecret(StringUtils.trimToNull(member.getSecret()));
+        snapshot.setWeight(member.getWeight());
+        return snapshot;
+    }
+
+    private static TimeoutSnapshot toTimeoutSnapshot(LarkTimeoutConfig timeoutConfig) {
+        if (timeoutConfig == null) {
+            return null;
+        }
+        TimeoutSnapshot snapshot = new TimeoutSnapshot();
+        snapshot.setConnectTimeoutSeconds(timeoutConfig.getConnectTimeoutSeconds());
+        snapshot.setReadTimeoutSeconds(timeoutConfig.getReadTimeoutSeconds());
+        snapshot.setDeadlineSeconds(timeoutConfig.getDeadlineSeconds());
+        return snapshot;
+    }
+
     private static LarkProxyConfig toProxyConfig(ProxySnapshot snapshot) {
         if (snapshot == null) {
             return null;
@@ -132,10 +202,18 @@ public final class LarkConfigSnapshotMapper {
         proxyConfig.setEnabled(snapshot.isEnabled());
         proxyConfig.setHost(snapshot.getHost());
         proxyConfig.setPort(snapshot.getPort());
+        proxyConfig.setNoProxyHosts(snapshot.getNoProxyHosts());
         proxyConfig.setType(snapshot.getType() == null ? null : Proxy.Type.valueOf(snapshot.getType()));
         return proxyConfig;
     }
 
+    private static LarkDeliveryQueueConfig toDeliveryQueueConfig(DeliveryQueueSnapshot snapshot) {
+        if (snapshot == null) {
+            return null;
+        }
+        return snapshot.toQueueConfig();
+    }
+
     private static LarkRobotConfig toRobotConfig(RobotSnapshot snapshot) {
         LarkRobotConfig robotConfig = new LarkRobotConfig(
                 snapshot.getId(),
@@ -147,6 +225,15 @@ public final class LarkConfigSnapshotMapper {
         robotConfig.setEndpointMode(snapshot.getEndpointMode());
         robotConfig.setMessageLocaleStrategy(snapshot.getMessageLocaleStrategy());
         robotConfig.setRetryConfig(toRetryConfig(snapshot.getRetryConfig()));
+        robotConfig.setRateLimitConfig(toRateLimitConfig(snapshot.getRateLimitConfig()));
+        robotConfig.setTimeoutConfig(toTimeoutConfig(snapshot.getTimeoutConfig()));
+        robotConfig.setPoolMembers(toPoolMembers(snapshot.getPoolMembers()));
+        if (snapshot.getFallbackRobotIds() != null) {
+            robotConfig.setFallbackRobots(String.join(", ", snapshot.getFallbackRobotIds()));
+        }
+        if (snapshot.getAlternateBaseUrls() != null) {
+            robotConfig.setAlternateBaseUrls(String.join("\n", snapshot.getAlternateBaseUrls()));
+        }
         return robotConfig;
     }
 
@@ -181,6 +268,30 @@ public final class LarkConfigSnapshotMapper {
         return snapshot.toRetryConfig();
     }
 
+    private static LarkRateLimitConfig toRateLimitConfig(RateLimitSnapshot snapshot) {
+        if (snapshot == null) {
+            return null;
+        }
+        return snapshot.toRateLimitConfig();
+    }
+
+    private static List<LarkRobotPoolMember> toPoolMembers(List<PoolMemberSnapshot> snapshots) {
+        if (snapshots == null || snapshots.isEmpty()) {
+            return null;
+        }
+        return snapshots.stream()
+                .map(snapshot -> new LarkRobotPoolMember(snapshot.getWebhook(), snapshot.getSecret(),
+                        snapshot.getWeight() == null ? LarkRobotPoolMember.DEFAULT_WEIGHT : snapshot.getWeight()))
+                .toList();
+    }
+
+    private static LarkTimeoutConfig toTimeoutConfig(TimeoutSnapshot snapshot) {
+        if (snapshot == null) {
+            return null;
+        }
+        return snapshot.toTimeoutConfig();
+    }
+
     static String resolvePluginVersion() {
         Jenkins jenkins = Jenkins.getInstanceOrNull();
         if (jenkins == null) {
@@ -199,6 +310,11 @@ public final class LarkConfigSnapshotMapper {
         private LarkProxyConfig proxyConfig;
         private boolean verbose;
         private boolean failBuildOnNotificationFailure = true;
+        private boolean sendFromAgent;
+        private String relaySocketPath;
+        private String rateLimitStateFile;
+        private int dedupWindowSeconds;
+        private LarkDeliveryQueueConfig deliveryQueueConfig;
         private Set<String> noticeOccasions = new LinkedHashSet<>();
         private ArrayList<LarkRobotConfig> robotConfigs = new ArrayList<>();
 
@@ -256,6 +372,96 @@ public final class LarkConfigSnapshotMapper {
             this.failBuildOnNotificationFailure = failBuildOnNotificationFailure;
         }
 
+        /**
+         * Returns the imported "send from agent" default for pipeline steps.
+         *
+         * @return {@code true} when pipeline steps should send from their agent
+         */
+        public boolean isSendFromAgent() {
+            return sendFromAgent;
+        }
+
+        /**
+         * Sets the imported "send from agent" default for pipeline steps.
+         *
+         * @param sendFromAgent imported flag
+         */
+        public void setSendFromAgent(boolean sendFromAgent) {
+            this.sendFromAgent = sendFromAgent;
+        }
+
+        /**
+         * Returns the imported relay socket path.
+         *
+         * @return relay socket path, or {@code null} to send directly
+         */
+        public String getRelaySocketPath() {
+            return relaySocketPath;
+        }
+
+        /**
+         * Sets the imported relay socket path.
+         *
+         * @param relaySocketPath imported socket path
+         */
+        public void setRelaySocketPath(String relaySocketPath) {
+            this.relaySocketPath = relaySocketPath;
+        }
+
+        /**
+         * Returns the imported shared rate limit file.
+         *
+         * @return state file path, or {@code null} to limit per controller
+         */
+        public String getRateLimitStateFile() {
+            return rateLimitStateFile;
+        }
+
+        /**
+         * Sets the imported shared rate limit file.
+         *
+         * @param rateLimitStateFile imported state file path
+         */
+        public void setRateLimitStateFile(String rateLimitStateFile) {
+            this.rateLimitStateFile = rateLimitStateFile;
+        }
+
+        /**
+         * Returns the imported deduplication window.
+         *
+         * @return window in seconds, {@code 0} when deduplication is disabled
+         */
+        public int getDedupWindowSeconds() {
+            return dedupWindowSeconds;
+        }
+
+        /**
+         * Sets the imported deduplication window.
+         *
+         * @param dedupWindowSeconds imported window in seconds
+         */
+        public void setDedupWindowSeconds(int dedupWindowSeconds) {
+            this.dedupWindowSeconds = dedupWindowSeconds;
+        }
+
+        /**
+         * Returns the imported background delivery queue settings.
+         *
+         * @return queue settings, or {@code null} when omitted
+         */
+        public LarkDeliveryQueueConfig getDeliveryQueueConfig() {
+            return deliveryQueueConfig;
+        }
+
+        /**
+         * Sets the imported background delivery queue settings.
+         *
+         * @param deliveryQueueConfig queue settings from the snapshot
+         */
+        public void setDeliveryQueueConfig(LarkDeliveryQueueConfig deliveryQueueConfig) {
+            this.deliveryQueueConfig = deliveryQueueConfig;
+        }
+
         /**
          * Returns the imported notice occasions.
          *
@@ -137,10 +137,40 @@ public final class LarkConfigSnapshotValidator {
                 || !RobotWebhookResolver.isSupportedWebhook(protocolType, resolvedWebhookUrl)) {
             throw new FormException(Messages.form_validation_webhook_invalid(), IMPORT_FIELD);
         }
+        validatePoolMembers(protocolType, robotConfig.getPoolMembers());
+        validateAlternateBaseUrls(protocolType, robotConfig.getAlternateBaseUrls());
         validateRetry(robotConfig.getRetryConfig());
         validateSecurityPolicies(robotConfig.getSecurityPolicyConfigs());
     }
 
+    private static void validatePoolMembers(RobotProtocolType protocolType, List<PoolMemberSnapshot> poolMembers)
+            throws FormException {
+        if (poolMembers == null) {
+            return;
+        }
+        for (PoolMemberSnapshot member : poolMembers) {
+            if (member == null || StringUtils.isBlank(member.getWebhook())
+                    || !RobotWebhookResolver.isSupportedWebhook(protocolType, member.getWebhook().trim())) {
+                throw new FormException(Messages.form_validation_webhook_invalid(), IMPORT_FIELD);
+            }
+        }
+    }
+
+    private static void validateAlternateBaseUrls(RobotProtocolType protocolType, List<String> alternateBaseUrls)
+            throws FormException {
+        if (alternateBaseUrls == null || alternateBaseUrls.isEmpty()) {
+            return;
+        }
+        if (!RobotProtocolType.LARK_COMPATIBLE.equals(protocolType)) {
+            throw new FormException(Messages.form_validation_webhook_invalid(), IMPORT_FIELD);
+        }
+        for (String baseUrl : alternateBaseUrls) {
+            if (RobotWebhookResolver.normalizeBaseUrl(baseUrl) == null) {
+                throw new FormException(Messages.form_validation_webhook_invalid(), IMPORT_FIELD);
+            }
+        }
+    }
+
     private static void validateRetry(RetrySnapshot retryConfig) throws FormException {
         if (retryConfig == null) {
             return;
@@ -0,0 +1,31 @@
+package io.jenkins.plugins.lark.notice.config.snapshot;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Snapshot of one additional webhook in a robot pool.
+ *
+ * @author xm.z
+ */
+@Data
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PoolMemberSnapshot {
+
+    /**
+     * Webhook URL of the member bot.
+     */
+    private String webhook;
+
+    /**
+     * Signing secret of the member bot, omitted when the robot's secret is used.
+     */
+    private String secret;
+
+    /**
+     * Relative share of the pool's traffic.
+     */
+    private Integer weight;
+}
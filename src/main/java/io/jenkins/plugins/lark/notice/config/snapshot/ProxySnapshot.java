@@ -33,4 +33,9 @@ public class ProxySnapshot {
      * Proxy port.
      */
     private Integer port;
+
+    /**
+     * Hosts, domain suffixes and CIDR ranges reached without the proxy.
+     */
+    private String noProxyHosts;
 }
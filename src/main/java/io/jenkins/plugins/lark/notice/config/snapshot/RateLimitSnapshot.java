@@ -0,0 +1,51 @@
+package io.jenkins.plugins.lark.notice.config.snapshot;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.jenkins.plugins.lark.notice.config.LarkRateLimitConfig;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Snapshot of per-robot rate limit settings.
+ *
+ * @author xm.z
+ */
+@Data
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class RateLimitSnapshot {
+
+    /**
+     * Whether sends are rate limited.
+     */
+    private boolean enabled;
+
+    /**
+     * Requests per second, {@code 0} for the platform default.
+     */
+    private Integer requestsPerSecond;
+
+    /**
+     * Requests per minute, {@code 0} for the platform default.
+     */
+    private Integer requestsPerMinute;
+
+    /**
+     * Maximum time in milliseconds a send waits for a permit.
+     */
+    private Long maxWaitMs;
+
+    /**
+     * Converts this snapshot into a rate limit config, defaulting omitted fields.
+     *
+     * @return normalized rate limit config
+     */
+    public LarkRateLimitConfig toRateLimitConfig() {
+        return LarkRateLimitConfig.normalize(new LarkRateLimitConfig(
+                enabled,
+                requestsPerSecond == null ? 0 : requestsPerSecond,
+                requestsPerMinute == null ? 0 : requestsPerMinute,
+                maxWaitMs == null ? LarkRateLimitConfig.DEFAULT_MAX_WAIT_MS : maxWaitMs
+        ));
+    }
+}
@@ -55,6 +55,31 @@ public class RobotSnapshot {
      */
     private RetrySnapshot retryConfig;
 
+    /**
+     * Per-robot rate limit settings.
+     */
+    private RateLimitSnapshot rateLimitConfig;
+
+    /**
+     * Per-robot timeout settings.
+     */
+    private TimeoutSnapshot timeoutConfig;
+
+    /**
+     * Additional webhooks sharing the robot's traffic.
+     */
+    private List<PoolMemberSnapshot> poolMembers;
+
+    /**
+     * Ids of the robots that take over, in order, when this robot keeps failing.
+     */
+    private List<String> fallbackRobotIds;
+
+    /**
+     * Alternative base URLs of a Lark-compatible webhook.
+     */
+    private List<String> alternateBaseUrls;
+
     /**
      * Security policy entries with non-blank values.
      */
@@ -0,0 +1,45 @@
+package io.jenkins.plugins.lark.notice.config.snapshot;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.jenkins.plugins.lark.notice.config.LarkTimeoutConfig;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Snapshot of per-robot timeout settings.
+ *
+ * @author xm.z
+ */
+@Data
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TimeoutSnapshot {
+
+    /**
+     * Connect timeout in seconds, {@code 0} for the platform default.
+     */
+    private Integer connectTimeoutSeconds;
+
+    /**
+     * Read timeout in seconds, {@code 0} for the platform default.
+     */
+    private Integer readTimeoutSeconds;
+
+    /**
+     * Time in seconds one notification may take across all attempts.
+     */
+    private Integer deadlineSeconds;
+
+    /**
+     * Converts this snapshot into a timeout config, defaulting omitted fields.
+     *
+     * @return normalized timeout config
+     */
+    public LarkTimeoutConfig toTimeoutConfig() {
+        return LarkTimeoutConfig.normalize(new LarkTimeoutConfig(
+                connectTimeoutSeconds == null ? 0 : connectTimeoutSeconds,
+                readTimeoutSeconds == null ? 0 : readTimeoutSeconds,
+                deadlineSeconds == null ? LarkTimeoutConfig.DEFAULT_DEADLINE_SECONDS : deadlineSeconds
+        ));
+    }
+}
@@ -4,6 +4,8 @@ import io.jenkins.plugins.lark.notice.model.MessageModel;
 import io.jenkins.plugins.lark.notice.sdk.MessageSender;
 import io.jenkins.plugins.lark.notice.sdk.model.SendResult;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Defines the types of messages that can be sent using a MessageSender. Each enum constant represents a different
  * message type (e.g., text, image) and implements an abstract method {@code send} to send the message
@@ -24,6 +26,14 @@ public enum MsgTypeEnum {
         public SendResult send(MessageSender sender, MessageModel msg) {
             return sender.sendText(msg);
         }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public CompletableFuture<SendResult> sendAsync(MessageSender sender, MessageModel msg) {
+            return sender.sendTextAsync(msg);
+        }
     },
 
     /**
@@ -37,6 +47,14 @@ public enum MsgTypeEnum {
         public SendResult send(MessageSender sender, MessageModel msg) {
             return sender.sendImage(msg);
         }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public CompletableFuture<SendResult> sendAsync(MessageSender sender, MessageModel msg) {
+            return sender.sendImageAsync(msg);
+        }
     },
 
     //====================================================Lark==========================================================
@@ -52,6 +70,14 @@ public enum MsgTypeEnum {
         public SendResult send(MessageSender sender, MessageModel msg) {
             return sender.sendShareChat(msg);
         }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public CompletableFuture<SendResult> sendAsync(MessageSender sender, MessageModel msg) {
+            return sender.sendShareChatAsync(msg);
+        }
     },
 
     /**
@@ -65,6 +91,14 @@ public enum MsgTypeEnum {
         public SendResult send(MessageSender sender, MessageModel msg) {
             return sender.sendPost(msg);
         }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public CompletableFuture<SendResult> sendAsync(MessageSender sender, MessageModel msg) {
+            return sender.sendPostAsync(msg);
+        }
     },
 
     /**
@@ -78,6 +112,14 @@ public enum MsgTypeEnum {
         public SendResult send(MessageSender sender, MessageModel msg) {
             return sender.sendLink(msg);
         }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public CompletableFuture<SendResult> sendAsync(MessageSender sender, MessageModel msg) {
+            return sender.sendLinkAsync(msg);
+        }
     },
 
     /**
@@ -91,6 +133,14 @@ public enum MsgTypeEnum {
         public SendResult send(MessageSender sender, MessageModel msg) {
             return sender.sendMarkdown(msg);
         }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public CompletableFuture<SendResult> sendAsync(MessageSender sender, MessageModel msg) {
+            return sender.sendMarkdownAsync(msg);
+        }
     },
 
     /**
@@ -104,6 +154,14 @@ public enum MsgTypeEnum {
         public SendResult send(MessageSender sender, MessageModel msg) {
             return sender.sendCard(msg);
         }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public CompletableFuture<SendResult> sendAsync(MessageSender sender, MessageModel msg) {
+            return sender.sendCardAsync(msg);
+        }
     };
 
     /**
@@ -115,4 +173,13 @@ public enum MsgTypeEnum {
      * @return A SendResult indicating the result of the send operation.
      */
     public abstract SendResult send(MessageSender sender, MessageModel msg);
+
+    /**
+     * Non-blocking counterpart of {@link #send(MessageSender, MessageModel)}.
+     *
+     * @param sender The MessageSender instance used to send the message.
+     * @param msg    The message model containing the details of the message to be sent.
+     * @return A future completed with the result of the send operation.
+     */
+    public abstract CompletableFuture<SendResult> sendAsync(MessageSender sender, MessageModel msg);
 }
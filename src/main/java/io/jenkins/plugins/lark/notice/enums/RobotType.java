@@ -21,7 +21,7 @@ import java.net.URISyntaxException;
 public enum RobotType {
 
     //
-    LARK("Lark", "text_tag", "/open-apis/bot/v2/hook/") {
+    LARK("Lark", "text_tag", "/open-apis/bot/v2/hook/", 5, 100, 5, 10) {
         /**
          * {@inheritDoc}
          */
@@ -31,7 +31,7 @@ public enum RobotType {
         }
     },
 
-    DING_TALK("钉钉", "font", "/robot/send") {
+    DING_TALK("钉钉", "font", "/robot/send", 0, 20, 5, 10) {
         /**
          * {@inheritDoc}
          */
@@ -41,7 +41,7 @@ public enum RobotType {
         }
     },
 
-    WECHAT_WORK("企业微信", "font", "/cgi-bin/webhook/send") {
+    WECHAT_WORK("企业微信", "font", "/cgi-bin/webhook/send", 0, 20, 5, 15) {
         /**
          * {@inheritDoc}
          */
@@ -57,10 +57,36 @@ public enum RobotType {
 
     private final String webhookPathPrefix;
 
-    RobotType(String name, String statusTagName, String webhookPathPrefix) {
+    /**
+     * Documented per-webhook request limit per second, {@code 0} when the platform only limits per minute.
+     */
+    private final int defaultRequestsPerSecond;
+
+    /**
+     * Documented per-webhook request limit per minute.
+     */
+    private final int defaultRequestsPerMinute;
+
+    /**
+     * Connect timeout in seconds used when the robot does not configure one.
+     */
+    private final int defaultConnectTimeoutSeconds;
+
+    /**
+     * Time in seconds to wait for the webhook answer when the robot does not configure one.
+     */
+    private final int defaultReadTimeoutSeconds;
+
+    RobotType(String name, String statusTagName, String webhookPathPrefix,
+              int defaultRequestsPerSecond, int defaultRequestsPerMinute,
+              int defaultConnectTimeoutSeconds, int defaultReadTimeoutSeconds) {
         this.name = name;
         this.statusTagName = statusTagName;
         this.webhookPathPrefix = webhookPathPrefix;
+        this.defaultRequestsPerSecond = defaultRequestsPerSecond;
+        this.defaultRequestsPerMinute = defaultRequestsPerMinute;
+        this.defaultConnectTimeoutSeconds = defaultConnectTimeoutSeconds;
+        this.defaultReadTimeoutSeconds = defaultReadTimeoutSeconds;
     }
 
     /**
@@ -4,6 +4,7 @@ import hudson.model.TaskListener;
 
 import java.io.PrintStream;
 import java.util.Arrays;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -30,6 +31,22 @@ public final class NoticeLog {
         return NoticeLogField.of(key, value);
     }
 
+    /**
+     * Wraps a template argument that is only computed when the line is actually written, for values such as
+     * request bodies that are expensive to render and usually not logged.
+     *
+     * @param value supplier of the argument
+     * @return argument whose {@code toString()} calls the supplier
+     */
+    public static Object lazy(Supplier<?> value) {
+        return new Object() {
+            @Override
+            public String toString() {
+                return String.valueOf(value.get());
+            }
+        };
+    }
+
     /**
      * Formats one failure-facing message with the plugin prefix.
      *
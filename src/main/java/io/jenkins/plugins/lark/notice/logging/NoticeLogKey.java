@@ -20,6 +20,8 @@ public enum NoticeLogKey {
     STEP("step"),
     ROBOT("robot"),
     ROBOT_ID("robotId"),
+    FALLBACK_ROBOT_ID("fallbackRobotId"),
+    DELIVERED_BY("deliveredBy"),
     ROBOT_TYPE("robotType"),
     MESSAGE_TYPE("messageType"),
     RAW_MODE("rawMode"),
@@ -32,8 +34,16 @@ public enum NoticeLogKey {
     ATTEMPT("attempt"),
     MAX_ATTEMPTS("maxAttempts"),
     DELAY_MS("delayMs"),
+    QUEUE_DEPTH("queueDepth"),
+    WAIT_MS("waitMs"),
+    DEADLINE_MS("deadlineMs"),
+    PROXY_LOOKUP_US("proxyLookupUs"),
+    SEND_NODE("sendNode"),
     SUCCESS("success"),
     RESULT_CODE("resultCode"),
+    HTTP_STATUS("httpStatus"),
+    FAILURE_CLASS("failureClass"),
+    CIRCUIT_STATE("circuitState"),
     MESSAGE("message"),
     ERROR("error"),
     ERROR_TYPE("errorType");
@@ -14,8 +14,21 @@ public enum NoticeTrace {
     NOTIFICATION_MARK_BUILD_FAILURE("notification.mark-build-failure"),
     NOTIFICATION_KEEP_BUILD_RESULT("notification.keep-build-result"),
     NOTIFICATION_EXCEPTION("notification.exception"),
+    NOTIFICATION_QUEUE_ENQUEUE("notification.queue.enqueue"),
+    NOTIFICATION_QUEUE_DROP("notification.queue.drop"),
+    NOTIFICATION_QUEUE_WAIT("notification.queue.wait"),
     DISPATCHER_SEND_START("dispatcher.send.start"),
     DISPATCHER_SEND_RETRY("dispatcher.send.retry"),
+    DISPATCHER_RETRY_BUDGET_EXHAUSTED("dispatcher.retry-budget.exhausted"),
+    DISPATCHER_SEND_THROTTLED("dispatcher.send.throttled"),
+    DISPATCHER_RATE_LIMIT_WAIT("dispatcher.rate-limit.wait"),
+    DISPATCHER_RATE_LIMIT_REJECT("dispatcher.rate-limit.reject"),
+    DISPATCHER_CONCURRENCY_REJECT("dispatcher.concurrency.reject"),
+    DISPATCHER_CIRCUIT_REJECT("dispatcher.circuit.reject"),
+    DISPATCHER_CIRCUIT_TRANSITION("dispatcher.circuit.transition"),
+    DISPATCHER_DEADLINE_EXCEEDED("dispatcher.deadline.exceeded"),
+    DISPATCHER_FAILOVER("dispatcher.failover"),
+    DISPATCHER_DEDUPLICATED("dispatcher.deduplicated"),
     DISPATCHER_SEND_FINISH("dispatcher.send.finish"),
     ENVIRONMENT_RESOLVE("environment.resolve"),
     ENVIRONMENT_RESOLVE_FAILURE("environment.resolve.failure"),
@@ -1,5 +1,6 @@
 package io.jenkins.plugins.lark.notice.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import io.jenkins.plugins.lark.notice.enums.BuildStatusEnum;
 import io.jenkins.plugins.lark.notice.enums.MsgTypeEnum;
 import io.jenkins.plugins.lark.notice.sdk.model.lark.support.Button;
@@ -8,8 +9,8 @@ import io.jenkins.plugins.lark.notice.sdk.model.lark.support.view.img.ImgElement
 import io.jenkins.plugins.lark.notice.tools.Utils;
 import lombok.Builder;
 import lombok.Getter;
-import lombok.Setter;
 import lombok.ToString;
+import lombok.extern.jackson.Jacksonized;
 import org.apache.commons.lang3.StringUtils;
 
 import java.util.*;
@@ -21,80 +22,87 @@ import java.util.stream.Collectors;
  * It is designed to facilitate the creation and customization of messages sent from Jenkins build notifications
  * to various platforms.
  *
+ * <p>The model round-trips through JSON via its builder so undelivered messages can be persisted.</p>
+ *
+ * <p>Instances are immutable: collections are copied when built, buttons are immutable, and each sender
+ * renders its own request from the model, so one message can be sent to several robots concurrently and
+ * retried as often as needed. Use {@link #toBuilder()} to derive a changed copy. The top and bottom
+ * {@link ImgElement}s are the exception: they are Lark card elements embedded as-is, so they are shared
+ * rather than copied and must not be modified once the message is built.</p>
+ *
  * @author xm.z
  */
 @Getter
-@Setter
 @ToString
-@Builder
-public class MessageModel {
+@JsonIgnoreProperties(ignoreUnknown = true)
+public final class MessageModel {
 
     /**
      * The type of the message, determining the format or channel through which the message is sent.
      */
-    private MsgTypeEnum type;
+    private final MsgTypeEnum type;
 
     /**
      * The build status, indicating the outcome of the build process (e.g., success, failure).
      */
-    private BuildStatusEnum statusType;
+    private final BuildStatusEnum statusType;
 
     /**
      * A set of UserIds to be mentioned in the message. These are typically user identifiers on platforms like WeChat.
      */
-    private Set<String> atUserIds;
+    private final Set<String> atUserIds;
 
     /**
      * Flag indicating whether the message should mention all users within the message scope.
      */
-    private boolean atAll;
+    private final boolean atAll;
 
     /**
      * The title of the message, displayed prominently in the message. This can be customized or left blank to use the default title.
      */
-    private String title;
+    private final String title;
 
     /**
      * The main text content of the message.
      */
-    private String text;
+    private final String text;
 
     /**
      * An image element to be displayed at the top of the message body.
      */
-    private ImgElement topImg;
+    private final ImgElement topImg;
 
     /**
      * An image element to be displayed at the bottom of the message body.
      */
-    private ImgElement bottomImg;
+    private final ImgElement bottomImg;
 
     /**
      * A list of buttons that can be included in the message, providing interactive elements for the recipient.
      */
-    private List<Button> buttons;
+    private final List<Button> buttons;
 
     /**
      * Locale used when rendering platform-specific structured card labels.
      */
-    private Locale locale;
+    private final Locale locale;
 
     /**
      * Structured build fields used by platforms that render cards instead of Markdown.
      */
-    private String projectName;
+    private final String projectName;
 
-    private String projectUrl;
+    private final String projectUrl;
 
-    private String jobName;
+    private final String jobName;
 
-    private String jobUrl;
+    private final String jobUrl;
 
-    private String duration;
+    private final String duration;
 
-    private String executorName;
+    private final String executorName;
 
-    private String additionalContent;
+    private final String additionalContent;
 
 
     //==================================================================================================================
@@ -102,29 +110,63 @@ public class MessageModel {
     /**
      * Target URL opened when the user clicks a link-style message.
      */
-    private String messageUrl;
+    private final String messageUrl;
 
     /**
      * Image URL displayed alongside a DingTalk link message.
      */
-    private String picUrl;
+    private final String picUrl;
 
     /**
      * Title of the single-action button used by DingTalk action cards.
      * When this field and {@link #singleUrl} are both set, {@link #buttons} is ignored.
      */
-    private String singleTitle;
+    private final String singleTitle;
 
     /**
      * Target URL for the single-action button used by DingTalk action cards.
      */
-    private String singleUrl;
+    private final String singleUrl;
 
     /**
      * DingTalk action-card button layout.
      * Use {@code 0} for vertical stacking and {@code 1} for horizontal layout.
      */
-    private String btnOrientation;
+    private final String btnOrientation;
+
+    /**
+     * Creates a message; the mention and button collections are copied so later changes to them do not leak in.
+     */
+    @Builder(toBuilder = true)
+    @Jacksonized
+    private MessageModel(MsgTypeEnum type, BuildStatusEnum statusType, Set<String> atUserIds, boolean atAll,
+                         String title, String text, ImgElement topImg, ImgElement bottomImg, List<Button> buttons,
+                         Locale locale, String projectName, String projectUrl, String jobName, String jobUrl,
+                         String duration, String executorName, String additionalContent, String messageUrl,
+                         String picUrl, String singleTitle, String singleUrl, String btnOrientation) {
+        this.type = type;
+        this.statusType = statusType;
+        this.atUserIds = atUserIds == null ? null : Collections.unmodifiableSet(new LinkedHashSet<>(atUserIds));
+        this.atAll = atAll;
+        this.title = title;
+        this.text = text;
+        this.topImg = topImg;
+        this.bottomImg = bottomImg;
+        this.buttons = buttons == null ? null : Collections.unmodifiableList(new ArrayList<>(buttons));
+        this.locale = locale;
+        this.projectName = projectName;
+        this.projectUrl = projectUrl;
+        this.jobName = jobName;
+        this.jobUrl = jobUrl;
+        this.duration = duration;
+        this.executorName = executorName;
+        this.additionalContent = additionalContent;
+        this.messageUrl = messageUrl;
+        this.picUrl = picUrl;
+        this.singleTitle = singleTitle;
+        this.singleUrl = singleUrl;
+        this.btnOrientation = btnOrientation;
+    }
 
     /**
      * Retrieves the theme color for the card title, based on the build status. This allows for visual customization
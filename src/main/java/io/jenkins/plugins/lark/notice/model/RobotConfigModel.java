@@ -1,22 +1,23 @@
 package io.jenkins.plugins.lark.notice.model;
 
 import io.jenkins.plugins.lark.notice.config.LarkRobotConfig;
+import io.jenkins.plugins.lark.notice.config.LarkTimeoutConfig;
 import io.jenkins.plugins.lark.notice.enums.RobotType;
 import io.jenkins.plugins.lark.notice.enums.SecurityPolicyEnum;
-import io.jenkins.plugins.lark.notice.sdk.constant.Constants;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.codec.binary.Base64;
 import org.apache.commons.lang3.StringUtils;
 
-import javax.crypto.Mac;
-import javax.crypto.spec.SecretKeySpec;
 import java.net.ProxySelector;
-import java.net.URLEncoder;
+import java.time.Duration;
+import java.util.List;
 import java.util.Objects;
 
-import static java.nio.charset.StandardCharsets.UTF_8;
-
 /**
  * Model for robot configuration.
  * This class represents the configuration for a robot, including proxy settings, webhook URL,
@@ -57,6 +58,30 @@ public class RobotConfigModel {
      */
     private Boolean noSsl;
 
+    /**
+     * Timeout for establishing the webhook connection.
+     */
+    private Duration connectTimeout;
+
+    /**
+     * Timeout for receiving the webhook answer once the request is sent.
+     */
+    private Duration readTimeout;
+
+    /**
+     * Base URLs the webhook can be sent through, the configured one first; empty when there are no alternatives.
+     */
+    private List<String> endpointCandidates = List.of();
+
+    /**
+     * Signer for the current secret, created on first use and replaced when the secret or robot type changes.
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private transient volatile RobotSigner signer;
+
     /**
      * Creates a RobotConfigModel object based on the LarkRobotConfig object and proxy selector.
      *
@@ -71,6 +96,10 @@ public class RobotConfigModel {
         meta.setRobotType(robotConfig.obtainRobotType().orElse(null));
         meta.setProxySelector(proxySelector);
         meta.setWebhook(robotConfig.getWebhook());
+        LarkTimeoutConfig timeoutConfig = robotConfig.getTimeoutConfig();
+        meta.setConnectTimeout(timeoutConfig.connectTimeout(meta.getRobotType()));
+        meta.setReadTimeout(timeoutConfig.readTimeout(meta.getRobotType()));
+        meta.setEndpointCandidates(robotConfig.getEndpointCandidates());
 
         // Parse security policies
         robotConfig.getSecurityPolicyConfigs().stream()
@@ -97,13 +126,12 @@ public class RobotConfigModel {
      */
     public String createSign(long timestamp) {
         try {
-            boolean hasDing = RobotType.DING_TALK.equals(robotType);
-            String seed = timestamp + Constants.LF + sign;
-            Mac mac = Mac.getInstance("HmacSHA256");
-            mac.init(new SecretKeySpec((hasDing ? sign : seed).getBytes(UTF_8), "HmacSHA256"));
-            byte[] signData = mac.doFinal((hasDing ? seed.getBytes(UTF_8) : new byte[]{}));
-            String sign = Base64.encodeBase64String(signData);
-            return hasDing ? URLEncoder.encode(sign, UTF_8) : sign;
+            RobotSigner current = signer;
+            if (current == null || !current.isFor(robotType, sign)) {
+                current = RobotSigner.of(robotType, sign);
+                signer = current;
+            }
+            return current.sign(timestamp);
         } catch (Exception e) {
             log.error("Failed to create signature for Lark plugin", e);
         }
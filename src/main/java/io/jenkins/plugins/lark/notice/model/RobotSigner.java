@@ -0,0 +1,157 @@
+package io.jenkins.plugins.lark.notice.model;
+
+import io.jenkins.plugins.lark.notice.enums.RobotType;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.security.GeneralSecurityException;
+import java.security.InvalidKeyException;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * HMAC-SHA256 signatures of one robot's secret, as expected by its platform.
+ *
+ * <ul>
+ *     <li>Lark keys the HMAC with {@code timestamp + "\n" + secret} and signs an empty message. The timestamp has
+ *     second granularity, so the last signature is remembered and reused for every send in the same second.</li>
+ *     <li>DingTalk keys the HMAC with the secret and signs {@code timestamp + "\n" + secret}, URL-encoded. The key
+ *     is loaded once into a {@link Mac} per thread and the message is fed to it piecewise.</li>
+ * </ul>
+ *
+ * <p>A signer is bound to one secret; {@link RobotConfigModel} replaces it whenever the {@code SECRET} security
+ * policy or the robot type changes.</p>
+ *
+ * @author xm.z
+ */
+public final class RobotSigner {
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private static final byte[] EMPTY = new byte[0];
+
+    private static final ThreadLocal<Mac> UNKEYED = ThreadLocal.withInitial(RobotSigner::newMac);
+
+    private final RobotType robotType;
+
+    private final String secretValue;
+
+    private final boolean urlEncoded;
+
+    private final byte[] secret;
+
+    private final ThreadLocal<Mac> keyed;
+
+    private volatile Signature last;
+
+    private RobotSigner(RobotType robotType, String secret) {
+        this.robotType = robotType;
+        this.secretValue = secret;
+        this.urlEncoded = RobotType.DING_TALK.equals(robotType);
+        this.secret = secret.getBytes(UTF_8);
+        SecretKeySpec key = urlEncoded ? new SecretKeySpec(this.secret, ALGORITHM) : null;
+        this.keyed = urlEncoded ? ThreadLocal.withInitial(() -> keyedMac(key)) : null;
+    }
+
+    /**
+     * Creates a signer for the given platform and secret.
+     *
+     * @param robotType robot platform; anything but DingTalk signs the Lark way
+     * @param secret    signing secret
+     * @return signer
+     */
+    public static RobotSigner of(RobotType robotType, String secret) {
+        return new RobotSigner(robotType, secret);
+    }
+
+    /**
+     * Returns whether this signer was created for the given platform and secret.
+     *
+     * @param robotType robot platform
+     * @param secret    signing secret
+     * @return {@code true} when the signer can be reused
+     */
+    public boolean isFor(RobotType robotType, String secret) {
+        return this.robotType == robotType && secretValue.equals(secret);
+    }
+
+    /**
+     * Returns the signature for the given timestamp.
+     *
+     * @param timestamp timestamp sent along with the signature, in the platform's unit
+     * @return Base64 signature, URL-encoded for DingTalk
+     * @throws GeneralSecurityException when the HMAC cannot be computed
+     */
+    public String sign(long timestamp) throws GeneralSecurityException {
+        Signature cached = last;
+        if (cached != null && cached.timestamp() == timestamp) {
+            return cached.value();
+        }
+        String value = urlEncoded ? signDingTalk(timestamp) : signLark(timestamp);
+        last = new Signature(timestamp, value);
+        return value;
+    }
+
+    private String signLark(long timestamp) throws InvalidKeyException {
+        byte[] digits = Long.toString(timestamp).getBytes(US_ASCII);
+        byte[] seed = new byte[digits.length + 1 + secret.length];
+        System.arraycopy(digits, 0, seed, 0, digits.length);
+        seed[digits.length] = '\n';
+        System.arraycopy(secret, 0, seed, digits.length + 1, secret.length);
+        Mac mac = UNKEYED.get();
+        mac.init(new SecretKeySpec(seed, ALGORITHM));
+        return Base64.getEncoder().encodeToString(mac.doFinal(EMPTY));
+    }
+
+    private String signDingTalk(long timestamp) {
+        Mac mac = keyed.get();
+        mac.update(Long.toString(timestamp).getBytes(US_ASCII));
+        mac.update((byte) '\n');
+        mac.update(secret);
+        return urlEncode(Base64.getEncoder().encodeToString(mac.doFinal()));
+    }
+
+    /**
+     * URL-encodes a Base64 string; only {@code +}, {@code /} and {@code =} need escaping.
+     */
+    private static String urlEncode(String base64) {
+        StringBuilder encoded = new StringBuilder(base64.length() + 8);
+        for (int i = 0; i < base64.length(); i++) {
+            char c = base64.charAt(i);
+            switch (c) {
+                case '+' -> encoded.append("%2B");
+                case '/' -> encoded.append("%2F");
+                case '=' -> encoded.append("%3D");
+                default -> encoded.append(c);
+            }
+        }
+        return encoded.toString();
+    }
+
+    private static Mac newMac() {
+        try {
+            return Mac.getInstance(ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(ALGORITHM + " is not available", e);
+        }
+    }
+
+    private static Mac keyedMac(SecretKeySpec key) {
+        Mac mac = newMac();
+        try {
+            mac.init(key);
+        } catch (InvalidKeyException e) {
+            throw new IllegalStateException("Invalid robot signing secret", e);
+        }
+        return mac;
+    }
+
+    /**
+     * Last computed signature and the timestamp it belongs to.
+     */
+    private record Signature(long timestamp, String value) {
+    }
+}
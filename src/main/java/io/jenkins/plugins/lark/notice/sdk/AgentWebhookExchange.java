@@ -0,0 +1,181 @@
+package io.jenkins.plugins.lark.notice.sdk;
+
+import hudson.remoting.VirtualChannel;
+import jenkins.security.MasterToSlaveCallable;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs webhook exchanges on a build agent through its remoting channel, so the HTTP traffic leaves from the
+ * agent's network instead of the controller's.
+ *
+ * <p>Remoting calls are waited on by a bounded pool of {@value #MAX_CALLERS} threads with room for
+ * {@value #MAX_QUEUED} more calls; beyond that a send fails at once instead of piling up threads. Each wait ends
+ * once the request's own connect and read timeouts, plus {@value #CHANNEL_MARGIN_MS} ms for the channel, have
+ * passed, so a stalled agent cannot hold a thread past the request deadline.</p>
+ *
+ * <p>The controller still renders, signs, rate-limits and retries every message; only the signed request
+ * crosses the channel and only the raw answer comes back. The agent keeps one HTTP client per TLS and
+ * connect-timeout setting for as long as the plugin classes stay loaded there, and uses its own JVM proxy
+ * settings.</p>
+ *
+ * @author xm.z
+ */
+public final class AgentWebhookExchange implements WebhookExchange {
+
+    /**
+     * Threads waiting on remoting calls at once.
+     */
+    static final int MAX_CALLERS = 16;
+
+    /**
+     * Remoting calls queued behind busy callers before new sends are rejected.
+     */
+    static final int MAX_QUEUED = 256;
+
+    /**
+     * Allowance for the remoting round trip on top of the request's own timeouts.
+     */
+    static final long CHANNEL_MARGIN_MS = 5_000L;
+
+    /**
+     * Wait used for requests that carry no timeout of their own.
+     */
+    static final long DEFAULT_CALL_TIMEOUT_MS = TimeUnit.MINUTES.toMillis(2);
+
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+    private static final ThreadPoolExecutor CALLERS = createCallers();
+
+    private final VirtualChannel channel;
+
+    /**
+     * Creates an exchange bound to one agent.
+     *
+     * @param channel remoting channel of the agent
+     */
+    public AgentWebhookExchange(VirtualChannel channel) {
+        this.channel = channel;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<WebhookResponse> exchange(WebhookRequest request) {
+        try {
+            return CompletableFuture.supplyAsync(() -> call(request), CALLERS);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Returns how long a caller waits for the agent to answer the given request.
+     *
+     * @param request signed webhook request
+     * @return wait in milliseconds
+     */
+    static long callTimeoutMs(WebhookRequest request) {
+        if (request.timeoutMs() <= 0) {
+            return DEFAULT_CALL_TIMEOUT_MS;
+        }
+        return request.timeoutMs() + Math.max(0L, request.connectTimeoutMs()) + CHANNEL_MARGIN_MS;
+    }
+
+    private WebhookResponse call(WebhookRequest request) {
+        long timeoutMs = callTimeoutMs(request);
+        Future<WebhookResponse> call;
+        try {
+            call = channel.callAsync(new SendOnAgent(request));
+        } catch (IOException e) {
+            throw new CompletionException(e);
+        }
+        try {
+            return call.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            throw new CompletionException(e.getCause());
+        } catch (TimeoutException e) {
+            call.cancel(true);
+            throw new CompletionException(new HttpTimeoutException(
+                    "Agent did not answer within " + timeoutMs + " ms"));
+        } catch (InterruptedException e) {
+            call.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        }
+    }
+
+    private static ThreadPoolExecutor createCallers() {
+        ThreadPoolExecutor callers = new ThreadPoolExecutor(MAX_CALLERS, MAX_CALLERS, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(MAX_QUEUED), runnable -> {
+            Thread thread = new Thread(runnable, "lark-notice-agent-send-" + THREAD_COUNTER.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.AbortPolicy());
+        callers.allowCoreThreadTimeOut(true);
+        return callers;
+    }
+
+    /**
+     * Callable executed on the agent; performs exactly one HTTP exchange.
+     */
+    static final class SendOnAgent extends MasterToSlaveCallable<WebhookResponse, IOException> {
+
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Agent-side clients keyed by certificate verification and connect timeout.
+         */
+        private static final Map<String, HttpClient> CLIENTS = new ConcurrentHashMap<>();
+
+        private final WebhookRequest request;
+
+        SendOnAgent(WebhookRequest request) {
+            this.request = request;
+        }
+
+        @Override
+        public WebhookResponse call() throws IOException {
+            HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(request.uri()))
+                    .POST(HttpRequest.BodyPublishers.ofString(request.body()));
+            if (request.timeoutMs() > 0) {
+                builder.timeout(Duration.ofMillis(request.timeoutMs()));
+            }
+            request.headers().forEach((name, values) -> values.forEach(value -> builder.header(name, value)));
+            try {
+                HttpResponse<String> response = client().send(builder.build(), BoundedBodyHandler.ofString());
+                return new WebhookResponse(response.statusCode(),
+                        WebhookRequest.copyHeaders(response.headers().map()), response.body());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while sending from the agent", e);
+            }
+        }
+
+        private HttpClient client() {
+            long connectTimeoutMs = request.connectTimeoutMs();
+            return CLIENTS.computeIfAbsent(request.noSsl() + ":" + connectTimeoutMs,
+                    ignored -> HttpClientFactory.build(null, request.noSsl(), HttpClient.Version.HTTP_1_1,
+                            connectTimeoutMs > 0 ? Duration.ofMillis(connectTimeoutMs) : null));
+        }
+    }
+}
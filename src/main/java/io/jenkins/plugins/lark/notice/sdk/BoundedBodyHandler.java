@@ -0,0 +1,125 @@
+package io.jenkins.plugins.lark.notice.sdk;
+
+import java.io.ByteArrayOutputStream;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+
+/**
+ * Reads webhook response bodies up to a fixed size.
+ *
+ * <p>Robot APIs answer with a few hundred bytes of JSON; anything much larger is an HTML error page or a
+ * misbehaving endpoint. Bytes are collected as they arrive and, once the limit is reached, the rest of the
+ * body is cancelled, which closes the connection instead of buffering it on the heap. The truncated prefix
+ * is returned so the result fields at the start of a JSON answer can still be read.</p>
+ *
+ * @author xm.z
+ */
+public final class BoundedBodyHandler implements HttpResponse.BodyHandler<byte[]> {
+
+    /**
+     * Largest response body kept in memory.
+     */
+    public static final int MAX_BODY_BYTES = 64 * 1024;
+
+    private static final BoundedBodyHandler DEFAULT = new BoundedBodyHandler(MAX_BODY_BYTES);
+
+    private final int maxBytes;
+
+    BoundedBodyHandler(int maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Returns a handler keeping at most {@link #MAX_BODY_BYTES} of the body.
+     *
+     * @return bounded byte handler
+     */
+    public static BoundedBodyHandler ofBytes() {
+        return DEFAULT;
+    }
+
+    /**
+     * Returns a handler keeping at most {@link #MAX_BODY_BYTES} of the body, decoded as UTF-8.
+     *
+     * @return bounded string handler
+     */
+    public static HttpResponse.BodyHandler<String> ofString() {
+        return info -> HttpResponse.BodySubscribers.mapping(DEFAULT.apply(info),
+                bytes -> new String(bytes, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public HttpResponse.BodySubscriber<byte[]> apply(HttpResponse.ResponseInfo responseInfo) {
+        return new BoundedSubscriber(maxBytes);
+    }
+
+    /**
+     * Collects body bytes until the limit, then cancels the subscription and completes with what it has.
+     */
+    static final class BoundedSubscriber implements HttpResponse.BodySubscriber<byte[]> {
+
+        private final CompletableFuture<byte[]> body = new CompletableFuture<>();
+
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(512);
+
+        private final int maxBytes;
+
+        private Flow.Subscription subscription;
+
+        BoundedSubscriber(int maxBytes) {
+            this.maxBytes = maxBytes;
+        }
+
+        @Override
+        public CompletionStage<byte[]> getBody() {
+            return body;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(List<ByteBuffer> items) {
+            if (body.isDone()) {
+                return;
+            }
+            for (ByteBuffer item : items) {
+                int available = item.remaining();
+                int length = Math.min(maxBytes - buffer.size(), available);
+                if (item.hasArray()) {
+                    buffer.write(item.array(), item.arrayOffset() + item.position(), length);
+                } else {
+                    byte[] chunk = new byte[length];
+                    item.get(chunk);
+                    buffer.write(chunk, 0, length);
+                }
+                if (length < available) {
+                    subscription.cancel();
+                    body.complete(buffer.toByteArray());
+                    return;
+                }
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            body.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            body.complete(buffer.toByteArray());
+        }
+    }
+}
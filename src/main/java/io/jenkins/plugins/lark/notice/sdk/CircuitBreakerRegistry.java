@@ -0,0 +1,97 @@
+package io.jenkins.plugins.lark.notice.sdk;
+
+import io.jenkins.plugins.lark.notice.config.LarkGlobalConfig;
+import io.jenkins.plugins.lark.notice.config.LarkRobotConfig;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds one {@link RobotCircuitBreaker} per robot id. Ad-hoc sends without a robot id are never guarded.
+ *
+ * @author xm.z
+ */
+public class CircuitBreakerRegistry {
+
+    private static final CircuitBreakerRegistry INSTANCE = new CircuitBreakerRegistry();
+
+    private final Map<String, RobotCircuitBreaker> breakers = new ConcurrentHashMap<>();
+
+    CircuitBreakerRegistry() {
+        // shared through getInstance(); package-private for tests
+    }
+
+    /**
+     * Returns the shared registry instance.
+     *
+     * @return singleton registry
+     */
+    public static CircuitBreakerRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Asks the robot's breaker for permission to send.
+     *
+     * @param robotId robot id, may be {@code null}
+     * @return {@code false} when the send must fail fast
+     */
+    public boolean tryAcquire(String robotId) {
+        return robotId == null || breaker(robotId).tryAcquire(System.nanoTime());
+    }
+
+    /**
+     * Returns a permit that did not lead to a network call, e.g. because the rate limiter rejected the send.
+     *
+     * @param robotId robot id, may be {@code null}
+     */
+    public void release(String robotId) {
+        if (robotId != null) {
+            breaker(robotId).release();
+        }
+    }
+
+    /**
+     * Records the outcome of one send.
+     *
+     * @param robotId      robot id, may be {@code null}
+     * @param failed       whether the send failed at transport level
+     * @param latencyNanos time the send took
+     * @return the state the circuit moved to, or {@code null} when it did not change
+     */
+    public CircuitState record(String robotId, boolean failed, long latencyNanos) {
+        return robotId == null ? null : breaker(robotId).record(failed, latencyNanos, System.nanoTime());
+    }
+
+    /**
+     * Returns the current state of the robot's breaker.
+     *
+     * @param robotId robot id, may be {@code null}
+     * @return breaker state, {@link CircuitState#CLOSED} for unknown robots
+     */
+    public CircuitState state(String robotId) {
+        RobotCircuitBreaker breaker = robotId == null ? null : breakers.get(robotId);
+        return breaker == null ? CircuitState.CLOSED : breaker.state();
+    }
+
+    /**
+     * Returns breaker statistics for every robot that has sent at least once.
+     *
+     * @return statistics ordered by robot name
+     */
+    public List<CircuitBreakerStats> stats() {
+        long now = System.nanoTime();
+        return breakers.entrySet().stream()
+                .map(entry -> entry.getValue().stats(LarkGlobalConfig.getRobot(entry.getKey())
+                        .map(LarkRobotConfig::getName)
+                        .orElse(entry.getKey()), now))
+                .sorted(Comparator.comparing(CircuitBreakerStats::robotName, Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER)))
+                .toList();
+    }
+
+    private RobotCircuitBreaker breaker(String robotId) {
+        return breakers.computeIfAbsent(robotId, RobotCircuitBreaker::new);
+    }
+}
@@ -0,0 +1,22 @@
+package io.jenkins.plugins.lark.notice.sdk;
+
+/**
+ * Point-in-time view of one robot's circuit breaker.
+ *
+ * @param robotId             robot id
+ * @param robotName           robot display name, falls back to the id
+ * @param state               current breaker state
+ * @param consecutiveFailures failures since the last successful call
+ * @param failureRatePercent  failed or slow calls among the recent window, in percent
+ * @param calls               calls recorded since startup
+ * @param failures            failed calls since startup
+ * @param slowCalls           calls slower than the slow-call threshold since startup
+ * @param rejected            sends failed fast while the circuit was open
+ * @param opened              number of times the circuit opened
+ * @param openRemainingMs     milliseconds until an open circuit lets probes through, {@code 0} otherwise
+ * @author xm.z
+ */
+public record CircuitBreakerStats(String robotId, String robotName, CircuitState state, int consecutiveFailures,
+                                  int failureRatePercent, long calls, long failures, long slowCalls, long rejected,
+                                  long opened, long openRemainingMs) {
+}
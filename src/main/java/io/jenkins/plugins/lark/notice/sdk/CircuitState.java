@@ -0,0 +1,24 @@
+package io.jenkins.plugins.lark.notice.sdk;
+
+/**
+ * State of a robot's circuit breaker.
+ *
+ * @author xm.z
+ */
+public enum CircuitState {
+
+    /**
+     * Sends go through normally while failures and slow calls are counted.
+     */
+    CLOSED,
+
+    /**
+     * The webhook is considered down; sends fail fast without touching the network.
+     */
+    OPEN,
+
+    /**
+     * The open period has elapsed; a few probe sends decide whether the circuit closes again.
+     */
+    HALF_OPEN
+}
@@ -0,0 +1,110 @@
+package io.jenkins.plugins.lark.notice.sdk;
+
+import io.jenkins.plugins.lark.notice.config.LarkGlobalConfig;
+import io.jenkins.plugins.lark.notice.config.LarkRobotConfig;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds one {@link RobotConcurrencyLimiter} per robot id. Ad-hoc sends without a robot id are not limited.
+ *
+ * @author xm.z
+ */
+public class ConcurrencyLimiterRegistry {
+
+    private static final ConcurrencyLimiterRegistry INSTANCE = new ConcurrencyLimiterRegistry();
+
+    private final Map<String, RobotConcurrencyLimiter> limiters = new ConcurrentHashMap<>();
+
+    ConcurrencyLimiterRegistry() {
+        // shared through getInstance(); package-private for tests
+    }
+
+    /**
+     * Returns the shared registry instance.
+     *
+     * @return singleton registry
+     */
+    public static ConcurrencyLimiterRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Asks the robot's limiter for a slot.
+     *
+     * @param robotId robot id, may be {@code null}
+     * @return future completed with {@code true} once a slot is held, {@code false} when the send was turned away
+     */
+    public CompletableFuture<Boolean> acquire(String robotId) {
+        return acquire(robotId, 1);
+    }
+
+    /**
+     * Asks the robot's limiter for a slot, scaling its limit to the number of webhooks the robot uses.
+     *
+     * @param robotId  robot id, may be {@code null}
+     * @param poolSize number of webhooks the robot spreads its traffic over
+     * @return future completed with {@code true} once a slot is held, {@code false} when the send was turned away
+     */
+    public CompletableFuture<Boolean> acquire(String robotId, int poolSize) {
+        if (robotId == null) {
+            return CompletableFuture.completedFuture(Boolean.TRUE);
+        }
+        return limiters.computeIfAbsent(robotId, RobotConcurrencyLimiter::new).acquire(poolSize);
+    }
+
+    /**
+     * Returns a slot taken through {@link #acquire(String)}.
+     *
+     * @param robotId      robot id, may be {@code null}
+     * @param latencyNanos time the call took
+     * @param overloaded   whether the call failed in a way that suggests the webhook is overloaded
+     */
+    public void release(String robotId, long latencyNanos, boolean overloaded) {
+        RobotConcurrencyLimiter limiter = robotId == null ? null : limiters.get(robotId);
+        if (limiter != null) {
+            limiter.release(latencyNanos, overloaded);
+        }
+    }
+
+    /**
+     * Returns a slot taken through {@link #acquire(String)} without having made the call, leaving the limit as is.
+     *
+     * @param robotId robot id, may be {@code null}
+     */
+    public void abandon(String robotId) {
+        RobotConcurrencyLimiter limiter = robotId == null ? null : limiters.get(robotId);
+        if (limiter != null) {
+            limiter.abandon();
+        }
+    }
+
+    /**
+     * Returns how many calls currently hold a slot of the robot's limiter.
+     *
+     * @param robotId robot id
+     * @return slots in use, {@code 0} when the robot has not sent yet
+     */
+    int inFlight(String robotId) {
+        RobotConcurrencyLimiter limiter = limiters.get(robotId);
+        return limiter == null ? 0 : limiter.stats(robotId).inFlight();
+    }
+
+    /**
+     * Returns limiter statistics for every robot that has sent at least once.
+     *
+     * @return statistics ordered by robot name
+     */
+    public List<ConcurrencyLimiterStats> stats() {
+        return limiters.entrySet().stream()
+                .map(entry -> entry.getValue().stats(LarkGlobalConfig.getRobot(entry.getKey())
+                        .map(LarkRobotConfig::getName)
+                        .orElse(entry.getKey())))
+                .sorted(Comparator.comparing(ConcurrencyLimiterStats::robotName, Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER)))
+                .toList();
+    }
+}
@@ -0,0 +1,22 @@
+package io.jenkins.plugins.lark.notice.sdk;
+
+/**
+ * Point-in-time view of one robot's adaptive concurrency limiter.
+ *
+ * @param robotId      robot id
+ * @param robotName    robot display name, falls back to the id
+ * @param limit        current concurrency limit
+ * @param inFlight     requests currently in flight
+ * @param waiting      requests currently queued for a slot
+ * @param granted      slots granted since startup
+ * @param queued       requests that had to queue for a slot
+ * @param rejected     requests turned away because the queue was full or the wait too long
+ * @param avgQueueMs   average queue time of admitted requests
+ * @param maxQueueMs   longest queue time of an admitted request
+ * @param minLatencyMs lowest recent latency the limit is measured against
+ * @author xm.z
+ */
+public record ConcurrencyLimiterStats(String robotId, String robotName, int limit, int inFlight, int waiting,
+                                      long granted, long queued, long rejected, long avgQueueMs, long maxQueueMs,
+                                      long minLatencyMs) {
+}
@@ -0,0 +1,17 @@
+package io.jenkins.plugins.lark.notice.sdk;
+
+/**
+ * Point-in-time view of notification deduplication.
+ *
+ * @param windowSeconds    configured deduplication window, {@code 0} when disabled
+ * @param entries          messages currently remembered
+ * @param capacity         most messages remembered at once
+ * @param lookups          messages checked since startup
+ * @param suppressed       duplicates answered without sending
+ * @param hitPercent       share of checked messages that were suppressed, in percent
+ * @param approximateBytes estimated heap used by the remembered messages
+ * @author xm.z
+ */
+public record DeduplicationStats(long windowSeconds, int entries, int capacity, long lookups, long suppressed,
+                                 int hitPercent, long approximateBytes) {
+}
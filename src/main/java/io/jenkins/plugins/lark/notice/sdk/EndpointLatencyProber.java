@@ -0,0 +1,268 @@
+package io.jenkins.plugins.lark.notice.sdk;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.ProxySelector;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Measures the latency of alternative base URLs of Lark-compatible robots and picks the fastest healthy one.
+ *
+ * <p>Base URLs are registered the first time a sender asks for a selection. A daemon thread then probes every
+ * registered base URL each {@link #PROBE_INTERVAL_SECONDS} seconds with a {@code HEAD} request; any HTTP answer
+ * counts as reachable. Real sends feed their latency and transport failures back as well, so a degrading
+ * endpoint is left before the next probe. Latency is smoothed with an exponentially weighted average, and a
+ * later candidate only wins over an earlier one when it is clearly faster, which keeps traffic from flapping
+ * between endpoints of similar speed. Base URLs nobody selected for an hour are forgotten.</p>
+ *
+ * <p>Only sends over the controller's own client select and register base URLs. Messages handed to a
+ * {@link WebhookExchange}, such as the relay socket or a pipeline step's agent, go to the configured webhook as
+ * is, so with a relay configured nothing is registered and no probe leaves the controller. Probes are not routed
+ * through the relay: it picks no base URL, so their latency would steer nothing.</p>
+ *
+ * @author xm.z
+ */
+@Slf4j
+public final class EndpointLatencyProber {
+
+    /**
+     * Seconds between two probe rounds.
+     */
+    static final long PROBE_INTERVAL_SECONDS = 60L;
+
+    /**
+     * Consecutive failures after which an endpoint is skipped.
+     */
+    static final int UNHEALTHY_FAILURES = 2;
+
+    /**
+     * Weight of the newest latency sample in the moving average.
+     */
+    static final double SMOOTHING = 0.3;
+
+    /**
+     * Fraction by which a later candidate must be faster to replace an earlier one.
+     */
+    static final double SWITCH_MARGIN = 0.2;
+
+    private static final Duration PROBE_TIMEOUT = Duration.ofSeconds(5);
+
+    private static final long FORGET_AFTER_NANOS = TimeUnit.HOURS.toNanos(1);
+
+    private static final EndpointLatencyProber INSTANCE = new EndpointLatencyProber(
+            Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "lark-notice-endpoint-prober");
+                thread.setDaemon(true);
+                return thread;
+            }));
+
+    private final Map<String, EndpointState> endpoints = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService scheduler;
+
+    private final AtomicBoolean started = new AtomicBoolean();
+
+    EndpointLatencyProber(ScheduledExecutorService scheduler) {
+        // shared through getInstance(); package-private for tests
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Returns the shared prober instance.
+     *
+     * @return singleton prober
+     */
+    public static EndpointLatencyProber getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the base URL the next send should use, registering unknown candidates for probing.
+     *
+     * @param baseUrls      candidate base URLs, the configured one first
+     * @param proxySelector proxy selector used to probe the candidates, may be null
+     * @return fastest healthy base URL, or the first candidate when none is known to be healthy
+     */
+    public String select(List<String> baseUrls, ProxySelector proxySelector) {
+        long now = System.nanoTime();
+        for (String baseUrl : baseUrls) {
+            EndpointState state = endpoints.computeIfAbsent(baseUrl, EndpointState::new);
+            state.proxySelector = proxySelector;
+            state.lastSelectedNanos = now;
+        }
+        startProbing();
+        return choose(baseUrls);
+    }
+
+    /**
+     * Records the latency of a successful exchange with an endpoint.
+     *
+     * @param baseUrl      endpoint base URL
+     * @param latencyNanos time the exchange took
+     */
+    public void recordSuccess(String baseUrl, long latencyNanos) {
+        EndpointState state = endpoints.get(baseUrl);
+        if (state != null) {
+            state.success(latencyNanos);
+        }
+    }
+
+    /**
+     * Records a transport failure of an endpoint.
+     *
+     * @param baseUrl endpoint base URL
+     * @param error   failure description
+     */
+    public void recordFailure(String baseUrl, String error) {
+        EndpointState state = endpoints.get(baseUrl);
+        if (state != null) {
+            state.failure(error);
+        }
+    }
+
+    /**
+     * Returns the cached probe results of the given candidates.
+     *
+     * @param baseUrls candidate base URLs, the configured one first
+     * @return one result per candidate in the given order
+     */
+    public List<EndpointProbeStats> stats(List<String> baseUrls) {
+        String selected = choose(baseUrls);
+        List<EndpointProbeStats> stats = new ArrayList<>(baseUrls.size());
+        for (String baseUrl : baseUrls) {
+            EndpointState state = endpoints.get(baseUrl);
+            if (state == null) {
+                stats.add(new EndpointProbeStats(baseUrl, -1L, true, baseUrl.equals(selected), 0L, 0L, null, null));
+                continue;
+            }
+            synchronized (state) {
+                stats.add(new EndpointProbeStats(baseUrl,
+                        state.latencyNanos < 0 ? -1L : TimeUnit.NANOSECONDS.toMillis((long) state.latencyNanos),
+                        state.isHealthy(), baseUrl.equals(selected), state.samples, state.failures,
+                        state.lastProbedAt, state.lastError));
+            }
+        }
+        return stats;
+    }
+
+    /**
+     * Picks the fastest healthy candidate without registering anything.
+     */
+    String choose(List<String> baseUrls) {
+        if (baseUrls.isEmpty()) {
+            return null;
+        }
+        String best = null;
+        double bestLatency = Double.MAX_VALUE;
+        for (String baseUrl : baseUrls) {
+            EndpointState state = endpoints.get(baseUrl);
+            if (state != null && !state.isHealthy()) {
+                continue;
+            }
+            double latency = state == null ? Double.MAX_VALUE : state.latency();
+            if (best == null || latency < bestLatency * (1 - SWITCH_MARGIN)) {
+                best = baseUrl;
+                bestLatency = latency;
+            }
+        }
+        return best == null ? baseUrls.get(0) : best;
+    }
+
+    private void startProbing() {
+        if (scheduler != null && started.compareAndSet(false, true)) {
+            scheduler.scheduleWithFixedDelay(this::probeAll, 0L, PROBE_INTERVAL_SECONDS, TimeUnit.SECONDS);
+        }
+    }
+
+    private void probeAll() {
+        long now = System.nanoTime();
+        endpoints.values().removeIf(state -> now - state.lastSelectedNanos > FORGET_AFTER_NANOS);
+        for (EndpointState state : endpoints.values()) {
+            try {
+                probe(state);
+            } catch (RuntimeException e) {
+                log.debug("Probing {} failed", state.baseUrl, e);
+            }
+        }
+    }
+
+    private void probe(EndpointState state) {
+        HttpTransport transport = HttpTransportRegistry.getInstance().obtain(state.proxySelector, false, PROBE_TIMEOUT);
+        HttpRequest request = HttpRequest.newBuilder(URI.create(state.baseUrl + "/"))
+                .method("HEAD", HttpRequest.BodyPublishers.noBody())
+                .timeout(PROBE_TIMEOUT)
+                .build();
+        long started = System.nanoTime();
+        try {
+            HttpResponse<Void> response = transport.client().send(request, HttpResponse.BodyHandlers.discarding());
+            transport.record(response);
+            state.success(System.nanoTime() - started);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            state.failure(e.getClass().getSimpleName() + ": " + e.getMessage());
+        } finally {
+            state.lastProbedAt = Instant.now();
+        }
+    }
+
+    /**
+     * Smoothed latency and health of one base URL.
+     */
+    private static final class EndpointState {
+
+        private final String baseUrl;
+
+        private volatile ProxySelector proxySelector;
+
+        private volatile long lastSelectedNanos = System.nanoTime();
+
+        private volatile Instant lastProbedAt;
+
+        private double latencyNanos = -1;
+
+        private int consecutiveFailures;
+
+        private long samples;
+
+        private long failures;
+
+        private String lastError;
+
+        private EndpointState(String baseUrl) {
+            this.baseUrl = baseUrl;
+        }
+
+        private synchronized void success(long sampleNanos) {
+            latencyNanos = latencyNanos < 0 ? sampleNanos : latencyNanos + SMOOTHING * (sampleNanos - latencyNanos);
+            consecutiveFailures = 0;
+            samples++;
+        }
+
+        private synchronized void failure(String error) {
+            consecutiveFailures++;
+            failures++;
+            lastError = error;
+        }
+
+        private synchronized double latency() {
+            return latencyNanos < 0 ? Double.MAX_VALUE : latencyNanos;
+        }
+
+        private synchronized boolean isHealthy() {
+            return consecutiveFailures < UNHEALTHY_FAILURES;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package io.jenkins.plugins.lark.notice.sdk;
+
+import java.time.Instant;
+
+/**
+ * Cached probe result of one candidate base URL.
+ *
+ * @param baseUrl      candidate base URL
+ * @param latencyMs    smoothed latency, or {@code -1} before the first measurement
+ * @param healthy      whether the endpoint currently receives traffic
+ * @param selected     whether sends currently go to this endpoint
+ * @param samples      successful probes and sends measured since startup
+ * @param failures     failed probes and sends since startup
+ * @param lastProbedAt time of the latest probe, or {@code null} before the first one
+ * @param lastError    latest failure description, may be {@code null}
+ * @author xm.z
+ */
+public record EndpointProbeStats(String baseUrl, long latencyMs, boolean healthy, boolean selected, long samples,
+                                 long failures, Instant lastProbedAt, String lastError) {
+}
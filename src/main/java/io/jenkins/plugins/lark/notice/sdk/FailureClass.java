@@ -0,0 +1,25 @@
+package io.jenkins.plugins.lark.notice.sdk;
+
+/**
+ * How a failed send should be treated by the retry loop.
+ *
+ * @author xm.z
+ */
+public enum FailureClass {
+
+    /**
+     * Transient failure such as a network error or a server error; retrying may succeed.
+     */
+    RETRYABLE,
+
+    /**
+     * The webhook asked us to slow down; retry after the hinted delay.
+     */
+    THROTTLED,
+
+    /**
+     * The request itself is wrong (bad signature, keyword mismatch, invalid payload, deleted webhook);
+     * retrying cannot succeed.
+     */
+    PERMANENT
+}
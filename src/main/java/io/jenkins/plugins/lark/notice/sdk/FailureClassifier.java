@@ -0,0 +1,81 @@
+package io.jenkins.plugins.lark.notice.sdk;
+
+import io.jenkins.plugins.lark.notice.enums.RobotType;
+import io.jenkins.plugins.lark.notice.sdk.model.SendResult;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Sorts failed send results into {@link FailureClass retryable, throttled and permanent} failures.
+ *
+ * <p>Throttling is detected through {@link ThrottleSignals}. Permanent failures are recognised from the
+ * provider error codes below and from HTTP client errors; everything else, including transport errors,
+ * is considered retryable.</p>
+ *
+ * @author xm.z
+ */
+public final class FailureClassifier {
+
+    /**
+     * Provider error codes that no retry can fix.
+     */
+    private static final Map<RobotType, Set<Integer>> PERMANENT_CODES = new EnumMap<>(Map.of(
+            // 19001 invalid webhook token, 19002 invalid params, 19021 sign mismatch,
+            // 19022 IP not allowed, 19024 keyword mismatch
+            RobotType.LARK, Set.of(19001, 19002, 19021, 19022, 19024),
+            // 300001/300005 token missing or deleted, 310000 keyword, sign or IP check failed,
+            // 40035 invalid parameters
+            RobotType.DING_TALK, Set.of(300001, 300005, 310000, 40035),
+            // 93000 invalid webhook key, 40008 invalid message type, 40058 invalid parameter,
+            // 44004 empty content, 45002 content too long
+            RobotType.WECHAT_WORK, Set.of(93000, 40008, 40058, 44004, 45002)
+    ));
+
+    /**
+     * HTTP statuses that indicate a broken request or a removed endpoint.
+     */
+    private static final Set<Integer> PERMANENT_HTTP_STATUSES = Set.of(400, 401, 403, 404, 405, 410, 413, 415, 422);
+
+    private FailureClassifier() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Classifies a failed result.
+     *
+     * @param robotType robot platform that produced the result, or {@code null} to match any platform
+     * @param result    failed send result, may be {@code null}
+     * @return failure class; a class already stamped on the result wins
+     */
+    public static FailureClass classify(RobotType robotType, SendResult result) {
+        if (result == null) {
+            return FailureClass.RETRYABLE;
+        }
+        if (result.getFailureClass() != null) {
+            return result.getFailureClass();
+        }
+        if (ThrottleSignals.retryAfterMs(result, System.currentTimeMillis()).isPresent()) {
+            return FailureClass.THROTTLED;
+        }
+        if (isPermanentCode(robotType, result.getCode())) {
+            return FailureClass.PERMANENT;
+        }
+        Integer status = result.getHttpStatus();
+        if (status != null && PERMANENT_HTTP_STATUSES.contains(status)) {
+            return FailureClass.PERMANENT;
+        }
+        return FailureClass.RETRYABLE;
+    }
+
+    private static boolean isPermanentCode(RobotType robotType, Integer code) {
+        if (code == null) {
+            return false;
+        }
+        if (robotType != null) {
+            return PERMANENT_CODES.getOrDefault(robotType, Set.of()).contains(code);
+        }
+        return PERMANENT_CODES.values().stream().anyMatch(codes -> codes.contains(code));
+    }
+}
@@ -0,0 +1,55 @@
+package io.jenkins.plugins.lark.notice.sdk;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts failed send attempts per {@link FailureClass} since startup.
+ *
+ * @author xm.z
+ */
+public class FailureMetrics {
+
+    private static final FailureMetrics INSTANCE = new FailureMetrics();
+
+    private final Map<FailureClass, LongAdder> counters = new EnumMap<>(FailureClass.class);
+
+    FailureMetrics() {
+        for (FailureClass failureClass : FailureClass.values()) {
+            counters.put(failureClass, new LongAdder());
+        }
+    }
+
+    /**
+     * Returns the shared metrics instance.
+     *
+     * @return singleton metrics
+     */
+    public static FailureMetrics getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Counts one failed attempt.
+     *
+     * @param failureClass failure class of the attempt
+     */
+    public void record(FailureClass failureClass) {
+        if (failureClass != null) {
+            counters.get(failureClass).increment();
+        }
+    }
+
+    /**
+     * Returns the current counters in declaration order.
+     *
+     * @return failed attempts per class
+     */
+    public Map<FailureClass, Long> snapshot() {
+        Map<FailureClass, Long> snapshot = new LinkedHashMap<>();
+        counters.forEach((failureClass, counter) -> snapshot.put(failureClass, counter.sum()));
+        return snapshot;
+    }
+}
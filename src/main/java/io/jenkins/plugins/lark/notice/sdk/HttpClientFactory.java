@@ -20,6 +20,11 @@ import java.util.Objects;
  */
 public final class HttpClientFactory {
 
+    /**
+     * Connect timeout used when the caller does not pick one.
+     */
+    public static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofMinutes(3);
+
     private HttpClientFactory() {
         // Prevent instantiation of this utility class.
     }
@@ -45,11 +50,40 @@ public final class HttpClientFactory {
      * @throws RuntimeException if there is an error during the creation of the HttpClient.
      */
     public static HttpClient build(ProxySelector proxySelector, boolean disableSslVerify) {
+        return build(proxySelector, disableSslVerify, HttpClient.Version.HTTP_1_1);
+    }
+
+    /**
+     * Creates a new HttpClient instance for an explicit protocol version.
+     * Prefer {@link HttpTransportRegistry#obtain(HttpTransportProfile)} for webhook traffic so the client is shared.
+     *
+     * @param proxySelector    The proxy selector to configure on the HttpClient, or null to use the default system proxy.
+     * @param disableSslVerify True to bypass SSL certificate checks; false to use default SSL settings.
+     * @param version          The preferred HTTP protocol version.
+     * @return A new HttpClient instance configured according to the parameters.
+     * @throws RuntimeException if there is an error during the creation of the HttpClient.
+     */
+    public static HttpClient build(ProxySelector proxySelector, boolean disableSslVerify, HttpClient.Version version) {
+        return build(proxySelector, disableSslVerify, version, DEFAULT_CONNECT_TIMEOUT);
+    }
+
+    /**
+     * Creates a new HttpClient instance for an explicit protocol version and connect timeout.
+     *
+     * @param proxySelector    The proxy selector to configure on the HttpClient, or null to use the default system proxy.
+     * @param disableSslVerify True to bypass SSL certificate checks; false to use default SSL settings.
+     * @param version          The preferred HTTP protocol version.
+     * @param connectTimeout   The connect timeout, or null for {@link #DEFAULT_CONNECT_TIMEOUT}.
+     * @return A new HttpClient instance configured according to the parameters.
+     * @throws RuntimeException if there is an error during the creation of the HttpClient.
+     */
+    public static HttpClient build(ProxySelector proxySelector, boolean disableSslVerify, HttpClient.Version version,
+                                   Duration connectTimeout) {
         try {
             HttpClient.Builder builder = HttpClient.newBuilder()
-                    .version(HttpClient.Version.HTTP_1_1)
+                    .version(Objects.requireNonNullElse(version, HttpClient.Version.HTTP_1_1))
                     .followRedirects(HttpClient.Redirect.NORMAL)
-                    .connectTimeout(Duration.ofMinutes(3))
+                    .connectTimeout(Objects.requireNonNullElse(connectTimeout, DEFAULT_CONNECT_TIMEOUT))
                     .proxy(Objects.requireNonNullElse(proxySelector, ProxySelector.getDefault()));
 
             if (disableSslVerify) {
@@ -0,0 +1,135 @@
+package io.jenkins.plugins.lark.notice.sdk;
+
+import javax.net.ssl.SSLSession;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * One long-lived {@link HttpClient} bound to a {@link HttpTransportProfile}, plus the counters used to
+ * describe the TLS sessions it has seen.
+ *
+ * <p>The JDK client does not expose its connection pool, so the figures are derived from the TLS session
+ * ids observed on responses: every distinct id counts as a new session, and every exchange that arrives on
+ * an already known id counts as a resumed session. A known id may come from a pooled connection or from an
+ * abbreviated handshake on a new one, so it says nothing about connection reuse. Plain HTTP endpoints only
+ * contribute to the request counter.</p>
+ *
+ * @author xm.z
+ */
+public final class HttpTransport {
+
+    /**
+     * Idle timeout applied by the JDK client to pooled HTTP/1.1 connections.
+     */
+    private static final Duration KEEP_ALIVE = Duration.ofSeconds(
+            Long.getLong("jdk.httpclient.keepalive.timeout", 30L));
+
+    private final HttpTransportProfile profile;
+
+    private final HttpClient client;
+
+    private final Instant createdAt = Instant.now();
+
+    private final AtomicLong requests = new AtomicLong();
+
+    private final AtomicLong newSessions = new AtomicLong();
+
+    private final AtomicLong resumedSessions = new AtomicLong();
+
+    private final Map<String, Long> sessionLastSeen = new ConcurrentHashMap<>();
+
+    private volatile long lastUsedNanos = System.nanoTime();
+
+    HttpTransport(HttpTransportProfile profile, HttpClient client) {
+        this.profile = profile;
+        this.client = client;
+    }
+
+    /**
+     * Returns the shared client; callers must not close or reconfigure it.
+     *
+     * @return pooled HTTP client
+     */
+    public HttpClient client() {
+        lastUsedNanos = System.nanoTime();
+        return client;
+    }
+
+    /**
+     * Returns the profile this transport was built for.
+     *
+     * @return transport profile
+     */
+    public HttpTransportProfile profile() {
+        return profile;
+    }
+
+    /**
+     * Records one completed exchange so pool statistics stay current.
+     *
+     * @param response response received through {@link #client()}
+     */
+    public void record(HttpResponse<?> response) {
+        long now = System.nanoTime();
+        lastUsedNanos = now;
+        requests.incrementAndGet();
+        Optional<SSLSession> session = response == null ? Optional.empty() : response.sslSession();
+        if (session.isEmpty()) {
+            return;
+        }
+        String sessionKey = sessionKey(session.get());
+        if (sessionLastSeen.put(sessionKey, now) == null) {
+            newSessions.incrementAndGet();
+        } else {
+            resumedSessions.incrementAndGet();
+        }
+        sessionLastSeen.values().removeIf(seen -> now - seen > KEEP_ALIVE.toNanos() * 2);
+    }
+
+    /**
+     * Returns an immutable view of the current pool statistics.
+     *
+     * @return statistics snapshot
+     */
+    public HttpTransportStats stats() {
+        long now = System.nanoTime();
+        int live = (int) sessionLastSeen.values().stream()
+                .filter(seen -> now - seen <= KEEP_ALIVE.toNanos())
+                .count();
+        return new HttpTransportStats(profile.describe(), createdAt, requests.get(), newSessions.get(),
+                resumedSessions.get(), live);
+    }
+
+    /**
+     * Returns whether this transport has been idle for longer than the given duration.
+     *
+     * @param idle idle threshold
+     * @return {@code true} when unused for at least {@code idle}
+     */
+    boolean isIdleFor(Duration idle) {
+        return System.nanoTime() - lastUsedNanos >= idle.toNanos();
+    }
+
+    /**
+     * Starts a graceful shutdown of the client: exchanges already in flight complete, new ones are refused,
+     * and its executor and connections are released once they finish.
+     */
+    void shutdown() {
+        client.shutdown();
+    }
+
+    private static String sessionKey(SSLSession session) {
+        byte[] id = session.getId();
+        if (id == null || id.length == 0) {
+            return "identity-" + System.identityHashCode(session);
+        }
+        return HexFormat.of().formatHex(id);
+    }
+}
@@ -0,0 +1,58 @@
+package io.jenkins.plugins.lark.notice.sdk;
+
+import java.net.ProxySelector;
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+/**
+ * Identifies one shareable transport: clients are pooled per distinct combination of proxy,
+ * SSL verification mode, HTTP protocol version and connect timeout.
+ *
+ * <p>Proxy selectors take part in equality, so selectors handed out by
+ * {@link io.jenkins.plugins.lark.notice.config.LarkProxyConfig} compare by their settings rather than by identity.</p>
+ *
+ * @param proxySelector    proxy selector, or {@code null} for the JVM default
+ * @param disableSslVerify whether certificate validation is bypassed
+ * @param version          HTTP protocol version
+ * @param connectTimeout   connect timeout applied by the client
+ * @author xm.z
+ */
+public record HttpTransportProfile(ProxySelector proxySelector, boolean disableSslVerify, HttpClient.Version version,
+                                   Duration connectTimeout) {
+
+    /**
+     * Creates the profile used by webhook senders, which always speak HTTP/1.1.
+     *
+     * @param proxySelector    proxy selector, or {@code null} for the JVM default
+     * @param disableSslVerify whether certificate validation is bypassed
+     * @return transport profile
+     */
+    public static HttpTransportProfile of(ProxySelector proxySelector, boolean disableSslVerify) {
+        return of(proxySelector, disableSslVerify, HttpClientFactory.DEFAULT_CONNECT_TIMEOUT);
+    }
+
+    /**
+     * Creates the profile used by webhook senders with an explicit connect timeout.
+     *
+     * @param proxySelector    proxy selector, or {@code null} for the JVM default
+     * @param disableSslVerify whether certificate validation is bypassed
+     * @param connectTimeout   connect timeout, or {@code null} for the factory default
+     * @return transport profile
+     */
+    public static HttpTransportProfile of(ProxySelector proxySelector, boolean disableSslVerify, Duration connectTimeout) {
+        return new HttpTransportProfile(proxySelector, disableSslVerify, HttpClient.Version.HTTP_1_1,
+                connectTimeout == null ? HttpClientFactory.DEFAULT_CONNECT_TIMEOUT : connectTimeout);
+    }
+
+    /**
+     * Renders a short, secret-free description for diagnostics pages.
+     *
+     * @return profile description
+     */
+    public String describe() {
+        String proxy = proxySelector == null ? "system" : proxySelector.toString();
+        return String.format("proxy=%s, ssl=%s, protocol=%s, connect=%ss", proxy,
+                disableSslVerify ? "insecure" : "verified", version,
+                connectTimeout == null ? "-" : connectTimeout.toSeconds());
+    }
+}
@@ -0,0 +1,125 @@
+package io.jenkins.plugins.lark.notice.sdk;
+
+import java.net.ProxySelector;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps one long-lived {@link HttpTransport} per {@link HttpTransportProfile} so that webhook sends share
+ * the JDK client's executor and keep-alive connection pool instead of paying for a new client, TCP connect
+ * and TLS handshake on every message.
+ *
+ * <p>A client is only rebuilt when its profile changes: a proxy update clears the registry through
+ * {@link #invalidate()}, while toggling a robot's {@code NO_SSL} policy simply resolves to another profile.
+ * Profiles that stop being used are dropped after {@link #IDLE_EVICTION}. Dropped clients are shut down
+ * gracefully, so sends already in flight on them still complete.</p>
+ *
+ * @author xm.z
+ */
+public class HttpTransportRegistry {
+
+    /**
+     * How long an unused profile is kept before its client is released.
+     */
+    static final Duration IDLE_EVICTION = Duration.ofMinutes(30);
+
+    private static final HttpTransportRegistry INSTANCE = new HttpTransportRegistry();
+
+    private final Map<HttpTransportProfile, HttpTransport> transports = new ConcurrentHashMap<>();
+
+    HttpTransportRegistry() {
+        // shared through getInstance(); package-private for tests
+    }
+
+    /**
+     * Returns the shared registry instance.
+     *
+     * @return singleton registry
+     */
+    public static HttpTransportRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the pooled transport for the given proxy and SSL mode, building it on first use.
+     *
+     * @param proxySelector    proxy selector, or {@code null} for the JVM default
+     * @param disableSslVerify whether certificate validation is bypassed
+     * @return pooled transport
+     */
+    public HttpTransport obtain(ProxySelector proxySelector, boolean disableSslVerify) {
+        return obtain(HttpTransportProfile.of(proxySelector, disableSslVerify));
+    }
+
+    /**
+     * Returns the pooled transport for the given proxy, SSL mode and connect timeout, building it on first use.
+     *
+     * @param proxySelector    proxy selector, or {@code null} for the JVM default
+     * @param disableSslVerify whether certificate validation is bypassed
+     * @param connectTimeout   connect timeout, or {@code null} for the factory default
+     * @return pooled transport
+     */
+    public HttpTransport obtain(ProxySelector proxySelector, boolean disableSslVerify, Duration connectTimeout) {
+        return obtain(HttpTransportProfile.of(proxySelector, disableSslVerify, connectTimeout));
+    }
+
+    /**
+     * Returns the pooled transport for the given profile, building it on first use.
+     *
+     * @param profile transport profile
+     * @return pooled transport
+     */
+    public HttpTransport obtain(HttpTransportProfile profile) {
+        HttpTransport transport = transports.computeIfAbsent(profile, key -> new HttpTransport(key,
+                HttpClientFactory.build(key.proxySelector(), key.disableSslVerify(), key.version(),
+                        key.connectTimeout())));
+        evictIdle(profile);
+        return transport;
+    }
+
+    /**
+     * Drops every pooled client so the next send rebuilds it from current configuration, shutting the
+     * dropped clients down once their in-flight exchanges complete.
+     */
+    public void invalidate() {
+        transports.keySet().forEach(profile -> {
+            HttpTransport removed = transports.remove(profile);
+            if (removed != null) {
+                removed.shutdown();
+            }
+        });
+    }
+
+    /**
+     * Returns statistics for every live profile, busiest first.
+     *
+     * @return transport statistics
+     */
+    public List<HttpTransportStats> stats() {
+        return transports.values().stream()
+                .map(HttpTransport::stats)
+                .sorted(Comparator.comparingLong(HttpTransportStats::requests).reversed())
+                .toList();
+    }
+
+    /**
+     * Returns the number of pooled clients. Intended for package-level tests.
+     *
+     * @return number of live profiles
+     */
+    int size() {
+        return transports.size();
+    }
+
+    private void evictIdle(HttpTransportProfile current) {
+        transports.forEach((profile, transport) -> {
+            if (!profile.equals(current) && transport.isIdleFor(IDLE_EVICTION)
+                    && transports.remove(profile, transport)) {
+                transport.shutdown();
+            }
+        });
+    }
+}
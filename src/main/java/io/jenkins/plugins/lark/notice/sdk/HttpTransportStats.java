@@ -0,0 +1,37 @@
+package io.jenkins.plugins.lark.notice.sdk;
+
+import java.time.Instant;
+
+/**
+ * Point-in-time statistics of one pooled {@link HttpTransport}.
+ *
+ * @param profile         profile description
+ * @param createdAt       when the underlying client was built
+ * @param requests        completed exchanges
+ * @param newSessions     distinct TLS session ids observed
+ * @param resumedSessions exchanges that arrived on an already known TLS session id
+ * @param liveConnections TLS sessions used within the keep-alive window
+ * @author xm.z
+ */
+public record HttpTransportStats(String profile, Instant createdAt, long requests, long newSessions,
+                                 long resumedSessions, int liveConnections) {
+
+    /**
+     * Returns the share of TLS exchanges that arrived on an already known session id.
+     *
+     * @return resumption ratio between 0 and 1
+     */
+    public double resumeRatio() {
+        long tlsExchanges = newSessions + resumedSessions;
+        return tlsExchanges == 0 ? 0.0d : (double) resumedSessions / tlsExchanges;
+    }
+
+    /**
+     * Formats {@link #resumeRatio()} as a percentage for Jelly views.
+     *
+     * @return resumption ratio such as {@code 87.5%}
+     */
+    public String resumeRatioText() {
+        return String.format("%.1f%%", resumeRatio() * 100.0d);
+    }
+}
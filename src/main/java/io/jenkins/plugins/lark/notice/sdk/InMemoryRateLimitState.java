@@ -0,0 +1,113 @@
+package io.jenkins.plugins.lark.notice.sdk;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-process token buckets of one robot: one refilled per second and one per minute.
+ *
+ * <p>A permit is reserved up front: when no token is left, the caller is told how long to wait for the
+ * bucket to refill and the token is taken on credit, so later callers queue up behind it in order. A
+ * reservation whose wait would exceed the policy deadline is rejected without consuming anything.</p>
+ *
+ * <p>When the server signals throttling, {@link #holdUntil(long, long)} pushes every permit back to the hinted
+ * time, regardless of the bucket state.</p>
+ *
+ * @author xm.z
+ */
+final class InMemoryRateLimitState implements RateLimitState {
+
+    private Bucket perSecond;
+
+    private Bucket perMinute;
+
+    private int requestsPerSecond = -1;
+
+    private int requestsPerMinute = -1;
+
+    private long holdUntilNanos;
+
+    private boolean holding;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized long reserve(RateLimitPolicy policy, long nowNanos) {
+        configure(policy, nowNanos);
+        long wait = Math.max(waitFor(perSecond, nowNanos), waitFor(perMinute, nowNanos));
+        if (holding) {
+            wait = Math.max(wait, holdUntilNanos - nowNanos);
+        }
+        if (wait > TimeUnit.MILLISECONDS.toNanos(policy.getMaxWaitMs())) {
+            return -1L;
+        }
+        take(perSecond);
+        take(perMinute);
+        return wait;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void holdUntil(long untilNanos, long nowNanos) {
+        if (!holding || untilNanos - holdUntilNanos > 0) {
+            holdUntilNanos = untilNanos;
+        }
+        holding = true;
+    }
+
+    private void configure(RateLimitPolicy policy, long nowNanos) {
+        if (policy.getRequestsPerSecond() != requestsPerSecond) {
+            requestsPerSecond = policy.getRequestsPerSecond();
+            perSecond = requestsPerSecond > 0 ? new Bucket(requestsPerSecond, TimeUnit.SECONDS.toNanos(1), nowNanos) : null;
+        }
+        if (policy.getRequestsPerMinute() != requestsPerMinute) {
+            requestsPerMinute = policy.getRequestsPerMinute();
+            perMinute = requestsPerMinute > 0 ? new Bucket(requestsPerMinute, TimeUnit.MINUTES.toNanos(1), nowNanos) : null;
+        }
+    }
+
+    private static long waitFor(Bucket bucket, long nowNanos) {
+        if (bucket == null) {
+            return 0L;
+        }
+        bucket.refill(nowNanos);
+        return bucket.tokens >= 1.0d ? 0L : (long) Math.ceil((1.0d - bucket.tokens) * bucket.nanosPerToken);
+    }
+
+    private static void take(Bucket bucket) {
+        if (bucket != null) {
+            bucket.tokens -= 1.0d;
+        }
+    }
+
+    /**
+     * Classic token bucket; tokens may go negative while reservations are outstanding.
+     */
+    private static final class Bucket {
+
+        private final double capacity;
+
+        private final double nanosPerToken;
+
+        private double tokens;
+
+        private long lastRefillNanos;
+
+        private Bucket(int permits, long periodNanos, long nowNanos) {
+            this.capacity = permits;
+            this.nanosPerToken = (double) periodNanos / permits;
+            this.tokens = permits;
+            this.lastRefillNanos = nowNanos;
+        }
+
+        private void refill(long nowNanos) {
+            long elapsed = nowNanos - lastRefillNanos;
+            if (elapsed > 0) {
+                tokens = Math.min(capacity, tokens + elapsed / nanosPerToken);
+                lastRefillNanos = nowNanos;
+            }
+        }
+    }
+}
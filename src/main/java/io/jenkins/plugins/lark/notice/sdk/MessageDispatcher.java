@@ -5,12 +5,28 @@ import io.jenkins.plugins.lark.notice.Messages;
 import io.jenkins.plugins.lark.notice.config.LarkGlobalConfig;
 import io.jenkins.plugins.lark.notice.config.LarkRetryConfig;
 import io.jenkins.plugins.lark.notice.config.LarkRobotConfig;
+import io.jenkins.plugins.lark.notice.config.LarkTimeoutConfig;
+import io.jenkins.plugins.lark.notice.config.ProxyAddressCache;
 import io.jenkins.plugins.lark.notice.enums.MsgTypeEnum;
 import io.jenkins.plugins.lark.notice.logging.NoticeLog;
 import io.jenkins.plugins.lark.notice.logging.NoticeLogKey;
 import io.jenkins.plugins.lark.notice.logging.NoticeTrace;
 import io.jenkins.plugins.lark.notice.model.MessageModel;
 import io.jenkins.plugins.lark.notice.sdk.model.SendResult;
+import io.jenkins.plugins.lark.notice.sdk.outbox.NotificationOutbox;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Responsible for dispatching messages to specified robots on the Lark platform.
@@ -19,6 +35,24 @@ import io.jenkins.plugins.lark.notice.sdk.model.SendResult;
  */
 public class MessageDispatcher {
 
+    private static final AtomicInteger RETRY_THREAD_COUNTER = new AtomicInteger();
+
+    /**
+     * Shared timer that schedules retry attempts, so no thread is parked while a backoff delay elapses.
+     * Attempts started from it are expected to be non-blocking; HTTP senders hand the exchange to the client.
+     */
+    static final ScheduledExecutorService RETRY_SCHEDULER = Executors.newScheduledThreadPool(2, runnable -> {
+        Thread thread = new Thread(runnable, "lark-notice-retry-" + RETRY_THREAD_COUNTER.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Marker completing an attempt that was still in flight when the delivery deadline ran out, or whose rate
+     * limit permit or concurrency slot came too late to be sent; never returned.
+     */
+    private static final SendResult DEADLINE_REACHED = SendResult.fail("deadline reached");
+
     /**
      * The single instance of the MessageDispatcher, ensuring that only one instance of this class exists.
      */
@@ -26,12 +60,34 @@ public class MessageDispatcher {
 
     private final MessageSenderRegistry senderRegistry;
 
+    private final ScheduledExecutorService retryScheduler;
+
+    private final RateLimiterRegistry rateLimiterRegistry;
+
+    private final CircuitBreakerRegistry circuitBreakers;
+
+    private final FailureMetrics failureMetrics = FailureMetrics.getInstance();
+
+    private final RetryBudget retryBudget = RetryBudget.getInstance();
+
+    private final NotificationDeduplicator deduplicator = NotificationDeduplicator.getInstance();
+
+    private final ConcurrencyLimiterRegistry concurrencyLimiters;
+
     private MessageDispatcher() {
-        this(MessageSenderRegistry.getInstance());
+        this(MessageSenderRegistry.getInstance(), RETRY_SCHEDULER, RateLimiterRegistry.getInstance(),
+                CircuitBreakerRegistry.getInstance(), ConcurrencyLimiterRegistry.getInstance());
     }
 
-    MessageDispatcher(MessageSenderRegistry senderRegistry) {
+    MessageDispatcher(MessageSenderRegistry senderRegistry, ScheduledExecutorService retryScheduler,
+                      RateLimiterRegistry rateLimiterRegistry, CircuitBreakerRegistry circuitBreakers,
+                      ConcurrencyLimiterRegistry concurrencyLimiters) {
+        // shared through getInstance(); package-private for tests
         this.senderRegistry = senderRegistry;
+        this.retryScheduler = retryScheduler;
+        this.rateLimiterRegistry = rateLimiterRegistry;
+        this.circuitBreakers = circuitBreakers;
+        this.concurrencyLimiters = concurrencyLimiters;
     }
 
     /**
@@ -47,93 +103,538 @@ public class MessageDispatcher {
      * Sends a message to a specified Lark robot using its ID.
      * This method determines the appropriate MessageSender for the robot and
      * delegates the message sending operation to it. If the robot ID is not recognized,
-     * or if the message type is not specified, it returns a failure result.
+     * or if the message type is not specified, it returns a failure result. The calling thread
+     * waits until the last attempt finishes, backoff delays included.
      *
      * @param listener The task listener
      * @param robotId  The ID of the Lark robot to which the message should be sent.
      * @param msg      The message to be sent, encapsulated in a MessageModel object.
      * @return A SendResult object representing the outcome of the send operation.
      * This includes status codes and messages indicating success or failure.
+     * @see #sendAsync(TaskListener, String, MessageModel)
      */
     public SendResult send(TaskListener listener, String robotId, MessageModel msg) {
+        return sendAsync(listener, robotId, msg).join();
+    }
+
+    /**
+     * Sends a message using a provided sender, bypassing registry resolution. Blocks the calling thread until
+     * the last attempt finishes.
+     *
+     * @param listener task listener
+     * @param robotId  robot identifier for logging
+     * @param msg      message payload
+     * @param sender   prepared message sender
+     * @return send result
+     */
+    public SendResult send(TaskListener listener, String robotId, MessageModel msg, MessageSender sender) {
+        return sendAsync(listener, robotId, msg, sender).join();
+    }
+
+    /**
+     * Sends a message like {@link #send(TaskListener, String, MessageModel)}, but performs every HTTP exchange,
+     * including those of fallback robots, through the given exchange. Blocks the calling thread until the last
+     * attempt finishes.
+     *
+     * @param listener task listener
+     * @param robotId  robot identifier
+     * @param msg      message payload
+     * @param exchange exchange performing the signed HTTP calls; {@code null} sends from the controller
+     * @return send result
+     */
+    public SendResult send(TaskListener listener, String robotId, MessageModel msg, WebhookExchange exchange) {
+        return sendAsync(listener, robotId, msg, exchange).join();
+    }
+
+    /**
+     * Non-blocking counterpart of {@link #send(TaskListener, String, MessageModel)}.
+     * When durable delivery is enabled the message is journaled to the {@link NotificationOutbox} first and
+     * settled there once the send finishes. When the robot fails for good the message is rerouted to the
+     * robot's fallback robots in order; {@link SendResult#getDeliveredBy()} names the robot that delivered it.
+     *
+     * @param listener The task listener
+     * @param robotId  The ID of the Lark robot to which the message should be sent.
+     * @param msg      The message to be sent, encapsulated in a MessageModel object.
+     * @return A future completed with the outcome of the send operation; it never completes exceptionally
+     * for validation or transport failures.
+     */
+    public CompletableFuture<SendResult> sendAsync(TaskListener listener, String robotId, MessageModel msg) {
+        return sendAsync(listener, robotId, msg, (WebhookExchange) null);
+    }
+
+    /**
+     * Non-blocking counterpart of {@link #send(TaskListener, String, MessageModel, WebhookExchange)}.
+     *
+     * @param listener task listener
+     * @param robotId  robot identifier
+     * @param msg      message payload
+     * @param exchange exchange performing the signed HTTP calls; {@code null} sends from the controller
+     * @return future completed with the send result
+     */
+    public CompletableFuture<SendResult> sendAsync(TaskListener listener, String robotId, MessageModel msg,
+                                                   WebhookExchange exchange) {
         NoticeLog.trace(listener, NoticeTrace.DISPATCHER_SEND_START,
                 NoticeLog.field(NoticeLogKey.ROBOT_ID, robotId),
-                NoticeLog.field(NoticeLogKey.MESSAGE_TYPE, msg == null || msg.getType() == null ? "<null>" : msg.getType().name()));
+                NoticeLog.field(NoticeLogKey.MESSAGE_TYPE, msg == null || msg.getType() == null ? "<null>" : msg.getType().name()),
+                NoticeLog.field(NoticeLogKey.PROXY_LOOKUP_US, ProxyAddressCache.getInstance().lastLookupMicros()));
 
-        MessageSender sender = senderRegistry.resolve(robotId);
+        MessageSender sender = route(resolveSender(robotId), exchange);
         if (sender == null) {
-            return fail(listener, robotId, null, String.format(Messages.dispatcher_error_robot_not_exist(), robotId));
+            return CompletableFuture.completedFuture(
+                    fail(listener, robotId, null, String.format(Messages.dispatcher_error_robot_not_exist(), robotId)));
         }
 
-        return send(listener, robotId, msg, sender);
+        long dedupWindowMs = NotificationDeduplicator.configuredWindowMs();
+        if (msg == null || msg.getType() == null || dedupWindowMs <= 0) {
+            return deliver(listener, robotId, msg, sender, exchange);
+        }
+        return deduplicator.deduplicate(robotId, msg, dedupWindowMs, resolveDeadlineMs(robotId),
+                        () -> deliver(listener, robotId, msg, sender, exchange))
+                .thenApply(sendResult -> {
+                    if (sendResult.isDeduplicated()) {
+                        NoticeLog.trace(listener, NoticeTrace.DISPATCHER_DEDUPLICATED,
+                                NoticeLog.field(NoticeLogKey.ROBOT_ID, robotId),
+                                NoticeLog.field(NoticeLogKey.MESSAGE_TYPE, msg.getType().name()),
+                                NoticeLog.field(NoticeLogKey.DELIVERED_BY, sendResult.getDeliveredBy()));
+                    }
+                    return sendResult;
+                });
+    }
+
+    /**
+     * Replays a message from the durable outbox through the robot and its fallback robots. Unlike
+     * {@link #sendAsync(TaskListener, String, MessageModel)} it neither journals the message again nor
+     * deduplicates it; the caller settles the outbox entry it replays.
+     *
+     * @param listener task listener
+     * @param robotId  robot the message was journaled for
+     * @param msg      journaled message
+     * @param sender   sender of the robot
+     * @return future completed with the send result
+     */
+    public CompletableFuture<SendResult> replayAsync(TaskListener listener, String robotId, MessageModel msg,
+                                                     MessageSender sender) {
+        return sendWithFailover(listener, robotId, msg, sender, null);
+    }
+
+    /**
+     * Sends with failover, journaling the message to the outbox first when durable delivery is enabled. The
+     * journaled entry stays leased to this send, so the drainer does not replay it while the send is running.
+     */
+    private CompletableFuture<SendResult> deliver(TaskListener listener, String robotId, MessageModel msg,
+                                                  MessageSender sender, WebhookExchange exchange) {
+        if (msg == null || msg.getType() == null || !NotificationOutbox.isEnabled()) {
+            return sendWithFailover(listener, robotId, msg, sender, exchange);
+        }
+        NotificationOutbox outbox = NotificationOutbox.getInstance();
+        String entryId = outbox.append(robotId, msg);
+        return sendWithFailover(listener, robotId, msg, sender, exchange)
+                .thenApply(sendResult -> outbox.settle(entryId, sendResult))
+                .whenComplete((sendResult, error) -> {
+                    if (error != null) {
+                        outbox.release(entryId);
+                    }
+                });
+    }
+
+    /**
+     * Sends through the robot and, when it fails for good, through its fallback robots in configured order.
+     * Each robot runs its own retries, limits and breaker; an open breaker fails fast, so a robot known to be
+     * down adds no delay before the next one is tried. All robots share the primary robot's delivery deadline,
+     * and a robot with a fallback left stops retrying as soon as its failure calls for failover.
+     */
+    private CompletableFuture<SendResult> sendWithFailover(TaskListener listener, String robotId, MessageModel msg,
+                                                           MessageSender sender, WebhookExchange exchange) {
+        Iterator<String> fallbacks = resolveFallbackRobotIds(robotId).iterator();
+        Deadline deadline = newDeadline(robotId);
+        return deliverTo(listener, robotId, msg, sender, deadline, fallbacks.hasNext())
+                .thenCompose(result -> failover(listener, robotId, msg, result, fallbacks, exchange, deadline));
+    }
+
+    private CompletableFuture<SendResult> failover(TaskListener listener, String robotId, MessageModel msg,
+                                                   SendResult result, Iterator<String> fallbacks,
+                                                   WebhookExchange exchange, Deadline deadline) {
+        if (result.isOk() && result.getDeliveredBy() == null) {
+            result.setDeliveredBy(robotId);
+        }
+        if (!shouldFailover(robotId, result)) {
+            return CompletableFuture.completedFuture(result);
+        }
+        while (fallbacks.hasNext() && deadline.remainingMs() > 0) {
+            String fallbackRobotId = fallbacks.next();
+            MessageSender fallbackSender = route(resolveSender(fallbackRobotId), exchange);
+            if (fallbackSender == null) {
+                continue;
+            }
+            NoticeLog.trace(listener, NoticeTrace.DISPATCHER_FAILOVER,
+                    NoticeLog.field(NoticeLogKey.ROBOT_ID, robotId),
+                    NoticeLog.field(NoticeLogKey.FALLBACK_ROBOT_ID, fallbackRobotId),
+                    NoticeLog.field(NoticeLogKey.FAILURE_CLASS, result.getFailureClass()),
+                    NoticeLog.field(NoticeLogKey.CIRCUIT_STATE, circuitBreakers.state(robotId)));
+            return deliverTo(listener, fallbackRobotId, msg, fallbackSender, deadline, fallbacks.hasNext())
+                    .thenCompose(next -> failover(listener, fallbackRobotId, msg, next, fallbacks, exchange, deadline));
+        }
+        return CompletableFuture.completedFuture(result);
+    }
+
+    private static MessageSender route(MessageSender sender, WebhookExchange exchange) {
+        return sender == null || exchange == null ? sender : new RoutedMessageSender(sender, exchange);
+    }
+
+    /**
+     * Returns whether a failed result should move the message to the next robot: the webhook rejected it for
+     * good, the provider kept throttling it, or the robot's circuit breaker reports repeated recent failures.
+     */
+    boolean shouldFailover(String robotId, SendResult result) {
+        if (result == null || result.isOk()) {
+            return false;
+        }
+        FailureClass failureClass = result.getFailureClass();
+        return failureClass == FailureClass.PERMANENT || failureClass == FailureClass.THROTTLED
+                || circuitBreakers.state(robotId) != CircuitState.CLOSED;
+    }
+
+    /**
+     * Resolves the sender of a robot from the registry.
+     *
+     * @param robotId robot id
+     * @return sender, or {@code null} when the robot does not exist
+     */
+    MessageSender resolveSender(String robotId) {
+        return senderRegistry.resolve(robotId);
+    }
+
+    /**
+     * Resolves the configured fallback robots of a robot.
+     *
+     * @param robotId primary robot id
+     * @return fallback robot ids in failover order
+     */
+    List<String> resolveFallbackRobotIds(String robotId) {
+        if (robotId == null) {
+            return Collections.emptyList();
+        }
+        return LarkGlobalConfig.getRobot(robotId)
+                .map(LarkRobotConfig::getFallbackRobotIds)
+                .orElseGet(Collections::emptyList);
     }
 
     /**
-     * Sends a message using a provided sender, bypassing registry resolution.
+     * Non-blocking counterpart of {@link #send(TaskListener, String, MessageModel, MessageSender)}.
      *
      * @param listener task listener
      * @param robotId  robot identifier for logging
      * @param msg      message payload
      * @param sender   prepared message sender
-     * @return send result
+     * @return future completed with the send result
      */
-    public SendResult send(TaskListener listener, String robotId, MessageModel msg, MessageSender sender) {
+    public CompletableFuture<SendResult> sendAsync(TaskListener listener, String robotId, MessageModel msg,
+                                                   MessageSender sender) {
+        return deliverTo(listener, robotId, msg, sender, newDeadline(robotId), false);
+    }
+
+    /**
+     * Delivers through one robot within the given deadline. With {@code canFailover} set, a failure that calls
+     * for failover ends the delivery at once instead of being retried, leaving the time to the next robot.
+     */
+    private CompletableFuture<SendResult> deliverTo(TaskListener listener, String robotId, MessageModel msg,
+                                                    MessageSender sender, Deadline deadline, boolean canFailover) {
         if (sender == null) {
-            return fail(listener, robotId, null, String.format(Messages.dispatcher_error_robot_not_exist(), robotId));
+            return CompletableFuture.completedFuture(
+                    fail(listener, robotId, null, String.format(Messages.dispatcher_error_robot_not_exist(), robotId)));
         }
         if (msg == null) {
-            return fail(listener, robotId, null, Messages.dispatcher_error_message_missing());
+            return CompletableFuture.completedFuture(fail(listener, robotId, null, Messages.dispatcher_error_message_missing()));
         }
 
         MsgTypeEnum type = msg.getType();
         if (type == null) {
-            return fail(listener, robotId, null, Messages.dispatcher_error_message_type_missing());
+            return CompletableFuture.completedFuture(fail(listener, robotId, null, Messages.dispatcher_error_message_type_missing()));
         }
 
         if (robotId != null) {
-            NoticeLog.verbose(listener, Messages.dispatcher_log_current_robot(), senderRegistry.findRobotName(robotId));
+            NoticeLog.verbose(listener, Messages.dispatcher_log_current_robot(),
+                    NoticeLog.lazy(() -> senderRegistry.findRobotName(robotId)));
         }
 
-        RetryPolicy retryPolicy = resolveRetryPolicy(robotId);
+        return attempt(listener, robotId, msg, sender, type, resolveRetryPolicy(robotId), deadline, canFailover, 1);
+    }
+
+    private Deadline newDeadline(String robotId) {
+        long deadlineMs = resolveDeadlineMs(robotId);
+        return new Deadline(deadlineMs, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(deadlineMs));
+    }
+
+    /**
+     * Sends once the robot's rate limiter grants a permit. When the bucket is empty the send is deferred on the
+     * retry scheduler until the permit is due; a permit that would arrive after the policy deadline fails the
+     * attempt instead, and so does one that would only be due once the delivery deadline has passed. A refused
+     * permit is not taken from the bucket.
+     */
+    private CompletableFuture<SendResult> sendWithPermit(TaskListener listener, String robotId, MessageModel msg,
+                                                         MessageSender sender, MsgTypeEnum type, Deadline deadline) {
+        RateLimitPolicy rateLimitPolicy = resolveRateLimitPolicy(robotId);
+        // a permit the deadline cannot wait for is refused up front, so it is never taken from the bucket
+        RateLimitPolicy withinDeadline = rateLimitPolicy.withMaxWaitAtMost(deadline.remainingMs() - 1);
+        long waitMs = rateLimiterRegistry.reserve(robotId, withinDeadline);
+        if (waitMs < 0 && withinDeadline != rateLimitPolicy) {
+            circuitBreakers.release(robotId);
+            return CompletableFuture.completedFuture(DEADLINE_REACHED);
+        }
+        if (waitMs < 0) {
+            circuitBreakers.release(robotId);
+            NoticeLog.trace(listener, NoticeTrace.DISPATCHER_RATE_LIMIT_REJECT,
+                    NoticeLog.field(NoticeLogKey.ROBOT_ID, robotId),
+                    NoticeLog.field(NoticeLogKey.MESSAGE_TYPE, type.name()));
+            SendResult rejected = SendResult.fail(
+                    String.format(Messages.dispatcher_error_rate_limited(), robotId, rateLimitPolicy.getMaxWaitMs()));
+            rejected.setFailureClass(FailureClass.THROTTLED);
+            return CompletableFuture.completedFuture(rejected);
+        }
+        if (waitMs == 0) {
+            return timedSend(listener, robotId, msg, sender, type, deadline);
+        }
+        NoticeLog.trace(listener, NoticeTrace.DISPATCHER_RATE_LIMIT_WAIT,
+                NoticeLog.field(NoticeLogKey.ROBOT_ID, robotId),
+                NoticeLog.field(NoticeLogKey.MESSAGE_TYPE, type.name()),
+                NoticeLog.field(NoticeLogKey.WAIT_MS, waitMs));
+        return delay(waitMs).thenCompose(ignored -> timedSend(listener, robotId, msg, sender, type, deadline));
+    }
+
+    /**
+     * Performs the network call once the robot's adaptive concurrency limiter grants a slot, and feeds the
+     * outcome and latency back into the limiter and the circuit breaker. Throttled and permanent failures prove
+     * the webhook host is reachable and count as successful calls for the breaker; throttling and transport
+     * failures shrink the concurrency limit. A slot granted after the delivery deadline is handed back unused,
+     * since the caller has already been told the deadline passed and the outbox will send the message again.
+     * For the same reason a send still in flight when the deadline passes is cut off: the sender's future times
+     * out, which cancels its HTTP exchange, so a late answer cannot deliver a message that is sent again later.
+     */
+    private CompletableFuture<SendResult> timedSend(TaskListener listener, String robotId, MessageModel msg,
+                                                    MessageSender sender, MsgTypeEnum type, Deadline deadline) {
+        PooledMessageSender pool = poolOf(sender);
+        return concurrencyLimiters.acquire(robotId, pool == null ? 1 : pool.size()).thenCompose(admitted -> {
+            if (!admitted) {
+                circuitBreakers.release(robotId);
+                NoticeLog.trace(listener, NoticeTrace.DISPATCHER_CONCURRENCY_REJECT,
+                        NoticeLog.field(NoticeLogKey.ROBOT_ID, robotId),
+                        NoticeLog.field(NoticeLogKey.MESSAGE_TYPE, type.name()));
+                SendResult rejected = SendResult.fail(String.format(Messages.dispatcher_error_concurrency_limited(), robotId));
+                rejected.setFailureClass(FailureClass.THROTTLED);
+                return CompletableFuture.completedFuture(rejected);
+            }
+            long remainingMs = deadline.remainingMs();
+            if (remainingMs <= 0) {
+                concurrencyLimiters.abandon(robotId);
+                circuitBreakers.release(robotId);
+                return CompletableFuture.completedFuture(DEADLINE_REACHED);
+            }
+            long startedAt = System.nanoTime();
+            CompletableFuture<SendResult> sent;
+            try {
+                sent = type.sendAsync(sender, msg);
+            } catch (RuntimeException e) {
+                // a sender that throws while rendering or handing off the request must not keep the slot
+                concurrencyLimiters.release(robotId, System.nanoTime() - startedAt,
+                        e instanceof RejectedExecutionException);
+                circuitBreakers.release(robotId);
+                return CompletableFuture.completedFuture(sendFailed(e));
+            }
+            return sent.orTimeout(remainingMs, TimeUnit.MILLISECONDS).handle((sendResult, error) -> {
+                if (unwrap(error) instanceof TimeoutException) {
+                    // cut off by this delivery's own budget, which says nothing certain about the robot
+                    concurrencyLimiters.abandon(robotId);
+                    circuitBreakers.release(robotId);
+                    return DEADLINE_REACHED;
+                }
+                SendResult outcome = error == null ? sendResult : sendFailed(error);
+                long latency = System.nanoTime() - startedAt;
+                FailureClass failureClass = outcome == null ? FailureClass.RETRYABLE
+                        : outcome.isOk() ? null : FailureClassifier.classify(null, outcome);
+                concurrencyLimiters.release(robotId, latency,
+                        failureClass == FailureClass.RETRYABLE || failureClass == FailureClass.THROTTLED);
+                CircuitState transition = circuitBreakers.record(robotId, failureClass == FailureClass.RETRYABLE, latency);
+                if (transition != null) {
+                    NoticeLog.trace(listener, NoticeTrace.DISPATCHER_CIRCUIT_TRANSITION,
+                            NoticeLog.field(NoticeLogKey.ROBOT_ID, robotId),
+                            NoticeLog.field(NoticeLogKey.CIRCUIT_STATE, transition));
+                }
+                return outcome;
+            });
+        });
+    }
+
+    /**
+     * Turns an exception thrown by a sender, or one its future completed with, into a failed result.
+     */
+    private static SendResult sendFailed(Throwable error) {
+        Throwable cause = unwrap(error);
+        String prefix = cause instanceof RejectedExecutionException ? "Send rejected: " : "Send failed: ";
+        return SendResult.fail(prefix + cause);
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    /**
+     * Returns a future completed on the retry scheduler after the given delay.
+     */
+    private CompletableFuture<Void> delay(long delayMs) {
+        CompletableFuture<Void> elapsed = new CompletableFuture<>();
+        retryScheduler.schedule(() -> elapsed.complete(null), delayMs, TimeUnit.MILLISECONDS);
+        return elapsed;
+    }
+
+    /**
+     * Runs one delivery attempt and chains the next one while the retry policy allows it. The backoff delay
+     * is served by the retry scheduler, so neither a {@code sendAsync} caller nor an HTTP client thread waits
+     * it out; only the blocking {@code send} overloads hold their caller until the last attempt.
+     * An open circuit ends the delivery at once; the failure stays retryable for the durable outbox.
+     * No attempt outlives the delivery deadline, and no retry is scheduled that would start after it or when
+     * the plugin-wide {@link RetryBudget} is used up. With {@code canFailover} set, a failure that calls for
+     * failover is not retried here.
+     */
+    private CompletableFuture<SendResult> attempt(TaskListener listener, String robotId, MessageModel msg,
+                                                  MessageSender sender, MsgTypeEnum type, RetryPolicy retryPolicy,
+                                                  Deadline deadline, boolean canFailover, int attempt) {
         int maxAttempts = retryPolicy.getMaxAttempts();
-        int attempt = 1;
-        SendResult sendResult = null;
-        while (true) {
-            sendResult = type.send(sender, msg);
-            if (sendResult != null && sendResult.isOk()) {
-                break;
+        if (attempt == 1) {
+            retryBudget.recordAttempt();
+        }
+        if (!circuitBreakers.tryAcquire(robotId)) {
+            NoticeLog.trace(listener, NoticeTrace.DISPATCHER_CIRCUIT_REJECT,
+                    NoticeLog.field(NoticeLogKey.ROBOT_ID, robotId),
+                    NoticeLog.field(NoticeLogKey.MESSAGE_TYPE, type.name()),
+                    NoticeLog.field(NoticeLogKey.CIRCUIT_STATE, circuitBreakers.state(robotId)));
+            SendResult rejected = SendResult.fail(String.format(Messages.dispatcher_error_circuit_open(), robotId));
+            rejected.setFailureClass(FailureClass.RETRYABLE);
+            return CompletableFuture.completedFuture(finish(listener, robotId, type, rejected, attempt, maxAttempts));
+        }
+        CompletableFuture<SendResult> sent;
+        try {
+            sent = sendWithPermit(listener, robotId, msg, sender, type, deadline)
+                    .completeOnTimeout(DEADLINE_REACHED, Math.max(0L, deadline.remainingMs()), TimeUnit.MILLISECONDS);
+        } catch (RuntimeException e) {
+            circuitBreakers.release(robotId);
+            return CompletableFuture.completedFuture(fail(listener, robotId, type, sendFailed(e).getMsg()));
+        }
+        return sent.thenCompose(sendResult -> {
+            if (sendResult == DEADLINE_REACHED) {
+                return CompletableFuture.completedFuture(
+                        deadlineExceeded(listener, robotId, type, deadline, null, attempt, maxAttempts));
             }
-            if (!retryPolicy.isEnabled() || attempt >= maxAttempts) {
-                break;
+            Optional<Long> throttleMs = ThrottleSignals.retryAfterMs(sendResult, System.currentTimeMillis())
+                    .map(holdMs -> throttled(listener, robotId, sender, sendResult, holdMs));
+            FailureClass failureClass = sendResult != null && sendResult.isOk()
+                    ? null
+                    : FailureClassifier.classify(null, sendResult);
+            failureMetrics.record(failureClass);
+            boolean retryable = failureClass != null && failureClass != FailureClass.PERMANENT;
+            if (!retryable || !retryPolicy.isEnabled() || attempt >= maxAttempts
+                    || canFailover && shouldFailover(robotId, sendResult)) {
+                return CompletableFuture.completedFuture(finish(listener, robotId, type, sendResult, attempt, maxAttempts));
+            }
+            long delayMs = throttleMs.filter(holdMs -> holdMs > 0)
+                    .orElseGet(() -> retryPolicy.nextDelayMs(attempt));
+            if (delayMs >= deadline.remainingMs()) {
+                return CompletableFuture.completedFuture(
+                        deadlineExceeded(listener, robotId, type, deadline, sendResult, attempt, maxAttempts));
+            }
+            if (!retryBudget.tryAcquireRetry()) {
+                NoticeLog.trace(listener, NoticeTrace.DISPATCHER_RETRY_BUDGET_EXHAUSTED,
+                        NoticeLog.field(NoticeLogKey.ROBOT_ID, robotId),
+                        NoticeLog.field(NoticeLogKey.MESSAGE_TYPE, type.name()),
+                        NoticeLog.field(NoticeLogKey.ATTEMPT, attempt),
+                        NoticeLog.field(NoticeLogKey.MAX_ATTEMPTS, maxAttempts));
+                return CompletableFuture.completedFuture(finish(listener, robotId, type, sendResult, attempt, maxAttempts));
             }
-            long delayMs = retryPolicy.nextDelayMs(attempt);
             NoticeLog.trace(listener, NoticeTrace.DISPATCHER_SEND_RETRY,
                     NoticeLog.field(NoticeLogKey.ROBOT_ID, robotId),
                     NoticeLog.field(NoticeLogKey.MESSAGE_TYPE, type.name()),
                     NoticeLog.field(NoticeLogKey.ATTEMPT, attempt),
                     NoticeLog.field(NoticeLogKey.MAX_ATTEMPTS, maxAttempts),
+                    NoticeLog.field(NoticeLogKey.FAILURE_CLASS, failureClass),
                     NoticeLog.field(NoticeLogKey.DELAY_MS, delayMs));
+            CompletableFuture<Void> backoff;
             try {
-                Thread.sleep(delayMs);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                return fail(listener, robotId, type, "Retry interrupted");
+                backoff = delay(delayMs);
+            } catch (RejectedExecutionException e) {
+                return CompletableFuture.completedFuture(fail(listener, robotId, type, "Retry rejected: " + e.getMessage()));
             }
-            attempt++;
+            return backoff.thenCompose(ignored ->
+                    attempt(listener, robotId, msg, sender, type, retryPolicy, deadline, canFailover, attempt + 1));
+        });
+    }
+
+    /**
+     * Ends a delivery whose deadline ran out, either while an attempt was in flight or because the next retry
+     * could not start in time. The result stays retryable so the durable outbox can try again later.
+     */
+    private SendResult deadlineExceeded(TaskListener listener, String robotId, MsgTypeEnum type, Deadline deadline,
+                                        SendResult lastResult, int attempt, int maxAttempts) {
+        String lastError = lastResult == null ? "-" : lastResult.getMsg();
+        NoticeLog.trace(listener, NoticeTrace.DISPATCHER_DEADLINE_EXCEEDED,
+                NoticeLog.field(NoticeLogKey.ROBOT_ID, robotId),
+                NoticeLog.field(NoticeLogKey.MESSAGE_TYPE, type.name()),
+                NoticeLog.field(NoticeLogKey.ATTEMPT, attempt),
+                NoticeLog.field(NoticeLogKey.DEADLINE_MS, deadline.budgetMs()));
+        SendResult exceeded = SendResult.fail(String.format(Messages.dispatcher_error_deadline_exceeded(),
+                robotId, deadline.budgetMs(), lastError));
+        exceeded.setFailureClass(FailureClass.RETRYABLE);
+        if (lastResult != null) {
+            exceeded.setRequestBody(lastResult.getRequestBody());
         }
+        return finish(listener, robotId, type, exceeded, attempt, maxAttempts);
+    }
 
+    /**
+     * Holds back further sends to a robot that signalled throttling until the hinted time. A pooled robot has
+     * already held the throttled member, so the robot as a whole is only held while every member is.
+     *
+     * @return milliseconds the robot is held
+     */
+    private long throttled(TaskListener listener, String robotId, MessageSender sender, SendResult sendResult,
+                           long holdMs) {
+        PooledMessageSender pool = poolOf(sender);
+        long robotHoldMs = pool == null ? holdMs : pool.remainingHoldMs(System.nanoTime());
+        rateLimiterRegistry.hold(robotId, robotHoldMs);
+        NoticeLog.trace(listener, NoticeTrace.DISPATCHER_SEND_THROTTLED,
+                NoticeLog.field(NoticeLogKey.ROBOT_ID, robotId),
+                NoticeLog.field(NoticeLogKey.RESULT_CODE, sendResult.getCode()),
+                NoticeLog.field(NoticeLogKey.HTTP_STATUS, sendResult.getHttpStatus()),
+                NoticeLog.field(NoticeLogKey.DELAY_MS, robotHoldMs));
+        return robotHoldMs;
+    }
+
+    /**
+     * Returns the pool behind a sender, looking through a relay route, or {@code null} for a single webhook.
+     */
+    private static PooledMessageSender poolOf(MessageSender sender) {
+        MessageSender target = sender instanceof RoutedMessageSender routed ? routed.getDelegate() : sender;
+        return target instanceof PooledMessageSender pool ? pool : null;
+    }
+
+    /**
+     * Emits the structured end-event for a completed delivery.
+     */
+    private SendResult finish(TaskListener listener, String robotId, MsgTypeEnum type, SendResult sendResult,
+                              int attempt, int maxAttempts) {
         if (sendResult == null) {
             return fail(listener, robotId, type, Messages.dispatcher_error_send_result_missing());
         }
 
-        NoticeLog.verbose(listener, Messages.dispatcher_log_send_details(), sendResult.getRequestBody());
+        FailureClass failureClass = sendResult.isOk() ? null : FailureClassifier.classify(null, sendResult);
+        NoticeLog.verbose(listener, Messages.dispatcher_log_send_details(), NoticeLog.lazy(sendResult::getRequestBody));
         NoticeLog.trace(listener, NoticeTrace.DISPATCHER_SEND_FINISH,
                 NoticeLog.field(NoticeLogKey.ROBOT_ID, robotId),
                 NoticeLog.field(NoticeLogKey.MESSAGE_TYPE, type.name()),
                 NoticeLog.field(NoticeLogKey.SUCCESS, sendResult.isOk()),
                 NoticeLog.field(NoticeLogKey.RESULT_CODE, sendResult.getCode()),
+                NoticeLog.field(NoticeLogKey.FAILURE_CLASS, failureClass == null ? "-" : failureClass),
+                NoticeLog.field(NoticeLogKey.CIRCUIT_STATE, circuitBreakers.state(robotId)),
                 NoticeLog.field(NoticeLogKey.MESSAGE, NoticeLog.abbreviate(sendResult.getMsg(), 200)),
-                NoticeLog.field(NoticeLogKey.REQUEST_SIZE, sendResult.getRequestBody() == null ? 0 : sendResult.getRequestBody().length()),
+                NoticeLog.field(NoticeLogKey.REQUEST_SIZE, sendResult.getRequestSize()),
                 NoticeLog.field(NoticeLogKey.ATTEMPT, attempt),
                 NoticeLog.field(NoticeLogKey.MAX_ATTEMPTS, maxAttempts));
 
@@ -156,6 +657,37 @@ public class MessageDispatcher {
                 .orElseGet(() -> RetryPolicy.from(LarkRetryConfig.defaultConfig()));
     }
 
+    /**
+     * Resolves the end-to-end delivery deadline for the given robot id, falling back to the default when absent.
+     *
+     * @param robotId robot identifier, may be null for ad-hoc sends
+     * @return deadline in milliseconds
+     */
+    long resolveDeadlineMs(String robotId) {
+        LarkTimeoutConfig timeoutConfig = robotId == null
+                ? LarkTimeoutConfig.defaultConfig()
+                : LarkGlobalConfig.getRobot(robotId)
+                .map(LarkRobotConfig::getTimeoutConfig)
+                .orElseGet(LarkTimeoutConfig::defaultConfig);
+        return TimeUnit.SECONDS.toMillis(timeoutConfig.getDeadlineSeconds());
+    }
+
+    /**
+     * Resolves the rate limit policy for the given robot id; ad-hoc sends without a robot id are not limited.
+     *
+     * @param robotId robot identifier, may be null for ad-hoc sends
+     * @return resolved rate limit policy
+     */
+    RateLimitPolicy resolveRateLimitPolicy(String robotId) {
+        if (robotId == null) {
+            return RateLimitPolicy.unlimited();
+        }
+        return LarkGlobalConfig.getRobot(robotId)
+                .map(robot -> RateLimitPolicy.from(robot.getRateLimitConfig(), robot.obtainRobotType().orElse(null))
+                        .scaled(robot.getPoolSize()))
+                .orElseGet(RateLimitPolicy::unlimited);
+    }
+
     /**
      * Builds a failed result and emits a structured end-event for easier troubleshooting.
      */
@@ -169,4 +701,17 @@ public class MessageDispatcher {
                 NoticeLog.field(NoticeLogKey.MESSAGE, NoticeLog.abbreviate(failed.getMsg(), 200)));
         return failed;
     }
+
+    /**
+     * Time budget of one delivery.
+     *
+     * @param budgetMs    total budget in milliseconds
+     * @param expiresAt   {@link System#nanoTime()} value at which the budget runs out
+     */
+    private record Deadline(long budgetMs, long expiresAt) {
+
+        long remainingMs() {
+            return TimeUnit.NANOSECONDS.toMillis(expiresAt - System.nanoTime());
+        }
+    }
 }
@@ -4,6 +4,8 @@ import io.jenkins.plugins.lark.notice.model.MessageModel;
 import io.jenkins.plugins.lark.notice.sdk.model.SendResult;
 import org.apache.commons.lang3.StringUtils;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * MessageSender is an interface designed to abstract the process of sending various types of messages.
  * It allows for sending text, markdown, and other forms of messages through different platforms.
@@ -11,6 +13,14 @@ import org.apache.commons.lang3.StringUtils;
  * indicating failure for such cases. Additionally, it includes a utility method for appending keywords to messages,
  * enhancing their functionality or discoverability.
  *
+ * <p>Every message type also has a non-blocking {@code ...Async} variant. The defaults complete on the calling
+ * thread by delegating to the synchronous method; HTTP-backed senders override them so the request is
+ * in flight without holding the caller.</p>
+ *
+ * <p>Each {@code ...Async} method also takes an optional {@link WebhookExchange}. HTTP-backed senders hand their
+ * signed request to it instead of calling the webhook themselves, so a message can leave from an agent or a
+ * relay; the defaults ignore it.</p>
+ *
  * @author xm.z
  */
 public interface MessageSender {
@@ -81,6 +91,153 @@ public interface MessageSender {
         return SendResult.fail("This type of message is not supported.");
     }
 
+    /**
+     * Sends a text message without blocking the caller.
+     *
+     * @param msg Message details.
+     * @return Future completed with the result of the send operation.
+     */
+    default CompletableFuture<SendResult> sendTextAsync(MessageModel msg) {
+        return CompletableFuture.completedFuture(sendText(msg));
+    }
+
+    /**
+     * Sends a text message through the given exchange without blocking the caller.
+     *
+     * @param msg      Message details.
+     * @param exchange exchange that performs the HTTP call, or {@code null} to use the sender's own client
+     * @return Future completed with the result of the send operation.
+     */
+    default CompletableFuture<SendResult> sendTextAsync(MessageModel msg, WebhookExchange exchange) {
+        return sendTextAsync(msg);
+    }
+
+    /**
+     * Sends an image message without blocking the caller.
+     *
+     * @param msg Message details.
+     * @return Future completed with the result of the send operation.
+     */
+    default CompletableFuture<SendResult> sendImageAsync(MessageModel msg) {
+        return CompletableFuture.completedFuture(sendImage(msg));
+    }
+
+    /**
+     * Sends an image message through the given exchange without blocking the caller.
+     *
+     * @param msg      Message details.
+     * @param exchange exchange that performs the HTTP call, or {@code null} to use the sender's own client
+     * @return Future completed with the result of the send operation.
+     */
+    default CompletableFuture<SendResult> sendImageAsync(MessageModel msg, WebhookExchange exchange) {
+        return sendImageAsync(msg);
+    }
+
+    /**
+     * Sends a share chat message without blocking the caller.
+     *
+     * @param msg Message details.
+     * @return Future completed with the result of the send operation.
+     */
+    default CompletableFuture<SendResult> sendShareChatAsync(MessageModel msg) {
+        return CompletableFuture.completedFuture(sendShareChat(msg));
+    }
+
+    /**
+     * Sends a share chat message through the given exchange without blocking the caller.
+     *
+     * @param msg      Message details.
+     * @param exchange exchange that performs the HTTP call, or {@code null} to use the sender's own client
+     * @return Future completed with the result of the send operation.
+     */
+    default CompletableFuture<SendResult> sendShareChatAsync(MessageModel msg, WebhookExchange exchange) {
+        return sendShareChatAsync(msg);
+    }
+
+    /**
+     * Sends a markdown message without blocking the caller.
+     *
+     * @param msg Message details.
+     * @return Future completed with the result of the send operation.
+     */
+    default CompletableFuture<SendResult> sendMarkdownAsync(MessageModel msg) {
+        return CompletableFuture.completedFuture(sendMarkdown(msg));
+    }
+
+    /**
+     * Sends a markdown message through the given exchange without blocking the caller.
+     *
+     * @param msg      Message details.
+     * @param exchange exchange that performs the HTTP call, or {@code null} to use the sender's own client
+     * @return Future completed with the result of the send operation.
+     */
+    default CompletableFuture<SendResult> sendMarkdownAsync(MessageModel msg, WebhookExchange exchange) {
+        return sendMarkdownAsync(msg);
+    }
+
+    /**
+     * Sends a link message without blocking the caller.
+     *
+     * @param msg Message details.
+     * @return Future completed with the result of the send operation.
+     */
+    default CompletableFuture<SendResult> sendLinkAsync(MessageModel msg) {
+        return CompletableFuture.completedFuture(sendLink(msg));
+    }
+
+    /**
+     * Sends a link message through the given exchange without blocking the caller.
+     *
+     * @param msg      Message details.
+     * @param exchange exchange that performs the HTTP call, or {@code null} to use the sender's own client
+     * @return Future completed with the result of the send operation.
+     */
+    default CompletableFuture<SendResult> sendLinkAsync(MessageModel msg, WebhookExchange exchange) {
+        return sendLinkAsync(msg);
+    }
+
+    /**
+     * Sends a post message without blocking the caller.
+     *
+     * @param msg Message details.
+     * @return Future completed with the result of the send operation.
+     */
+    default CompletableFuture<SendResult> sendPostAsync(MessageModel msg) {
+        return CompletableFuture.completedFuture(sendPost(msg));
+    }
+
+    /**
+     * Sends a post message through the given exchange without blocking the caller.
+     *
+     * @param msg      Message details.
+     * @param exchange exchange that performs the HTTP call, or {@code null} to use the sender's own client
+     * @return Future completed with the result of the send operation.
+     */
+    default CompletableFuture<SendResult> sendPostAsync(MessageModel msg, WebhookExchange exchange) {
+        return sendPostAsync(msg);
+    }
+
+    /**
+     * Sends a card message without blocking the caller.
+     *
+     * @param msg Message details.
+     * @return Future completed with the result of the send operation.
+     */
+    default CompletableFuture<SendResult> sendCardAsync(MessageModel msg) {
+        return CompletableFuture.completedFuture(sendCard(msg));
+    }
+
+    /**
+     * Sends a card message through the given exchange without blocking the caller.
+     *
+     * @param msg      Message details.
+     * @param exchange exchange that performs the HTTP call, or {@code null} to use the sender's own client
+     * @return Future completed with the result of the send operation.
+     */
+    default CompletableFuture<SendResult> sendCardAsync(MessageModel msg, WebhookExchange exchange) {
+        return sendCardAsync(msg);
+    }
+
     /**
      * Appends keywords to a message.
      *
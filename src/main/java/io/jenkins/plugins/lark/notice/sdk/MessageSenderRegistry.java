@@ -3,7 +3,11 @@ package io.jenkins.plugins.lark.notice.sdk;
 import io.jenkins.plugins.lark.notice.config.LarkGlobalConfig;
 import io.jenkins.plugins.lark.notice.config.LarkRobotConfig;
 import io.jenkins.plugins.lark.notice.model.RobotConfigModel;
+import io.jenkins.plugins.lark.notice.sdk.relay.RelayWebhookExchange;
+import org.apache.commons.lang3.StringUtils;
 
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
@@ -59,6 +63,25 @@ public class MessageSenderRegistry {
         cache().clear();
     }
 
+    /**
+     * Returns the load and health of every pooled robot sender resolved so far.
+     *
+     * @return pool statistics sorted by robot name
+     */
+    public List<RobotPoolStats> poolStats() {
+        return cache().entrySet().stream()
+                .filter(entry -> unwrap(entry.getValue()) instanceof PooledMessageSender)
+                .map(entry -> new RobotPoolStats(entry.getKey(), findRobotName(entry.getKey()).orElse(entry.getKey()),
+                        ((PooledMessageSender) unwrap(entry.getValue())).stats()))
+                .sorted(Comparator.comparing(RobotPoolStats::robotName,
+                        Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER)))
+                .toList();
+    }
+
+    private static MessageSender unwrap(MessageSender sender) {
+        return sender instanceof RoutedMessageSender routed ? routed.getDelegate() : sender;
+    }
+
     /**
      * Returns the current cache size. Intended for package-level tests.
      *
@@ -69,14 +92,20 @@ public class MessageSenderRegistry {
     }
 
     /**
-     * Creates one sender from current global robot and proxy configuration.
+     * Creates one sender from current global robot and proxy configuration. Robots with pool members get a
+     * {@link PooledMessageSender} spreading sends over all of their webhooks; with a relay socket configured,
+     * every sender hands its HTTP exchanges to the {@link RelayWebhookExchange}.
      *
      * @param robotId robot id
      * @return sender instance, or {@code null} when no matching robot exists
      */
     private MessageSender createSender(String robotId) {
-        return LarkGlobalConfig.getRobot(robotId)
+        MessageSender sender = LarkGlobalConfig.getRobot(robotId)
                 .flatMap(robotConfig -> robotConfig.obtainRobotType().map(robotType -> {
+                    if (robotConfig.getPoolSize() > 1) {
+                        return PooledMessageSender.of(robotConfig, robotType,
+                                LarkGlobalConfig.getInstance().obtainProxySelector());
+                    }
                     RobotConfigModel robotConfigModel = RobotConfigModel.of(
                             robotConfig,
                             LarkGlobalConfig.getInstance().obtainProxySelector()
@@ -84,6 +113,11 @@ public class MessageSenderRegistry {
                     return robotType.obtainInstance(robotConfigModel);
                 }))
                 .orElse(null);
+        String relaySocketPath = LarkGlobalConfig.getInstance().getRelaySocketPath();
+        if (sender == null || StringUtils.isBlank(relaySocketPath)) {
+            return sender;
+        }
+        return new RoutedMessageSender(sender, RelayWebhookExchange.forSocket(relaySocketPath.trim()));
     }
 
     /**
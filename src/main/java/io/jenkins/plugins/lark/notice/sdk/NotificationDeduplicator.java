@@ -0,0 +1,240 @@
+package io.jenkins.plugins.lark.notice.sdk;
+
+import io.jenkins.plugins.lark.notice.config.LarkGlobalConfig;
+import io.jenkins.plugins.lark.notice.model.MessageModel;
+import io.jenkins.plugins.lark.notice.sdk.model.SendResult;
+import io.jenkins.plugins.lark.notice.tools.JsonUtils;
+import jenkins.model.Jenkins;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Suppresses identical notifications sent to the same robot within a short window.
+ *
+ * <p>Retried builds, replayed pipelines and mixed listener/notifier setups can produce the same message for the
+ * same robot within seconds. A message is identified by the robot id and a 64-bit hash of its serialized
+ * {@link MessageModel}, the input the platform payload is rendered from, so signature fields never take part.
+ * The first message is sent as usual; an identical one arriving within the window waits for it and, when it
+ * was delivered, completes with a synthetic success marked {@link SendResult#isDeduplicated() deduplicated}.
+ * When the first send failed, the duplicate is sent on its own.</p>
+ *
+ * <p>Entries are held in a concurrent map bounded to {@link #MAX_ENTRIES}; a queue in insertion order lets the
+ * oldest entries be evicted once they expire or the map is full.</p>
+ *
+ * @author xm.z
+ */
+public class NotificationDeduplicator {
+
+    /**
+     * Most remembered messages; the oldest are evicted beyond this.
+     */
+    static final int MAX_ENTRIES = 4096;
+
+    /**
+     * Rough heap cost of one entry besides the robot id: map node, key, entry, completed future, queue node
+     * and the retained result code and message.
+     */
+    static final int ENTRY_OVERHEAD_BYTES = 256;
+
+    private static final NotificationDeduplicator INSTANCE = new NotificationDeduplicator(MAX_ENTRIES);
+
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+
+    private final Queue<Queued> insertionOrder = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger queued = new AtomicInteger();
+
+    private final int maxEntries;
+
+    private final AtomicLong lookups = new AtomicLong();
+
+    private final AtomicLong suppressed = new AtomicLong();
+
+    NotificationDeduplicator(int maxEntries) {
+        // shared through getInstance(); package-private for tests
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Returns the shared deduplicator instance.
+     *
+     * @return singleton deduplicator
+     */
+    public static NotificationDeduplicator getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the configured deduplication window.
+     *
+     * @return window in milliseconds, {@code 0} when deduplication is disabled
+     */
+    public static long configuredWindowMs() {
+        if (Jenkins.getInstanceOrNull() == null) {
+            return 0L;
+        }
+        LarkGlobalConfig globalConfig = LarkGlobalConfig.getInstance();
+        return globalConfig == null ? 0L : TimeUnit.SECONDS.toMillis(globalConfig.getDedupWindowSeconds());
+    }
+
+    /**
+     * Sends a message unless an identical one went to the same robot within the window.
+     *
+     * @param robotId   target robot id
+     * @param msg       message payload
+     * @param windowMs  deduplication window in milliseconds; {@code 0} or less always sends
+     * @param maxWaitMs longest time a duplicate waits for an identical message still being sent before it is
+     *                  sent on its own, usually the caller's delivery deadline
+     * @param send      performs the actual delivery
+     * @return future completed with the delivery result, or with a deduplicated success
+     */
+    public CompletableFuture<SendResult> deduplicate(String robotId, MessageModel msg, long windowMs, long maxWaitMs,
+                                                     Supplier<CompletableFuture<SendResult>> send) {
+        if (windowMs <= 0 || robotId == null || msg == null) {
+            return send.get();
+        }
+        return deduplicate(new Key(robotId, hash64(JsonUtils.toJsonBytes(msg))), windowMs, maxWaitMs,
+                System.nanoTime(), send);
+    }
+
+    CompletableFuture<SendResult> deduplicate(Key key, long windowMs, long maxWaitMs, long nowNanos,
+                                              Supplier<CompletableFuture<SendResult>> send) {
+        lookups.incrementAndGet();
+        Entry fresh = new Entry(new CompletableFuture<>(), nowNanos + TimeUnit.MILLISECONDS.toNanos(windowMs));
+        Entry winner = entries.compute(key, (ignored, current) ->
+                current == null || current.isExpired(nowNanos) ? fresh : current);
+        if (winner != fresh) {
+            // a copy, so the timeout of one duplicate does not settle the outcome the others wait for
+            return winner.outcome().copy()
+                    .completeOnTimeout(null, Math.max(0L, maxWaitMs), TimeUnit.MILLISECONDS)
+                    .thenCompose(original -> {
+                        if (original == null || !original.isOk()) {
+                            return send.get();
+                        }
+                        suppressed.incrementAndGet();
+                        return CompletableFuture.completedFuture(deduplicated(original));
+                    });
+        }
+        insertionOrder.add(new Queued(key, fresh));
+        queued.incrementAndGet();
+        evict(nowNanos);
+        CompletableFuture<SendResult> sent;
+        try {
+            sent = send.get();
+        } catch (RuntimeException e) {
+            forget(key, fresh);
+            throw e;
+        }
+        sent.whenComplete((result, error) -> {
+            if (error != null || result == null || !result.isOk()) {
+                forget(key, fresh);
+            } else {
+                fresh.outcome().complete(summary(result));
+            }
+        });
+        return sent;
+    }
+
+    /**
+     * Drops a send that did not deliver, letting waiting duplicates and later copies send on their own.
+     */
+    private void forget(Key key, Entry entry) {
+        entries.remove(key, entry);
+        entry.outcome().complete(null);
+    }
+
+    /**
+     * Returns current deduplication figures.
+     *
+     * @return statistics snapshot
+     */
+    public DeduplicationStats stats() {
+        long approximateBytes = 0L;
+        for (Key key : entries.keySet()) {
+            approximateBytes += ENTRY_OVERHEAD_BYTES + 2L * key.robotId().length();
+        }
+        long lookupCount = lookups.get();
+        long suppressedCount = suppressed.get();
+        return new DeduplicationStats(TimeUnit.MILLISECONDS.toSeconds(configuredWindowMs()), entries.size(),
+                maxEntries, lookupCount, suppressedCount,
+                lookupCount == 0 ? 0 : (int) (suppressedCount * 100 / lookupCount), approximateBytes);
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    /**
+     * Drops the oldest entries while they are expired or the map is over capacity. Entries of failed sends
+     * leave the map right away but stay queued, so the queue itself is bounded to twice the capacity.
+     */
+    private void evict(long nowNanos) {
+        Queued oldest;
+        while ((oldest = insertionOrder.peek()) != null && (oldest.entry().isExpired(nowNanos)
+                || entries.size() > maxEntries || queued.get() > 2 * maxEntries)) {
+            if (insertionOrder.remove(oldest)) {
+                queued.decrementAndGet();
+                entries.remove(oldest.key(), oldest.entry());
+            }
+        }
+    }
+
+    /**
+     * Keeps only what a duplicate needs from the delivered result, so request bodies are not retained.
+     */
+    private static SendResult summary(SendResult result) {
+        SendResult summary = new SendResult(result.getCode(), result.getMsg(), null);
+        summary.setDeliveredBy(result.getDeliveredBy());
+        return summary;
+    }
+
+    private static SendResult deduplicated(SendResult original) {
+        SendResult result = summary(original);
+        result.setDeduplicated(true);
+        return result;
+    }
+
+    /**
+     * 64-bit FNV-1a hash with a final avalanche step, so similar payloads spread over the whole range.
+     */
+    static long hash64(byte[] bytes) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : bytes) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    /**
+     * Robot id and payload hash identifying one message.
+     */
+    record Key(String robotId, long payloadHash) {
+    }
+
+    /**
+     * Remembered send; {@code outcome} completes with the result summary, or {@code null} when it failed.
+     */
+    private record Entry(CompletableFuture<SendResult> outcome, long expiresAtNanos) {
+
+        boolean isExpired(long nowNanos) {
+            return nowNanos - expiresAtNanos >= 0;
+        }
+    }
+
+    private record Queued(Key key, Entry entry) {
+    }
+}
@@ -0,0 +1,16 @@
+package io.jenkins.plugins.lark.notice.sdk;
+
+/**
+ * Point-in-time view of one webhook in a robot pool.
+ *
+ * @param webhook     masked webhook label
+ * @param weight      configured share of the pool's traffic
+ * @param recentSends sends routed to the member within the last minute
+ * @param sent        sends routed to the member since the pool was built
+ * @param failed      failed sends since the pool was built
+ * @param healthy     whether the member currently receives traffic
+ * @author xm.z
+ */
+public record PoolMemberStats(String webhook, int weight, int recentSends, long sent, long failed,
+                              boolean healthy) {
+}
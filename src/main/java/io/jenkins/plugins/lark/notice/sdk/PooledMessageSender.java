@@ -0,0 +1,412 @@
+package io.jenkins.plugins.lark.notice.sdk;
+
+import io.jenkins.plugins.lark.notice.config.LarkRobotConfig;
+import io.jenkins.plugins.lark.notice.config.LarkRobotPoolMember;
+import io.jenkins.plugins.lark.notice.config.RobotWebhookResolver;
+import io.jenkins.plugins.lark.notice.enums.RobotType;
+import io.jenkins.plugins.lark.notice.model.MessageModel;
+import io.jenkins.plugins.lark.notice.model.RobotConfigModel;
+import io.jenkins.plugins.lark.notice.sdk.model.SendResult;
+import org.apache.commons.lang3.StringUtils;
+
+import java.net.ProxySelector;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Sender for a robot whose traffic is spread over several webhooks of bots in the same group.
+ *
+ * <p>Every send goes to the least-loaded member, where load is the member's sends within the provider's
+ * one-minute quota window divided by its weight; ties rotate round-robin. A member that failed
+ * {@value #UNHEALTHY_FAILURES} times in a row is skipped for a cool-down period, and a member that answered
+ * with a throttling hint such as {@code Retry-After} is skipped until the hint expires. When every member is
+ * skipped the least-loaded one is tried anyway.</p>
+ *
+ * <p>Throttling hints are kept per member, so one throttled webhook does not hold back the rest of the pool;
+ * {@link #remainingHoldMs(long)} tells the dispatcher how long the whole pool is held.</p>
+ *
+ * @author xm.z
+ */
+public final class PooledMessageSender implements MessageSender {
+
+    /**
+     * Window over which recent sends are counted, matching the providers' per-minute quotas.
+     */
+    static final long LOAD_WINDOW_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    /**
+     * Consecutive failures after which a member is considered unhealthy.
+     */
+    static final int UNHEALTHY_FAILURES = 3;
+
+    /**
+     * Time an unhealthy member is skipped after its last failure.
+     */
+    static final long UNHEALTHY_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+    private final List<Member> members;
+
+    private int cursor;
+
+    PooledMessageSender(List<Member> members) {
+        if (members == null || members.isEmpty()) {
+            throw new IllegalArgumentException("A robot pool needs at least one member");
+        }
+        this.members = List.copyOf(members);
+    }
+
+    /**
+     * Creates a pooled sender for a robot: the robot's own webhook plus every configured pool member.
+     * Members without their own secret sign with the robot's secret.
+     *
+     * @param robotConfig   robot configuration
+     * @param robotType     robot platform
+     * @param proxySelector proxy selector applied to every member
+     * @return pooled sender
+     */
+    public static PooledMessageSender of(LarkRobotConfig robotConfig, RobotType robotType,
+                                         ProxySelector proxySelector) {
+        RobotConfigModel primary = RobotConfigModel.of(robotConfig, proxySelector);
+        List<Member> members = new ArrayList<>();
+        members.add(new Member(label(primary.getWebhook()), LarkRobotPoolMember.DEFAULT_WEIGHT,
+                robotType.obtainInstance(primary)));
+        for (LarkRobotPoolMember poolMember : robotConfig.getPoolMembers()) {
+            if (StringUtils.isBlank(poolMember.getWebhook())) {
+                continue;
+            }
+            RobotConfigModel model = RobotConfigModel.of(robotConfig, proxySelector);
+            model.setWebhook(poolMember.getWebhook().trim());
+            if (!model.getEndpointCandidates().contains(RobotWebhookResolver.extractBaseUrl(model.getWebhook()))) {
+                model.setEndpointCandidates(List.of());
+            }
+            if (StringUtils.isNotBlank(poolMember.getSecret())) {
+                model.setSign(poolMember.getSecret().trim());
+            }
+            members.add(new Member(label(model.getWebhook()), poolMember.getWeight(),
+                    robotType.obtainInstance(model)));
+        }
+        return new PooledMessageSender(members);
+    }
+
+    /**
+     * Returns the number of webhooks in the pool.
+     *
+     * @return member count
+     */
+    public int size() {
+        return members.size();
+    }
+
+    /**
+     * Returns how long every member stays held by a throttling hint.
+     *
+     * @param now current {@link System#nanoTime()}
+     * @return milliseconds until the first member may be called again, {@code 0} when one is available now
+     */
+    public synchronized long remainingHoldMs(long now) {
+        long earliest = Long.MAX_VALUE;
+        for (Member member : members) {
+            earliest = Math.min(earliest, member.isHeld(now) ? member.heldUntilNanos - now : 0L);
+        }
+        return TimeUnit.NANOSECONDS.toMillis(earliest + 999_999L);
+    }
+
+    /**
+     * Returns the current per-member load and health.
+     *
+     * @return member statistics in configuration order
+     */
+    public List<PoolMemberStats> stats() {
+        long now = System.nanoTime();
+        List<PoolMemberStats> stats = new ArrayList<>(members.size());
+        synchronized (this) {
+            for (Member member : members) {
+                member.prune(now);
+                stats.add(new PoolMemberStats(member.label, member.weight, member.recent.size(), member.sent,
+                        member.failed, member.isHealthy(now) && !member.isHeld(now)));
+            }
+        }
+        return Collections.unmodifiableList(stats);
+    }
+
+    @Override
+    public SendResult sendText(MessageModel msg) {
+        return send(sender -> sender.sendText(msg));
+    }
+
+    @Override
+    public SendResult sendImage(MessageModel msg) {
+        return send(sender -> sender.sendImage(msg));
+    }
+
+    @Override
+    public SendResult sendShareChat(MessageModel msg) {
+        return send(sender -> sender.sendShareChat(msg));
+    }
+
+    @Override
+    public SendResult sendMarkdown(MessageModel msg) {
+        return send(sender -> sender.sendMarkdown(msg));
+    }
+
+    @Override
+    public SendResult sendLink(MessageModel msg) {
+        return send(sender -> sender.sendLink(msg));
+    }
+
+    @Override
+    public SendResult sendPost(MessageModel msg) {
+        return send(sender -> sender.sendPost(msg));
+    }
+
+    @Override
+    public SendResult sendCard(MessageModel msg) {
+        return send(sender -> sender.sendCard(msg));
+    }
+
+    @Override
+    public CompletableFuture<SendResult> sendTextAsync(MessageModel msg) {
+        return sendTextAsync(msg, null);
+    }
+
+    @Override
+    public CompletableFuture<SendResult> sendTextAsync(MessageModel msg, WebhookExchange exchange) {
+        return sendAsync(sender -> sender.sendTextAsync(msg, exchange));
+    }
+
+    @Override
+    public CompletableFuture<SendResult> sendImageAsync(MessageModel msg) {
+        return sendImageAsync(msg, null);
+    }
+
+    @Override
+    public CompletableFuture<SendResult> sendImageAsync(MessageModel msg, WebhookExchange exchange) {
+        return sendAsync(sender -> sender.sendImageAsync(msg, exchange));
+    }
+
+    @Override
+    public CompletableFuture<SendResult> sendShareChatAsync(MessageModel msg) {
+        return sendShareChatAsync(msg, null);
+    }
+
+    @Override
+    public CompletableFuture<SendResult> sendShareChatAsync(MessageModel msg, WebhookExchange exchange) {
+        return sendAsync(sender -> sender.sendShareChatAsync(msg, exchange));
+    }
+
+    @Override
+    public CompletableFuture<SendResult> sendMarkdownAsync(MessageModel msg) {
+        return sendMarkdownAsync(msg, null);
+    }
+
+    @Override
+    public CompletableFuture<SendResult> sendMarkdownAsync(MessageModel msg, WebhookExchange exchange) {
+        return sendAsync(sender -> sender.sendMarkdownAsync(msg, exchange));
+    }
+
+    @Override
+    public CompletableFuture<SendResult> sendLinkAsync(MessageModel msg) {
+        return sendLinkAsync(msg, null);
+    }
+
+    @Override
+    public CompletableFuture<SendResult> sendLinkAsync(MessageModel msg, WebhookExchange exchange) {
+        return sendAsync(sender -> sender.sendLinkAsync(msg, exchange));
+    }
+
+    @Override
+    public CompletableFuture<SendResult> sendPostAsync(MessageModel msg) {
+        return sendPostAsync(msg, null);
+    }
+
+    @Override
+    public CompletableFuture<SendResult> sendPostAsync(MessageModel msg, WebhookExchange exchange) {
+        return sendAsync(sender -> sender.sendPostAsync(msg, exchange));
+    }
+
+    @Override
+    public CompletableFuture<SendResult> sendCardAsync(MessageModel msg) {
+        return sendCardAsync(msg, null);
+    }
+
+    @Override
+    public CompletableFuture<SendResult> sendCardAsync(MessageModel msg, WebhookExchange exchange) {
+        return sendAsync(sender -> sender.sendCardAsync(msg, exchange));
+    }
+
+    private SendResult send(Function<MessageSender, SendResult> call) {
+        Member member = select(System.nanoTime());
+        SendResult result;
+        try {
+            result = call.apply(member.sender);
+        } catch (RuntimeException e) {
+            record(member, false, System.nanoTime());
+            throw e;
+        }
+        record(member, result, System.nanoTime());
+        return result;
+    }
+
+    private CompletableFuture<SendResult> sendAsync(Function<MessageSender, CompletableFuture<SendResult>> call) {
+        Member member = select(System.nanoTime());
+        CompletableFuture<SendResult> pending;
+        try {
+            pending = call.apply(member.sender);
+        } catch (RuntimeException e) {
+            record(member, false, System.nanoTime());
+            return CompletableFuture.failedFuture(e);
+        }
+        CompletableFuture<SendResult> recorded = pending.whenComplete((result, error) -> {
+            if (error == null) {
+                record(member, result, System.nanoTime());
+            } else {
+                record(member, false, System.nanoTime());
+            }
+        });
+        // a caller giving up early, for example at the delivery deadline, also cancels the member's exchange
+        recorded.whenComplete((result, error) -> {
+            if (error != null) {
+                pending.cancel(true);
+            }
+        });
+        return recorded;
+    }
+
+    /**
+     * Picks the member for the next send and counts the send against it.
+     *
+     * @param now current {@link System#nanoTime()}
+     * @return selected member
+     */
+    synchronized Member select(long now) {
+        Member best = null;
+        boolean bestHealthy = false;
+        double bestLoad = Double.MAX_VALUE;
+        int size = members.size();
+        for (int i = 0; i < size; i++) {
+            Member candidate = members.get((cursor + i) % size);
+            candidate.prune(now);
+            boolean healthy = candidate.isHealthy(now) && !candidate.isHeld(now);
+            double load = (double) candidate.recent.size() / candidate.weight;
+            if (best == null || (healthy && !bestHealthy) || (healthy == bestHealthy && load < bestLoad)) {
+                best = candidate;
+                bestHealthy = healthy;
+                bestLoad = load;
+            }
+        }
+        cursor = (members.indexOf(best) + 1) % size;
+        best.recent.addLast(now);
+        best.sent++;
+        return best;
+    }
+
+    /**
+     * Updates a member's health with a send result, holding the member when the result carries a throttling hint.
+     *
+     * @param member member that handled the send
+     * @param result send result, may be {@code null}
+     * @param now    current {@link System#nanoTime()}
+     */
+    synchronized void record(Member member, SendResult result, long now) {
+        record(member, result != null && result.isOk(), now);
+        ThrottleSignals.retryAfterMs(result, System.currentTimeMillis())
+                .ifPresent(holdMs -> hold(member, holdMs, now));
+    }
+
+    /**
+     * Holds back sends to one member for a server-hinted period, extending any hold already in place.
+     *
+     * @param member member that signalled throttling
+     * @param holdMs milliseconds before the member may be called again
+     * @param now    current {@link System#nanoTime()}
+     */
+    synchronized void hold(Member member, long holdMs, long now) {
+        long until = now + TimeUnit.MILLISECONDS.toNanos(holdMs);
+        if (!member.isHeld(now) || until - member.heldUntilNanos > 0) {
+            member.heldUntilNanos = until;
+            member.held = true;
+        }
+    }
+
+    /**
+     * Updates a member's health with the outcome of a send.
+     *
+     * @param member  member that handled the send
+     * @param success whether the send succeeded
+     * @param now     current {@link System#nanoTime()}
+     */
+    synchronized void record(Member member, boolean success, long now) {
+        if (success) {
+            member.consecutiveFailures = 0;
+            return;
+        }
+        member.failed++;
+        member.consecutiveFailures++;
+        member.lastFailureNanos = now;
+    }
+
+    private static String label(String webhook) {
+        String value = StringUtils.defaultString(webhook).trim();
+        int query = value.indexOf('?');
+        if (query >= 0) {
+            value = value.substring(0, query);
+        }
+        return value.length() <= 6 ? "***" : "***" + value.substring(value.length() - 6);
+    }
+
+    /**
+     * One webhook in the pool together with its recent load and health. Guarded by the owning sender.
+     */
+    static final class Member {
+
+        private final String label;
+
+        private final int weight;
+
+        private final MessageSender sender;
+
+        private final Deque<Long> recent = new ArrayDeque<>();
+
+        private long sent;
+
+        private long failed;
+
+        private int consecutiveFailures;
+
+        private long lastFailureNanos;
+
+        private boolean held;
+
+        private long heldUntilNanos;
+
+        Member(String label, int weight, MessageSender sender) {
+            this.label = label;
+            this.weight = Math.max(1, weight);
+            this.sender = sender;
+        }
+
+        String label() {
+            return label;
+        }
+
+        private void prune(long now) {
+            while (!recent.isEmpty() && now - recent.peekFirst() >= LOAD_WINDOW_NANOS) {
+                recent.removeFirst();
+            }
+        }
+
+        private boolean isHeld(long now) {
+            return held && heldUntilNanos - now > 0;
+        }
+
+        private boolean isHealthy(long now) {
+            return consecutiveFailures < UNHEALTHY_FAILURES || now - lastFailureNanos >= UNHEALTHY_NANOS;
+        }
+    }
+}
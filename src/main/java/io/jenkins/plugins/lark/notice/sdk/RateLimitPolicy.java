@@ -0,0 +1,105 @@
+package io.jenkins.plugins.lark.notice.sdk;
+
+import io.jenkins.plugins.lark.notice.config.LarkRateLimitConfig;
+import io.jenkins.plugins.lark.notice.enums.RobotType;
+
+/**
+ * Effective request limits for one robot, derived from its config and platform defaults.
+ *
+ * @author xm.z
+ */
+public final class RateLimitPolicy {
+
+    private static final RateLimitPolicy UNLIMITED = new RateLimitPolicy(0, 0, LarkRateLimitConfig.DEFAULT_MAX_WAIT_MS);
+
+    private final int requestsPerSecond;
+    private final int requestsPerMinute;
+    private final long maxWaitMs;
+
+    private RateLimitPolicy(int requestsPerSecond, int requestsPerMinute, long maxWaitMs) {
+        this.requestsPerSecond = requestsPerSecond;
+        this.requestsPerMinute = requestsPerMinute;
+        this.maxWaitMs = maxWaitMs;
+    }
+
+    /**
+     * Returns a policy without request limits; server throttling holds still apply.
+     *
+     * @return unlimited policy
+     */
+    public static RateLimitPolicy unlimited() {
+        return UNLIMITED;
+    }
+
+    /**
+     * Creates a policy from config, filling unset limits from the robot platform.
+     *
+     * @param config    rate limit config, may be null
+     * @param robotType robot platform, may be null when unknown
+     * @return effective policy
+     */
+    public static RateLimitPolicy from(LarkRateLimitConfig config, RobotType robotType) {
+        LarkRateLimitConfig effective = LarkRateLimitConfig.normalize(config);
+        if (!effective.isEnabled()) {
+            return new RateLimitPolicy(0, 0, effective.getMaxWaitMs());
+        }
+        int perSecond = effective.getRequestsPerSecond();
+        int perMinute = effective.getRequestsPerMinute();
+        if (perSecond == 0 && robotType != null) {
+            perSecond = robotType.getDefaultRequestsPerSecond();
+        }
+        if (perMinute == 0 && robotType != null) {
+            perMinute = robotType.getDefaultRequestsPerMinute();
+        }
+        return new RateLimitPolicy(perSecond, perMinute, effective.getMaxWaitMs());
+    }
+
+    /**
+     * Returns a policy whose limits are multiplied by {@code factor}, used for robots whose sends are spread
+     * over several webhooks that each carry their own provider quota.
+     *
+     * @param factor number of webhooks sharing the traffic
+     * @return scaled policy, or this policy when {@code factor <= 1}
+     */
+    public RateLimitPolicy scaled(int factor) {
+        if (factor <= 1 || isUnlimited()) {
+            return this;
+        }
+        return new RateLimitPolicy(requestsPerSecond * factor, requestsPerMinute * factor, maxWaitMs);
+    }
+
+    /**
+     * Returns a policy that waits at most {@code limitMs} for a permit, used to keep a send within its deadline.
+     *
+     * @param limitMs longest acceptable wait in milliseconds
+     * @return capped policy, or this policy when it already waits no longer
+     */
+    public RateLimitPolicy withMaxWaitAtMost(long limitMs) {
+        long capped = Math.max(0L, limitMs);
+        if (capped >= maxWaitMs) {
+            return this;
+        }
+        return new RateLimitPolicy(requestsPerSecond, requestsPerMinute, capped);
+    }
+
+    public int getRequestsPerSecond() {
+        return requestsPerSecond;
+    }
+
+    public int getRequestsPerMinute() {
+        return requestsPerMinute;
+    }
+
+    public long getMaxWaitMs() {
+        return maxWaitMs;
+    }
+
+    /**
+     * Returns whether this policy imposes no limit at all.
+     *
+     * @return {@code true} when both limits are unset
+     */
+    public boolean isUnlimited() {
+        return requestsPerSecond <= 0 && requestsPerMinute <= 0;
+    }
+}
@@ -0,0 +1,29 @@
+package io.jenkins.plugins.lark.notice.sdk;
+
+/**
+ * Token-bucket state of one robot, as kept by a {@link RateLimitStateBackend}.
+ *
+ * <p>Implementations must be safe for concurrent use. A reservation either takes one permit from every bucket
+ * of the policy or, when the wait would exceed the policy deadline, takes nothing.</p>
+ *
+ * @author xm.z
+ */
+public interface RateLimitState {
+
+    /**
+     * Reserves one permit.
+     *
+     * @param policy   current limits for the robot
+     * @param nowNanos current {@link System#nanoTime()}; state shared between processes uses its own wall clock
+     * @return nanoseconds to wait before sending, or {@code -1} when the wait would exceed the deadline
+     */
+    long reserve(RateLimitPolicy policy, long nowNanos);
+
+    /**
+     * Holds back every permit until the given time, extending any hold already in place.
+     *
+     * @param untilNanos {@link System#nanoTime()} value at which sends may resume
+     * @param nowNanos   current {@link System#nanoTime()}
+     */
+    void holdUntil(long untilNanos, long nowNanos);
+}
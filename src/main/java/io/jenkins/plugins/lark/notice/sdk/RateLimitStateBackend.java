@@ -0,0 +1,33 @@
+package io.jenkins.plugins.lark.notice.sdk;
+
+/**
+ * Where the robot limiters keep their token buckets.
+ *
+ * <p>The default {@link #IN_MEMORY} backend keeps them in this JVM. Controllers posting to the same groups can
+ * share their buckets through a {@link SharedFileRateLimitBackend} instead; the {@link RateLimiterRegistry}
+ * asks the backend for one state per robot id and keeps per-process statistics on top of it.</p>
+ *
+ * @author xm.z
+ */
+@FunctionalInterface
+public interface RateLimitStateBackend {
+
+    /**
+     * Backend keeping every robot's buckets in this JVM.
+     */
+    RateLimitStateBackend IN_MEMORY = robotId -> new InMemoryRateLimitState();
+
+    /**
+     * Returns the state of one robot.
+     *
+     * @param robotId robot id
+     * @return bucket state for the robot
+     */
+    RateLimitState stateFor(String robotId);
+
+    /**
+     * Releases resources held by the backend once the registry stops using it.
+     */
+    default void close() {
+    }
+}
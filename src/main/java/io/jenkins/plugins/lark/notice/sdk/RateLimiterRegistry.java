@@ -0,0 +1,128 @@
+package io.jenkins.plugins.lark.notice.sdk;
+
+import io.jenkins.plugins.lark.notice.config.LarkGlobalConfig;
+import io.jenkins.plugins.lark.notice.config.LarkRobotConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Holds one {@link RobotRateLimiter} per robot id.
+ *
+ * <p>Bucket state comes from the current {@link RateLimitStateBackend}: in memory by default, or a
+ * {@link SharedFileRateLimitBackend} when controllers on the same host share their webhook quotas.</p>
+ *
+ * @author xm.z
+ */
+@Slf4j
+public class RateLimiterRegistry {
+
+    private static final RateLimiterRegistry INSTANCE = new RateLimiterRegistry();
+
+    private final Map<String, RobotRateLimiter> limiters = new ConcurrentHashMap<>();
+
+    private volatile RateLimitStateBackend backend = RateLimitStateBackend.IN_MEMORY;
+
+    private String stateFile;
+
+    RateLimiterRegistry() {
+        // shared through getInstance(); package-private for tests
+    }
+
+    /**
+     * Returns the shared registry instance.
+     *
+     * @return singleton registry
+     */
+    public static RateLimiterRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Reserves one permit for the given robot.
+     *
+     * @param robotId robot id
+     * @param policy  effective limits for the robot
+     * @return milliseconds to wait before sending, or {@code -1} when the send should be rejected
+     */
+    public long reserve(String robotId, RateLimitPolicy policy) {
+        if (robotId == null || policy == null) {
+            return 0L;
+        }
+        RobotRateLimiter limiter = policy.isUnlimited()
+                ? limiters.get(robotId)
+                : limiters.computeIfAbsent(robotId, this::newLimiter);
+        if (limiter == null) {
+            return 0L;
+        }
+        long waitNanos = limiter.reserve(policy, System.nanoTime());
+        return waitNanos < 0 ? -1L : (waitNanos + 999_999L) / 1_000_000L;
+    }
+
+    /**
+     * Holds back sends to the given robot for a server-hinted period.
+     *
+     * @param robotId robot id
+     * @param holdMs  milliseconds before the robot may be called again
+     */
+    public void hold(String robotId, long holdMs) {
+        if (robotId == null || holdMs <= 0) {
+            return;
+        }
+        limiters.computeIfAbsent(robotId, this::newLimiter)
+                .holdUntil(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(holdMs));
+    }
+
+    /**
+     * Switches the bucket state to a file shared with other controllers, or back to process memory.
+     * <p>Limiters created so far are dropped, so their statistics restart. When the file cannot be opened the
+     * registry keeps limiting per controller.</p>
+     *
+     * @param path absolute path of the shared state file, or blank for in-memory state
+     */
+    public synchronized void useSharedStateFile(String path) {
+        String requested = StringUtils.trimToNull(path);
+        if (StringUtils.equals(requested, stateFile)) {
+            return;
+        }
+        RateLimitStateBackend next = RateLimitStateBackend.IN_MEMORY;
+        if (requested != null) {
+            try {
+                next = new SharedFileRateLimitBackend(Path.of(requested));
+            } catch (IOException | RuntimeException e) {
+                log.warn("Failed to open rate limit state file {}; limiting per controller", requested, e);
+            }
+        }
+        RateLimitStateBackend previous = backend;
+        backend = next;
+        stateFile = requested;
+        limiters.clear();
+        previous.close();
+    }
+
+    /**
+     * Returns limiter statistics for every robot that has sent at least once.
+     *
+     * @return statistics ordered by robot name
+     */
+    public List<RateLimiterStats> stats() {
+        return limiters.entrySet().stream()
+                .map(entry -> entry.getValue().stats(LarkGlobalConfig.getRobot(entry.getKey())
+                        .map(LarkRobotConfig::getName)
+                        .orElse(entry.getKey())))
+                .sorted(Comparator.comparing(RateLimiterStats::robotName, Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER)))
+                .toList();
+    }
+
+    private RobotRateLimiter newLimiter(String robotId) {
+        return new RobotRateLimiter(robotId, backend.stateFor(robotId));
+    }
+}
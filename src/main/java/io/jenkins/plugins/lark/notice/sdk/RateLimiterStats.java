@@ -0,0 +1,30 @@
+package io.jenkins.plugins.lark.notice.sdk;
+
+/**
+ * Point-in-time view of one robot's rate limiter.
+ *
+ * @param robotId           robot id
+ * @param robotName         robot display name, falls back to the id
+ * @param requestsPerSecond effective per-second limit, {@code 0} when unlimited
+ * @param requestsPerMinute effective per-minute limit, {@code 0} when unlimited
+ * @param granted           permits granted since startup
+ * @param delayed           permits that had to wait for a refill
+ * @param rejected          sends rejected because the wait would exceed the deadline
+ * @param throttled         server throttling signals that held the robot back
+ * @param totalWaitMs       accumulated wait of delayed permits
+ * @param maxWaitMs         longest single wait
+ * @author xm.z
+ */
+public record RateLimiterStats(String robotId, String robotName, int requestsPerSecond, int requestsPerMinute,
+                               long granted, long delayed, long rejected, long throttled, long totalWaitMs,
+                               long maxWaitMs) {
+
+    /**
+     * Returns the average wait of delayed permits.
+     *
+     * @return average wait in milliseconds
+     */
+    public long avgWaitMs() {
+        return delayed == 0 ? 0L : totalWaitMs / delayed;
+    }
+}
@@ -0,0 +1,139 @@
+package io.jenkins.plugins.lark.notice.sdk;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Plugin-wide cap on retries, shared by every robot.
+ *
+ * <p>Retries within the last {@link #WINDOW_NANOS} may not exceed {@link #RETRY_RATIO} of the first
+ * attempts in the same window, with a floor of {@link #MIN_RETRIES} so a quiet instance can still retry.
+ * During a provider outage this keeps the retry traffic a fraction of the normal load instead of
+ * multiplying it by the configured max attempts.</p>
+ *
+ * <p>The window is kept as {@link #BUCKETS} time buckets that are reset as the clock moves past them.</p>
+ *
+ * @author xm.z
+ */
+public class RetryBudget {
+
+    /**
+     * Share of recent first attempts that may be retried.
+     */
+    static final double RETRY_RATIO = 0.2d;
+
+    /**
+     * Retries always allowed per window regardless of traffic.
+     */
+    static final int MIN_RETRIES = 10;
+
+    /**
+     * Length of the sliding window.
+     */
+    static final long WINDOW_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    /**
+     * Number of buckets the window is split into.
+     */
+    static final int BUCKETS = 6;
+
+    private static final long BUCKET_NANOS = WINDOW_NANOS / BUCKETS;
+
+    private static final RetryBudget INSTANCE = new RetryBudget();
+
+    private final long[] firstAttempts = new long[BUCKETS];
+
+    private final long[] retries = new long[BUCKETS];
+
+    private final long[] bucketStarts = new long[BUCKETS];
+
+    private long exhausted;
+
+    RetryBudget() {
+        // shared through getInstance(); package-private for tests
+    }
+
+    /**
+     * Returns the shared budget instance.
+     *
+     * @return singleton budget
+     */
+    public static RetryBudget getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Counts the first attempt of a delivery.
+     */
+    public void recordAttempt() {
+        recordAttempt(System.nanoTime());
+    }
+
+    /**
+     * Takes one retry from the budget.
+     *
+     * @return {@code false} when the budget is exhausted and the retry must not be scheduled
+     */
+    public boolean tryAcquireRetry() {
+        return tryAcquireRetry(System.nanoTime());
+    }
+
+    /**
+     * Returns the current budget usage.
+     *
+     * @return statistics snapshot
+     */
+    public RetryBudgetStats stats() {
+        return stats(System.nanoTime());
+    }
+
+    synchronized void recordAttempt(long nowNanos) {
+        firstAttempts[bucket(nowNanos)]++;
+    }
+
+    synchronized boolean tryAcquireRetry(long nowNanos) {
+        int current = bucket(nowNanos);
+        if (sum(retries, nowNanos) >= allowed(sum(firstAttempts, nowNanos))) {
+            exhausted++;
+            return false;
+        }
+        retries[current]++;
+        return true;
+    }
+
+    synchronized RetryBudgetStats stats(long nowNanos) {
+        bucket(nowNanos);
+        long attempts = sum(firstAttempts, nowNanos);
+        long used = sum(retries, nowNanos);
+        long allowed = allowed(attempts);
+        return new RetryBudgetStats(attempts, used, allowed, (int) Math.min(100L, used * 100L / allowed), exhausted);
+    }
+
+    private static long allowed(long attempts) {
+        return Math.max(MIN_RETRIES, (long) (attempts * RETRY_RATIO));
+    }
+
+    /**
+     * Returns the bucket for the given time, clearing it when it still holds counts of an older window.
+     */
+    private int bucket(long nowNanos) {
+        long start = Math.floorDiv(nowNanos, BUCKET_NANOS);
+        int index = (int) Math.floorMod(start, (long) BUCKETS);
+        if (bucketStarts[index] != start) {
+            bucketStarts[index] = start;
+            firstAttempts[index] = 0L;
+            retries[index] = 0L;
+        }
+        return index;
+    }
+
+    private long sum(long[] counts, long nowNanos) {
+        long oldest = Math.floorDiv(nowNanos, BUCKET_NANOS) - BUCKETS + 1;
+        long total = 0L;
+        for (int i = 0; i < BUCKETS; i++) {
+            if (bucketStarts[i] >= oldest) {
+                total += counts[i];
+            }
+        }
+        return total;
+    }
+}
@@ -0,0 +1,14 @@
+package io.jenkins.plugins.lark.notice.sdk;
+
+/**
+ * Point-in-time view of the plugin-wide retry budget.
+ *
+ * @param firstAttempts first attempts within the current window
+ * @param retries       retries granted within the current window
+ * @param allowed       retries the current window allows
+ * @param usagePercent  share of the allowed retries already used, in percent
+ * @param exhausted     retries refused since startup because the budget was used up
+ * @author xm.z
+ */
+public record RetryBudgetStats(long firstAttempts, long retries, long allowed, int usagePercent, long exhausted) {
+}
@@ -0,0 +1,200 @@
+package io.jenkins.plugins.lark.notice.sdk;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Circuit breaker guarding one robot webhook.
+ *
+ * <p>While closed, every call outcome is recorded. The circuit opens after {@link #FAILURE_THRESHOLD}
+ * consecutive failures, or when at least half of the last {@link #WINDOW_SIZE} calls failed or took longer
+ * than {@link #SLOW_CALL_NANOS}. An open circuit rejects every send until {@link #OPEN_NANOS} has elapsed;
+ * it then lets up to {@link #PROBE_CALLS} probes through. The circuit closes when all probes succeed and
+ * opens again as soon as one of them fails.</p>
+ *
+ * <p>Only transport-level problems count as failures: a throttled or rejected request still proves that the
+ * webhook host is reachable.</p>
+ *
+ * @author xm.z
+ */
+final class RobotCircuitBreaker {
+
+    /**
+     * Consecutive failures that open the circuit.
+     */
+    static final int FAILURE_THRESHOLD = 5;
+
+    /**
+     * Number of recent calls used to compute the failure rate.
+     */
+    static final int WINDOW_SIZE = 20;
+
+    /**
+     * Minimum number of recorded calls before the failure rate is considered.
+     */
+    static final int MIN_CALLS = 10;
+
+    /**
+     * Failure rate, in percent, that opens the circuit.
+     */
+    static final int FAILURE_RATE_PERCENT = 50;
+
+    /**
+     * Calls slower than this count as failures for the failure rate.
+     */
+    static final long SLOW_CALL_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    /**
+     * Time an open circuit rejects sends before probing the webhook again.
+     */
+    static final long OPEN_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+    /**
+     * Number of probe sends allowed while half-open.
+     */
+    static final int PROBE_CALLS = 2;
+
+    private final String robotId;
+
+    private final boolean[] window = new boolean[WINDOW_SIZE];
+
+    private int windowCalls;
+
+    private int windowNext;
+
+    private int windowFailures;
+
+    private CircuitState state = CircuitState.CLOSED;
+
+    private long openedAtNanos;
+
+    private int consecutiveFailures;
+
+    private int probesIssued;
+
+    private int probesSucceeded;
+
+    private long calls;
+
+    private long failures;
+
+    private long slowCalls;
+
+    private long rejected;
+
+    private long opened;
+
+    RobotCircuitBreaker(String robotId) {
+        this.robotId = robotId;
+    }
+
+    /**
+     * Asks for permission to send.
+     *
+     * @param nowNanos current {@link System#nanoTime()}
+     * @return {@code true} when the send may go out; {@code false} when the circuit is open or all probes are taken
+     */
+    synchronized boolean tryAcquire(long nowNanos) {
+        if (state == CircuitState.OPEN && nowNanos - openedAtNanos >= OPEN_NANOS) {
+            state = CircuitState.HALF_OPEN;
+            probesIssued = 0;
+            probesSucceeded = 0;
+        }
+        if (state == CircuitState.CLOSED) {
+            return true;
+        }
+        if (state == CircuitState.HALF_OPEN && probesIssued < PROBE_CALLS) {
+            probesIssued++;
+            return true;
+        }
+        rejected++;
+        return false;
+    }
+
+    /**
+     * Returns a permit that was acquired but never used for a network call.
+     */
+    synchronized void release() {
+        if (state == CircuitState.HALF_OPEN && probesIssued > probesSucceeded) {
+            probesIssued--;
+        }
+    }
+
+    /**
+     * Records the outcome of one call.
+     *
+     * @param failed       whether the call failed at transport level
+     * @param latencyNanos time the call took
+     * @param nowNanos     current {@link System#nanoTime()}
+     * @return the state the circuit moved to, or {@code null} when it did not change
+     */
+    synchronized CircuitState record(boolean failed, long latencyNanos, long nowNanos) {
+        boolean slow = latencyNanos > SLOW_CALL_NANOS;
+        calls++;
+        if (failed) {
+            failures++;
+        }
+        if (slow) {
+            slowCalls++;
+        }
+        consecutiveFailures = failed ? consecutiveFailures + 1 : 0;
+        remember(failed || slow);
+
+        if (state == CircuitState.HALF_OPEN) {
+            if (failed || slow) {
+                return open(nowNanos);
+            }
+            if (++probesSucceeded >= PROBE_CALLS) {
+                state = CircuitState.CLOSED;
+                clearWindow();
+                return CircuitState.CLOSED;
+            }
+            return null;
+        }
+        if (state == CircuitState.CLOSED && (consecutiveFailures >= FAILURE_THRESHOLD
+                || windowCalls >= MIN_CALLS && failureRatePercent() >= FAILURE_RATE_PERCENT)) {
+            return open(nowNanos);
+        }
+        return null;
+    }
+
+    synchronized CircuitState state() {
+        return state;
+    }
+
+    synchronized CircuitBreakerStats stats(String robotName, long nowNanos) {
+        long remaining = state == CircuitState.OPEN ? Math.max(0L, OPEN_NANOS - (nowNanos - openedAtNanos)) : 0L;
+        return new CircuitBreakerStats(robotId, robotName, state, consecutiveFailures, failureRatePercent(), calls,
+                failures, slowCalls, rejected, opened, TimeUnit.NANOSECONDS.toMillis(remaining));
+    }
+
+    private CircuitState open(long nowNanos) {
+        state = CircuitState.OPEN;
+        openedAtNanos = nowNanos;
+        opened++;
+        return CircuitState.OPEN;
+    }
+
+    private void remember(boolean bad) {
+        if (windowCalls == WINDOW_SIZE && window[windowNext]) {
+            windowFailures--;
+        }
+        window[windowNext] = bad;
+        if (bad) {
+            windowFailures++;
+        }
+        windowNext = (windowNext + 1) % WINDOW_SIZE;
+        windowCalls = Math.min(WINDOW_SIZE, windowCalls + 1);
+    }
+
+    private void clearWindow() {
+        Arrays.fill(window, false);
+        windowCalls = 0;
+        windowNext = 0;
+        windowFailures = 0;
+    }
+
+    private int failureRatePercent() {
+        return windowCalls == 0 ? 0 : windowFailures * 100 / windowCalls;
+    }
+}
@@ -0,0 +1,207 @@
+package io.jenkins.plugins.lark.notice.sdk;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Adaptive limit on the number of requests in flight to one robot webhook.
+ *
+ * <p>The limit follows an AIMD scheme driven by latency: every call that finishes close to the lowest latency
+ * observed recently adds {@code 1 / limit} (about one slot per round trip), while a failed call or one slower
+ * than {@link #LATENCY_TOLERANCE} times that minimum shrinks the limit by {@link #BACKOFF_RATIO}. The minimum is
+ * re-established every {@link #MIN_LATENCY_WINDOW} samples so the limiter follows a changing network path.</p>
+ *
+ * <p>A robot that spreads its traffic over a pool of webhooks gets the learned limit once per member, and the
+ * additive step is divided by the member count so each member still gains about one slot per round trip.</p>
+ *
+ * <p>Requests above the limit wait in a short FIFO queue; a waiter is completed with {@code false} when the
+ * queue is full or it could not be admitted within {@link #MAX_QUEUE_WAIT_MS}. Permits are handed to waiters
+ * outside the monitor so their continuations never run while the limiter is locked.</p>
+ *
+ * @author xm.z
+ */
+final class RobotConcurrencyLimiter {
+
+    static final int INITIAL_LIMIT = 4;
+
+    static final int MIN_LIMIT = 1;
+
+    static final int MAX_LIMIT = 32;
+
+    static final int MAX_QUEUE = 64;
+
+    static final long MAX_QUEUE_WAIT_MS = 5_000L;
+
+    static final double LATENCY_TOLERANCE = 2.0d;
+
+    static final double BACKOFF_RATIO = 0.8d;
+
+    static final int MIN_LATENCY_WINDOW = 100;
+
+    private final String robotId;
+
+    private final Deque<Waiter> waiters = new ArrayDeque<>();
+
+    private double limit = INITIAL_LIMIT;
+
+    private int members = 1;
+
+    private int inFlight;
+
+    private long minLatencyNanos = Long.MAX_VALUE;
+
+    private long windowMinNanos = Long.MAX_VALUE;
+
+    private int windowSamples;
+
+    private long granted;
+
+    private long queued;
+
+    private long rejected;
+
+    private long admittedFromQueue;
+
+    private long totalQueueNanos;
+
+    private long maxQueueNanos;
+
+    RobotConcurrencyLimiter(String robotId) {
+        this.robotId = robotId;
+    }
+
+    /**
+     * Asks for a slot of a robot with a single webhook.
+     *
+     * @return future completed with {@code true} once a slot is held, or {@code false} when the request was
+     * turned away; a holder must call {@link #release(long, boolean)} exactly once
+     */
+    CompletableFuture<Boolean> acquire() {
+        return acquire(1);
+    }
+
+    /**
+     * Asks for a slot.
+     *
+     * @param poolSize number of webhooks the robot currently spreads its traffic over
+     * @return future completed with {@code true} once a slot is held, or {@code false} when the request was
+     * turned away; a holder must call {@link #release(long, boolean)} exactly once
+     */
+    CompletableFuture<Boolean> acquire(int poolSize) {
+        Waiter waiter;
+        synchronized (this) {
+            members = Math.max(1, poolSize);
+            if (inFlight < currentLimit() && waiters.isEmpty()) {
+                inFlight++;
+                granted++;
+                return CompletableFuture.completedFuture(Boolean.TRUE);
+            }
+            if (waiters.size() >= MAX_QUEUE) {
+                rejected++;
+                return CompletableFuture.completedFuture(Boolean.FALSE);
+            }
+            waiter = new Waiter(new CompletableFuture<>(), System.nanoTime());
+            waiters.addLast(waiter);
+            queued++;
+        }
+        waiter.permit().completeOnTimeout(Boolean.FALSE, MAX_QUEUE_WAIT_MS, TimeUnit.MILLISECONDS)
+                .thenAccept(admitted -> {
+                    if (!admitted) {
+                        timedOut(waiter);
+                    }
+                });
+        return waiter.permit();
+    }
+
+    /**
+     * Returns a slot and adapts the limit to the finished call.
+     *
+     * @param latencyNanos time the call took
+     * @param overloaded   whether the call failed in a way that suggests the webhook is overloaded
+     */
+    void release(long latencyNanos, boolean overloaded) {
+        synchronized (this) {
+            inFlight--;
+            sample(latencyNanos, overloaded);
+        }
+        admitWaiters();
+    }
+
+    /**
+     * Returns a slot whose holder gave up before calling, without sampling a latency.
+     */
+    void abandon() {
+        synchronized (this) {
+            inFlight--;
+        }
+        admitWaiters();
+    }
+
+    synchronized ConcurrencyLimiterStats stats(String robotName) {
+        long waited = admittedFromQueue;
+        return new ConcurrencyLimiterStats(robotId, robotName, currentLimit(), inFlight, waiters.size(), granted,
+                queued, rejected, waited <= 0 ? 0L : TimeUnit.NANOSECONDS.toMillis(totalQueueNanos / waited),
+                TimeUnit.NANOSECONDS.toMillis(maxQueueNanos),
+                minLatencyNanos == Long.MAX_VALUE ? 0L : TimeUnit.NANOSECONDS.toMillis(minLatencyNanos));
+    }
+
+    synchronized int currentLimit() {
+        return (int) (limit * members);
+    }
+
+    private void sample(long latencyNanos, boolean overloaded) {
+        windowMinNanos = Math.min(windowMinNanos, latencyNanos);
+        minLatencyNanos = Math.min(minLatencyNanos, latencyNanos);
+        if (++windowSamples >= MIN_LATENCY_WINDOW) {
+            minLatencyNanos = windowMinNanos;
+            windowMinNanos = Long.MAX_VALUE;
+            windowSamples = 0;
+        }
+        if (overloaded || latencyNanos > minLatencyNanos * LATENCY_TOLERANCE) {
+            limit = Math.max(MIN_LIMIT, limit * BACKOFF_RATIO);
+        } else {
+            limit = Math.min(MAX_LIMIT, limit + 1.0d / (limit * members));
+        }
+    }
+
+    /**
+     * Hands free slots to queued requests, skipping those that already gave up.
+     */
+    private void admitWaiters() {
+        while (true) {
+            Waiter next;
+            synchronized (this) {
+                if (waiters.isEmpty() || inFlight >= currentLimit()) {
+                    return;
+                }
+                next = waiters.pollFirst();
+                inFlight++;
+            }
+            if (next.permit().complete(Boolean.TRUE)) {
+                synchronized (this) {
+                    long waited = System.nanoTime() - next.enqueuedAt();
+                    granted++;
+                    admittedFromQueue++;
+                    totalQueueNanos += waited;
+                    maxQueueNanos = Math.max(maxQueueNanos, waited);
+                }
+            } else {
+                synchronized (this) {
+                    inFlight--;
+                    rejected++;
+                }
+            }
+        }
+    }
+
+    private synchronized void timedOut(Waiter waiter) {
+        if (waiters.remove(waiter)) {
+            rejected++;
+        }
+    }
+
+    private record Waiter(CompletableFuture<Boolean> permit, long enqueuedAt) {
+    }
+}
@@ -0,0 +1,14 @@
+package io.jenkins.plugins.lark.notice.sdk;
+
+import java.util.List;
+
+/**
+ * Point-in-time view of a robot whose sends are spread over several webhooks.
+ *
+ * @param robotId   robot id
+ * @param robotName robot display name, falls back to the id
+ * @param members   per-member load and health
+ * @author xm.z
+ */
+public record RobotPoolStats(String robotId, String robotName, List<PoolMemberStats> members) {
+}
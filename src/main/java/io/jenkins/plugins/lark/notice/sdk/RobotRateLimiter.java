@@ -0,0 +1,88 @@
+package io.jenkins.plugins.lark.notice.sdk;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rate limiter guarding one robot webhook: reserves permits from the robot's {@link RateLimitState} and counts
+ * the outcome for this process.
+ *
+ * <p>The bucket state may live in this JVM or be shared with other controllers, see
+ * {@link RateLimitStateBackend}; the statistics always describe this controller's own sends.</p>
+ *
+ * @author xm.z
+ */
+final class RobotRateLimiter {
+
+    private final String robotId;
+
+    private final RateLimitState state;
+
+    private int requestsPerSecond;
+
+    private int requestsPerMinute;
+
+    private long holds;
+
+    private long granted;
+
+    private long delayed;
+
+    private long rejected;
+
+    private long totalWaitNanos;
+
+    private long maxWaitNanos;
+
+    RobotRateLimiter(String robotId) {
+        this(robotId, new InMemoryRateLimitState());
+    }
+
+    RobotRateLimiter(String robotId, RateLimitState state) {
+        this.robotId = robotId;
+        this.state = state;
+    }
+
+    /**
+     * Reserves one permit.
+     *
+     * @param policy   current limits for this robot
+     * @param nowNanos current {@link System#nanoTime()}
+     * @return nanoseconds to wait before sending, or {@code -1} when the wait would exceed the deadline
+     */
+    long reserve(RateLimitPolicy policy, long nowNanos) {
+        long wait = state.reserve(policy, nowNanos);
+        synchronized (this) {
+            requestsPerSecond = policy.getRequestsPerSecond();
+            requestsPerMinute = policy.getRequestsPerMinute();
+            if (wait < 0) {
+                rejected++;
+                return -1L;
+            }
+            granted++;
+            if (wait > 0) {
+                delayed++;
+                totalWaitNanos += wait;
+                maxWaitNanos = Math.max(maxWaitNanos, wait);
+            }
+        }
+        return wait;
+    }
+
+    /**
+     * Holds back every permit until the given time, extending any hold already in place.
+     *
+     * @param untilNanos {@link System#nanoTime()} value at which sends may resume
+     */
+    void holdUntil(long untilNanos) {
+        state.holdUntil(untilNanos, System.nanoTime());
+        synchronized (this) {
+            holds++;
+        }
+    }
+
+    synchronized RateLimiterStats stats(String robotName) {
+        return new RateLimiterStats(robotId, robotName, Math.max(0, requestsPerSecond), Math.max(0, requestsPerMinute),
+                granted, delayed, rejected, holds, TimeUnit.NANOSECONDS.toMillis(totalWaitNanos),
+                TimeUnit.NANOSECONDS.toMillis(maxWaitNanos));
+    }
+}
@@ -0,0 +1,148 @@
+package io.jenkins.plugins.lark.notice.sdk;
+
+import io.jenkins.plugins.lark.notice.model.MessageModel;
+import io.jenkins.plugins.lark.notice.sdk.model.SendResult;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Sender decorator that hands the HTTP exchange of every message to a {@link WebhookExchange}.
+ *
+ * <p>The exchange is passed to the wrapped sender as an argument of each {@code ...Async} call, so it stays
+ * bound to the message wherever the sender finishes its work. When routed senders are nested, the outermost
+ * one wins, so a per-call route such as a pipeline step's agent overrides a robot's configured relay. Pools,
+ * limits and retries of the wrapped sender are unchanged.</p>
+ *
+ * @author xm.z
+ */
+public final class RoutedMessageSender implements MessageSender {
+
+    private final MessageSender delegate;
+
+    private final WebhookExchange exchange;
+
+    /**
+     * Creates a routed view of a sender.
+     *
+     * @param delegate sender that renders and signs the messages
+     * @param exchange exchange that performs the HTTP calls
+     */
+    public RoutedMessageSender(MessageSender delegate, WebhookExchange exchange) {
+        this.delegate = delegate;
+        this.exchange = exchange;
+    }
+
+    /**
+     * Returns the wrapped sender.
+     *
+     * @return sender that renders and signs the messages
+     */
+    public MessageSender getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public SendResult sendText(MessageModel msg) {
+        return sendTextAsync(msg).join();
+    }
+
+    @Override
+    public SendResult sendImage(MessageModel msg) {
+        return sendImageAsync(msg).join();
+    }
+
+    @Override
+    public SendResult sendShareChat(MessageModel msg) {
+        return sendShareChatAsync(msg).join();
+    }
+
+    @Override
+    public SendResult sendMarkdown(MessageModel msg) {
+        return sendMarkdownAsync(msg).join();
+    }
+
+    @Override
+    public SendResult sendLink(MessageModel msg) {
+        return sendLinkAsync(msg).join();
+    }
+
+    @Override
+    public SendResult sendPost(MessageModel msg) {
+        return sendPostAsync(msg).join();
+    }
+
+    @Override
+    public SendResult sendCard(MessageModel msg) {
+        return sendCardAsync(msg).join();
+    }
+
+    @Override
+    public CompletableFuture<SendResult> sendTextAsync(MessageModel msg) {
+        return delegate.sendTextAsync(msg, exchange);
+    }
+
+    @Override
+    public CompletableFuture<SendResult> sendTextAsync(MessageModel msg, WebhookExchange outer) {
+        return delegate.sendTextAsync(msg, outer == null ? exchange : outer);
+    }
+
+    @Override
+    public CompletableFuture<SendResult> sendImageAsync(MessageModel msg) {
+        return delegate.sendImageAsync(msg, exchange);
+    }
+
+    @Override
+    public CompletableFuture<SendResult> sendImageAsync(MessageModel msg, WebhookExchange outer) {
+        return delegate.sendImageAsync(msg, outer == null ? exchange : outer);
+    }
+
+    @Override
+    public CompletableFuture<SendResult> sendShareChatAsync(MessageModel msg) {
+        return delegate.sendShareChatAsync(msg, exchange);
+    }
+
+    @Override
+    public CompletableFuture<SendResult> sendShareChatAsync(MessageModel msg, WebhookExchange outer) {
+        return delegate.sendShareChatAsync(msg, outer == null ? exchange : outer);
+    }
+
+    @Override
+    public CompletableFuture<SendResult> sendMarkdownAsync(MessageModel msg) {
+        return delegate.sendMarkdownAsync(msg, exchange);
+    }
+
+    @Override
+    public CompletableFuture<SendResult> sendMarkdownAsync(MessageModel msg, WebhookExchange outer) {
+        return delegate.sendMarkdownAsync(msg, outer == null ? exchange : outer);
+    }
+
+    @Override
+    public CompletableFuture<SendResult> sendLinkAsync(MessageModel msg) {
+        return delegate.sendLinkAsync(msg, exchange);
+    }
+
+    @Override
+    public CompletableFuture<SendResult> sendLinkAsync(MessageModel msg, WebhookExchange outer) {
+        return delegate.sendLinkAsync(msg, outer == null ? exchange : outer);
+    }
+
+    @Override
+    public CompletableFuture<SendResult> sendPostAsync(MessageModel msg) {
+        return delegate.sendPostAsync(msg, exchange);
+    }
+
+    @Override
+    public CompletableFuture<SendResult> sendPostAsync(MessageModel msg, WebhookExchange outer) {
+        return delegate.sendPostAsync(msg, outer == null ? exchange : outer);
+    }
+
+    @Override
+    public CompletableFuture<SendResult> sendCardAsync(MessageModel msg) {
+        return delegate.sendCardAsync(msg, exchange);
+    }
+
+    @Override
+    public CompletableFuture<SendResult> sendCardAsync(MessageModel msg, WebhookExchange outer) {
+        return delegate.sendCardAsync(msg, outer == null ? exchange : outer);
+    }
+}
@@ -0,0 +1,320 @@
+package io.jenkins.plugins.lark.notice.sdk;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileStore;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Robot rate-limit state kept in a memory-mapped file, so several controllers on one host share the same
+ * quota for a webhook. Same-host only: controllers on different hosts cannot share a quota through it.
+ *
+ * <p>The file holds a small header followed by a fixed table of slots, one per robot id. A slot is claimed by
+ * compare-and-set of its key hash and then carries three values updated with compare-and-set only, so no
+ * process ever takes a lock and a crashed process cannot leave the table blocked:</p>
+ * <ul>
+ *     <li>the theoretical arrival time of the per-second bucket,</li>
+ *     <li>the theoretical arrival time of the per-minute bucket,</li>
+ *     <li>the time until which the server asked to hold back.</li>
+ * </ul>
+ *
+ * <p>Buckets follow the generic cell rate algorithm: a bucket of {@code n} permits per period emits one permit
+ * every {@code period / n} and allows a burst of {@code n}, which behaves like the in-memory token bucket.
+ * Times are wall-clock nanoseconds since the epoch, because {@link System#nanoTime()} is not comparable
+ * between processes.</p>
+ *
+ * <p>Memory-mapped writes and compare-and-set are only coherent between processes sharing the same page cache,
+ * so the file must live on a local or shared-memory filesystem (for example {@code /dev/shm}). A file on a
+ * network mount such as NFS, EFS or SMB would silently give every host its own quota, so it is refused.</p>
+ *
+ * @author xm.z
+ */
+@Slf4j
+public final class SharedFileRateLimitBackend implements RateLimitStateBackend, Closeable {
+
+    /**
+     * Number of robot slots in the table.
+     */
+    static final int SLOTS = 1024;
+
+    private static final long MAGIC = 0x4c524b524154453cL;
+
+    private static final int HEADER_BYTES = 64;
+
+    private static final int SLOT_BYTES = 64;
+
+    private static final int KEY = 0;
+
+    private static final int SECOND_TAT = 8;
+
+    private static final int MINUTE_TAT = 16;
+
+    private static final int HOLD_UNTIL = 24;
+
+    /**
+     * Filesystem types, as reported by {@link FileStore#type()}, whose mappings are not coherent across hosts.
+     */
+    private static final Set<String> NETWORK_FILE_SYSTEMS = Set.of("nfs", "nfs4", "cifs", "smbfs", "afpfs",
+            "webdav", "9p", "ceph", "glusterfs", "lustre", "gpfs", "beegfs", "afs", "fuse.sshfs", "fuse.s3fs",
+            "fuse.glusterfs", "fuse.cephfs", "fuse.gcsfuse", "fuse.rclone");
+
+    private static final VarHandle LONGS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+
+    private final Path file;
+
+    private final FileChannel channel;
+
+    private final MappedByteBuffer table;
+
+    private final LongSupplier clock;
+
+    /**
+     * Opens or creates the shared state file.
+     *
+     * @param file state file; created when missing
+     * @throws IOException when the file is on a network filesystem, cannot be mapped or belongs to something else
+     */
+    public SharedFileRateLimitBackend(Path file) throws IOException {
+        this(file, SharedFileRateLimitBackend::epochNanos);
+    }
+
+    SharedFileRateLimitBackend(Path file, LongSupplier clock) throws IOException {
+        Optional<String> networkType = networkFileSystemOf(file);
+        if (networkType.isPresent()) {
+            throw new IOException("Rate limit state file " + file + " is on a " + networkType.get()
+                    + " network filesystem; it can only be shared by controllers on the same host");
+        }
+        this.file = file;
+        this.clock = clock;
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            this.table = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES + (long) SLOTS * SLOT_BYTES);
+            long magic = (long) LONGS.compareAndExchange(table, 0, 0L, MAGIC);
+            if (magic != 0L && magic != MAGIC) {
+                throw new IOException("Not a rate limit state file: " + file);
+            }
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the mapped file.
+     *
+     * @return state file path
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Slots are never reclaimed, since another controller may still use one, so the file holds at most
+     * {@value #SLOTS} robot ids over its lifetime, including robots deleted since. Beyond that the robot falls
+     * back to process-local state; delete the file while every controller using it is stopped to start over.</p>
+     */
+    @Override
+    public RateLimitState stateFor(String robotId) {
+        long key = keyOf(robotId);
+        int start = (int) Long.remainderUnsigned(key, SLOTS);
+        for (int probe = 0; probe < SLOTS; probe++) {
+            int base = HEADER_BYTES + ((start + probe) % SLOTS) * SLOT_BYTES;
+            long owner = (long) LONGS.getVolatile(table, base + KEY);
+            if (owner == 0L) {
+                owner = (long) LONGS.compareAndExchange(table, base + KEY, 0L, key);
+                if (owner == 0L) {
+                    return new Slot(base);
+                }
+            }
+            if (owner == key) {
+                return new Slot(base);
+            }
+        }
+        log.error("Rate limit state file {} already holds the maximum of {} robot ids; robot {} is rate limited "
+                + "per controller only. Stop the controllers sharing the file and delete it to reset the table",
+                file, SLOTS, robotId);
+        return new InMemoryRateLimitState();
+    }
+
+    /**
+     * Closes the file channel; states already handed out keep working on the mapping.
+     */
+    @Override
+    public void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.debug("Failed to close rate limit state file {}", file, e);
+        }
+    }
+
+    /**
+     * Returns the type of the network filesystem holding the given file.
+     *
+     * @param file state file, which need not exist yet
+     * @return filesystem type when the file is on a network filesystem, empty when it is local
+     * @throws IOException when the filesystem cannot be determined
+     */
+    public static Optional<String> networkFileSystemOf(Path file) throws IOException {
+        Path absolute = file.toAbsolutePath();
+        Path existing = Files.exists(absolute) || absolute.getParent() == null ? absolute : absolute.getParent();
+        String type = Files.getFileStore(existing).type();
+        return isNetworkFileSystem(type) ? Optional.of(type) : Optional.empty();
+    }
+
+    static boolean isNetworkFileSystem(String type) {
+        String normalized = type == null ? "" : type.toLowerCase(Locale.ROOT);
+        return NETWORK_FILE_SYSTEMS.contains(normalized) || normalized.startsWith("nfs")
+                || normalized.startsWith("smb");
+    }
+
+    private static long epochNanos() {
+        Instant now = Instant.now();
+        return TimeUnit.SECONDS.toNanos(now.getEpochSecond()) + now.getNano();
+    }
+
+    /**
+     * 64-bit FNV-1a hash of the robot id; zero marks a free slot and is never returned.
+     */
+    static long keyOf(String robotId) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : robotId.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return hash == 0L ? 1L : hash;
+    }
+
+    /**
+     * Buckets of one robot inside the mapped table.
+     */
+    private final class Slot implements RateLimitState {
+
+        private final int base;
+
+        private Slot(int base) {
+            this.base = base;
+        }
+
+        @Override
+        public long reserve(RateLimitPolicy policy, long nowNanos) {
+            long now = clock.getAsLong();
+            long maxWait = TimeUnit.MILLISECONDS.toNanos(policy.getMaxWaitMs());
+            long held = Math.max(0L, (long) LONGS.getVolatile(table, base + HOLD_UNTIL) - now);
+            if (held > maxWait) {
+                return -1L;
+            }
+            long perSecond = emissionInterval(policy.getRequestsPerSecond(), TimeUnit.SECONDS);
+            long perMinute = emissionInterval(policy.getRequestsPerMinute(), TimeUnit.MINUTES);
+            // check both buckets before committing either, so a rejection normally writes nothing
+            if (waitFor(MINUTE_TAT, perMinute, policy.getRequestsPerMinute(), now) > maxWait) {
+                return -1L;
+            }
+            Taken second = take(SECOND_TAT, perSecond, policy.getRequestsPerSecond(), now, maxWait);
+            if (second == null) {
+                return -1L;
+            }
+            Taken minute = take(MINUTE_TAT, perMinute, policy.getRequestsPerMinute(), now, maxWait);
+            if (minute == null) {
+                untake(SECOND_TAT, second);
+                return -1L;
+            }
+            return Math.max(held, Math.max(second.waitNanos(), minute.waitNanos()));
+        }
+
+        @Override
+        public void holdUntil(long untilNanos, long nowNanos) {
+            long until = clock.getAsLong() + (untilNanos - nowNanos);
+            long current = (long) LONGS.getVolatile(table, base + HOLD_UNTIL);
+            while (until > current) {
+                long witness = (long) LONGS.compareAndExchange(table, base + HOLD_UNTIL, current, until);
+                if (witness == current) {
+                    return;
+                }
+                current = witness;
+            }
+        }
+
+        /**
+         * Returns the wait for the next permit of a bucket without taking it.
+         */
+        private long waitFor(int offset, long interval, int burst, long now) {
+            if (interval <= 0) {
+                return 0L;
+            }
+            long tat = (long) LONGS.getVolatile(table, base + offset);
+            return Math.max(0L, Math.max(tat, now) + interval - interval * burst - now);
+        }
+
+        /**
+         * Takes one permit from a bucket.
+         *
+         * @return the permit taken, or {@code null} without taking anything when the wait exceeds {@code maxWait}
+         */
+        private Taken take(int offset, long interval, int burst, long now, long maxWait) {
+            if (interval <= 0) {
+                return Taken.NONE;
+            }
+            long tolerance = interval * burst;
+            long tat = (long) LONGS.getVolatile(table, base + offset);
+            while (true) {
+                long next = Math.max(tat, now) + interval;
+                long wait = Math.max(0L, next - tolerance - now);
+                if (wait > maxWait) {
+                    return null;
+                }
+                long witness = (long) LONGS.compareAndExchange(table, base + offset, tat, next);
+                if (witness == tat) {
+                    return new Taken(wait, tat, next);
+                }
+                tat = witness;
+            }
+        }
+
+        /**
+         * Gives back a permit when the other bucket refused it after all, which only happens when another
+         * process took from that bucket since the check. The bucket is restored to the value it had before
+         * {@link #take}; when it has moved on since, it is left as it is and the permit stays spent, which can
+         * only make the limit stricter, never looser.
+         */
+        private void untake(int offset, Taken taken) {
+            if (taken != Taken.NONE) {
+                LONGS.compareAndSet(table, base + offset, taken.next(), taken.previous());
+            }
+        }
+
+        private long emissionInterval(int permits, TimeUnit period) {
+            return permits > 0 ? period.toNanos(1) / permits : 0L;
+        }
+    }
+
+    /**
+     * One permit taken from a bucket: the wait before it is due, and the bucket value before and after.
+     */
+    private record Taken(long waitNanos, long previous, long next) {
+
+        /**
+         * Result for a bucket without a limit; nothing was written.
+         */
+        static final Taken NONE = new Taken(0L, 0L, 0L);
+    }
+}
@@ -0,0 +1,97 @@
+package io.jenkins.plugins.lark.notice.sdk;
+
+import io.jenkins.plugins.lark.notice.sdk.model.SendResult;
+import org.apache.commons.lang3.StringUtils;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Reads server throttling hints from a webhook response.
+ *
+ * <p>A response counts as throttled when it carries HTTP 429 or 503, or one of the provider codes below. The
+ * wait is taken from the {@code Retry-After} header when present, otherwise from the provider default.</p>
+ *
+ * @author xm.z
+ */
+public final class ThrottleSignals {
+
+    /**
+     * Provider throttle codes and the wait applied when the response has no {@code Retry-After} header.
+     * Lark: 9499 (too many requests), 11232 (bot frequency limited); DingTalk: 130101 (sent too fast);
+     * WeCom: 45009 (API frequency out of limit).
+     */
+    private static final Map<Integer, Long> THROTTLE_CODES = Map.of(
+            9499, 1_000L,
+            11232, 60_000L,
+            130101, 60_000L,
+            45009, 60_000L
+    );
+
+    /**
+     * Wait applied to HTTP 429/503 responses without a {@code Retry-After} header.
+     */
+    private static final long DEFAULT_HTTP_WAIT_MS = 1_000L;
+
+    /**
+     * Upper bound for any hint, so a misbehaving server cannot park a robot indefinitely.
+     */
+    static final long MAX_HINT_MS = Duration.ofMinutes(10).toMillis();
+
+    private ThrottleSignals() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Returns how long the server asked us to back off.
+     *
+     * @param result    send result, may be {@code null}
+     * @param nowMillis current epoch millis, used for HTTP-date hints
+     * @return hinted wait in milliseconds, or empty when the response is not throttled
+     */
+    public static Optional<Long> retryAfterMs(SendResult result, long nowMillis) {
+        if (result == null || result.isOk()) {
+            return Optional.empty();
+        }
+        Integer status = result.getHttpStatus();
+        boolean httpThrottled = status != null && (status == 429 || status == 503);
+        Long codeDefault = result.getCode() == null ? null : THROTTLE_CODES.get(result.getCode());
+        if (!httpThrottled && codeDefault == null) {
+            return Optional.empty();
+        }
+        long fallback = codeDefault == null ? DEFAULT_HTTP_WAIT_MS : codeDefault;
+        long hint = result.header("Retry-After")
+                .map(value -> parseRetryAfter(value, nowMillis))
+                .filter(waitMs -> waitMs >= 0)
+                .orElse(fallback);
+        return Optional.of(Math.min(Math.max(hint, 0L), MAX_HINT_MS));
+    }
+
+    /**
+     * Parses a {@code Retry-After} value given either as delta-seconds or as an HTTP-date.
+     *
+     * @param value     header value
+     * @param nowMillis current epoch millis
+     * @return wait in milliseconds, {@code 0} when in the past, {@code -1} when unparsable
+     */
+    static long parseRetryAfter(String value, long nowMillis) {
+        String trimmed = StringUtils.trimToEmpty(value);
+        if (StringUtils.isNumeric(trimmed)) {
+            try {
+                return Math.multiplyExact(Long.parseLong(trimmed), 1000L);
+            } catch (ArithmeticException | NumberFormatException e) {
+                return MAX_HINT_MS;
+            }
+        }
+        try {
+            long at = ZonedDateTime.parse(trimmed, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+            return Math.max(0L, at - nowMillis);
+        } catch (DateTimeParseException e) {
+            return -1L;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package io.jenkins.plugins.lark.notice.sdk;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Performs the HTTP exchange of a fully built webhook request somewhere other than the controller's own
+ * pooled client, such as the agent running a pipeline step.
+ *
+ * <p>Requests handed to an exchange are already rendered and signed; signing secrets never leave the
+ * controller. Senders receive the exchange as an argument of their {@code ...Async} calls, usually from a
+ * {@link RoutedMessageSender}.</p>
+ *
+ * @author xm.z
+ */
+@FunctionalInterface
+public interface WebhookExchange {
+
+    /**
+     * Sends the request and completes with the raw webhook answer.
+     *
+     * @param request signed webhook request
+     * @return future completed with the answer, or exceptionally with the transport error
+     */
+    CompletableFuture<WebhookResponse> exchange(WebhookRequest request);
+}
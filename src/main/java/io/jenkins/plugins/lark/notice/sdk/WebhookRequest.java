@@ -0,0 +1,53 @@
+package io.jenkins.plugins.lark.notice.sdk;
+
+import java.io.Serializable;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Serializable copy of a signed webhook request, sent over the remoting channel when the exchange runs on an
+ * agent.
+ *
+ * @param uri              final webhook URI, including any signature query parameters
+ * @param headers          request headers
+ * @param body             JSON request body
+ * @param timeoutMs        request timeout in milliseconds
+ * @param connectTimeoutMs connect timeout in milliseconds
+ * @param noSsl            whether certificate verification is disabled for this robot
+ * @author xm.z
+ */
+public record WebhookRequest(String uri, Map<String, List<String>> headers, String body, long timeoutMs,
+                             long connectTimeoutMs, boolean noSsl) implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Copies a built request; the body is passed separately because a body publisher cannot be read back.
+     *
+     * @param request        built HTTP request
+     * @param body           JSON body the request was built with
+     * @param connectTimeout connect timeout of the robot, may be null
+     * @param noSsl          whether certificate verification is disabled
+     * @return serializable request
+     */
+    public static WebhookRequest of(HttpRequest request, String body, Duration connectTimeout, boolean noSsl) {
+        return new WebhookRequest(request.uri().toString(), copyHeaders(request.headers().map()), body,
+                request.timeout().map(Duration::toMillis).orElse(0L),
+                connectTimeout == null ? 0L : connectTimeout.toMillis(), noSsl);
+    }
+
+    /**
+     * Copies HTTP headers into immutable collections that serialize over the remoting channel.
+     *
+     * @param headers headers to copy
+     * @return serializable copy
+     */
+    static Map<String, List<String>> copyHeaders(Map<String, List<String>> headers) {
+        Map<String, List<String>> copy = new LinkedHashMap<>();
+        headers.forEach((name, values) -> copy.put(name, List.copyOf(values)));
+        return Map.copyOf(copy);
+    }
+}
@@ -0,0 +1,19 @@
+package io.jenkins.plugins.lark.notice.sdk;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Serializable webhook answer returned by a {@link WebhookExchange}.
+ *
+ * @param statusCode HTTP status code
+ * @param headers    response headers
+ * @param body       response body
+ * @author xm.z
+ */
+public record WebhookResponse(int statusCode, Map<String, List<String>> headers, String body)
+        implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+}
@@ -1,11 +1,19 @@
 package io.jenkins.plugins.lark.notice.sdk.impl;
 
+import io.jenkins.plugins.lark.notice.config.RobotWebhookResolver;
 import io.jenkins.plugins.lark.notice.enums.RobotType;
+import io.jenkins.plugins.lark.notice.model.MessageModel;
 import io.jenkins.plugins.lark.notice.model.RobotConfigModel;
-import io.jenkins.plugins.lark.notice.sdk.HttpClientFactory;
+import io.jenkins.plugins.lark.notice.sdk.EndpointLatencyProber;
+import io.jenkins.plugins.lark.notice.sdk.FailureClassifier;
+import io.jenkins.plugins.lark.notice.sdk.HttpTransport;
+import io.jenkins.plugins.lark.notice.sdk.HttpTransportRegistry;
 import io.jenkins.plugins.lark.notice.sdk.MessageSender;
+import io.jenkins.plugins.lark.notice.sdk.WebhookExchange;
+import io.jenkins.plugins.lark.notice.sdk.WebhookRequest;
+import io.jenkins.plugins.lark.notice.sdk.WebhookResponse;
+import io.jenkins.plugins.lark.notice.sdk.BoundedBodyHandler;
 import io.jenkins.plugins.lark.notice.sdk.model.SendResult;
-import io.jenkins.plugins.lark.notice.tools.JsonUtils;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpHeaders;
@@ -16,12 +24,23 @@ import java.net.ConnectException;
 import java.net.URI;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * Abstract class for sending Lark messages.
  * Provides common methods for sending messages via Lark API.
+ * <p>Platform senders implement the {@code ...Async} methods that take a {@link WebhookExchange} on top of
+ * {@link #sendMessageAsync(WebhookExchange, byte[], String...)}; the other variants pass no exchange, and the
+ * synchronous methods are thin wrappers that wait for the same future.</p>
+ * <p>Request bodies travel as UTF-8 bytes from the serializer to the socket, and responses are read through a
+ * {@link BoundedBodyHandler} and scanned by {@link SendResultReader} for the result fields only.</p>
  *
  * @author xm.z
  */
@@ -38,48 +57,427 @@ public abstract class AbstractMessageSender implements MessageSender {
     }
 
     /**
-     * Sends a message to the Lark API using the provided JSON body and optional headers.
+     * {@inheritDoc}
+     */
+    @Override
+    public SendResult sendText(MessageModel msg) {
+        return sendTextAsync(msg).join();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SendResult sendImage(MessageModel msg) {
+        return sendImageAsync(msg).join();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SendResult sendShareChat(MessageModel msg) {
+        return sendShareChatAsync(msg).join();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SendResult sendMarkdown(MessageModel msg) {
+        return sendMarkdownAsync(msg).join();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SendResult sendLink(MessageModel msg) {
+        return sendLinkAsync(msg).join();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SendResult sendPost(MessageModel msg) {
+        return sendPostAsync(msg).join();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SendResult sendCard(MessageModel msg) {
+        return sendCardAsync(msg).join();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<SendResult> sendTextAsync(MessageModel msg) {
+        return sendTextAsync(msg, null);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<SendResult> sendImageAsync(MessageModel msg) {
+        return sendImageAsync(msg, null);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<SendResult> sendShareChatAsync(MessageModel msg) {
+        return sendShareChatAsync(msg, null);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<SendResult> sendMarkdownAsync(MessageModel msg) {
+        return sendMarkdownAsync(msg, null);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<SendResult> sendLinkAsync(MessageModel msg) {
+        return sendLinkAsync(msg, null);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<SendResult> sendPostAsync(MessageModel msg) {
+        return sendPostAsync(msg, null);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<SendResult> sendCardAsync(MessageModel msg) {
+        return sendCardAsync(msg, null);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public abstract CompletableFuture<SendResult> sendTextAsync(MessageModel msg, WebhookExchange exchange);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public abstract CompletableFuture<SendResult> sendMarkdownAsync(MessageModel msg, WebhookExchange exchange);
+
+    /**
+     * Image messages are not supported unless a platform sender overrides this method.
+     *
+     * @param msg      Message details.
+     * @param exchange Exchange that would perform the HTTP call.
+     * @return Completed failure result.
+     */
+    @Override
+    public CompletableFuture<SendResult> sendImageAsync(MessageModel msg, WebhookExchange exchange) {
+        return unsupported();
+    }
+
+    /**
+     * Share chat messages are not supported unless a platform sender overrides this method.
+     *
+     * @param msg      Message details.
+     * @param exchange Exchange that would perform the HTTP call.
+     * @return Completed failure result.
+     */
+    @Override
+    public CompletableFuture<SendResult> sendShareChatAsync(MessageModel msg, WebhookExchange exchange) {
+        return unsupported();
+    }
+
+    /**
+     * Link messages are not supported unless a platform sender overrides this method.
+     *
+     * @param msg      Message details.
+     * @param exchange Exchange that would perform the HTTP call.
+     * @return Completed failure result.
+     */
+    @Override
+    public CompletableFuture<SendResult> sendLinkAsync(MessageModel msg, WebhookExchange exchange) {
+        return unsupported();
+    }
+
+    /**
+     * Post messages are not supported unless a platform sender overrides this method.
+     *
+     * @param msg      Message details.
+     * @param exchange Exchange that would perform the HTTP call.
+     * @return Completed failure result.
+     */
+    @Override
+    public CompletableFuture<SendResult> sendPostAsync(MessageModel msg, WebhookExchange exchange) {
+        return unsupported();
+    }
+
+    /**
+     * Card messages are not supported unless a platform sender overrides this method.
+     *
+     * @param msg      Message details.
+     * @param exchange Exchange that would perform the HTTP call.
+     * @return Completed failure result.
+     */
+    @Override
+    public CompletableFuture<SendResult> sendCardAsync(MessageModel msg, WebhookExchange exchange) {
+        return unsupported();
+    }
+
+    /**
+     * Sends a message to the Lark API using the provided JSON body and optional headers, blocking until the
+     * webhook answers.
      *
      * @param jsonBody The request body in JSON format.
      * @param headers  Additional headers to be included in the HTTP request, if any.
      * @return A SendResult object containing either the response from the Lark API or error details.
      */
     protected SendResult sendMessage(String jsonBody, String... headers) {
+        return sendMessageAsync(jsonBody, headers).join();
+    }
+
+    /**
+     * Sends a message given as a JSON string without blocking the caller.
+     *
+     * @param jsonBody The request body in JSON format.
+     * @param headers  Additional headers to be included in the HTTP request, if any.
+     * @return Future completed with the response from the Lark API or error details.
+     * @see #sendMessageAsync(WebhookExchange, byte[], String...)
+     */
+    protected CompletableFuture<SendResult> sendMessageAsync(String jsonBody, String... headers) {
+        return sendMessageAsync(null, jsonBody == null ? null : jsonBody.getBytes(StandardCharsets.UTF_8), headers);
+    }
+
+    /**
+     * Sends a message to the Lark API without blocking the caller. The returned future never completes
+     * exceptionally: transport errors are converted to a failed {@link SendResult}. Robots with alternative base
+     * URLs send through the fastest healthy one and report the exchange back to the {@link EndpointLatencyProber}.
+     * When an exchange is given, the signed request is handed to it instead. Completing the returned future
+     * early, for example when the delivery deadline has passed, cancels the HTTP exchange still in flight.
+     *
+     * @param exchange Exchange that performs the HTTP call, or {@code null} to use the controller's client.
+     * @param jsonBody The request body as UTF-8 encoded JSON.
+     * @param headers  Additional headers to be included in the HTTP request, if any.
+     * @return Future completed with the response from the Lark API or error details.
+     */
+    protected CompletableFuture<SendResult> sendMessageAsync(WebhookExchange exchange, byte[] jsonBody,
+                                                             String... headers) {
         RobotConfigModel robotConfig = this.robotConfig;
         Boolean noSsl = robotConfig.getNoSsl();
+        if (exchange != null) {
+            return sendThroughAsync(exchange, robotConfig, noSsl != null && noSsl, jsonBody, headers);
+        }
+        HttpTransport transport;
+        HttpRequest request;
+        String baseUrl;
+        try {
+            transport = HttpTransportRegistry.getInstance()
+                    .obtain(robotConfig.getProxySelector(), noSsl != null && noSsl, robotConfig.getConnectTimeout());
+            baseUrl = selectBaseUrl(robotConfig);
+            request = this.createHttpRequest(robotConfig, baseUrl, jsonBody, headers);
+        } catch (Exception e) {
+            return CompletableFuture.completedFuture(toFailure(robotConfig, e));
+        }
+
+        long started = System.nanoTime();
+        CompletableFuture<HttpResponse<byte[]>> inFlight = transport.client()
+                .sendAsync(request, BoundedBodyHandler.ofBytes());
+        return cancelOnEarlyCompletion(inFlight
+                .thenApply(response -> {
+                    transport.record(response);
+                    if (baseUrl != null) {
+                        EndpointLatencyProber.getInstance().recordSuccess(baseUrl, System.nanoTime() - started);
+                    }
+                    return toResult(robotConfig, jsonBody, response.statusCode(), response.headers().map(),
+                            readResult(response.statusCode(), response.body()));
+                })
+                .exceptionally(e -> {
+                    Throwable cause = unwrap(e);
+                    if (baseUrl != null && cause instanceof IOException) {
+                        EndpointLatencyProber.getInstance().recordFailure(baseUrl, cause.toString());
+                    }
+                    return toFailure(robotConfig, cause);
+                }), inFlight);
+    }
+
+    /**
+     * Sends the signed request through an external exchange, such as the agent running a pipeline step. The
+     * configured webhook is used as is: endpoint latencies measured from the controller say nothing about the
+     * exchange's network.
+     */
+    private CompletableFuture<SendResult> sendThroughAsync(WebhookExchange exchange, RobotConfigModel robotConfig,
+                                                           boolean noSsl, byte[] jsonBody, String[] headers) {
+        CompletableFuture<WebhookResponse> exchanged;
+        try {
+            HttpRequest request = this.createHttpRequest(robotConfig, null, jsonBody, headers);
+            exchanged = exchange.exchange(WebhookRequest.of(request, new String(jsonBody, StandardCharsets.UTF_8),
+                    robotConfig.getConnectTimeout(), noSsl));
+        } catch (Exception e) {
+            return CompletableFuture.completedFuture(toFailure(robotConfig, e));
+        }
+        return cancelOnEarlyCompletion(exchanged
+                .thenApply(response -> toResult(robotConfig, jsonBody, response.statusCode(), response.headers(),
+                        readResult(response.statusCode(), response.body())))
+                .exceptionally(e -> toFailure(robotConfig, unwrap(e))), exchanged);
+    }
+
+    /**
+     * Cancels the exchange when the result is completed exceptionally from outside, such as by a timeout or
+     * {@code cancel}; on its own the result only ever completes normally.
+     */
+    private static CompletableFuture<SendResult> cancelOnEarlyCompletion(CompletableFuture<SendResult> result,
+                                                                         CompletableFuture<?> exchange) {
+        result.whenComplete((sendResult, error) -> {
+            if (error != null) {
+                exchange.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Completes a parsed webhook answer with the request body, status and headers, classifying failures.
+     */
+    private static SendResult toResult(RobotConfigModel robotConfig, byte[] jsonBody, int statusCode,
+                                       Map<String, List<String>> headers, SendResult sendResult) {
+        Optional.ofNullable(sendResult).ifPresent(result -> {
+            result.setEncodedRequestBody(jsonBody);
+            result.setHttpStatus(statusCode);
+            result.setHeaders(headers);
+            if (!result.isOk()) {
+                result.setFailureClass(FailureClassifier.classify(robotConfig.getRobotType(), result));
+            }
+        });
+        return sendResult;
+    }
+
+    /**
+     * Picks the base URL for the next request when the robot has alternative base URLs.
+     *
+     * @return selected base URL, or {@code null} when the configured webhook is used as is
+     */
+    private static String selectBaseUrl(RobotConfigModel robotConfig) {
+        List<String> candidates = robotConfig.getEndpointCandidates();
+        if (candidates == null || candidates.size() < 2) {
+            return null;
+        }
+        return EndpointLatencyProber.getInstance().select(candidates, robotConfig.getProxySelector());
+    }
+
+    /**
+     * Parses the webhook answer. Error responses without a JSON body (for example a gateway's HTTP 429 page)
+     * become a failed result so their status and headers still reach the caller.
+     */
+    private static SendResult readResult(int statusCode, byte[] body) {
+        boolean httpError = statusCode >= 400;
+        SendResult sendResult;
+        try {
+            sendResult = SendResultReader.read(body);
+        } catch (Exception e) {
+            if (!httpError) {
+                throw new CompletionException(e);
+            }
+            sendResult = null;
+        }
+        return httpErrorResult(statusCode, sendResult);
+    }
+
+    /**
+     * Parses a webhook answer relayed as text by an external exchange.
+     */
+    private static SendResult readResult(int statusCode, String body) {
+        boolean httpError = statusCode >= 400;
+        SendResult sendResult;
         try {
-            HttpResponse<String> response = HttpClientFactory
-                    .build(robotConfig.getProxySelector(), noSsl != null && noSsl)
-                    .send(this.createHttpRequest(robotConfig, jsonBody, headers), HttpResponse.BodyHandlers.ofString());
-
-            SendResult sendResult = JsonUtils.readValue(response.body(), SendResult.class);
-            Optional.ofNullable(sendResult).ifPresent(result -> result.setRequestBody(jsonBody));
-            return sendResult;
-        } catch (ConnectException e) {
+            sendResult = SendResultReader.read(body);
+        } catch (Exception e) {
+            if (!httpError) {
+                throw new CompletionException(e);
+            }
+            sendResult = null;
+        }
+        return httpErrorResult(statusCode, sendResult);
+    }
+
+    private static SendResult httpErrorResult(int statusCode, SendResult sendResult) {
+        if (statusCode >= 400 && (sendResult == null || sendResult.getCode() == null)) {
+            return SendResult.fail("HTTP " + statusCode);
+        }
+        return sendResult;
+    }
+
+    /**
+     * Returns the failure used for message types a platform does not support.
+     *
+     * @return Completed failure result.
+     */
+    protected static CompletableFuture<SendResult> unsupported() {
+        return CompletableFuture.completedFuture(SendResult.permanentFail("This type of message is not supported."));
+    }
+
+    /**
+     * Maps a transport error to a failed result, logging it with the same wording as before. Network errors
+     * stay retryable; malformed requests are marked permanent.
+     */
+    private static SendResult toFailure(RobotConfigModel robotConfig, Throwable e) {
+        if (e instanceof ConnectException) {
             log.error("Connection refused or unable to establish: {}, Webhook URL: {}", e.getMessage(), robotConfig.getWebhook(), e);
             return SendResult.fail("Connection refused or unable to establish: " + e.getMessage());
-        } catch (IOException e) {
+        }
+        if (e instanceof IOException) {
             log.error("IO error occurred while sending Lark message: {}", e.getMessage(), e);
             return SendResult.fail("IO error: " + e.getMessage());
-        } catch (Exception e) {
-            log.error("Failed to send Lark message", e);
-            return SendResult.fail(e.getMessage());
         }
+        log.error("Failed to send Lark message", e);
+        if (e instanceof IllegalArgumentException) {
+            // malformed webhook URL or header; the same request would fail again
+            return SendResult.permanentFail(e.getMessage());
+        }
+        return SendResult.fail(e.getMessage());
+    }
+
+    private static Throwable unwrap(Throwable e) {
+        Throwable current = e;
+        while (current instanceof CompletionException && current.getCause() != null) {
+            current = current.getCause();
+        }
+        return current;
     }
 
     /**
      * Constructs an HttpRequest to send a message to the Lark API.
      *
      * @param robotConfig Configuration details of the robot, including the webhook URL.
-     * @param jsonBody    The JSON-formatted body of the message to be sent.
+     * @param baseUrl     Base URL to send through instead of the webhook's own, or {@code null}.
+     * @param jsonBody    The UTF-8 encoded JSON body of the message to be sent.
      * @param headers     Optional HTTP headers to include in the request. For DingTalk robots, specific headers can modify the webhook URL.
      * @return A configured HttpRequest ready to be sent.
      */
-    private HttpRequest createHttpRequest(RobotConfigModel robotConfig, String jsonBody, String[] headers) {
+    private HttpRequest createHttpRequest(RobotConfigModel robotConfig, String baseUrl, byte[] jsonBody,
+                                          String[] headers) {
+        String webhook = baseUrl == null ? robotConfig.getWebhook()
+                : RobotWebhookResolver.rebase(robotConfig.getWebhook(), baseUrl);
         HttpRequest.Builder builder = HttpRequest.newBuilder()
-                .uri(URI.create(robotConfig.getWebhook())).timeout(DEFAULT_TIMEOUT)
+                .uri(URI.create(webhook))
+                .timeout(Objects.requireNonNullElse(robotConfig.getReadTimeout(), DEFAULT_TIMEOUT))
                 .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
-                .POST(HttpRequest.BodyPublishers.ofString(jsonBody));
+                .POST(HttpRequest.BodyPublishers.ofByteArray(jsonBody));
 
         configureCustomHeaders(builder, robotConfig, headers);
 
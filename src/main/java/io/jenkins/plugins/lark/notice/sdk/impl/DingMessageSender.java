@@ -2,16 +2,17 @@ package io.jenkins.plugins.lark.notice.sdk.impl;
 
 import io.jenkins.plugins.lark.notice.model.MessageModel;
 import io.jenkins.plugins.lark.notice.model.RobotConfigModel;
+import io.jenkins.plugins.lark.notice.sdk.WebhookExchange;
 import io.jenkins.plugins.lark.notice.sdk.model.SendResult;
 import io.jenkins.plugins.lark.notice.sdk.model.ding.DingCardMessage;
 import io.jenkins.plugins.lark.notice.sdk.model.ding.DingLinkMessage;
 import io.jenkins.plugins.lark.notice.sdk.model.ding.DingMdMessage;
 import io.jenkins.plugins.lark.notice.sdk.model.ding.DingTextMessage;
-import io.jenkins.plugins.lark.notice.tools.JsonUtils;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 /**
@@ -40,51 +41,55 @@ public class DingMessageSender extends AbstractMessageSender {
     /**
      * Sends a text message.
      *
-     * @param msg Message details.
-     * @return Result of the send operation.
+     * @param msg      Message details.
+     * @param exchange exchange that performs the HTTP call, or {@code null} to use the sender's own client
+     * @return Future completed with the result of the send operation.
      */
     @Override
-    public SendResult sendText(MessageModel msg) {
+    public CompletableFuture<SendResult> sendTextAsync(MessageModel msg, WebhookExchange exchange) {
         String text = addKeyWord(msg.getText(), robotConfig.getKeys());
         DingTextMessage message = DingTextMessage.build(msg.getAt(), text);
-        return sendMessage(JsonUtils.toJson(message), signHeaders());
+        return sendMessageAsync(exchange, SignedPayloadEncoder.encode(message), signHeaders());
     }
 
     /**
      * Sends a markdown message.
      *
-     * @param msg Message details.
-     * @return Result of the send operation.
+     * @param msg      Message details.
+     * @param exchange exchange that performs the HTTP call, or {@code null} to use the sender's own client
+     * @return Future completed with the result of the send operation.
      */
     @Override
-    public SendResult sendMarkdown(MessageModel msg) {
+    public CompletableFuture<SendResult> sendMarkdownAsync(MessageModel msg, WebhookExchange exchange) {
         String text = addKeyWord(msg.getText(), robotConfig.getKeys());
         DingMdMessage message = DingMdMessage.build(msg.getAt(), msg.getTitle(), text);
-        return sendMessage(JsonUtils.toJson(message), signHeaders());
+        return sendMessageAsync(exchange, SignedPayloadEncoder.encode(message), signHeaders());
     }
 
     /**
      * Sends a link message.
      *
-     * @param msg Message details.
-     * @return Failure result.
+     * @param msg      Message details.
+     * @param exchange exchange that performs the HTTP call, or {@code null} to use the sender's own client
+     * @return Future completed with the result of the send operation.
      */
     @Override
-    public SendResult sendLink(MessageModel msg) {
+    public CompletableFuture<SendResult> sendLinkAsync(MessageModel msg, WebhookExchange exchange) {
         String text = addKeyWord(msg.getText(), robotConfig.getKeys());
         DingLinkMessage message = DingLinkMessage.build(msg.getAt(), msg.getTitle(), text,
                 msg.getPicUrl(), msg.getMessageUrl());
-        return sendMessage(JsonUtils.toJson(message), signHeaders());
+        return sendMessageAsync(exchange, SignedPayloadEncoder.encode(message), signHeaders());
     }
 
     /**
      * Sends a card message.
      *
-     * @param msg Message details.
-     * @return Failure result.
+     * @param msg      Message details.
+     * @param exchange exchange that performs the HTTP call, or {@code null} to use the sender's own client
+     * @return Future completed with the result of the send operation.
      */
     @Override
-    public SendResult sendCard(MessageModel msg) {
+    public CompletableFuture<SendResult> sendCardAsync(MessageModel msg, WebhookExchange exchange) {
         DingCardMessage message;
         String text = addKeyWord(msg.getText(), robotConfig.getKeys());
         String singleTitle = msg.getSingleTitle();
@@ -96,7 +101,7 @@ public class DingMessageSender extends AbstractMessageSender {
                     .collect(Collectors.toList());
             message = DingCardMessage.build(msg.getAt(), msg.getTitle(), text, msg.getBtnOrientation(), buttons);
         }
-        return sendMessage(JsonUtils.toJson(message), signHeaders());
+        return sendMessageAsync(exchange, SignedPayloadEncoder.encode(message), signHeaders());
     }
 
 }
@@ -1,14 +1,16 @@
 package io.jenkins.plugins.lark.notice.sdk.impl;
 
-import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.jenkins.plugins.lark.notice.model.MessageModel;
 import io.jenkins.plugins.lark.notice.model.RobotConfigModel;
+import io.jenkins.plugins.lark.notice.sdk.WebhookExchange;
 import io.jenkins.plugins.lark.notice.sdk.model.SendResult;
 import io.jenkins.plugins.lark.notice.sdk.model.lark.*;
 import io.jenkins.plugins.lark.notice.sdk.model.lark.support.Card;
 import io.jenkins.plugins.lark.notice.tools.JsonUtils;
 import org.apache.commons.lang3.StringUtils;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Lark implementation for sending Lark messages.
  *
@@ -24,101 +26,102 @@ public class LarkMessageSender extends AbstractMessageSender {
      * Constructs the request parameters for the Lark API.
      *
      * @param message The message content.
-     * @return The request parameters for the Lark API.
+     * @return The request parameters for the Lark API, as UTF-8 encoded JSON.
      */
-    protected String signToJson(Object message) {
-        ObjectNode objectNode = JsonUtils.valueToTree(message);
+    protected byte[] signToJson(Object message) {
         if (StringUtils.isNotBlank(robotConfig.getSign())) {
             long timestamp = System.currentTimeMillis() / 1000L;
-            objectNode.put("timestamp", String.valueOf(timestamp));
-            objectNode.put("sign", robotConfig.createSign(timestamp));
-            return JsonUtils.toJson(objectNode);
+            return SignedPayloadEncoder.encode(message, String.valueOf(timestamp), robotConfig.createSign(timestamp));
         }
-        return JsonUtils.toJson(objectNode);
+        return SignedPayloadEncoder.encode(message);
     }
 
     /**
      * Sends a text message.
      *
-     * @param msg The message content.
-     * @return The send result.
+     * @param msg      The message content.
+     * @param exchange exchange that performs the HTTP call, or {@code null} to use the sender's own client
+     * @return Future completed with the send result.
      */
     @Override
-    public SendResult sendText(MessageModel msg) {
+    public CompletableFuture<SendResult> sendTextAsync(MessageModel msg, WebhookExchange exchange) {
         String text = addKeyWord(msg.getText(), robotConfig.getKeys());
         LarkTextMessage message = LarkTextMessage.build(msg.getAt(), text);
-        return sendMessage(signToJson(message));
+        return sendMessageAsync(exchange, signToJson(message));
     }
 
     /**
      * Sends an image message.
      *
-     * @param msg The message content.
-     * @return The send result.
+     * @param msg      The message content.
+     * @param exchange exchange that performs the HTTP call, or {@code null} to use the sender's own client
+     * @return Future completed with the send result.
      */
     @Override
-    public SendResult sendImage(MessageModel msg) {
+    public CompletableFuture<SendResult> sendImageAsync(MessageModel msg, WebhookExchange exchange) {
         String text = msg.getText();
         LarkImageMessage message = LarkImageMessage.build(text);
-        return sendMessage(signToJson(message));
+        return sendMessageAsync(exchange, signToJson(message));
     }
 
     /**
      * Sends a shared chat message.
      *
-     * @param msg The message content.
-     * @return The send result.
+     * @param msg      The message content.
+     * @param exchange exchange that performs the HTTP call, or {@code null} to use the sender's own client
+     * @return Future completed with the send result.
      */
     @Override
-    public SendResult sendShareChat(MessageModel msg) {
+    public CompletableFuture<SendResult> sendShareChatAsync(MessageModel msg, WebhookExchange exchange) {
         String text = msg.getText();
         LarkShareChatMessage message = LarkShareChatMessage.build(text);
-        return sendMessage(signToJson(message));
+        return sendMessageAsync(exchange, signToJson(message));
     }
 
     /**
      * Sends a markdown message.
      *
-     * @param msg The message content encapsulated in a MessageModel object.
-     * @return SendResult object containing the result of the send operation.
+     * @param msg      The message content encapsulated in a MessageModel object.
+     * @param exchange exchange that performs the HTTP call, or {@code null} to use the sender's own client
+     * @return Future completed with the result of the send operation.
      */
     @Override
-    public SendResult sendMarkdown(MessageModel msg) {
-        msg.setTitle(addKeyWord(msg.getTitle(), robotConfig.getKeys()));
-        LarkCardMessage message = LarkCardMessage.build(msg);
-        return sendMessage(signToJson(message));
+    public CompletableFuture<SendResult> sendMarkdownAsync(MessageModel msg, WebhookExchange exchange) {
+        LarkCardMessage message = LarkCardMessage.build(msg, addKeyWord(msg.getTitle(), robotConfig.getKeys()));
+        return sendMessageAsync(exchange, signToJson(message));
     }
 
     /**
      * Sends a rich text message.
      *
-     * @param msg The message content.
-     * @return The send result.
+     * @param msg      The message content.
+     * @param exchange exchange that performs the HTTP call, or {@code null} to use the sender's own client
+     * @return Future completed with the send result.
      */
     @Override
-    public SendResult sendPost(MessageModel msg) {
+    public CompletableFuture<SendResult> sendPostAsync(MessageModel msg, WebhookExchange exchange) {
         String title = addKeyWord(msg.getTitle(), robotConfig.getKeys());
         LarkPostMessage message = LarkPostMessage.build(title, msg.getText());
-        return sendMessage(signToJson(message));
+        return sendMessageAsync(exchange, signToJson(message));
     }
 
     /**
      * Sends a card message.
      *
-     * @param msg Message details.
-     * @return Failure result.
+     * @param msg      Message details.
+     * @param exchange exchange that performs the HTTP call, or {@code null} to use the sender's own client
+     * @return Future completed with the result of the send operation.
      */
     @Override
-    public SendResult sendCard(MessageModel msg) {
+    public CompletableFuture<SendResult> sendCardAsync(MessageModel msg, WebhookExchange exchange) {
         String text = msg.getText();
         if (JsonUtils.isValidJson(text)) {
             Card card = JsonUtils.readValue(text, Card.class);
             LarkCardMessage message = new LarkCardMessage(card);
-            return sendMessage(signToJson(message));
+            return sendMessageAsync(exchange, signToJson(message));
         }
-        msg.setTitle(addKeyWord(msg.getTitle(), robotConfig.getKeys()));
-        LarkCardMessage message = LarkCardMessage.build(msg);
-        return sendMessage(signToJson(message));
+        LarkCardMessage message = LarkCardMessage.build(msg, addKeyWord(msg.getTitle(), robotConfig.getKeys()));
+        return sendMessageAsync(exchange, signToJson(message));
     }
 
 }
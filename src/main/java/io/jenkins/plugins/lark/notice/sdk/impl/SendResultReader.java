@@ -0,0 +1,115 @@
+package io.jenkins.plugins.lark.notice.sdk.impl;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import io.jenkins.plugins.lark.notice.sdk.model.SendResult;
+import io.jenkins.plugins.lark.notice.tools.JsonUtils;
+
+import java.io.IOException;
+
+/**
+ * Reads the result fields of a webhook answer with a streaming parser.
+ *
+ * <p>Only {@code code}/{@code errcode} and {@code msg}/{@code errmsg} are of interest, so the parser walks the
+ * top-level object, skips every other value without building it, and stops as soon as both fields are known.
+ * A body cut off by {@link io.jenkins.plugins.lark.notice.sdk.BoundedBodyHandler} still yields a result when
+ * the code came before the cut.</p>
+ *
+ * @author xm.z
+ */
+public final class SendResultReader {
+
+    private SendResultReader() {
+    }
+
+    /**
+     * Reads a result from UTF-8 JSON bytes.
+     *
+     * @param body response body
+     * @return parsed result, or {@code null} when the body is empty
+     * @throws IOException when the body is not a JSON object carrying a code
+     */
+    public static SendResult read(byte[] body) throws IOException {
+        if (body == null || isBlank(body)) {
+            return null;
+        }
+        try (JsonParser parser = JsonUtils.createParser(body, 0, body.length)) {
+            return read(parser);
+        }
+    }
+
+    /**
+     * Reads a result from a JSON string, as returned by an agent or relay exchange.
+     *
+     * @param body response body
+     * @return parsed result, or {@code null} when the body is blank
+     * @throws IOException when the body is not a JSON object carrying a code
+     */
+    public static SendResult read(String body) throws IOException {
+        if (body == null || body.isBlank()) {
+            return null;
+        }
+        try (JsonParser parser = JsonUtils.createParser(body)) {
+            return read(parser);
+        }
+    }
+
+    private static SendResult read(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Webhook response is not a JSON object");
+        }
+        Integer code = null;
+        String msg = null;
+        boolean msgSeen = false;
+        try {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (name) {
+                    case "code", "errcode" -> code = readCode(parser, value);
+                    case "msg", "errmsg" -> {
+                        msg = value.isScalarValue() ? parser.getValueAsString() : null;
+                        msgSeen = true;
+                        parser.skipChildren();
+                    }
+                    default -> parser.skipChildren();
+                }
+                if (code != null && msgSeen) {
+                    break;
+                }
+            }
+        } catch (JsonProcessingException e) {
+            if (code == null) {
+                throw e;
+            }
+            // truncated or malformed after the fields that matter
+        }
+        return new SendResult(code, msg, null);
+    }
+
+    private static Integer readCode(JsonParser parser, JsonToken value) throws IOException {
+        if (value == JsonToken.VALUE_NUMBER_INT) {
+            return parser.getIntValue();
+        }
+        if (value == JsonToken.VALUE_STRING) {
+            try {
+                return Integer.valueOf(parser.getText().trim());
+            } catch (NumberFormatException e) {
+                throw new JsonParseException(parser, "Webhook response code is not a number: " + parser.getText());
+            }
+        }
+        parser.skipChildren();
+        return null;
+    }
+
+    private static boolean isBlank(byte[] body) {
+        for (byte b : body) {
+            if (!Character.isWhitespace(b)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
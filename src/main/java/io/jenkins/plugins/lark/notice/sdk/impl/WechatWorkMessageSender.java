@@ -2,6 +2,7 @@ package io.jenkins.plugins.lark.notice.sdk.impl;
 
 import io.jenkins.plugins.lark.notice.model.MessageModel;
 import io.jenkins.plugins.lark.notice.model.RobotConfigModel;
+import io.jenkins.plugins.lark.notice.sdk.WebhookExchange;
 import io.jenkins.plugins.lark.notice.sdk.model.SendResult;
 import io.jenkins.plugins.lark.notice.sdk.model.wechat.WechatWorkMarkdownMessage;
 import io.jenkins.plugins.lark.notice.sdk.model.wechat.WechatWorkTemplateCardMessage;
@@ -10,6 +11,8 @@ import io.jenkins.plugins.lark.notice.tools.JsonUtils;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 
+import java.util.concurrent.CompletableFuture;
+
 import static io.jenkins.plugins.lark.notice.sdk.constant.Constants.LF;
 
 /**
@@ -25,64 +28,69 @@ public class WechatWorkMessageSender extends AbstractMessageSender {
     /**
      * Sends a text message.
      *
-     * @param msg Message details.
-     * @return Result of the send operation.
+     * @param msg      Message details.
+     * @param exchange exchange that performs the HTTP call, or {@code null} to use the sender's own client
+     * @return Future completed with the result of the send operation.
      */
     @Override
-    public SendResult sendText(MessageModel msg) {
+    public CompletableFuture<SendResult> sendTextAsync(MessageModel msg, WebhookExchange exchange) {
         String text = addKeyWord(msg.getText(), robotConfig.getKeys());
         WechatWorkTextMessage message = WechatWorkTextMessage.build(msg.getAt(), text);
-        return sendMessage(JsonUtils.toJson(message));
+        return sendMessageAsync(exchange, JsonUtils.toJsonBytes(message));
     }
 
     /**
      * Sends a markdown message.
      *
-     * @param msg Message details.
-     * @return Result of the send operation.
+     * @param msg      Message details.
+     * @param exchange exchange that performs the HTTP call, or {@code null} to use the sender's own client
+     * @return Future completed with the result of the send operation.
      */
     @Override
-    public SendResult sendMarkdown(MessageModel msg) {
+    public CompletableFuture<SendResult> sendMarkdownAsync(MessageModel msg, WebhookExchange exchange) {
         String text = addKeyWord(msg.getText(), robotConfig.getKeys());
         WechatWorkMarkdownMessage message = WechatWorkMarkdownMessage.build(msg.getAt(), withTitle(msg.getTitle(), text));
-        return sendMessage(JsonUtils.toJson(message));
+        return sendMessageAsync(exchange, JsonUtils.toJsonBytes(message));
     }
 
     /**
      * Sends a WeCom news-notice template card for the plugin's default card model.
      *
-     * @param msg Message details.
-     * @return Result of the send operation.
+     * @param msg      Message details.
+     * @param exchange exchange that performs the HTTP call, or {@code null} to use the sender's own client
+     * @return Future completed with the result of the send operation.
      */
     @Override
-    public SendResult sendCard(MessageModel msg) {
+    public CompletableFuture<SendResult> sendCardAsync(MessageModel msg, WebhookExchange exchange) {
         String text = addKeyWord(msg.getText(), robotConfig.getKeys());
         WechatWorkTemplateCardMessage message = WechatWorkTemplateCardMessage.build(msg, text);
-        return sendMessage(JsonUtils.toJson(message));
+        return sendMessageAsync(exchange, JsonUtils.toJsonBytes(message));
     }
 
     /**
      * WeCom group robots do not support the plugin's link message model. Send a markdown fallback.
      *
-     * @param msg Message details.
-     * @return Result of the send operation.
+     * @param msg      Message details.
+     * @param exchange exchange that performs the HTTP call, or {@code null} to use the sender's own client
+     * @return Future completed with the result of the send operation.
      */
     @Override
-    public SendResult sendLink(MessageModel msg) {
+    public CompletableFuture<SendResult> sendLinkAsync(MessageModel msg, WebhookExchange exchange) {
         log.debug("WeCom does not support link messages; falling back to markdown");
-        return sendMarkdown(msg);
+        return sendMarkdownAsync(msg, exchange);
     }
 
     /**
      * WeCom group robots do not support the plugin's rich post model. Send a markdown fallback.
      *
-     * @param msg Message details.
-     * @return Result of the send operation.
+     * @param msg      Message details.
+     * @param exchange exchange that performs the HTTP call, or {@code null} to use the sender's own client
+     * @return Future completed with the result of the send operation.
      */
     @Override
-    public SendResult sendPost(MessageModel msg) {
+    public CompletableFuture<SendResult> sendPostAsync(MessageModel msg, WebhookExchange exchange) {
         log.debug("WeCom does not support post messages; falling back to markdown");
-        return sendMarkdown(msg);
+        return sendMarkdownAsync(msg, exchange);
     }
 
     private static String withTitle(String title, String text) {
@@ -1,11 +1,19 @@
 package io.jenkins.plugins.lark.notice.sdk.model;
 
 import com.fasterxml.jackson.annotation.JsonAlias;
-import lombok.AllArgsConstructor;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import io.jenkins.plugins.lark.notice.sdk.FailureClass;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
 
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 
 /**
  * SendResult is a utility class that encapsulates the result of a send operation.
@@ -16,7 +24,6 @@ import java.util.Objects;
  */
 @Data
 @NoArgsConstructor
-@AllArgsConstructor
 public class SendResult {
 
     /**
@@ -39,6 +46,58 @@ public class SendResult {
      */
     private String requestBody;
 
+    /**
+     * UTF-8 request body as it went over the wire; decoded into {@link #requestBody} only when the text is read.
+     */
+    @JsonIgnore
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private byte[] encodedRequestBody;
+
+    /**
+     * HTTP status of the webhook response; {@code null} when no response was received.
+     */
+    @JsonIgnore
+    private Integer httpStatus;
+
+    /**
+     * HTTP headers of the webhook response; {@code null} when no response was received.
+     */
+    @JsonIgnore
+    private Map<String, List<String>> headers;
+
+    /**
+     * Failure class assigned by the sender; {@code null} for successes or when not yet classified.
+     */
+    @JsonIgnore
+    private FailureClass failureClass;
+
+    /**
+     * Id of the robot that delivered the message; differs from the requested robot after a failover and stays
+     * {@code null} when no robot delivered it.
+     */
+    @JsonIgnore
+    private String deliveredBy;
+
+    /**
+     * Whether this result answers a duplicate message that was not sent again.
+     */
+    @JsonIgnore
+    private boolean deduplicated;
+
+    /**
+     * Creates a result with the given code, message and request body.
+     *
+     * @param code        response code, {@code 0} for success
+     * @param msg         response message
+     * @param requestBody request body that was sent, may be {@code null}
+     */
+    public SendResult(Integer code, String msg, String requestBody) {
+        this.code = code;
+        this.msg = msg;
+        this.requestBody = requestBody;
+    }
+
     /**
      * Creates a failure SendResult instance with a specified message.
      * This is a convenience static method for quickly creating failure results.
@@ -50,6 +109,64 @@ public class SendResult {
         return new SendResult(-1, msg, null);
     }
 
+    /**
+     * Creates a failure that retrying cannot fix, such as an unsupported message type.
+     *
+     * @param msg the failure message to be associated with the result.
+     * @return a SendResult instance representing a permanently failed operation.
+     */
+    public static SendResult permanentFail(String msg) {
+        SendResult result = fail(msg);
+        result.setFailureClass(FailureClass.PERMANENT);
+        return result;
+    }
+
+    /**
+     * Returns the request body that was sent, decoding the wire bytes on first access.
+     *
+     * @return request body, or {@code null} when nothing was sent
+     */
+    public String getRequestBody() {
+        if (requestBody == null && encodedRequestBody != null) {
+            requestBody = new String(encodedRequestBody, StandardCharsets.UTF_8);
+        }
+        return requestBody;
+    }
+
+    /**
+     * Sets the request body that was sent.
+     *
+     * @param requestBody request body, may be {@code null}
+     */
+    public void setRequestBody(String requestBody) {
+        this.requestBody = requestBody;
+        this.encodedRequestBody = null;
+    }
+
+    /**
+     * Records the UTF-8 request body as sent, without decoding it.
+     *
+     * @param encodedRequestBody request body bytes, may be {@code null}
+     */
+    @JsonIgnore
+    public void setEncodedRequestBody(byte[] encodedRequestBody) {
+        this.encodedRequestBody = encodedRequestBody;
+        this.requestBody = null;
+    }
+
+    /**
+     * Returns the size of the request body in bytes, without decoding it.
+     *
+     * @return request size, {@code 0} when nothing was sent
+     */
+    @JsonIgnore
+    public int getRequestSize() {
+        if (encodedRequestBody != null) {
+            return encodedRequestBody.length;
+        }
+        return requestBody == null ? 0 : requestBody.getBytes(StandardCharsets.UTF_8).length;
+    }
+
     /**
      * Checks if the operation represented by this SendResult instance was successful.
      * Success is defined as having a response code equal to 0.
@@ -60,4 +177,20 @@ public class SendResult {
         return Objects.nonNull(this.getCode()) && this.getCode() == 0;
     }
 
+    /**
+     * Returns the first value of a response header, matching the name case-insensitively.
+     *
+     * @param name header name
+     * @return header value, or empty when absent
+     */
+    public Optional<String> header(String name) {
+        if (headers == null || name == null) {
+            return Optional.empty();
+        }
+        return headers.entrySet().stream()
+                .filter(entry -> name.equalsIgnoreCase(entry.getKey()))
+                .flatMap(entry -> entry.getValue().stream())
+                .findFirst();
+    }
+
 }
\ No newline at end of file
@@ -23,10 +23,21 @@ public class LarkCardMessage extends BaseLarkMessage {
     }
 
     public static LarkCardMessage build(MessageModel msg) {
+        return build(msg, msg.getTitle());
+    }
+
+    /**
+     * Renders a card from the message with the given header title, leaving the message itself untouched.
+     *
+     * @param msg   message to render
+     * @param title card header title, for example the message title with the robot keyword added
+     * @return card message
+     */
+    public static LarkCardMessage build(MessageModel msg, String title) {
         String markdownContent = addAtInfo(msg.getText(), msg.getAt());
 
         Card card = new LarkCardBuilder()
-                .withHeader(msg.obtainHeaderTemplate(), msg.getTitle())
+                .withHeader(msg.obtainHeaderTemplate(), title)
                 .withImage(msg.getTopImg())
                 .withMarkdown(markdownContent)
                 .withImage(msg.getBottomImg())
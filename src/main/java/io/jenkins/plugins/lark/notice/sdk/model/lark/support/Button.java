@@ -1,25 +1,37 @@
 package io.jenkins.plugins.lark.notice.sdk.model.lark.support;
 
-import lombok.Data;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
 import org.apache.commons.lang3.StringUtils;
 
 /**
  * Button
  *
+ * <p>Immutable, so the buttons of one message can be shared by every robot it is sent to.</p>
+ *
  * @author xm.z
  */
-@Data
-public class Button {
+@Getter
+@ToString
+@EqualsAndHashCode
+@JsonIgnoreProperties(ignoreUnknown = true)
+public final class Button {
 
-    private String tag = "button";
+    private final String tag = "button";
 
-    private String url;
+    private final String url;
 
-    private String type;
+    private final String type;
 
-    private String text;
+    private final String text;
 
-    public Button(String content, String url, String type) {
+    @JsonCreator
+    public Button(@JsonProperty("text") String content, @JsonProperty("url") String url,
+                  @JsonProperty("type") String type) {
         this.url = url;
         this.text = content;
         this.type = StringUtils.defaultIfBlank(type, "primary_filled");
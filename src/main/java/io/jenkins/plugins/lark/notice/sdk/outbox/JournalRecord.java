@@ -0,0 +1,50 @@
+package io.jenkins.plugins.lark.notice.sdk.outbox;
+
+/**
+ * One line of the outbox journal.
+ *
+ * @param op    journal operation
+ * @param id    affected entry id
+ * @param entry full entry for {@link Op#PUT} and {@link Op#RETRY}, {@code null} otherwise
+ * @author xm.z
+ */
+record JournalRecord(Op op, String id, OutboxEntry entry) {
+
+    static JournalRecord put(OutboxEntry entry) {
+        return new JournalRecord(Op.PUT, entry.id(), entry);
+    }
+
+    static JournalRecord retry(OutboxEntry entry) {
+        return new JournalRecord(Op.RETRY, entry.id(), entry);
+    }
+
+    static JournalRecord ack(String id) {
+        return new JournalRecord(Op.ACK, id, null);
+    }
+
+    static JournalRecord dead(String id) {
+        return new JournalRecord(Op.DEAD, id, null);
+    }
+
+    /**
+     * Journal operations; replaying them in file order rebuilds the pending set.
+     */
+    enum Op {
+        /**
+         * Message journaled before its first send.
+         */
+        PUT,
+        /**
+         * Failed delivery rescheduled with a new attempt count.
+         */
+        RETRY,
+        /**
+         * Message delivered; the entry is no longer pending.
+         */
+        ACK,
+        /**
+         * Message moved to the dead-letter file.
+         */
+        DEAD
+    }
+}
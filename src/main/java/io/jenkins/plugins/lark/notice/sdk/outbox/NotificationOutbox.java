@@ -0,0 +1,599 @@
+package io.jenkins.plugins.lark.notice.sdk.outbox;
+
+import io.jenkins.plugins.lark.notice.config.LarkGlobalConfig;
+import io.jenkins.plugins.lark.notice.model.MessageModel;
+import io.jenkins.plugins.lark.notice.sdk.FailureClass;
+import io.jenkins.plugins.lark.notice.sdk.FailureClassifier;
+import io.jenkins.plugins.lark.notice.sdk.model.SendResult;
+import io.jenkins.plugins.lark.notice.tools.JsonUtils;
+import jenkins.model.Jenkins;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Append-only journal of robot messages kept under {@code JENKINS_HOME/lark-notice/outbox}.
+ *
+ * <p>Messages are journaled before they are sent and acknowledged once a send succeeds, so a controller
+ * restart or a long outage does not lose them. The journal is a sequence of NDJSON segment files; each line is
+ * a {@link JournalRecord}. Writes are not forced one by one: a shared timer flushes dirty segments every
+ * {@value #FLUSH_INTERVAL_MS} ms, bounding what a power loss can cost without putting an fsync on every send.</p>
+ *
+ * <p>An entry is leased while a send for it is running, whether the inline send that journaled it or a drainer
+ * replay, and {@link #due(int)} skips leased entries until the send settles. Leases live in memory only: nothing
+ * is in flight in a fresh process, so every pending entry is eligible again after a restart.</p>
+ *
+ * <p>When the active segment outgrows {@value #SEGMENT_BYTES} bytes, and once on startup, the outbox compacts:
+ * it writes the live entries into a fresh segment, forces it and deletes the older ones. Entries that fail
+ * more than {@value #MAX_REPLAYS} times are moved to a separate dead-letter file until an administrator
+ * replays them. At most {@value #MAX_DEAD_LETTERS} dead letters are kept, the oldest being dropped first, and
+ * the dead-letter file is rewritten once stale records make up half of it.</p>
+ *
+ * @author xm.z
+ */
+@Slf4j
+public class NotificationOutbox {
+
+    /**
+     * Size after which the active segment is compacted into a new one.
+     */
+    static final long SEGMENT_BYTES = 4L * 1024 * 1024;
+
+    /**
+     * Interval between batched fsync calls.
+     */
+    static final long FLUSH_INTERVAL_MS = 200L;
+
+    /**
+     * Failed deliveries after which an entry becomes a dead letter.
+     */
+    static final int MAX_REPLAYS = 12;
+
+    /**
+     * Dead letters kept before the oldest ones are dropped.
+     */
+    static final int MAX_DEAD_LETTERS = 1000;
+
+    /**
+     * Spacing between dead letters re-queued by one bulk replay.
+     */
+    static final long REPLAY_SPACING_MS = 500L;
+
+    private static final long BASE_BACKOFF_MS = TimeUnit.MINUTES.toMillis(1);
+
+    private static final long MAX_BACKOFF_MS = TimeUnit.HOURS.toMillis(1);
+
+    private static final String SEGMENT_PREFIX = "segment-";
+
+    private static final String SEGMENT_SUFFIX = ".ndjson";
+
+    private static final String DEAD_LETTER_FILE = "dead-letter.ndjson";
+
+    private static final ScheduledExecutorService FLUSHER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "lark-notice-outbox-flush");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static volatile NotificationOutbox instance;
+
+    private final Path directory;
+
+    private final Map<String, OutboxEntry> pending = new LinkedHashMap<>();
+
+    private final Map<String, OutboxEntry> deadLetters = new LinkedHashMap<>();
+
+    private final Set<String> leased = new HashSet<>();
+
+    private final List<Path> segments = new ArrayList<>();
+
+    private final ScheduledFuture<?> flushTask;
+
+    private FileChannel current;
+
+    private long currentBytes;
+
+    private long rollThreshold = SEGMENT_BYTES;
+
+    private int lastSegmentIndex;
+
+    private boolean dirty;
+
+    private int deadLetterRecords;
+
+    private long journaled;
+
+    private long acked;
+
+    private long replayed;
+
+    private long compactions;
+
+    /**
+     * Opens the outbox stored in the given directory and replays its journal.
+     *
+     * @param directory journal directory, created when missing
+     */
+    NotificationOutbox(Path directory) {
+        this.directory = directory;
+        synchronized (this) {
+            try {
+                Files.createDirectories(directory);
+                load();
+                compact();
+            } catch (IOException e) {
+                log.warn("Failed to open notification outbox at {}", directory, e);
+            }
+        }
+        this.flushTask = FLUSHER.scheduleWithFixedDelay(this::flushQuietly,
+                FLUSH_INTERVAL_MS, FLUSH_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Returns the shared outbox, opening the journal under {@code JENKINS_HOME} on first use.
+     *
+     * @return singleton outbox
+     */
+    public static NotificationOutbox getInstance() {
+        NotificationOutbox outbox = instance;
+        if (outbox == null) {
+            synchronized (NotificationOutbox.class) {
+                outbox = instance;
+                if (outbox == null) {
+                    outbox = new NotificationOutbox(
+                            Jenkins.get().getRootDir().toPath().resolve("lark-notice").resolve("outbox"));
+                    instance = outbox;
+                }
+            }
+        }
+        return outbox;
+    }
+
+    /**
+     * Returns whether durable delivery is enabled in the global configuration.
+     *
+     * @return {@code true} when messages should be journaled
+     */
+    public static boolean isEnabled() {
+        if (Jenkins.getInstanceOrNull() == null) {
+            return false;
+        }
+        LarkGlobalConfig globalConfig = LarkGlobalConfig.getInstance();
+        return globalConfig != null && globalConfig.getDeliveryQueueConfig().isDurable();
+    }
+
+    /**
+     * Journals a message before its first send and leases it to that send until it is settled or
+     * {@linkplain #release(String) released}.
+     *
+     * @param robotId target robot id
+     * @param message message payload
+     * @return entry id to settle after the send, or {@code null} when the journal could not be written
+     */
+    public synchronized String append(String robotId, MessageModel message) {
+        long now = System.currentTimeMillis();
+        OutboxEntry entry = new OutboxEntry(UUID.randomUUID().toString(), robotId, message, now, 0, now, null);
+        try {
+            write(JournalRecord.put(entry));
+            pending.put(entry.id(), entry);
+            leased.add(entry.id());
+            journaled++;
+            return entry.id();
+        } catch (IOException e) {
+            log.warn("Failed to journal notification for robot {}", robotId, e);
+            return null;
+        }
+    }
+
+    /**
+     * Records the outcome of a send: successful entries are acknowledged, permanent failures go straight to the
+     * dead letters and other failures are rescheduled.
+     *
+     * @param id     entry id returned by {@link #append(String, MessageModel)}, may be {@code null}
+     * @param result send result
+     * @return the given result, for use in future chains
+     */
+    public SendResult settle(String id, SendResult result) {
+        if (id == null) {
+            return result;
+        }
+        if (result != null && result.isOk()) {
+            ack(id);
+        } else if (FailureClassifier.classify(null, result) == FailureClass.PERMANENT) {
+            bury(id, result.getMsg());
+        } else {
+            retry(id, result == null ? null : result.getMsg());
+        }
+        return result;
+    }
+
+    /**
+     * Ends the lease on an entry whose send stopped without a result, leaving its schedule unchanged.
+     *
+     * @param id entry id, may be {@code null}
+     */
+    public synchronized void release(String id) {
+        leased.remove(id);
+    }
+
+    /**
+     * Marks an entry as delivered.
+     *
+     * @param id entry id
+     */
+    public synchronized void ack(String id) {
+        leased.remove(id);
+        if (pending.remove(id) == null) {
+            return;
+        }
+        acked++;
+        try {
+            write(JournalRecord.ack(id));
+        } catch (IOException e) {
+            log.warn("Failed to acknowledge outbox entry {}", id, e);
+        }
+    }
+
+    /**
+     * Reschedules a failed entry with exponential backoff, or moves it to the dead letters once its replays
+     * are exhausted.
+     *
+     * @param id    entry id
+     * @param error failure description, may be {@code null}
+     */
+    public synchronized void retry(String id, String error) {
+        leased.remove(id);
+        OutboxEntry entry = pending.get(id);
+        if (entry == null) {
+            return;
+        }
+        if (entry.attempts() + 1 > MAX_REPLAYS) {
+            bury(id, error);
+            return;
+        }
+        OutboxEntry failed = entry.failed(System.currentTimeMillis() + backoffMs(entry.attempts() + 1), error);
+        pending.put(id, failed);
+        try {
+            write(JournalRecord.retry(failed));
+        } catch (IOException e) {
+            log.warn("Failed to reschedule outbox entry {}", id, e);
+        }
+    }
+
+    /**
+     * Moves an entry to the dead-letter file without further replays.
+     *
+     * @param id    entry id
+     * @param error failure description, may be {@code null}
+     */
+    public synchronized void bury(String id, String error) {
+        leased.remove(id);
+        OutboxEntry entry = pending.remove(id);
+        if (entry == null) {
+            return;
+        }
+        OutboxEntry dead = entry.failed(Long.MAX_VALUE, error);
+        deadLetters.put(id, dead);
+        boolean dropped = trimDeadLetters();
+        try {
+            appendForced(directory.resolve(DEAD_LETTER_FILE), line(JournalRecord.put(dead)));
+            deadLetterRecords++;
+            write(JournalRecord.dead(id));
+        } catch (IOException e) {
+            log.warn("Failed to move outbox entry {} to dead letters", id, e);
+        }
+        if (dropped && deadLetterRecords >= 2 * deadLetters.size()) {
+            rewriteDeadLettersQuietly();
+        }
+    }
+
+    /**
+     * Returns pending entries whose next attempt is due and that no send holds, oldest first, and leases them
+     * to the caller, which must settle or release each one.
+     *
+     * @param limit maximum number of entries
+     * @return due entries
+     */
+    public synchronized List<OutboxEntry> due(int limit) {
+        long now = System.currentTimeMillis();
+        List<OutboxEntry> due = pending.values().stream()
+                .filter(entry -> entry.nextAttemptAt() <= now && !leased.contains(entry.id()))
+                .limit(limit)
+                .toList();
+        due.forEach(entry -> leased.add(entry.id()));
+        replayed += due.size();
+        return due;
+    }
+
+    /**
+     * Re-queues every dead letter with a fresh attempt budget. Entries are spaced
+     * {@value #REPLAY_SPACING_MS} ms apart so a bulk replay does not flood the webhooks.
+     *
+     * @return number of re-queued messages
+     */
+    public synchronized int replayDeadLetters() {
+        if (deadLetters.isEmpty()) {
+            return 0;
+        }
+        long now = System.currentTimeMillis();
+        int replayedCount = 0;
+        try {
+            for (OutboxEntry entry : deadLetters.values()) {
+                OutboxEntry requeued = entry.scheduledAt(now + replayedCount * REPLAY_SPACING_MS, 0);
+                write(JournalRecord.put(requeued));
+                pending.put(requeued.id(), requeued);
+                replayedCount++;
+            }
+            flush();
+        } catch (IOException e) {
+            log.warn("Failed to re-queue outbox dead letters", e);
+        }
+        pending.keySet().forEach(deadLetters::remove);
+        rewriteDeadLettersQuietly();
+        return replayedCount;
+    }
+
+    /**
+     * Returns current outbox statistics.
+     *
+     * @return statistics snapshot
+     */
+    public synchronized OutboxStats stats() {
+        long bytes = sizeOf(directory.resolve(DEAD_LETTER_FILE));
+        for (Path segment : segments) {
+            bytes += sizeOf(segment);
+        }
+        return new OutboxStats(isEnabled(), pending.size(), deadLetters.size(), segments.size(), bytes,
+                journaled, acked, replayed, compactions);
+    }
+
+    /**
+     * Forces buffered journal writes to disk.
+     *
+     * @throws IOException when the segment cannot be forced
+     */
+    public synchronized void flush() throws IOException {
+        if (dirty && current != null) {
+            current.force(false);
+            dirty = false;
+        }
+    }
+
+    /**
+     * Stops the flush timer and closes the active segment.
+     */
+    synchronized void close() {
+        flushTask.cancel(false);
+        try {
+            flush();
+            if (current != null) {
+                current.close();
+            }
+        } catch (IOException e) {
+            log.warn("Failed to close notification outbox", e);
+        }
+        current = null;
+    }
+
+    /**
+     * Returns the backoff before the given replay, doubling from one minute up to one hour.
+     *
+     * @param failures failed deliveries so far, starting at 1
+     * @return delay in milliseconds
+     */
+    static long backoffMs(int failures) {
+        int shift = Math.min(Math.max(failures - 1, 0), 20);
+        return Math.min(MAX_BACKOFF_MS, BASE_BACKOFF_MS << shift);
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (IOException e) {
+            log.warn("Failed to flush notification outbox", e);
+        }
+    }
+
+    private void load() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(NotificationOutbox::isSegment).sorted().forEach(segments::add);
+        }
+        for (Path segment : segments) {
+            lastSegmentIndex = Math.max(lastSegmentIndex, segmentIndex(segment));
+            for (JournalRecord record : read(segment)) {
+                switch (record.op()) {
+                    case PUT, RETRY -> pending.put(record.id(), record.entry());
+                    case ACK, DEAD -> pending.remove(record.id());
+                }
+            }
+        }
+        List<JournalRecord> deadRecords = read(directory.resolve(DEAD_LETTER_FILE));
+        for (JournalRecord record : deadRecords) {
+            if (record.entry() != null && !pending.containsKey(record.id())) {
+                deadLetters.put(record.id(), record.entry());
+            }
+        }
+        deadLetterRecords = deadRecords.size();
+        trimDeadLetters();
+        if (deadLetterRecords > deadLetters.size()) {
+            rewriteDeadLettersQuietly();
+        }
+        // nothing is in flight in a fresh process, so untouched entries are due right away
+        long now = System.currentTimeMillis();
+        pending.replaceAll((id, entry) -> entry.attempts() == 0 && entry.nextAttemptAt() > now
+                ? entry.scheduledAt(now, 0) : entry);
+    }
+
+    private List<JournalRecord> read(Path file) throws IOException {
+        if (!Files.exists(file)) {
+            return List.of();
+        }
+        List<JournalRecord> records = new ArrayList<>();
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                JournalRecord record = JsonUtils.readValue(line, JournalRecord.class);
+                if (record != null && record.op() != null && record.id() != null) {
+                    records.add(record);
+                }
+            } catch (Exception e) {
+                // a torn tail from a crash mid-write; everything before it is intact
+                log.warn("Skipping unreadable outbox record in {}", file.getFileName());
+            }
+        }
+        return records;
+    }
+
+    private void write(JournalRecord record) throws IOException {
+        if (current == null) {
+            compact();
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(line(record));
+        while (buffer.hasRemaining()) {
+            currentBytes += current.write(buffer);
+        }
+        dirty = true;
+        if (currentBytes >= rollThreshold) {
+            compact();
+        }
+    }
+
+    /**
+     * Writes the live entries into a new segment, forces it, then drops every older segment.
+     */
+    private void compact() throws IOException {
+        Path target = directory.resolve(String.format("%s%06d%s", SEGMENT_PREFIX, lastSegmentIndex + 1, SEGMENT_SUFFIX));
+        FileChannel channel = FileChannel.open(target,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        long written = 0;
+        try {
+            for (OutboxEntry entry : pending.values()) {
+                ByteBuffer buffer = ByteBuffer.wrap(line(JournalRecord.put(entry)));
+                while (buffer.hasRemaining()) {
+                    written += channel.write(buffer);
+                }
+            }
+            channel.force(false);
+        } catch (IOException e) {
+            channel.close();
+            Files.deleteIfExists(target);
+            throw e;
+        }
+        lastSegmentIndex++;
+        if (current != null) {
+            current.close();
+        }
+        for (Path segment : segments) {
+            Files.deleteIfExists(segment);
+        }
+        segments.clear();
+        segments.add(target);
+        current = channel;
+        currentBytes = written;
+        rollThreshold = Math.max(SEGMENT_BYTES, written * 2);
+        dirty = false;
+        compactions++;
+    }
+
+    /**
+     * Drops the oldest dead letters beyond {@value #MAX_DEAD_LETTERS}.
+     *
+     * @return whether any dead letter was dropped
+     */
+    private boolean trimDeadLetters() {
+        boolean dropped = false;
+        Iterator<OutboxEntry> oldest = deadLetters.values().iterator();
+        while (deadLetters.size() > MAX_DEAD_LETTERS && oldest.hasNext()) {
+            OutboxEntry entry = oldest.next();
+            oldest.remove();
+            dropped = true;
+            log.warn("Dropping outbox dead letter {} for robot {}: more than {} dead letters kept",
+                    entry.id(), entry.robotId(), MAX_DEAD_LETTERS);
+        }
+        return dropped;
+    }
+
+    private void rewriteDeadLettersQuietly() {
+        try {
+            rewriteDeadLetters();
+        } catch (IOException e) {
+            log.warn("Failed to rewrite outbox dead letters", e);
+        }
+    }
+
+    private void rewriteDeadLetters() throws IOException {
+        Path file = directory.resolve(DEAD_LETTER_FILE);
+        Path temp = directory.resolve(DEAD_LETTER_FILE + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (OutboxEntry entry : deadLetters.values()) {
+                ByteBuffer buffer = ByteBuffer.wrap(line(JournalRecord.put(entry)));
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            }
+            channel.force(false);
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        deadLetterRecords = deadLetters.size();
+    }
+
+    private static void appendForced(Path file, byte[] bytes) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+    }
+
+    private static byte[] line(JournalRecord record) {
+        return (JsonUtils.toJson(record) + "\n").getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static boolean isSegment(Path file) {
+        String name = file.getFileName().toString();
+        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+    }
+
+    private static int segmentIndex(Path segment) {
+        String name = segment.getFileName().toString();
+        try {
+            return Integer.parseInt(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static long sizeOf(Path file) {
+        try {
+            return Files.exists(file) ? Files.size(file) : 0L;
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package io.jenkins.plugins.lark.notice.sdk.outbox;
+
+import hudson.Extension;
+import hudson.model.AsyncPeriodicWork;
+import hudson.model.TaskListener;
+import io.jenkins.plugins.lark.notice.Messages;
+import io.jenkins.plugins.lark.notice.sdk.MessageDispatcher;
+import io.jenkins.plugins.lark.notice.sdk.MessageSender;
+import io.jenkins.plugins.lark.notice.sdk.MessageSenderRegistry;
+import io.jenkins.plugins.lark.notice.sdk.model.SendResult;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Background job that replays due outbox entries, including those left over from before a restart.
+ *
+ * <p>Each run delivers at most {@value #BATCH_SIZE} entries one after another, which also throttles bulk
+ * dead-letter replays. Entries still held by their inline send are leased and left out of the batch. Replays
+ * fail over to the robot's fallback robots like the original send, without journaling the message again.</p>
+ *
+ * @author xm.z
+ */
+@Extension
+public class OutboxDrainer extends AsyncPeriodicWork {
+
+    /**
+     * Maximum number of entries delivered per run.
+     */
+    static final int BATCH_SIZE = 20;
+
+    public OutboxDrainer() {
+        super("Lark notice outbox drainer");
+    }
+
+    @Override
+    public long getRecurrencePeriod() {
+        return TimeUnit.SECONDS.toMillis(30);
+    }
+
+    @Override
+    public long getInitialDelay() {
+        return TimeUnit.SECONDS.toMillis(15);
+    }
+
+    @Override
+    protected void execute(TaskListener listener) throws IOException {
+        if (!NotificationOutbox.isEnabled()) {
+            return;
+        }
+        NotificationOutbox outbox = NotificationOutbox.getInstance();
+        List<OutboxEntry> due = outbox.due(BATCH_SIZE);
+        try {
+            for (OutboxEntry entry : due) {
+                MessageSender sender = entry.robotId() == null ? null
+                        : MessageSenderRegistry.getInstance().resolve(entry.robotId());
+                if (sender == null) {
+                    outbox.bury(entry.id(),
+                            String.format(Messages.dispatcher_error_robot_not_exist(), entry.robotId()));
+                    continue;
+                }
+                SendResult result = MessageDispatcher.getInstance()
+                        .replayAsync(listener, entry.robotId(), entry.message(), sender).join();
+                outbox.settle(entry.id(), result);
+            }
+        } finally {
+            // settled entries are already released; this frees the rest of the batch when a send throws
+            due.forEach(entry -> outbox.release(entry.id()));
+        }
+        outbox.flush();
+    }
+}
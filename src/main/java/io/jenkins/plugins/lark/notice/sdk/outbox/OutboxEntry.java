@@ -0,0 +1,41 @@
+package io.jenkins.plugins.lark.notice.sdk.outbox;
+
+import io.jenkins.plugins.lark.notice.model.MessageModel;
+
+/**
+ * One journaled robot message together with its delivery bookkeeping.
+ *
+ * @param id            unique entry id
+ * @param robotId       target robot id
+ * @param message       message payload
+ * @param createdAt     epoch millis when the message was first journaled
+ * @param attempts      failed deliveries so far
+ * @param nextAttemptAt epoch millis before which the drainer leaves the entry alone
+ * @param lastError     last failure reported by the sender, may be {@code null}
+ * @author xm.z
+ */
+public record OutboxEntry(String id, String robotId, MessageModel message, long createdAt, int attempts,
+                          long nextAttemptAt, String lastError) {
+
+    /**
+     * Returns a copy rescheduled after one more failed delivery.
+     *
+     * @param nextAttemptAt next eligible attempt time in epoch millis
+     * @param error         failure description
+     * @return updated entry
+     */
+    OutboxEntry failed(long nextAttemptAt, String error) {
+        return new OutboxEntry(id, robotId, message, createdAt, attempts + 1, nextAttemptAt, error);
+    }
+
+    /**
+     * Returns a copy eligible for delivery at the given time.
+     *
+     * @param nextAttemptAt next eligible attempt time in epoch millis
+     * @param attempts      attempt counter to keep
+     * @return updated entry
+     */
+    OutboxEntry scheduledAt(long nextAttemptAt, int attempts) {
+        return new OutboxEntry(id, robotId, message, createdAt, attempts, nextAttemptAt, lastError);
+    }
+}
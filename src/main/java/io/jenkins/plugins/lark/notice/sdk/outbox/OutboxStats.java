@@ -0,0 +1,19 @@
+package io.jenkins.plugins.lark.notice.sdk.outbox;
+
+/**
+ * Point-in-time view of the durable notification outbox.
+ *
+ * @param enabled     whether durable delivery is currently enabled
+ * @param pending     messages waiting for a successful delivery
+ * @param deadLetters messages that exhausted their replays
+ * @param segments    journal segment files on disk
+ * @param bytes       total journal size in bytes, dead letters included
+ * @param journaled   messages journaled since startup
+ * @param acked       messages acknowledged since startup
+ * @param replayed    drainer deliveries since startup
+ * @param compactions segment compactions since startup
+ * @author xm.z
+ */
+public record OutboxStats(boolean enabled, int pending, int deadLetters, int segments, long bytes,
+                          long journaled, long acked, long replayed, long compactions) {
+}
@@ -0,0 +1,234 @@
+package io.jenkins.plugins.lark.notice.sdk.relay;
+
+import io.jenkins.plugins.lark.notice.sdk.BoundedBodyHandler;
+import io.jenkins.plugins.lark.notice.sdk.HttpClientFactory;
+import io.jenkins.plugins.lark.notice.sdk.WebhookRequest;
+import io.jenkins.plugins.lark.notice.sdk.WebhookResponse;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.StandardProtocolFamily;
+import java.net.URI;
+import java.net.UnixDomainSocketAddress;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.channels.AsynchronousCloseException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Reference relay process: listens on a Unix domain socket, performs the webhook calls it receives and streams
+ * the answers back as they complete.
+ *
+ * <p>It only needs the JDK and the plugin jar, so it can run next to the controller as
+ * {@code java -cp lark-notice.jar io.jenkins.plugins.lark.notice.sdk.relay.LocalRelay <socket> [workers]
+ * [requestsPerSecondPerHost]}. HTTP clients are pooled per TLS and connect-timeout setting, a fixed worker pool
+ * bounds concurrent calls, and requests to the same host are spaced to the configured rate. Tests start it
+ * in-process with their own handler instead of real HTTP calls.</p>
+ *
+ * @author xm.z
+ */
+public final class LocalRelay implements Closeable {
+
+    /**
+     * Default number of concurrent webhook calls.
+     */
+    public static final int DEFAULT_WORKERS = 8;
+
+    /**
+     * Default per-host request rate; {@code 0} disables spacing.
+     */
+    public static final double DEFAULT_REQUESTS_PER_SECOND = 5.0d;
+
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+    private final Path socketPath;
+
+    private final ServerSocketChannel server;
+
+    private final ExecutorService workers;
+
+    private final Function<WebhookRequest, WebhookResponse> handler;
+
+    private final long spacingNanos;
+
+    private final Map<String, Long> nextSlotByHost = new ConcurrentHashMap<>();
+
+    private LocalRelay(Path socketPath, ServerSocketChannel server, int workers, double requestsPerSecond,
+                       Function<WebhookRequest, WebhookResponse> handler) {
+        this.socketPath = socketPath;
+        this.server = server;
+        this.workers = Executors.newFixedThreadPool(Math.max(1, workers), runnable -> daemon(runnable, "worker"));
+        this.handler = handler;
+        this.spacingNanos = requestsPerSecond > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / requestsPerSecond) : 0L;
+    }
+
+    /**
+     * Binds the socket and starts accepting connections in the background.
+     *
+     * @param socketPath        socket file to create; a stale file from a previous run is replaced
+     * @param workers           number of concurrent webhook calls
+     * @param requestsPerSecond per-host request rate, {@code 0} for no spacing
+     * @param handler           performs one exchange, for example {@link #httpHandler()}
+     * @return running relay
+     * @throws IOException when the socket cannot be bound
+     */
+    public static LocalRelay start(Path socketPath, int workers, double requestsPerSecond,
+                                   Function<WebhookRequest, WebhookResponse> handler) throws IOException {
+        Files.deleteIfExists(socketPath);
+        ServerSocketChannel server = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+        server.bind(UnixDomainSocketAddress.of(socketPath));
+        LocalRelay relay = new LocalRelay(socketPath, server, workers, requestsPerSecond, handler);
+        daemon(relay::acceptLoop, "acceptor").start();
+        return relay;
+    }
+
+    /**
+     * Returns a handler that performs the exchange over HTTP with one pooled client per TLS and connect-timeout
+     * setting.
+     *
+     * @return HTTP handler
+     */
+    public static Function<WebhookRequest, WebhookResponse> httpHandler() {
+        Map<String, HttpClient> clients = new ConcurrentHashMap<>();
+        return request -> {
+            HttpClient client = clients.computeIfAbsent(request.noSsl() + ":" + request.connectTimeoutMs(),
+                    ignored -> HttpClientFactory.build(null, request.noSsl(), HttpClient.Version.HTTP_1_1,
+                            request.connectTimeoutMs() > 0 ? Duration.ofMillis(request.connectTimeoutMs()) : null));
+            HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(request.uri()))
+                    .POST(HttpRequest.BodyPublishers.ofString(request.body()));
+            if (request.timeoutMs() > 0) {
+                builder.timeout(Duration.ofMillis(request.timeoutMs()));
+            }
+            request.headers().forEach((name, values) -> values.forEach(value -> builder.header(name, value)));
+            try {
+                HttpResponse<String> response = client.send(builder.build(), BoundedBodyHandler.ofString());
+                Map<String, List<String>> headers = new LinkedHashMap<>();
+                response.headers().map().forEach((name, values) -> headers.put(name, List.copyOf(values)));
+                return new WebhookResponse(response.statusCode(), headers, response.body());
+            } catch (IOException e) {
+                throw new IllegalStateException(e.toString(), e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted", e);
+            }
+        };
+    }
+
+    /**
+     * Runs the relay until the process is stopped.
+     *
+     * @param args socket path, optional worker count, optional per-host requests per second
+     * @throws Exception when the relay cannot start
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length < 1) {
+            System.err.println("Usage: LocalRelay <socket-path> [workers] [requestsPerSecondPerHost]");
+            System.exit(2);
+        }
+        int workers = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_WORKERS;
+        double rate = args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_REQUESTS_PER_SECOND;
+        LocalRelay relay = start(Path.of(args[0]), workers, rate, httpHandler());
+        Runtime.getRuntime().addShutdownHook(new Thread(relay::close));
+        System.out.println("Lark notice relay listening on " + relay.socketPath);
+        Thread.currentThread().join();
+    }
+
+    /**
+     * Stops accepting connections, abandons queued calls and removes the socket file.
+     */
+    @Override
+    public void close() {
+        try {
+            server.close();
+            Files.deleteIfExists(socketPath);
+        } catch (IOException e) {
+            // the socket file is recreated on the next start
+        }
+        workers.shutdownNow();
+    }
+
+    private void acceptLoop() {
+        while (server.isOpen()) {
+            try {
+                SocketChannel client = server.accept();
+                daemon(() -> serve(client), "connection").start();
+            } catch (ClosedChannelException e) {
+                return;
+            } catch (IOException e) {
+                System.err.println("Relay accept failed: " + e);
+            }
+        }
+    }
+
+    private void serve(SocketChannel client) {
+        try (client) {
+            byte[] payload;
+            while ((payload = RelayProtocol.readFrame(client)) != null) {
+                RelayProtocol.Request request = RelayProtocol.decodeRequest(payload);
+                workers.execute(() -> answer(client, request));
+            }
+        } catch (AsynchronousCloseException e) {
+            // the relay is shutting down
+        } catch (IOException e) {
+            System.err.println("Relay connection failed: " + e);
+        }
+    }
+
+    private void answer(SocketChannel client, RelayProtocol.Request request) {
+        RelayProtocol.Response response;
+        try {
+            awaitSlot(URI.create(request.request().uri()).getHost());
+            response = new RelayProtocol.Response(request.id(), handler.apply(request.request()), null);
+        } catch (RuntimeException e) {
+            response = new RelayProtocol.Response(request.id(), null, String.valueOf(e.getMessage()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        byte[] frame = RelayProtocol.encode(response);
+        synchronized (client) {
+            try {
+                RelayProtocol.writeFrame(client, frame);
+            } catch (IOException e) {
+                // the plugin fails the request when it notices the closed connection
+            }
+        }
+    }
+
+    /**
+     * Reserves the next send slot for a host and sleeps until it is due.
+     */
+    private void awaitSlot(String host) throws InterruptedException {
+        if (spacingNanos == 0L || host == null) {
+            return;
+        }
+        long now = System.nanoTime();
+        long slot = nextSlotByHost.merge(host, now + spacingNanos,
+                (next, ignored) -> Math.max(next, now) + spacingNanos) - spacingNanos;
+        long waitNanos = slot - now;
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    private static Thread daemon(Runnable runnable, String role) {
+        Thread thread = new Thread(runnable, "lark-notice-relay-" + role + "-" + THREAD_COUNTER.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    }
+}
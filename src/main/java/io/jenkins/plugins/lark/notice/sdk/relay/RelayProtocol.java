@@ -0,0 +1,268 @@
+package io.jenkins.plugins.lark.notice.sdk.relay;
+
+import io.jenkins.plugins.lark.notice.sdk.WebhookRequest;
+import io.jenkins.plugins.lark.notice.sdk.WebhookResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Wire format between the plugin and a local relay process.
+ *
+ * <p>Every frame is a 4-byte big-endian payload length followed by the payload. A request payload carries a
+ * caller-chosen id and one signed {@link WebhookRequest}; the relay answers each id exactly once, in any order,
+ * with either a {@link WebhookResponse} or an error message. Strings are length-prefixed UTF-8, so the format
+ * needs nothing beyond the JDK on either side.</p>
+ *
+ * @author xm.z
+ */
+public final class RelayProtocol {
+
+    /**
+     * Largest payload accepted in either direction.
+     */
+    public static final int MAX_FRAME_BYTES = 16 * 1024 * 1024;
+
+    private static final byte VERSION = 1;
+
+    private static final byte ANSWERED = 0;
+
+    private static final byte FAILED = 1;
+
+    private RelayProtocol() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * One request frame.
+     *
+     * @param id      caller-chosen id echoed in the response
+     * @param request signed webhook request
+     */
+    public record Request(long id, WebhookRequest request) {
+    }
+
+    /**
+     * One response frame; exactly one of {@code response} and {@code error} is set.
+     *
+     * @param id       id of the answered request
+     * @param response webhook answer
+     * @param error    reason the relay could not perform the exchange
+     */
+    public record Response(long id, WebhookResponse response, String error) {
+    }
+
+    /**
+     * Encodes a request as a complete frame.
+     *
+     * @param request request to encode
+     * @return length-prefixed frame
+     */
+    public static byte[] encode(Request request) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = frameStream(bytes)) {
+            out.writeLong(request.id());
+            WebhookRequest webhook = request.request();
+            writeString(out, webhook.uri());
+            writeHeaders(out, webhook.headers());
+            writeString(out, webhook.body());
+            out.writeLong(webhook.timeoutMs());
+            out.writeLong(webhook.connectTimeoutMs());
+            out.writeBoolean(webhook.noSsl());
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return frame(bytes.toByteArray());
+    }
+
+    /**
+     * Encodes a response as a complete frame.
+     *
+     * @param response response to encode
+     * @return length-prefixed frame
+     */
+    public static byte[] encode(Response response) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = frameStream(bytes)) {
+            out.writeLong(response.id());
+            if (response.response() == null) {
+                out.writeByte(FAILED);
+                writeString(out, response.error());
+            } else {
+                out.writeByte(ANSWERED);
+                out.writeInt(response.response().statusCode());
+                writeHeaders(out, response.response().headers());
+                writeString(out, response.response().body());
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return frame(bytes.toByteArray());
+    }
+
+    /**
+     * Decodes a request payload read with {@link #readFrame(ReadableByteChannel)}.
+     *
+     * @param payload frame payload
+     * @return decoded request
+     * @throws IOException when the payload is malformed
+     */
+    public static Request decodeRequest(byte[] payload) throws IOException {
+        DataInputStream in = payloadStream(payload);
+        long id = in.readLong();
+        String uri = readString(in);
+        Map<String, List<String>> headers = readHeaders(in);
+        String body = readString(in);
+        long timeoutMs = in.readLong();
+        long connectTimeoutMs = in.readLong();
+        boolean noSsl = in.readBoolean();
+        return new Request(id, new WebhookRequest(uri, headers, body, timeoutMs, connectTimeoutMs, noSsl));
+    }
+
+    /**
+     * Decodes a response payload read with {@link #readFrame(ReadableByteChannel)}.
+     *
+     * @param payload frame payload
+     * @return decoded response
+     * @throws IOException when the payload is malformed
+     */
+    public static Response decodeResponse(byte[] payload) throws IOException {
+        DataInputStream in = payloadStream(payload);
+        long id = in.readLong();
+        if (in.readByte() == FAILED) {
+            return new Response(id, null, readString(in));
+        }
+        int statusCode = in.readInt();
+        Map<String, List<String>> headers = readHeaders(in);
+        return new Response(id, new WebhookResponse(statusCode, headers, readString(in)), null);
+    }
+
+    /**
+     * Writes a complete frame, looping until the channel has taken every byte.
+     *
+     * @param channel target channel
+     * @param frame   frame produced by one of the {@code encode} methods
+     * @throws IOException when the channel fails
+     */
+    public static void writeFrame(WritableByteChannel channel, byte[] frame) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(frame);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * Reads the payload of the next frame.
+     *
+     * @param channel source channel
+     * @return frame payload, or {@code null} when the peer closed the connection between frames
+     * @throws IOException when the channel fails or a frame is truncated or too large
+     */
+    public static byte[] readFrame(ReadableByteChannel channel) throws IOException {
+        ByteBuffer length = ByteBuffer.allocate(Integer.BYTES);
+        if (!fill(channel, length, true)) {
+            return null;
+        }
+        int size = length.flip().getInt();
+        if (size < 0 || size > MAX_FRAME_BYTES) {
+            throw new IOException("Invalid relay frame length: " + size);
+        }
+        ByteBuffer payload = ByteBuffer.allocate(size);
+        fill(channel, payload, false);
+        return payload.array();
+    }
+
+    private static boolean fill(ReadableByteChannel channel, ByteBuffer buffer, boolean eofAllowed) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                if (eofAllowed && buffer.position() == 0) {
+                    return false;
+                }
+                throw new EOFException("Relay connection closed in the middle of a frame");
+            }
+        }
+        return true;
+    }
+
+    private static DataOutputStream frameStream(ByteArrayOutputStream bytes) throws IOException {
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeByte(VERSION);
+        return out;
+    }
+
+    private static DataInputStream payloadStream(byte[] payload) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+        byte version = in.readByte();
+        if (version != VERSION) {
+            throw new IOException("Unsupported relay protocol version: " + version);
+        }
+        return in;
+    }
+
+    private static byte[] frame(byte[] payload) {
+        if (payload.length > MAX_FRAME_BYTES) {
+            throw new IllegalArgumentException("Relay frame too large: " + payload.length + " bytes");
+        }
+        return ByteBuffer.allocate(Integer.BYTES + payload.length).putInt(payload.length).put(payload).array();
+    }
+
+    private static void writeHeaders(DataOutputStream out, Map<String, List<String>> headers) throws IOException {
+        Map<String, List<String>> safe = headers == null ? Map.of() : headers;
+        out.writeInt(safe.size());
+        for (Map.Entry<String, List<String>> header : safe.entrySet()) {
+            writeString(out, header.getKey());
+            out.writeInt(header.getValue().size());
+            for (String value : header.getValue()) {
+                writeString(out, value);
+            }
+        }
+    }
+
+    private static Map<String, List<String>> readHeaders(DataInputStream in) throws IOException {
+        int count = in.readInt();
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        for (int i = 0; i < count; i++) {
+            String name = readString(in);
+            int valueCount = in.readInt();
+            List<String> values = new ArrayList<>(valueCount);
+            for (int j = 0; j < valueCount; j++) {
+                values.add(readString(in));
+            }
+            headers.put(name, List.copyOf(values));
+        }
+        return Map.copyOf(headers);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        if (length > in.available()) {
+            throw new EOFException("Truncated relay string");
+        }
+        return new String(in.readNBytes(length), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,176 @@
+package io.jenkins.plugins.lark.notice.sdk.relay;
+
+import io.jenkins.plugins.lark.notice.sdk.WebhookExchange;
+import io.jenkins.plugins.lark.notice.sdk.WebhookRequest;
+import io.jenkins.plugins.lark.notice.sdk.WebhookResponse;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hands signed webhook requests to a local relay process over a Unix domain socket, so outbound delivery leaves
+ * the Jenkins JVM entirely.
+ *
+ * <p>One connection per socket path is shared by all robots and multiplexes any number of in-flight requests;
+ * responses are matched back by frame id as the relay streams them. The connection is opened on first use and
+ * reopened by the next send after it breaks; requests in flight when it breaks fail and go through the
+ * dispatcher's normal retry handling. See {@link RelayProtocol} for the wire format and {@link LocalRelay} for
+ * the reference relay.</p>
+ *
+ * @author xm.z
+ */
+@Slf4j
+public final class RelayWebhookExchange implements WebhookExchange {
+
+    /**
+     * Extra time granted on top of the request timeout before an unanswered frame is given up.
+     */
+    private static final long ANSWER_GRACE_MS = 5_000L;
+
+    private static final Map<Path, RelayWebhookExchange> EXCHANGES = new ConcurrentHashMap<>();
+
+    private final Path socketPath;
+
+    private final AtomicLong ids = new AtomicLong();
+
+    private Connection connection;
+
+    RelayWebhookExchange(Path socketPath) {
+        this.socketPath = socketPath;
+    }
+
+    /**
+     * Returns the shared exchange for a relay socket.
+     *
+     * @param socketPath path of the relay's Unix domain socket
+     * @return exchange connected lazily to that socket
+     */
+    public static RelayWebhookExchange forSocket(String socketPath) {
+        return EXCHANGES.computeIfAbsent(Path.of(socketPath).toAbsolutePath().normalize(), RelayWebhookExchange::new);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<WebhookResponse> exchange(WebhookRequest request) {
+        long id = ids.incrementAndGet();
+        CompletableFuture<WebhookResponse> answer = new CompletableFuture<>();
+        byte[] frame;
+        try {
+            frame = RelayProtocol.encode(new RelayProtocol.Request(id, request));
+        } catch (RuntimeException e) {
+            answer.completeExceptionally(e);
+            return answer;
+        }
+        Connection current = null;
+        try {
+            synchronized (this) {
+                current = connection();
+                current.pending.put(id, answer);
+                RelayProtocol.writeFrame(current.channel, frame);
+            }
+        } catch (IOException e) {
+            if (current != null) {
+                current.close(e);
+            }
+            answer.completeExceptionally(e);
+            return answer;
+        }
+        Connection sentOn = current;
+        answer.whenComplete((response, error) -> sentOn.pending.remove(id));
+        if (request.timeoutMs() > 0) {
+            answer.orTimeout(request.timeoutMs() + request.connectTimeoutMs() + ANSWER_GRACE_MS, TimeUnit.MILLISECONDS);
+        }
+        return answer;
+    }
+
+    /**
+     * Returns the number of requests waiting for the relay's answer.
+     *
+     * @return in-flight request count
+     */
+    public synchronized int inFlight() {
+        return connection == null ? 0 : connection.pending.size();
+    }
+
+    private Connection connection() throws IOException {
+        if (connection != null && connection.channel.isOpen()) {
+            return connection;
+        }
+        SocketChannel opened = SocketChannel.open(StandardProtocolFamily.UNIX);
+        try {
+            opened.connect(UnixDomainSocketAddress.of(socketPath));
+        } catch (IOException e) {
+            opened.close();
+            throw new IOException("Relay socket " + socketPath + " is not reachable: " + e.getMessage(), e);
+        }
+        Connection created = new Connection(opened);
+        connection = created;
+        Thread reader = new Thread(created::readAnswers, "lark-notice-relay-reader");
+        reader.setDaemon(true);
+        reader.start();
+        return created;
+    }
+
+    /**
+     * One relay connection and the requests sent on it that still wait for their answer.
+     */
+    private final class Connection {
+
+        private final SocketChannel channel;
+
+        private final Map<Long, CompletableFuture<WebhookResponse>> pending = new ConcurrentHashMap<>();
+
+        private Connection(SocketChannel channel) {
+            this.channel = channel;
+        }
+
+        private void readAnswers() {
+            IOException failure = null;
+            try {
+                byte[] payload;
+                while ((payload = RelayProtocol.readFrame(channel)) != null) {
+                    RelayProtocol.Response response = RelayProtocol.decodeResponse(payload);
+                    CompletableFuture<WebhookResponse> answer = pending.get(response.id());
+                    if (answer == null) {
+                        continue;
+                    }
+                    if (response.response() != null) {
+                        answer.complete(response.response());
+                    } else {
+                        answer.completeExceptionally(new IOException("Relay failed the request: " + response.error()));
+                    }
+                }
+            } catch (IOException e) {
+                failure = e;
+            }
+            close(failure);
+        }
+
+        /**
+         * Closes the connection and fails every request still waiting on it.
+         *
+         * @param cause reason, or {@code null} when the relay closed the connection
+         */
+        private void close(IOException cause) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                log.debug("Failed to close relay connection {}", socketPath, e);
+            }
+            IOException failure = new IOException("Relay connection " + socketPath + " closed"
+                    + (cause == null ? "" : ": " + cause.getMessage()), cause);
+            pending.values().forEach(answer -> answer.completeExceptionally(failure));
+        }
+    }
+}
@@ -60,6 +60,11 @@ public final class ConfigSnapshotImportService {
             );
             globalConfig.setVerbose(planned.isVerbose());
             globalConfig.setFailBuildOnNotificationFailure(planned.isFailBuildOnNotificationFailure());
+            globalConfig.setSendFromAgent(planned.isSendFromAgent());
+            globalConfig.setRelaySocketPath(planned.getRelaySocketPath());
+            globalConfig.setRateLimitStateFile(planned.getRateLimitStateFile());
+            globalConfig.setDedupWindowSeconds(planned.getDedupWindowSeconds());
+            globalConfig.setDeliveryQueueConfig(planned.getDeliveryQueueConfig());
             globalConfig.setNoticeOccasions(planned.getNoticeOccasions());
             globalConfig.setProxyConfig(planned.getProxyConfig());
             globalConfig.setRobotConfigs(planned.getRobotConfigs());
@@ -0,0 +1,86 @@
+package io.jenkins.plugins.lark.notice.service;
+
+import hudson.model.TaskListener;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Task listener handed to background deliveries.
+ *
+ * <p>Output goes to the build log for as long as the run keeps it open, whether or not the trigger thread
+ * waits for the delivery. Once the run has completed its log is closed, so later output goes to the controller
+ * log instead, one line per record, tagged with the run id.</p>
+ *
+ * @author xm.z
+ */
+@Slf4j
+final class DetachableTaskListener implements TaskListener {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient TaskListener build;
+
+    private final transient PrintStream systemLogger;
+
+    private final transient BooleanSupplier buildLogOpen;
+
+    /**
+     * Creates a listener for one delivery.
+     *
+     * @param build        build listener written to while its log is open
+     * @param runId        externalizable run id used to tag controller log lines
+     * @param buildLogOpen whether the run still writes its log, e.g. {@code Run::isLogUpdated}
+     */
+    DetachableTaskListener(TaskListener build, String runId, BooleanSupplier buildLogOpen) {
+        this.build = build;
+        this.systemLogger = new PrintStream(new SystemLogStream(runId), true, StandardCharsets.UTF_8);
+        this.buildLogOpen = buildLogOpen;
+    }
+
+    /**
+     * Returns whether output still goes to the build log.
+     *
+     * @return {@code true} until the run has completed and closed its log
+     */
+    boolean isAttached() {
+        return build != null && buildLogOpen.getAsBoolean();
+    }
+
+    @Override
+    public PrintStream getLogger() {
+        return isAttached() ? build.getLogger() : systemLogger;
+    }
+
+    /**
+     * Buffers bytes up to each line break and logs every completed line; flushing does not split lines.
+     */
+    private static final class SystemLogStream extends OutputStream {
+
+        private final String runId;
+
+        private final ByteArrayOutputStream line = new ByteArrayOutputStream();
+
+        private SystemLogStream(String runId) {
+            this.runId = runId;
+        }
+
+        @Override
+        public synchronized void write(int b) {
+            if (b != '\n') {
+                if (b != '\r') {
+                    line.write(b);
+                }
+                return;
+            }
+            if (line.size() > 0) {
+                log.info("{} {}", runId, line.toString(StandardCharsets.UTF_8));
+                line.reset();
+            }
+        }
+    }
+}
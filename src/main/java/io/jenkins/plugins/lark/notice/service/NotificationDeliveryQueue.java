@@ -0,0 +1,202 @@
+package io.jenkins.plugins.lark.notice.service;
+
+import io.jenkins.plugins.lark.notice.config.LarkDeliveryQueueConfig;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.function.Supplier;
+
+/**
+ * Bounded in-memory queue that delivers build notifications on plugin-owned worker threads.
+ *
+ * <p>Each submitted task is one notification batch (all matched configs of one build occasion). Workers render
+ * the batch and start its sends; the HTTP exchanges complete without holding a worker. The pool is
+ * created lazily and rebuilt when the configured capacity or worker count changes; the previous pool drains
+ * its remaining work before its threads exit. When the queue is full the batch is dropped and counted
+ * rather than blocking the build thread.</p>
+ *
+ * @author xm.z
+ */
+@Slf4j
+public class NotificationDeliveryQueue {
+
+    private static final NotificationDeliveryQueue INSTANCE = new NotificationDeliveryQueue();
+
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+    private final AtomicLong submitted = new AtomicLong();
+
+    private final AtomicLong completed = new AtomicLong();
+
+    private final AtomicLong dropped = new AtomicLong();
+
+    private final AtomicLong waitTimeouts = new AtomicLong();
+
+    private final AtomicLong totalQueueWaitNanos = new AtomicLong();
+
+    private final LongAccumulator maxQueueWaitNanos = new LongAccumulator(Math::max, 0L);
+
+    private volatile ThreadPoolExecutor executor;
+
+    private volatile LarkDeliveryQueueConfig settings = LarkDeliveryQueueConfig.defaultConfig();
+
+    NotificationDeliveryQueue() {
+        // shared through getInstance(); package-private for tests
+    }
+
+    /**
+     * Returns the shared queue instance.
+     *
+     * @return singleton queue
+     */
+    public static NotificationDeliveryQueue getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Queues one notification batch for background delivery.
+     *
+     * @param queueConfig current queue settings
+     * @param delivery    batch to run on a worker thread
+     * @return future completed when the batch has finished; completed exceptionally with
+     * {@link RejectedExecutionException} when the queue is full
+     */
+    public CompletableFuture<Void> submit(LarkDeliveryQueueConfig queueConfig, Runnable delivery) {
+        return submitAsync(queueConfig, () -> {
+            delivery.run();
+            return CompletableFuture.completedFuture(null);
+        });
+    }
+
+    /**
+     * Queues one notification batch whose sends complete asynchronously. The worker thread only prepares the
+     * batch and starts its sends; the batch counts as finished once the returned stage completes.
+     *
+     * @param queueConfig current queue settings
+     * @param delivery    starts the batch on a worker thread and returns its completion
+     * @return future completed when the batch has finished; completed exceptionally with
+     * {@link RejectedExecutionException} when the queue is full
+     */
+    public CompletableFuture<Void> submitAsync(LarkDeliveryQueueConfig queueConfig,
+                                               Supplier<? extends CompletionStage<?>> delivery) {
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        long enqueuedAt = System.nanoTime();
+        try {
+            executorFor(queueConfig).execute(() -> {
+                long queueWait = System.nanoTime() - enqueuedAt;
+                totalQueueWaitNanos.addAndGet(queueWait);
+                maxQueueWaitNanos.accumulate(queueWait);
+                try {
+                    delivery.get().whenComplete((ignored, error) -> finish(done, error));
+                } catch (RuntimeException e) {
+                    finish(done, e);
+                }
+            });
+            submitted.incrementAndGet();
+        } catch (RejectedExecutionException e) {
+            dropped.incrementAndGet();
+            done.completeExceptionally(e);
+        }
+        return done;
+    }
+
+    private void finish(CompletableFuture<Void> done, Throwable error) {
+        completed.incrementAndGet();
+        if (error == null) {
+            done.complete(null);
+        } else {
+            log.warn("Background notification delivery failed", error);
+            done.completeExceptionally(error);
+        }
+    }
+
+    /**
+     * Waits up to {@code maxWaitSeconds} for a queued batch, so the caller can still act on its result.
+     *
+     * @param delivery       future returned by {@link #submit(LarkDeliveryQueueConfig, Runnable)}
+     * @param maxWaitSeconds maximum wait in seconds; {@code 0} returns immediately
+     * @return {@code true} when the batch finished in time
+     */
+    public boolean await(CompletableFuture<Void> delivery, int maxWaitSeconds) {
+        try {
+            delivery.get(maxWaitSeconds, TimeUnit.SECONDS);
+            return true;
+        } catch (TimeoutException e) {
+            waitTimeouts.incrementAndGet();
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            waitTimeouts.incrementAndGet();
+            return false;
+        } catch (ExecutionException e) {
+            return true;
+        }
+    }
+
+    /**
+     * Returns the number of batches currently waiting for a worker.
+     *
+     * @return queue depth
+     */
+    public int depth() {
+        ThreadPoolExecutor current = executor;
+        return current == null ? 0 : current.getQueue().size();
+    }
+
+    /**
+     * Returns current queue statistics.
+     *
+     * @param queueConfig saved queue settings, reported even before the first batch creates the pool
+     * @return statistics snapshot
+     */
+    public NotificationDeliveryQueueStats stats(LarkDeliveryQueueConfig queueConfig) {
+        ThreadPoolExecutor current = executor;
+        LarkDeliveryQueueConfig currentSettings = LarkDeliveryQueueConfig.normalize(queueConfig);
+        long finished = completed.get();
+        return new NotificationDeliveryQueueStats(
+                currentSettings.isEnabled(),
+                currentSettings.getWorkers(),
+                currentSettings.getCapacity(),
+                current == null ? 0 : current.getQueue().size(),
+                current == null ? 0 : current.getActiveCount(),
+                submitted.get(),
+                finished,
+                dropped.get(),
+                waitTimeouts.get(),
+                TimeUnit.NANOSECONDS.toMillis(maxQueueWaitNanos.get()),
+                finished == 0 ? 0L : TimeUnit.NANOSECONDS.toMillis(totalQueueWaitNanos.get() / finished));
+    }
+
+    private synchronized ThreadPoolExecutor executorFor(LarkDeliveryQueueConfig queueConfig) {
+        LarkDeliveryQueueConfig requested = LarkDeliveryQueueConfig.normalize(queueConfig);
+        ThreadPoolExecutor current = executor;
+        if (current != null && requested.getCapacity() == settings.getCapacity()
+                && requested.getWorkers() == settings.getWorkers()) {
+            settings = requested;
+            return current;
+        }
+        if (current != null) {
+            current.shutdown();
+        }
+        ThreadPoolExecutor created = new ThreadPoolExecutor(requested.getWorkers(), requested.getWorkers(),
+                60L, TimeUnit.SECONDS, new ArrayBlockingQueue<>(requested.getCapacity()), runnable -> {
+            Thread thread = new Thread(runnable, "lark-notice-delivery-" + THREAD_COUNTER.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.AbortPolicy());
+        created.allowCoreThreadTimeOut(true);
+        executor = created;
+        settings = requested;
+        return created;
+    }
+}
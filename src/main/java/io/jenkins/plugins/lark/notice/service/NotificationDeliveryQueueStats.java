@@ -0,0 +1,22 @@
+package io.jenkins.plugins.lark.notice.service;
+
+/**
+ * Point-in-time view of the background notification queue.
+ *
+ * @param enabled         whether background delivery is currently enabled
+ * @param workers         configured worker count
+ * @param capacity        configured queue capacity
+ * @param depth           batches waiting for a worker
+ * @param active          batches being delivered right now
+ * @param submitted       batches accepted since startup
+ * @param completed       batches finished since startup
+ * @param dropped         batches rejected because the queue was full
+ * @param waitTimeouts    builds that stopped waiting before their notifications finished
+ * @param maxQueueWaitMs  longest time a batch waited for a worker
+ * @param avgQueueWaitMs  average time a batch waited for a worker
+ * @author xm.z
+ */
+public record NotificationDeliveryQueueStats(boolean enabled, int workers, int capacity, int depth, int active,
+                                             long submitted, long completed, long dropped, long waitTimeouts,
+                                             long maxQueueWaitMs, long avgQueueWaitMs) {
+}
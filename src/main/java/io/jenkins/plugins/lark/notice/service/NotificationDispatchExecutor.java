@@ -22,6 +22,8 @@ import org.apache.commons.lang3.StringUtils;
 
 import java.util.Locale;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BooleanSupplier;
 
 
 /**
@@ -45,10 +47,35 @@ public final class NotificationDispatchExecutor {
      * @param config            notifier configuration
      * @param context           prepared build notification context
      * @param messageDispatcher dispatcher used to send built message
+     * @return future completed once the send result has been handled
      */
-    public static void dispatch(String source, Run<?, ?> run, TaskListener listener, NoticeOccasionEnum occasion,
-                                LarkNotifierConfig config, BuildNotificationContext context,
-                                MessageDispatcher messageDispatcher) {
+    public static CompletableFuture<Void> dispatch(String source, Run<?, ?> run, TaskListener listener,
+                                                   NoticeOccasionEnum occasion, LarkNotifierConfig config,
+                                                   BuildNotificationContext context,
+                                                   MessageDispatcher messageDispatcher) {
+        return dispatch(source, run, listener, occasion, config, context, messageDispatcher,
+                () -> LarkGlobalConfig.getInstance().isFailBuildOnNotificationFailure());
+    }
+
+    /**
+     * Dispatches one final message with an explicit build-failure policy. The message is rendered on the
+     * calling thread and sent without waiting for the webhook. The policy is evaluated only after the send
+     * finished, so background deliveries can stop touching the build result once it has moved on.
+     *
+     * @param source            logical trigger source
+     * @param run               build run
+     * @param listener          Jenkins task listener
+     * @param occasion          current notice occasion
+     * @param config            notifier configuration
+     * @param context           prepared build notification context
+     * @param messageDispatcher dispatcher used to send built message
+     * @param failBuild         whether a send failure should mark the build as {@code FAILURE}
+     * @return future completed once the send result has been handled
+     */
+    public static CompletableFuture<Void> dispatch(String source, Run<?, ?> run, TaskListener listener,
+                                                   NoticeOccasionEnum occasion, LarkNotifierConfig config,
+                                                   BuildNotificationContext context,
+                                                   MessageDispatcher messageDispatcher, BooleanSupplier failBuild) {
         RobotType robotType = resolveRobotType(config);
         Set<String> atUserIds = resolveAtUserIds(config, context.executor(), context.envVars());
 
@@ -69,9 +96,9 @@ public final class NotificationDispatchExecutor {
         String messageText = resolveMessageText(config, model, context.envVars(), robotType, locale);
         MessageModel messageModel = buildMessageModel(model, config, atUserIds, messageText, locale);
 
-        SendResult result = messageDispatcher.send(listener, config.getRobotId(), messageModel);
-        boolean failBuild = LarkGlobalConfig.getInstance().isFailBuildOnNotificationFailure();
-        handleSendResult(source, run, listener, occasion, config.getRobotId(), result, failBuild);
+        return messageDispatcher.sendAsync(listener, config.getRobotId(), messageModel)
+                .thenAccept(result -> handleSendResult(source, run, listener, occasion, config.getRobotId(), result,
+                        failBuild.getAsBoolean()));
     }
 
     /**
@@ -170,12 +197,17 @@ public final class NotificationDispatchExecutor {
                 NoticeLog.field(NoticeLogKey.BUILD, run.getNumber()),
                 NoticeLog.field(NoticeLogKey.OCCASION, occasion.name()),
                 NoticeLog.field(NoticeLogKey.ROBOT_ID, robotId),
+                NoticeLog.field(NoticeLogKey.DELIVERED_BY, sendResult == null ? "<null>" : sendResult.getDeliveredBy()),
                 NoticeLog.field(NoticeLogKey.SUCCESS, sendResult != null && sendResult.isOk()),
                 NoticeLog.field(NoticeLogKey.RESULT_CODE, sendResult == null ? "<null>" : sendResult.getCode()),
                 NoticeLog.field(NoticeLogKey.MESSAGE, sendResult == null ? "<null>" : NoticeLog.abbreviate(sendResult.getMsg(), 200)));
 
         boolean sendFailed = sendResult == null || !sendResult.isOk();
         if (!sendFailed) {
+            if (sendResult.getDeliveredBy() != null && !sendResult.getDeliveredBy().equals(robotId)) {
+                NoticeLog.warning(listener, Messages.dispatcher_log_failover_delivered(), robotId,
+                        sendResult.getDeliveredBy());
+            }
             return;
         }
 
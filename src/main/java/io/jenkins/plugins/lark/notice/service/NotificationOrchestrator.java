@@ -4,6 +4,8 @@ import hudson.model.Job;
 import hudson.model.Run;
 import hudson.model.TaskListener;
 import io.jenkins.plugins.lark.notice.Messages;
+import io.jenkins.plugins.lark.notice.config.LarkDeliveryQueueConfig;
+import io.jenkins.plugins.lark.notice.config.LarkGlobalConfig;
 import io.jenkins.plugins.lark.notice.config.LarkNotifierConfig;
 import io.jenkins.plugins.lark.notice.context.PipelineEnvContext;
 import io.jenkins.plugins.lark.notice.enums.NoticeOccasionEnum;
@@ -14,10 +16,21 @@ import io.jenkins.plugins.lark.notice.sdk.MessageDispatcher;
 import org.apache.commons.lang3.StringUtils;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
 
 /**
  * Shared notification orchestration used by all build triggers.
  *
+ * <p>Context resolution always runs on the trigger thread. Messages are rendered inline, or on
+ * {@link NotificationDeliveryQueue} when background delivery is enabled, and sent without waiting for the
+ * webhooks; the trigger thread only waits for the results when a send failure may still fail the build. The
+ * build's Pipeline context is reset on the trigger thread once the notification has been started or handed
+ * off; sends only use the context resolved before, so they never read the live Pipeline variables.</p>
+ *
  * @author xm.z
  */
 public final class NotificationOrchestrator {
@@ -69,18 +82,116 @@ public final class NotificationOrchestrator {
                     NoticeLog.field(NoticeLogKey.OCCASION, occasion.name()),
                     NoticeLog.field(NoticeLogKey.MATCHED_CONFIG_TOTAL, matchedConfigs.size()));
 
-            matchedConfigs.forEach(config -> NotificationDispatchExecutor.dispatch(
-                    source, run, listener, occasion, config, context, messageDispatcher));
+            LarkGlobalConfig globalConfig = LarkGlobalConfig.getInstance();
+            LarkDeliveryQueueConfig queueConfig = globalConfig.getDeliveryQueueConfig();
+            boolean failBuild = globalConfig.isFailBuildOnNotificationFailure();
+            if (queueConfig.isEnabled() && !matchedConfigs.isEmpty()) {
+                enqueue(source, run, listener, occasion, matchedConfigs, context, messageDispatcher, queueConfig,
+                        failBuild);
+                return;
+            }
+
+            DetachableTaskListener deliveryListener = new DetachableTaskListener(listener, run.getExternalizableId(),
+                    run::isLogUpdated);
+            CompletableFuture<Void> delivery = dispatchAll(source, run, deliveryListener, occasion, matchedConfigs,
+                    context, messageDispatcher, () -> failBuild);
+            if (failBuild) {
+                // a failed send can only change the build result while the build is still running
+                delivery.join();
+            }
         } catch (Exception e) {
-            NoticeLog.trace(listener, NoticeTrace.NOTIFICATION_EXCEPTION,
+            traceException(source, run, listener, occasion, e);
+        } finally {
+            PipelineEnvContext.reset(run);
+        }
+    }
+
+    /**
+     * Hands matched configs to the background delivery queue. The context has already been resolved on the
+     * calling thread, so workers only render and start the sends. When send failures may fail the build, the
+     * caller waits up to the configured limit; afterwards late results no longer change the build. Sends write
+     * to the build log until the run completes, and to the controller log after that.
+     */
+    private static void enqueue(String source, Run<?, ?> run, TaskListener listener, NoticeOccasionEnum occasion,
+                                List<LarkNotifierConfig> matchedConfigs, BuildNotificationContext context,
+                                MessageDispatcher messageDispatcher, LarkDeliveryQueueConfig queueConfig,
+                                boolean failBuild) {
+        NotificationDeliveryQueue queue = NotificationDeliveryQueue.getInstance();
+        AtomicBoolean waiting = new AtomicBoolean(failBuild);
+        DetachableTaskListener deliveryListener = new DetachableTaskListener(listener, run.getExternalizableId(),
+                run::isLogUpdated);
+        CompletableFuture<Void> delivery = queue.submitAsync(queueConfig, () -> {
+            try {
+                return dispatchAll(source, run, deliveryListener, occasion, matchedConfigs, context,
+                        messageDispatcher, waiting::get);
+            } catch (Exception e) {
+                traceException(source, run, deliveryListener, occasion, e);
+                return CompletableFuture.completedFuture(null);
+            }
+        });
+
+        if (delivery.isCompletedExceptionally()) {
+            NoticeLog.trace(listener, NoticeTrace.NOTIFICATION_QUEUE_DROP,
                     NoticeLog.field(NoticeLogKey.SOURCE, source),
                     NoticeLog.field(NoticeLogKey.RUN, run.getExternalizableId()),
                     NoticeLog.field(NoticeLogKey.OCCASION, occasion.name()),
-                    NoticeLog.field(NoticeLogKey.ERROR_TYPE, e.getClass().getSimpleName()),
-                    NoticeLog.field(NoticeLogKey.ERROR, e.getMessage()));
-            NoticeLog.verbose(listener, Messages.notifier_log_send_failure(), e.getMessage());
-        } finally {
-            PipelineEnvContext.reset(run);
+                    NoticeLog.field(NoticeLogKey.QUEUE_DEPTH, queue.depth()));
+            NoticeLog.warning(listener, Messages.notifier_log_queue_dropped(), matchedConfigs.size());
+            return;
+        }
+
+        NoticeLog.trace(listener, NoticeTrace.NOTIFICATION_QUEUE_ENQUEUE,
+                NoticeLog.field(NoticeLogKey.SOURCE, source),
+                NoticeLog.field(NoticeLogKey.RUN, run.getExternalizableId()),
+                NoticeLog.field(NoticeLogKey.OCCASION, occasion.name()),
+                NoticeLog.field(NoticeLogKey.MATCHED_CONFIG_TOTAL, matchedConfigs.size()),
+                NoticeLog.field(NoticeLogKey.QUEUE_DEPTH, queue.depth()));
+        if (!failBuild) {
+            return;
         }
+
+        long start = System.nanoTime();
+        boolean finished = queue.await(delivery, queueConfig.getMaxWaitSeconds());
+        NoticeLog.trace(listener, NoticeTrace.NOTIFICATION_QUEUE_WAIT,
+                NoticeLog.field(NoticeLogKey.SOURCE, source),
+                NoticeLog.field(NoticeLogKey.RUN, run.getExternalizableId()),
+                NoticeLog.field(NoticeLogKey.SUCCESS, finished),
+                NoticeLog.field(NoticeLogKey.WAIT_MS, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)));
+        if (!finished) {
+            waiting.set(false);
+            NoticeLog.warning(listener, Messages.notifier_log_queue_wait_timeout(), queueConfig.getMaxWaitSeconds());
+        }
+    }
+
+    /**
+     * Renders and starts the sends of all matched configs, and traces a send that failed unexpectedly.
+     *
+     * @return future completed once every send result has been handled; it does not complete exceptionally
+     */
+    private static CompletableFuture<Void> dispatchAll(String source, Run<?, ?> run, TaskListener listener,
+                                                       NoticeOccasionEnum occasion,
+                                                       List<LarkNotifierConfig> matchedConfigs,
+                                                       BuildNotificationContext context,
+                                                       MessageDispatcher messageDispatcher, BooleanSupplier failBuild) {
+        CompletableFuture<?>[] deliveries = matchedConfigs.stream()
+                .map(config -> NotificationDispatchExecutor.dispatch(source, run, listener, occasion, config, context,
+                        messageDispatcher, failBuild))
+                .toArray(CompletableFuture[]::new);
+        return CompletableFuture.allOf(deliveries).exceptionally(error -> {
+            traceException(source, run, listener, occasion,
+                    error instanceof CompletionException && error.getCause() != null ? error.getCause() : error);
+            return null;
+        });
+    }
+
+    private static void traceException(String source, Run<?, ?> run, TaskListener listener,
+                                       NoticeOccasionEnum occasion, Throwable e) {
+        NoticeLog.trace(listener, NoticeTrace.NOTIFICATION_EXCEPTION,
+                NoticeLog.field(NoticeLogKey.SOURCE, source),
+                NoticeLog.field(NoticeLogKey.RUN, run.getExternalizableId()),
+                NoticeLog.field(NoticeLogKey.OCCASION, occasion.name()),
+                NoticeLog.field(NoticeLogKey.ERROR_TYPE, e.getClass().getSimpleName()),
+                NoticeLog.field(NoticeLogKey.ERROR, e.getMessage()));
+        NoticeLog.verbose(listener, Messages.notifier_log_send_failure(), e.getMessage());
     }
 }
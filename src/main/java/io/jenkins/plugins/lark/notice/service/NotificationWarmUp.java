@@ -0,0 +1,276 @@
+package io.jenkins.plugins.lark.notice.service;
+
+import hudson.init.InitMilestone;
+import hudson.init.Initializer;
+import io.jenkins.plugins.lark.notice.config.LarkGlobalConfig;
+import io.jenkins.plugins.lark.notice.config.LarkRobotConfig;
+import io.jenkins.plugins.lark.notice.config.LarkRobotPoolMember;
+import io.jenkins.plugins.lark.notice.enums.BuildStatusEnum;
+import io.jenkins.plugins.lark.notice.enums.RobotType;
+import io.jenkins.plugins.lark.notice.model.BuildJobModel;
+import io.jenkins.plugins.lark.notice.model.MessageModel;
+import io.jenkins.plugins.lark.notice.model.RobotConfigModel;
+import io.jenkins.plugins.lark.notice.sdk.HttpTransport;
+import io.jenkins.plugins.lark.notice.sdk.HttpTransportRegistry;
+import io.jenkins.plugins.lark.notice.sdk.MessageSender;
+import io.jenkins.plugins.lark.notice.sdk.MessageSenderRegistry;
+import io.jenkins.plugins.lark.notice.sdk.impl.SendResultReader;
+import io.jenkins.plugins.lark.notice.sdk.model.ding.DingCardMessage;
+import io.jenkins.plugins.lark.notice.sdk.model.lark.LarkCardMessage;
+import io.jenkins.plugins.lark.notice.sdk.model.wechat.WechatWorkTemplateCardMessage;
+import io.jenkins.plugins.lark.notice.tools.JsonUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Warms up the notification path once Jenkins has loaded its configuration, so the first build notifications
+ * after a restart do not pay for class loading, Jackson serializer creation, sender construction, DNS and TLS.
+ *
+ * <p>The work runs on its own daemon thread and never delays startup. It serializes a representative card
+ * for every {@link RobotType}, resolves the sender of every configured robot and opens one keep-alive
+ * connection to every distinct webhook origin through the same pooled client the robot sends with. The
+ * whole warm-up is bounded by {@link #TIME_BUDGET}; whatever is not done by then is left to the first
+ * real send.</p>
+ *
+ * <p>With a relay socket configured, every send leaves through the relay, so no connection is opened from the
+ * controller: it would never be used, and the relay usually exists because the controller cannot reach the
+ * webhooks itself.</p>
+ *
+ * @author xm.z
+ */
+@Slf4j
+public final class NotificationWarmUp {
+
+    /**
+     * Upper bound for the whole warm-up.
+     */
+    static final Duration TIME_BUDGET = Duration.ofSeconds(20);
+
+    /**
+     * Upper bound for one warm-up connection.
+     */
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(5);
+
+    private NotificationWarmUp() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Starts the warm-up in the background once job configurations are loaded.
+     */
+    @Initializer(after = InitMilestone.JOB_CONFIG_ADAPTED)
+    public static void warmUpAfterStartup() {
+        start(NotificationWarmUp::run);
+    }
+
+    /**
+     * Runs the warm-up on a new daemon thread, so it can never keep the JVM alive or delay startup.
+     *
+     * @param warmUp warm-up to run
+     * @return started thread
+     */
+    static Thread start(Runnable warmUp) {
+        Thread thread = new Thread(warmUp, "lark-notice-warm-up");
+        thread.setDaemon(true);
+        thread.start();
+        return thread;
+    }
+
+    /**
+     * Runs every warm-up step on the calling thread, stopping early once the time budget is spent.
+     */
+    static void run() {
+        long started = System.nanoTime();
+        long deadline = started + TIME_BUDGET.toNanos();
+        try {
+            int payloads = warmSerializers();
+            LarkGlobalConfig globalConfig = LarkGlobalConfig.getInstance();
+            List<LarkRobotConfig> robots = globalConfig.getRobotConfigs();
+            int senders = prebuildSenders(robots.stream().map(LarkRobotConfig::getId).toList(),
+                    MessageSenderRegistry.getInstance()::resolve, deadline);
+            int[] connections = StringUtils.isBlank(globalConfig.getRelaySocketPath())
+                    ? awaitConnections(openConnections(robots), deadline) : new int[]{0, 0};
+            log.info("Notification warm-up finished in {} ms: {} payload types, {} senders, {}/{} webhook origins connected",
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started), payloads, senders,
+                    connections[0], connections[1]);
+        } catch (RuntimeException | LinkageError e) {
+            log.warn("Notification warm-up failed", e);
+        }
+    }
+
+    /**
+     * Builds and serializes a representative card for every robot platform, and parses a webhook answer, so
+     * the card model classes and their Jackson serializers exist before the first notification.
+     *
+     * @return number of serialized payloads
+     */
+    static int warmSerializers() {
+        int serialized = 0;
+        for (RobotType robotType : RobotType.values()) {
+            MessageModel msg = sampleMessage(robotType);
+            Object payload = switch (robotType) {
+                case LARK -> LarkCardMessage.build(msg);
+                case DING_TALK -> DingCardMessage.build(msg.getAt(), msg.getTitle(), msg.getText(),
+                        msg.getBtnOrientation(), List.of(new DingCardMessage.Button("Jenkins", "https://jenkins.io")));
+                case WECHAT_WORK -> WechatWorkTemplateCardMessage.build(msg, msg.getText());
+            };
+            byte[] body = JsonUtils.toJsonBytes(payload);
+            if (body != null && body.length > 0) {
+                serialized++;
+            }
+        }
+        try {
+            SendResultReader.read("{\"code\":0,\"msg\":\"success\"}".getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            log.debug("Failed to warm up the webhook response reader", e);
+        }
+        return serialized;
+    }
+
+    private static MessageModel sampleMessage(RobotType robotType) {
+        Locale locale = Locale.getDefault();
+        BuildJobModel buildJobModel = BuildJobModel.builder()
+                .projectName("warm-up").title("warm-up")
+                .projectUrl("https://jenkins.io/").jobName("warm-up #1").jobUrl("https://jenkins.io/job/warm-up/1/")
+                .statusType(BuildStatusEnum.SUCCESS).duration("-")
+                .executorName("Jenkins").build();
+        return buildJobModel.messageModelBuilder(locale)
+                .text(buildJobModel.toMarkdown(robotType, locale))
+                .atAll(false).build();
+    }
+
+    /**
+     * Resolves the sender of every robot, so later sends find it cached, until the deadline passes.
+     *
+     * @param robotIds robot ids in configuration order
+     * @param resolver sender lookup, normally the shared {@link MessageSenderRegistry}
+     * @param deadline {@link System#nanoTime()} after which the remaining robots are skipped
+     * @return number of senders built
+     */
+    static int prebuildSenders(List<String> robotIds, Function<String, MessageSender> resolver, long deadline) {
+        int built = 0;
+        for (String robotId : robotIds) {
+            if (System.nanoTime() >= deadline) {
+                break;
+            }
+            if (resolver.apply(robotId) != null) {
+                built++;
+            }
+        }
+        return built;
+    }
+
+    /**
+     * Starts one connection per distinct webhook origin and transport.
+     *
+     * @return pending connections keyed by transport and origin
+     */
+    private static Map<String, CompletableFuture<Boolean>> openConnections(List<LarkRobotConfig> robots) {
+        Map<String, CompletableFuture<Boolean>> probes = new LinkedHashMap<>();
+        for (LarkRobotConfig robot : robots) {
+            if (robot.obtainRobotType().isEmpty()) {
+                continue;
+            }
+            RobotConfigModel model = RobotConfigModel.of(robot, LarkGlobalConfig.getInstance().obtainProxySelector());
+            Boolean noSsl = model.getNoSsl();
+            HttpTransport transport = HttpTransportRegistry.getInstance()
+                    .obtain(model.getProxySelector(), noSsl != null && noSsl, model.getConnectTimeout());
+            for (String webhook : webhooks(robot, model)) {
+                String origin = origin(webhook);
+                if (origin != null) {
+                    probes.computeIfAbsent(transport.profile().describe() + " " + origin,
+                            ignored -> connect(transport, origin));
+                }
+            }
+        }
+        return probes;
+    }
+
+    /**
+     * Waits for the started connections, at most until the deadline; slower origins are left cold.
+     *
+     * @param probes   pending connections
+     * @param deadline {@link System#nanoTime()} at which waiting stops
+     * @return connected origins and attempted origins
+     */
+    static int[] awaitConnections(Map<String, CompletableFuture<Boolean>> probes, long deadline) {
+        AtomicInteger connected = new AtomicInteger();
+        CompletableFuture<Void> all = CompletableFuture.allOf(probes.values().stream()
+                .map(probe -> probe.thenAccept(ok -> {
+                    if (ok) {
+                        connected.incrementAndGet();
+                    }
+                }))
+                .toArray(CompletableFuture[]::new));
+        try {
+            all.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException | ExecutionException e) {
+            // a slow or failing origin is simply left cold
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return new int[]{connected.get(), probes.size()};
+    }
+
+    private static List<String> webhooks(LarkRobotConfig robot, RobotConfigModel model) {
+        List<String> webhooks = new ArrayList<>();
+        webhooks.add(model.getWebhook());
+        robot.getPoolMembers().stream()
+                .map(LarkRobotPoolMember::getWebhook)
+                .filter(StringUtils::isNotBlank)
+                .forEach(webhooks::add);
+        webhooks.addAll(model.getEndpointCandidates());
+        return webhooks;
+    }
+
+    private static String origin(String url) {
+        try {
+            URI uri = URI.create(StringUtils.trimToEmpty(url));
+            return uri.getScheme() == null || uri.getRawAuthority() == null ? null
+                    : uri.getScheme() + "://" + uri.getRawAuthority();
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Sends a {@code HEAD} request to the origin; any HTTP answer leaves a pooled keep-alive connection behind.
+     *
+     * @param transport pooled transport the robot sends with
+     * @param origin    scheme and authority of the webhook
+     * @return future completed with whether the origin answered; never completes exceptionally
+     */
+    static CompletableFuture<Boolean> connect(HttpTransport transport, String origin) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(origin + "/"))
+                .method("HEAD", HttpRequest.BodyPublishers.noBody())
+                .timeout(CONNECT_TIMEOUT)
+                .build();
+        return transport.client().sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .thenApply(response -> {
+                    transport.record(response);
+                    return true;
+                })
+                .exceptionally(e -> {
+                    log.debug("Warm-up connection to {} failed", origin, e);
+                    return false;
+                });
+    }
+}
@@ -4,10 +4,12 @@ import com.google.common.collect.ImmutableSet;
 import hudson.EnvVars;
 import hudson.model.Run;
 import hudson.model.TaskListener;
+import io.jenkins.plugins.lark.notice.config.LarkGlobalConfig;
 import io.jenkins.plugins.lark.notice.enums.MsgTypeEnum;
 import io.jenkins.plugins.lark.notice.model.ButtonModel;
 import io.jenkins.plugins.lark.notice.model.ImgModel;
 import io.jenkins.plugins.lark.notice.sdk.MessageDispatcher;
+import io.jenkins.plugins.lark.notice.sdk.WebhookExchange;
 import io.jenkins.plugins.lark.notice.sdk.model.SendResult;
 import io.jenkins.plugins.lark.notice.sdk.model.lark.support.Button;
 import io.jenkins.plugins.lark.notice.sdk.model.lark.support.form.TextElement;
@@ -25,6 +27,7 @@ import org.springframework.util.CollectionUtils;
 import java.io.Serializable;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 /**
@@ -51,6 +54,12 @@ public abstract class AbstractStep extends Step {
      */
     protected boolean failOnError = true;
 
+    /**
+     * Whether the webhook call runs on the agent executing this step; {@code null} follows
+     * {@link LarkGlobalConfig#isSendFromAgent()}.
+     */
+    protected Boolean sendFromAgent;
+
     public AbstractStep(String robot, MsgTypeEnum type) {
         this.robot = robot;
         this.type = type;
@@ -66,7 +75,38 @@ public abstract class AbstractStep extends Step {
         this.failOnError = failOnError;
     }
 
-    protected abstract SendResult send(Run<?, ?> run, EnvVars envVars, TaskListener listener);
+    /**
+     * Sets whether the webhook call runs on the agent executing this step. The message is still rendered and
+     * signed on the controller; only the signed request is sent over the remoting channel.
+     *
+     * @param sendFromAgent {@code true} to send from the agent, {@code false} to send from the controller,
+     *                      {@code null} to follow the global default
+     */
+    @DataBoundSetter
+    public void setSendFromAgent(Boolean sendFromAgent) {
+        this.sendFromAgent = sendFromAgent;
+    }
+
+    /**
+     * Returns whether this step should send from its agent, applying the global default.
+     *
+     * @return {@code true} when the webhook call should run on the agent
+     */
+    public boolean isSendFromAgentEnabled() {
+        return sendFromAgent != null ? sendFromAgent : LarkGlobalConfig.getInstance().isSendFromAgent();
+    }
+
+    /**
+     * Starts sending this step's message without waiting for the webhook to answer.
+     *
+     * @param run      current run
+     * @param envVars  environment used to expand the step arguments
+     * @param listener build listener
+     * @param exchange exchange performing the HTTP call on the current agent, or {@code null} for the controller
+     * @return future completed with the send result
+     */
+    protected abstract CompletableFuture<SendResult> sendAsync(Run<?, ?> run, EnvVars envVars, TaskListener listener,
+                                                               WebhookExchange exchange);
 
     @Override
     public StepExecution start(StepContext context) throws Exception {
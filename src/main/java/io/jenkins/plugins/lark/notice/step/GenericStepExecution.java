@@ -1,17 +1,24 @@
 package io.jenkins.plugins.lark.notice.step;
 
 import hudson.EnvVars;
+import hudson.Launcher;
 import hudson.model.Run;
 import hudson.model.TaskListener;
+import hudson.remoting.LocalChannel;
+import hudson.remoting.VirtualChannel;
 import io.jenkins.plugins.lark.notice.Messages;
 import io.jenkins.plugins.lark.notice.logging.NoticeLog;
 import io.jenkins.plugins.lark.notice.logging.NoticeLogKey;
 import io.jenkins.plugins.lark.notice.logging.NoticeTrace;
+import io.jenkins.plugins.lark.notice.sdk.AgentWebhookExchange;
 import io.jenkins.plugins.lark.notice.sdk.model.SendResult;
 import org.apache.commons.lang3.StringUtils;
 import org.jenkinsci.plugins.workflow.steps.StepContext;
 import org.jenkinsci.plugins.workflow.steps.StepExecution;
 
+import java.io.IOException;
+import java.util.concurrent.CompletionException;
+
 /**
  * Generic pipeline step executor that delegates real sending logic to {@link AbstractStep}.
  *
@@ -35,10 +42,11 @@ public class GenericStepExecution<T extends AbstractStep> extends StepExecution
     }
 
     /**
-     * Executes the step and reports results back to the pipeline context.
+     * Starts sending the step's message and reports the result back to the pipeline context once the send
+     * completes, so no executor thread waits for the webhook.
      *
-     * @return true if execution is started and handled
-     * @throws Exception if the step throws during execution
+     * @return always {@code false}, as the step completes asynchronously or has already failed
+     * @throws Exception if the step context cannot be read
      */
     @Override
     public boolean start() throws Exception {
@@ -57,48 +65,92 @@ public class GenericStepExecution<T extends AbstractStep> extends StepExecution
                 return false;
             }
 
+            VirtualChannel agent = step.isSendFromAgentEnabled() ? agentChannel(context, listener) : null;
             NoticeLog.trace(listener, NoticeTrace.PIPELINE_STEP_START,
                     NoticeLog.field(NoticeLogKey.STEP, stepName),
                     NoticeLog.field(NoticeLogKey.RUN, run.getExternalizableId()),
                     NoticeLog.field(NoticeLogKey.ROBOT, step.getRobot()),
-                    NoticeLog.field(NoticeLogKey.MESSAGE_TYPE, step.getType()));
-            SendResult sendResult = this.step.send(run, envVars, listener);
-            if (sendResult == null) {
-                context.onFailure(new IllegalStateException(NoticeLog.failureMessage(Messages.dispatcher_error_send_result_missing())));
-                return false;
-            }
-            if (sendResult.isOk()) {
-                NoticeLog.trace(listener, NoticeTrace.PIPELINE_STEP_FINISH,
-                        NoticeLog.field(NoticeLogKey.STEP, stepName),
-                        NoticeLog.field(NoticeLogKey.RUN, run.getExternalizableId()),
-                        NoticeLog.field(NoticeLogKey.SUCCESS, true),
-                        NoticeLog.field(NoticeLogKey.RESULT_CODE, sendResult.getCode()),
-                        NoticeLog.field(NoticeLogKey.MESSAGE, NoticeLog.abbreviate(sendResult.getMsg(), 200)));
-                context.onSuccess(sendResult.getMsg());
-            } else {
-                NoticeLog.trace(listener, NoticeTrace.PIPELINE_STEP_FINISH,
-                        NoticeLog.field(NoticeLogKey.STEP, stepName),
-                        NoticeLog.field(NoticeLogKey.RUN, run.getExternalizableId()),
-                        NoticeLog.field(NoticeLogKey.SUCCESS, false),
-                        NoticeLog.field(NoticeLogKey.RESULT_CODE, sendResult.getCode()),
-                        NoticeLog.field(NoticeLogKey.MESSAGE, NoticeLog.abbreviate(sendResult.getMsg(), 200)));
-                String failureMessage = StringUtils.defaultIfBlank(
-                        sendResult.getMsg(), Messages.dispatcher_error_send_result_missing());
-                if (step.isFailOnError()) {
-                    context.onFailure(new IllegalStateException(NoticeLog.failureMessage(failureMessage)));
-                } else {
-                    NoticeLog.warning(listener, "%s", failureMessage);
-                    context.onSuccess(failureMessage);
-                }
-            }
-            return true;
+                    NoticeLog.field(NoticeLogKey.MESSAGE_TYPE, step.getType()),
+                    NoticeLog.field(NoticeLogKey.SEND_NODE, agent == null ? "controller" : "agent"));
+            this.step.sendAsync(run, envVars, listener, agent == null ? null : new AgentWebhookExchange(agent))
+                    .whenComplete((sendResult, error) -> {
+                        try {
+                            if (error != null) {
+                                fail(context, listener, stepName, error);
+                            } else {
+                                complete(context, listener, run, stepName, sendResult);
+                            }
+                        } catch (RuntimeException e) {
+                            fail(context, listener, stepName, e);
+                        }
+                    });
         } catch (Exception e) {
-            NoticeLog.trace(listener, NoticeTrace.PIPELINE_STEP_FAILURE,
+            fail(context, listener, stepName, e);
+        }
+        return false;
+    }
+
+    /**
+     * Fails the step: the send that was in flight when Jenkins restarted cannot be resumed.
+     */
+    @Override
+    public void onResume() {
+        getContext().onFailure(new IllegalStateException(NoticeLog.failureMessage(Messages.pipeline_step_interrupted())));
+    }
+
+    private void complete(StepContext context, TaskListener listener, Run<?, ?> run, String stepName,
+                          SendResult sendResult) {
+        if (sendResult == null) {
+            context.onFailure(new IllegalStateException(NoticeLog.failureMessage(Messages.dispatcher_error_send_result_missing())));
+            return;
+        }
+        if (sendResult.isOk()) {
+            NoticeLog.trace(listener, NoticeTrace.PIPELINE_STEP_FINISH,
+                    NoticeLog.field(NoticeLogKey.STEP, stepName),
+                    NoticeLog.field(NoticeLogKey.RUN, run.getExternalizableId()),
+                    NoticeLog.field(NoticeLogKey.SUCCESS, true),
+                    NoticeLog.field(NoticeLogKey.RESULT_CODE, sendResult.getCode()),
+                    NoticeLog.field(NoticeLogKey.MESSAGE, NoticeLog.abbreviate(sendResult.getMsg(), 200)));
+            context.onSuccess(sendResult.getMsg());
+        } else {
+            NoticeLog.trace(listener, NoticeTrace.PIPELINE_STEP_FINISH,
                     NoticeLog.field(NoticeLogKey.STEP, stepName),
-                    NoticeLog.field(NoticeLogKey.ERROR_TYPE, e.getClass().getSimpleName()),
-                    NoticeLog.field(NoticeLogKey.ERROR, e.getMessage()));
-            context.onFailure(e);
-            return false;
+                    NoticeLog.field(NoticeLogKey.RUN, run.getExternalizableId()),
+                    NoticeLog.field(NoticeLogKey.SUCCESS, false),
+                    NoticeLog.field(NoticeLogKey.RESULT_CODE, sendResult.getCode()),
+                    NoticeLog.field(NoticeLogKey.MESSAGE, NoticeLog.abbreviate(sendResult.getMsg(), 200)));
+            String failureMessage = StringUtils.defaultIfBlank(
+                    sendResult.getMsg(), Messages.dispatcher_error_send_result_missing());
+            if (step.isFailOnError()) {
+                context.onFailure(new IllegalStateException(NoticeLog.failureMessage(failureMessage)));
+            } else {
+                NoticeLog.warning(listener, "%s", failureMessage);
+                context.onSuccess(failureMessage);
+            }
+        }
+    }
+
+    private static void fail(StepContext context, TaskListener listener, String stepName, Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        NoticeLog.trace(listener, NoticeTrace.PIPELINE_STEP_FAILURE,
+                NoticeLog.field(NoticeLogKey.STEP, stepName),
+                NoticeLog.field(NoticeLogKey.ERROR_TYPE, cause.getClass().getSimpleName()),
+                NoticeLog.field(NoticeLogKey.ERROR, cause.getMessage()));
+        context.onFailure(cause);
+    }
+
+    /**
+     * Returns the remoting channel of the agent this step runs on, or {@code null} when the step runs outside a
+     * {@code node} block or on the built-in node, where sending from the controller is equivalent.
+     */
+    private static VirtualChannel agentChannel(StepContext context, TaskListener listener)
+            throws IOException, InterruptedException {
+        Launcher launcher = context.get(Launcher.class);
+        VirtualChannel channel = launcher == null ? null : launcher.getChannel();
+        if (channel == null) {
+            NoticeLog.verbose(listener, Messages.pipeline_log_agent_unavailable());
+            return null;
         }
+        return channel instanceof LocalChannel ? null : channel;
     }
 }
@@ -9,6 +9,7 @@ import io.jenkins.plugins.lark.notice.enums.MsgTypeEnum;
 import io.jenkins.plugins.lark.notice.enums.NoticeOccasionEnum;
 import io.jenkins.plugins.lark.notice.model.ButtonModel;
 import io.jenkins.plugins.lark.notice.model.MessageModel;
+import io.jenkins.plugins.lark.notice.sdk.WebhookExchange;
 import io.jenkins.plugins.lark.notice.sdk.model.SendResult;
 import io.jenkins.plugins.lark.notice.sdk.model.lark.support.Button;
 import io.jenkins.plugins.lark.notice.step.AbstractStep;
@@ -21,6 +22,7 @@ import org.kohsuke.stapler.DataBoundSetter;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 import static io.jenkins.plugins.lark.notice.sdk.constant.Constants.defaultTitle;
 
@@ -200,10 +202,12 @@ public class DingTalkStep extends AbstractStep {
      * @param run      The run to send the message to.
      * @param envVars  The environment variables.
      * @param listener The task listener.
-     * @return The SendResult indicating the success or failure of the message sending.
+     * @param exchange The exchange performing the HTTP call on the current agent, or {@code null} for the controller.
+     * @return A future completed with the SendResult indicating the success or failure of the message sending.
      */
     @Override
-    protected SendResult send(Run<?, ?> run, EnvVars envVars, TaskListener listener) {
+    protected CompletableFuture<SendResult> sendAsync(Run<?, ?> run, EnvVars envVars, TaskListener listener,
+                                                      WebhookExchange exchange) {
         NoticeOccasionEnum noticeOccasion = NoticeOccasionEnum.getNoticeOccasion(run.getResult());
 
         List<Button> resolvedButtons = expandButtons(envVars, buttons);
@@ -224,7 +228,7 @@ public class DingTalkStep extends AbstractStep {
                 .atAll(atAll).atUserIds(ats)
                 .build();
 
-        return service.send(listener, envVars.expand(robot), message);
+        return service.sendAsync(listener, envVars.expand(robot), message, exchange);
     }
 
     @Extension
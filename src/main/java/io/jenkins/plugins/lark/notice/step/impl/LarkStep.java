@@ -10,6 +10,7 @@ import io.jenkins.plugins.lark.notice.enums.NoticeOccasionEnum;
 import io.jenkins.plugins.lark.notice.model.ButtonModel;
 import io.jenkins.plugins.lark.notice.model.ImgModel;
 import io.jenkins.plugins.lark.notice.model.MessageModel;
+import io.jenkins.plugins.lark.notice.sdk.WebhookExchange;
 import io.jenkins.plugins.lark.notice.sdk.model.SendResult;
 import io.jenkins.plugins.lark.notice.sdk.model.lark.support.Button;
 import io.jenkins.plugins.lark.notice.sdk.model.lark.support.view.img.ImgElement;
@@ -23,6 +24,7 @@ import org.kohsuke.stapler.DataBoundSetter;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import static io.jenkins.plugins.lark.notice.sdk.constant.Constants.defaultTitle;
 
@@ -173,10 +175,12 @@ public class LarkStep extends AbstractStep {
      * @param run      The run to send the message to.
      * @param envVars  The environment variables.
      * @param listener The task listener.
-     * @return The SendResult indicating the success or failure of the message sending.
+     * @param exchange The exchange performing the HTTP call on the current agent, or {@code null} for the controller.
+     * @return A future completed with the SendResult indicating the success or failure of the message sending.
      */
     @Override
-    public SendResult send(Run<?, ?> run, EnvVars envVars, TaskListener listener) {
+    public CompletableFuture<SendResult> sendAsync(Run<?, ?> run, EnvVars envVars, TaskListener listener,
+                                                   WebhookExchange exchange) {
         NoticeOccasionEnum noticeOccasion = NoticeOccasionEnum.getNoticeOccasion(run.getResult());
 
         List<Button> resolvedButtons = expandButtons(envVars, buttons);
@@ -192,7 +196,7 @@ public class LarkStep extends AbstractStep {
                 .topImg(buildImg(envVars, topImg)).bottomImg(buildImg(envVars, bottomImg))
                 .build();
 
-        return service.send(listener, envVars.expand(robot), message);
+        return service.sendAsync(listener, envVars.expand(robot), message, exchange);
     }
 
     /**
@@ -12,6 +12,7 @@ import io.jenkins.plugins.lark.notice.model.ButtonModel;
 import io.jenkins.plugins.lark.notice.model.ImgModel;
 import io.jenkins.plugins.lark.notice.model.MessageModel;
 import io.jenkins.plugins.lark.notice.model.RunUser;
+import io.jenkins.plugins.lark.notice.sdk.WebhookExchange;
 import io.jenkins.plugins.lark.notice.sdk.model.SendResult;
 import io.jenkins.plugins.lark.notice.sdk.model.lark.support.Button;
 import io.jenkins.plugins.lark.notice.step.AbstractStep;
@@ -26,6 +27,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 import static io.jenkins.plugins.lark.notice.sdk.constant.Constants.defaultTitle;
@@ -176,13 +178,15 @@ public class WechatWorkStep extends AbstractStep {
      * @param run      The run to send the message to.
      * @param envVars  The environment variables.
      * @param listener The task listener.
-     * @return The SendResult indicating the success or failure of the message sending.
+     * @param exchange The exchange performing the HTTP call on the current agent, or {@code null} for the controller.
+     * @return A future completed with the SendResult indicating the success or failure of the message sending.
      */
     @Override
-    protected SendResult send(Run<?, ?> run, EnvVars envVars, TaskListener listener) {
+    protected CompletableFuture<SendResult> sendAsync(Run<?, ?> run, EnvVars envVars, TaskListener listener,
+                                                      WebhookExchange exchange) {
         String robotId = envVars.expand(robot);
         MessageModel message = buildMessage(run, envVars, listener, robotId);
-        return service.send(listener, robotId, message);
+        return service.sendAsync(listener, robotId, message, exchange);
     }
 
     private MessageModel buildMessage(Run<?, ?> run, EnvVars envVars, TaskListener listener, String robotId) {
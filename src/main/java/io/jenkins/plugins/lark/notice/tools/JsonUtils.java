@@ -1,9 +1,12 @@
 package io.jenkins.plugins.lark.notice.tools;
 
 import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.json.JsonReadFeature;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.fasterxml.jackson.core.util.JsonGeneratorDelegate;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -17,6 +20,7 @@ import org.springframework.util.StringUtils;
 import java.io.IOException;
 import java.time.ZoneId;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.TimeZone;
 
@@ -44,6 +48,45 @@ public final class JsonUtils {
         return mapper().writeValueAsString(object);
     }
 
+    /**
+     * Serializes the given object straight to UTF-8 JSON bytes, skipping the intermediate string.
+     *
+     * @param object source object
+     * @return serialized JSON, or {@code null} when the input is {@code null}
+     */
+    @SneakyThrows(JsonProcessingException.class)
+    public static byte[] toJsonBytes(Object object) {
+        if (object == null) {
+            return null;
+        }
+        return mapper().writeValueAsBytes(object);
+    }
+
+    /**
+     * Serializes the given object straight to UTF-8 JSON bytes and appends extra string fields to its root
+     * object in the same pass, as if they had been declared last on the bean.
+     *
+     * @param object         source object, serialized as a JSON object
+     * @param trailingFields fields written before the root object is closed, in iteration order
+     * @return serialized JSON, or {@code null} when the input is {@code null}
+     */
+    @SneakyThrows(IOException.class)
+    public static byte[] toJsonBytes(Object object, Map<String, String> trailingFields) {
+        if (object == null) {
+            return null;
+        }
+        if (trailingFields == null || trailingFields.isEmpty()) {
+            return toJsonBytes(object);
+        }
+        ObjectMapper mapper = mapper();
+        try (ByteArrayBuilder buffer = new ByteArrayBuilder()) {
+            try (JsonGenerator generator = mapper.getFactory().createGenerator(buffer)) {
+                mapper.writeValue(new TrailingFieldsGenerator(generator, trailingFields), object);
+            }
+            return buffer.toByteArray();
+        }
+    }
+
     /**
      * Serializes the given object to indented JSON for human-readable exports.
      *
@@ -85,6 +128,30 @@ public final class JsonUtils {
         return mapper().readValue(jsonString, valueType);
     }
 
+    /**
+     * Creates a streaming parser over UTF-8 JSON bytes, using the same lenient features as the shared mapper.
+     *
+     * @param content raw JSON bytes
+     * @param offset  index of the first byte to parse
+     * @param length  number of bytes to parse
+     * @return streaming parser; the caller closes it
+     * @throws IOException when the parser cannot be created
+     */
+    public static JsonParser createParser(byte[] content, int offset, int length) throws IOException {
+        return mapper().getFactory().createParser(content, offset, length);
+    }
+
+    /**
+     * Creates a streaming parser over a JSON string, using the same lenient features as the shared mapper.
+     *
+     * @param content raw JSON string
+     * @return streaming parser; the caller closes it
+     * @throws IOException when the parser cannot be created
+     */
+    public static JsonParser createParser(String content) throws IOException {
+        return mapper().getFactory().createParser(content);
+    }
+
     /**
      * Deserializes a JSON array into a typed list.
      *
@@ -136,6 +203,29 @@ public final class JsonUtils {
         return JacksonHolder.INSTANCE;
     }
 
+    /**
+     * Generator that writes a fixed set of string fields just before the root object ends.
+     */
+    private static final class TrailingFieldsGenerator extends JsonGeneratorDelegate {
+
+        private final Map<String, String> trailingFields;
+
+        private TrailingFieldsGenerator(JsonGenerator delegate, Map<String, String> trailingFields) {
+            super(delegate, false);
+            this.trailingFields = trailingFields;
+        }
+
+        @Override
+        public void writeEndObject() throws IOException {
+            if (getOutputContext().getParent() != null && getOutputContext().getParent().inRoot()) {
+                for (Map.Entry<String, String> field : trailingFields.entrySet()) {
+                    delegate.writeStringField(field.getKey(), field.getValue());
+                }
+            }
+            super.writeEndObject();
+        }
+    }
+
     /**
      * Lazy holder for the shared {@link ObjectMapper} instance.
      */
@@ -0,0 +1,47 @@
+package io.jenkins.plugins.lark.notice.config;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link NoProxyMatcher} pattern matching.
+ */
+public class NoProxyMatcherTest {
+
+    @Test
+    public void shouldMatchExactHostsAndDomainSuffixes() {
+        NoProxyMatcher matcher = NoProxyMatcher.compile("lark.internal, .corp.example\n*.svc.local");
+
+        assertTrue(matcher.matches("LARK.internal"));
+        assertFalse(matcher.matches("api.lark.internal"));
+        assertTrue(matcher.matches("corp.example"));
+        assertTrue(matcher.matches("hooks.corp.example"));
+        assertFalse(matcher.matches("notcorp.example"));
+        assertTrue(matcher.matches("relay.svc.local"));
+        assertFalse(matcher.matches("open.feishu.cn"));
+    }
+
+    @Test
+    public void shouldMatchIpLiteralsAgainstCidrRanges() {
+        NoProxyMatcher matcher = NoProxyMatcher.compile("10.0.0.0/8 192.168.1.0/25 fd00::/8 172.16.0.1");
+
+        assertTrue(matcher.matches("10.20.30.40"));
+        assertTrue(matcher.matches("192.168.1.127"));
+        assertFalse(matcher.matches("192.168.1.128"));
+        assertTrue(matcher.matches("[fd12::1]"));
+        assertFalse(matcher.matches("fe80::1"));
+        assertTrue(matcher.matches("172.16.0.1"));
+        assertFalse(matcher.matches("11.0.0.1"));
+        assertFalse(matcher.matches("internal.host"));
+    }
+
+    @Test
+    public void shouldIgnoreInvalidRangesAndEmptyInput() {
+        assertTrue(NoProxyMatcher.compile(null).isEmpty());
+        assertTrue(NoProxyMatcher.compile("10.0.0.0/40, 300.1.1.1/8").isEmpty());
+        assertFalse(NoProxyMatcher.compile("").matches("localhost"));
+        assertTrue(NoProxyMatcher.compile("*").matches("anything.example"));
+    }
+}
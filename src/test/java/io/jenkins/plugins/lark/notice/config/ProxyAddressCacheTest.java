@@ -0,0 +1,63 @@
+package io.jenkins.plugins.lark.notice.config;
+
+import org.junit.Test;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Tests for {@link ProxyAddressCache} refresh behavior.
+ */
+public class ProxyAddressCacheTest {
+
+    @Test
+    public void shouldResolveOnceWhileFresh() {
+        AtomicInteger lookups = new AtomicInteger();
+        ProxyAddressCache cache = new ProxyAddressCache((host, port) -> {
+            lookups.incrementAndGet();
+            return new InetSocketAddress("127.0.0.1", port);
+        }, Runnable::run);
+
+        InetSocketAddress first = cache.resolve("proxy.local", 8080, 0L);
+        InetSocketAddress second = cache.resolve("proxy.local", 8080, ProxyAddressCache.REFRESH_AFTER_NANOS - 1);
+
+        assertSame(first, second);
+        assertEquals(1, lookups.get());
+    }
+
+    @Test
+    public void shouldServeCachedAddressWhileRefreshingInBackground() {
+        AtomicInteger lookups = new AtomicInteger();
+        List<Runnable> refreshes = new ArrayList<>();
+        ProxyAddressCache cache = new ProxyAddressCache((host, port) ->
+                new InetSocketAddress("127.0.0." + lookups.incrementAndGet(), port), refreshes::add);
+        InetSocketAddress first = cache.resolve("proxy.local", 8080, 0L);
+
+        long stale = ProxyAddressCache.REFRESH_AFTER_NANOS;
+        assertSame(first, cache.resolve("proxy.local", 8080, stale));
+        assertSame(first, cache.resolve("proxy.local", 8080, stale));
+        assertEquals(1, refreshes.size());
+
+        refreshes.get(0).run();
+        assertEquals("127.0.0.2", cache.resolve("proxy.local", 8080, stale).getHostString());
+    }
+
+    @Test
+    public void shouldKeepLastGoodAddressWhenRefreshFails() {
+        AtomicInteger lookups = new AtomicInteger();
+        ProxyAddressCache cache = new ProxyAddressCache((host, port) -> lookups.incrementAndGet() == 1
+                ? new InetSocketAddress("127.0.0.1", port)
+                : InetSocketAddress.createUnresolved(host, port), Runnable::run);
+        InetSocketAddress first = cache.resolve("proxy.local", 8080, 0L);
+
+        cache.resolve("proxy.local", 8080, ProxyAddressCache.REFRESH_AFTER_NANOS);
+
+        assertSame(first, cache.resolve("proxy.local", 8080, ProxyAddressCache.REFRESH_AFTER_NANOS));
+        assertEquals(2, lookups.get());
+    }
+}
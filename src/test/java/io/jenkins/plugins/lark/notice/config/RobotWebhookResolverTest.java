@@ -4,6 +4,8 @@ import io.jenkins.plugins.lark.notice.enums.RobotProtocolType;
 import io.jenkins.plugins.lark.notice.enums.WebhookEndpointMode;
 import org.junit.Test;
 
+import java.util.List;
+
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
@@ -138,4 +140,20 @@ public class RobotWebhookResolverTest {
         assertEquals("", RobotWebhookResolver.extractBaseUrl("https://example.com/webhook/robot-a"));
         assertEquals("", RobotWebhookResolver.extractWebhookToken("https://example.com/webhook/robot-a"));
     }
+
+    @Test
+    public void shouldParseAlternativeBaseUrls() {
+        assertEquals(List.of("https://open.larksuite.com", "http://lark-mirror.internal:8080"),
+                RobotWebhookResolver.parseBaseUrls(
+                        "https://open.larksuite.com/, ftp://bad.example\nhttp://lark-mirror.internal:8080 https://open.larksuite.com"));
+        assertTrue(RobotWebhookResolver.parseBaseUrls(null).isEmpty());
+    }
+
+    @Test
+    public void shouldRebaseLarkCompatibleWebhook() {
+        assertEquals("https://open.larksuite.com/open-apis/bot/v2/hook/robot-a", RobotWebhookResolver.rebase(
+                "https://open.feishu.cn/open-apis/bot/v2/hook/robot-a", "https://open.larksuite.com"));
+        assertEquals("https://oapi.dingtalk.com/robot/send?access_token=a", RobotWebhookResolver.rebase(
+                "https://oapi.dingtalk.com/robot/send?access_token=a", "https://open.larksuite.com"));
+    }
 }
@@ -0,0 +1,74 @@
+package io.jenkins.plugins.lark.notice.model;
+
+import io.jenkins.plugins.lark.notice.enums.MsgTypeEnum;
+import io.jenkins.plugins.lark.notice.sdk.model.lark.support.Button;
+import io.jenkins.plugins.lark.notice.tools.JsonUtils;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+/**
+ * Tests for the immutable {@link MessageModel}.
+ */
+public class MessageModelTest {
+
+    @Test
+    public void shouldCopyCollectionsWhenBuilt() {
+        Set<String> atUserIds = new LinkedHashSet<>(List.of("ou_1"));
+        List<Button> buttons = new ArrayList<>(List.of(new Button("Console", "https://jenkins.example/1/console", "default")));
+        MessageModel message = MessageModel.builder().atUserIds(atUserIds).buttons(buttons).build();
+
+        atUserIds.add("ou_2");
+        buttons.clear();
+
+        assertEquals(Set.of("ou_1"), message.getAtUserIds());
+        assertEquals(1, message.getButtons().size());
+        assertThrows(UnsupportedOperationException.class, () -> message.getAtUserIds().add("ou_3"));
+        assertThrows(UnsupportedOperationException.class, () -> message.getButtons().clear());
+    }
+
+    @Test
+    public void toBuilderShouldLeaveOriginalUntouched() {
+        MessageModel message = MessageModel.builder().type(MsgTypeEnum.TEXT).title("Build").text("ok").build();
+
+        MessageModel renamed = message.toBuilder().title("Release").build();
+
+        assertEquals("Build", message.getTitle());
+        assertEquals("Release", renamed.getTitle());
+        assertEquals("ok", renamed.getText());
+    }
+
+    @Test
+    public void shouldRoundTripThroughJson() {
+        MessageModel message = MessageModel.builder()
+                .type(MsgTypeEnum.MARKDOWN)
+                .title("Build")
+                .text("ok")
+                .atUserIds(Set.of("ou_1"))
+                .build();
+
+        MessageModel restored = JsonUtils.readValue(JsonUtils.toJson(message), MessageModel.class);
+
+        assertEquals(MsgTypeEnum.MARKDOWN, restored.getType());
+        assertEquals("Build", restored.getTitle());
+        assertEquals(Set.of("ou_1"), restored.getAtUserIds());
+    }
+
+    @Test
+    public void shouldRoundTripImmutableButtonsThroughJson() {
+        Button console = new Button("Console", "https://jenkins.example/1/console", null);
+        MessageModel message = MessageModel.builder().buttons(List.of(console)).build();
+
+        MessageModel restored = JsonUtils.readValue(JsonUtils.toJson(message), MessageModel.class);
+
+        assertEquals(List.of(console), restored.getButtons());
+        assertEquals("primary_filled", restored.getButtons().get(0).getType());
+        assertEquals("button", restored.getButtons().get(0).getTag());
+    }
+}
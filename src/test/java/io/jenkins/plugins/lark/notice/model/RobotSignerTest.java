@@ -0,0 +1,85 @@
+package io.jenkins.plugins.lark.notice.model;
+
+import io.jenkins.plugins.lark.notice.enums.RobotType;
+import org.junit.Test;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.net.URLEncoder;
+import java.util.Base64;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests that cached robot signatures match the platform algorithms.
+ */
+public class RobotSignerTest {
+
+    private static final String SECRET = "SEC0123456789abcdef";
+
+    @Test
+    public void shouldSignLikeLark() throws Exception {
+        RobotSigner signer = RobotSigner.of(RobotType.LARK, SECRET);
+
+        assertEquals(reference(false, 1700000000L, SECRET), signer.sign(1700000000L));
+        assertEquals(reference(false, 1700000001L, SECRET), signer.sign(1700000001L));
+    }
+
+    @Test
+    public void shouldSignLikeDingTalk() throws Exception {
+        RobotSigner signer = RobotSigner.of(RobotType.DING_TALK, SECRET);
+
+        for (long timestamp = 1700000000000L; timestamp < 1700000000050L; timestamp++) {
+            assertEquals(reference(true, timestamp, SECRET), signer.sign(timestamp));
+        }
+    }
+
+    @Test
+    public void shouldReuseTheSignatureWithinOneTimestamp() throws Exception {
+        RobotSigner signer = RobotSigner.of(RobotType.LARK, SECRET);
+
+        assertSame(signer.sign(1700000000L), signer.sign(1700000000L));
+    }
+
+    @Test
+    public void shouldFollowSecretChangesOnTheModel() {
+        RobotConfigModel model = new RobotConfigModel();
+        model.setRobotType(RobotType.LARK);
+        model.setSign(SECRET);
+        String before = model.createSign(1700000000L);
+
+        model.setSign("SECanother");
+
+        assertNotEquals(before, model.createSign(1700000000L));
+        assertEquals(reference(false, 1700000000L, "SECanother"), model.createSign(1700000000L));
+    }
+
+    @Test
+    public void shouldOnlyBeReusedForTheSameSecretAndPlatform() {
+        RobotSigner signer = RobotSigner.of(RobotType.LARK, SECRET);
+
+        assertTrue(signer.isFor(RobotType.LARK, SECRET));
+        assertFalse(signer.isFor(RobotType.DING_TALK, SECRET));
+        assertFalse(signer.isFor(RobotType.LARK, "other"));
+    }
+
+    /**
+     * The original per-send implementation.
+     */
+    private static String reference(boolean dingTalk, long timestamp, String secret) {
+        try {
+            String seed = timestamp + "\n" + secret;
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec((dingTalk ? secret : seed).getBytes(UTF_8), "HmacSHA256"));
+            String sign = Base64.getEncoder().encodeToString(mac.doFinal(dingTalk ? seed.getBytes(UTF_8) : new byte[]{}));
+            return dingTalk ? URLEncoder.encode(sign, UTF_8) : sign;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
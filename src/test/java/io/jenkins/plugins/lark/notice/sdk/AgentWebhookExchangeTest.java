@@ -0,0 +1,125 @@
+package io.jenkins.plugins.lark.notice.sdk;
+
+import com.sun.net.httpserver.HttpServer;
+import io.jenkins.plugins.lark.notice.enums.RobotType;
+import io.jenkins.plugins.lark.notice.model.MessageModel;
+import io.jenkins.plugins.lark.notice.model.RobotConfigModel;
+import io.jenkins.plugins.lark.notice.sdk.impl.WechatWorkMessageSender;
+import io.jenkins.plugins.lark.notice.sdk.model.SendResult;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for sending signed webhook requests through an exchange other than the controller's client.
+ */
+public class AgentWebhookExchangeTest {
+
+    private static final String WEBHOOK = "http://127.0.0.1:1/cgi-bin/webhook/send?key=token";
+
+    @Test
+    public void routedSenderShouldHandTheBuiltRequestToTheExchange() {
+        AtomicReference<WebhookRequest> captured = new AtomicReference<>();
+        WebhookExchange exchange = request -> {
+            captured.set(request);
+            return CompletableFuture.completedFuture(new WebhookResponse(200,
+                    Map.of("x-test", List.of("1")), "{\"errcode\":0,\"errmsg\":\"ok\"}"));
+        };
+        MessageSender sender = new RoutedMessageSender(new WechatWorkMessageSender(robotConfig()), exchange);
+
+        SendResult result = sender.sendText(MessageModel.builder().text("hello").build());
+
+        assertTrue(result.isOk());
+        assertEquals(WEBHOOK, captured.get().uri());
+        assertEquals(captured.get().body(), result.getRequestBody());
+        assertTrue(captured.get().body().contains("\"content\":\"hello\""));
+        assertEquals(List.of("1"), result.getHeaders().get("x-test"));
+    }
+
+    @Test
+    public void outerRouteShouldWinOverTheRobotRelay() {
+        AtomicReference<String> route = new AtomicReference<>();
+        WebhookExchange relay = request -> answer(route, "relay");
+        WebhookExchange agent = request -> answer(route, "agent");
+        MessageSender sender = new RoutedMessageSender(
+                new RoutedMessageSender(new WechatWorkMessageSender(robotConfig()), relay), agent);
+
+        SendResult result = sender.sendMarkdownAsync(MessageModel.builder().title("t").text("hello").build()).join();
+
+        assertTrue(result.isOk());
+        assertEquals("agent", route.get());
+    }
+
+    @Test
+    public void exchangeFailureShouldBecomeAFailedResult() {
+        WebhookExchange exchange = request -> CompletableFuture.failedFuture(new IOException("agent offline"));
+        MessageSender sender = new RoutedMessageSender(new WechatWorkMessageSender(robotConfig()), exchange);
+
+        SendResult result = sender.sendText(MessageModel.builder().text("hello").build());
+
+        assertFalse(result.isOk());
+        assertTrue(result.getMsg().contains("agent offline"));
+    }
+
+    @Test
+    public void agentCallableShouldReplayTheSignedRequest() throws Exception {
+        AtomicReference<String> body = new AtomicReference<>();
+        AtomicReference<String> query = new AtomicReference<>();
+        HttpServer server = HttpServer.create(new InetSocketAddress(0), 0);
+        server.createContext("/robot/send", http -> {
+            body.set(new String(http.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            query.set(http.getRequestURI().getQuery());
+            byte[] response = "{\"errcode\":0,\"errmsg\":\"ok\"}".getBytes(StandardCharsets.UTF_8);
+            http.sendResponseHeaders(200, response.length);
+            http.getResponseBody().write(response);
+            http.close();
+        });
+        server.start();
+        try {
+            String uri = "http://127.0.0.1:" + server.getAddress().getPort() + "/robot/send?access_token=t&sign=s";
+            WebhookRequest request = new WebhookRequest(uri, Map.of("Content-Type", List.of("application/json")),
+                    "{\"msgtype\":\"text\"}", 5000L, 5000L, false);
+
+            WebhookResponse response = new AgentWebhookExchange.SendOnAgent(request).call();
+
+            assertEquals(200, response.statusCode());
+            assertEquals("{\"errcode\":0,\"errmsg\":\"ok\"}", response.body());
+            assertEquals("{\"msgtype\":\"text\"}", body.get());
+            assertEquals("access_token=t&sign=s", query.get());
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    public void callerShouldWaitForTheRequestTimeoutsPlusChannelMargin() {
+        WebhookRequest timed = new WebhookRequest(WEBHOOK, Map.of(), "{}", 3000L, 2000L, false);
+        WebhookRequest untimed = new WebhookRequest(WEBHOOK, Map.of(), "{}", 0L, 2000L, false);
+
+        assertEquals(5000L + AgentWebhookExchange.CHANNEL_MARGIN_MS, AgentWebhookExchange.callTimeoutMs(timed));
+        assertEquals(AgentWebhookExchange.DEFAULT_CALL_TIMEOUT_MS, AgentWebhookExchange.callTimeoutMs(untimed));
+    }
+
+    private static CompletableFuture<WebhookResponse> answer(AtomicReference<String> route, String name) {
+        route.set(name);
+        return CompletableFuture.completedFuture(
+                new WebhookResponse(200, Map.of(), "{\"errcode\":0,\"errmsg\":\"ok\"}"));
+    }
+
+    private static RobotConfigModel robotConfig() {
+        RobotConfigModel robotConfig = new RobotConfigModel();
+        robotConfig.setRobotType(RobotType.WECHAT_WORK);
+        robotConfig.setWebhook(WEBHOOK);
+        return robotConfig;
+    }
+}
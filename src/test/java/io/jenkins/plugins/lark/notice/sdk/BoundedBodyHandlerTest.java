@@ -0,0 +1,75 @@
+package io.jenkins.plugins.lark.notice.sdk;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for the size-capped response body handler.
+ */
+public class BoundedBodyHandlerTest {
+
+    @Test
+    public void shouldCollectSmallBodies() {
+        AtomicBoolean cancelled = new AtomicBoolean();
+        BoundedBodyHandler.BoundedSubscriber subscriber = subscribe(16, cancelled);
+
+        subscriber.onNext(List.of(buffer("{\"code\""), ByteBuffer.wrap(":0}".getBytes(StandardCharsets.UTF_8)).asReadOnlyBuffer()));
+        subscriber.onComplete();
+
+        assertArrayEquals("{\"code\":0}".getBytes(StandardCharsets.UTF_8), subscriber.getBody().toCompletableFuture().join());
+        assertFalse(cancelled.get());
+    }
+
+    @Test
+    public void shouldCancelOnceTheLimitIsReached() {
+        AtomicBoolean cancelled = new AtomicBoolean();
+        BoundedBodyHandler.BoundedSubscriber subscriber = subscribe(8, cancelled);
+
+        subscriber.onNext(List.of(buffer("<html>"), buffer("<body>")));
+        subscriber.onNext(List.of(buffer("ignored")));
+
+        assertArrayEquals("<html><b".getBytes(StandardCharsets.UTF_8), subscriber.getBody().toCompletableFuture().join());
+        assertTrue(cancelled.get());
+    }
+
+    @Test
+    public void shouldCancelWhenMoreArrivesAfterAnExactlyFullBuffer() {
+        AtomicBoolean cancelled = new AtomicBoolean();
+        BoundedBodyHandler.BoundedSubscriber subscriber = subscribe(4, cancelled);
+
+        subscriber.onNext(List.of(buffer("abcd")));
+        assertFalse(cancelled.get());
+        subscriber.onNext(List.of(buffer("e")));
+
+        assertArrayEquals("abcd".getBytes(StandardCharsets.UTF_8), subscriber.getBody().toCompletableFuture().join());
+        assertTrue(cancelled.get());
+    }
+
+    private static BoundedBodyHandler.BoundedSubscriber subscribe(int maxBytes, AtomicBoolean cancelled) {
+        BoundedBodyHandler.BoundedSubscriber subscriber = new BoundedBodyHandler.BoundedSubscriber(maxBytes);
+        subscriber.onSubscribe(new Flow.Subscription() {
+            @Override
+            public void request(long n) {
+            }
+
+            @Override
+            public void cancel() {
+                cancelled.set(true);
+            }
+        });
+        return subscriber;
+    }
+
+    private static ByteBuffer buffer(String value) {
+        return ByteBuffer.wrap(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,78 @@
+package io.jenkins.plugins.lark.notice.sdk;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for endpoint selection in {@link EndpointLatencyProber}.
+ */
+public class EndpointLatencyProberTest {
+
+    private static final String FEISHU = "https://open.feishu.cn";
+
+    private static final String LARKSUITE = "https://open.larksuite.com";
+
+    private static final List<String> CANDIDATES = List.of(FEISHU, LARKSUITE);
+
+    private final EndpointLatencyProber prober = new EndpointLatencyProber(null);
+
+    @Test
+    public void shouldUseConfiguredBaseUrlUntilMeasured() {
+        assertEquals(FEISHU, prober.select(CANDIDATES, null));
+    }
+
+    @Test
+    public void shouldRouteToClearlyFasterEndpoint() {
+        prober.select(CANDIDATES, null);
+        prober.recordSuccess(FEISHU, millis(400));
+        prober.recordSuccess(LARKSUITE, millis(60));
+
+        assertEquals(LARKSUITE, prober.select(CANDIDATES, null));
+    }
+
+    @Test
+    public void shouldKeepEarlierEndpointWhenLatencyIsSimilar() {
+        prober.select(CANDIDATES, null);
+        prober.recordSuccess(FEISHU, millis(100));
+        prober.recordSuccess(LARKSUITE, millis(90));
+
+        assertEquals(FEISHU, prober.select(CANDIDATES, null));
+    }
+
+    @Test
+    public void shouldFallBackWhenFastestEndpointDegrades() {
+        prober.select(CANDIDATES, null);
+        prober.recordSuccess(FEISHU, millis(400));
+        prober.recordSuccess(LARKSUITE, millis(60));
+        for (int i = 0; i < EndpointLatencyProber.UNHEALTHY_FAILURES; i++) {
+            prober.recordFailure(LARKSUITE, "connect timed out");
+        }
+
+        assertEquals(FEISHU, prober.select(CANDIDATES, null));
+        List<EndpointProbeStats> stats = prober.stats(CANDIDATES);
+        assertTrue(stats.get(0).selected());
+        assertFalse(stats.get(1).healthy());
+        assertEquals("connect timed out", stats.get(1).lastError());
+    }
+
+    @Test
+    public void shouldUseConfiguredBaseUrlWhenNoEndpointIsHealthy() {
+        prober.select(CANDIDATES, null);
+        for (int i = 0; i < EndpointLatencyProber.UNHEALTHY_FAILURES; i++) {
+            prober.recordFailure(FEISHU, "refused");
+            prober.recordFailure(LARKSUITE, "refused");
+        }
+
+        assertEquals(FEISHU, prober.select(CANDIDATES, null));
+    }
+
+    private static long millis(long value) {
+        return TimeUnit.MILLISECONDS.toNanos(value);
+    }
+}
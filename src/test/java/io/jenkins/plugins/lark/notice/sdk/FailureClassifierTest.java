@@ -0,0 +1,55 @@
+package io.jenkins.plugins.lark.notice.sdk;
+
+import io.jenkins.plugins.lark.notice.enums.RobotType;
+import io.jenkins.plugins.lark.notice.sdk.model.SendResult;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for provider-aware failure classification.
+ */
+public class FailureClassifierTest {
+
+    @Test
+    public void shouldTreatSignatureAndKeywordErrorsAsPermanent() {
+        assertEquals(FailureClass.PERMANENT,
+                FailureClassifier.classify(RobotType.LARK, new SendResult(19021, "sign match fail", null)));
+        assertEquals(FailureClass.PERMANENT,
+                FailureClassifier.classify(RobotType.DING_TALK, new SendResult(310000, "keywords not in content", null)));
+        assertEquals(FailureClass.PERMANENT,
+                FailureClassifier.classify(RobotType.WECHAT_WORK, new SendResult(93000, "invalid webhook url", null)));
+    }
+
+    @Test
+    public void shouldOnlyMatchCodesOfTheGivenProvider() {
+        assertEquals(FailureClass.RETRYABLE,
+                FailureClassifier.classify(RobotType.LARK, new SendResult(93000, "unknown", null)));
+        assertEquals(FailureClass.PERMANENT,
+                FailureClassifier.classify(null, new SendResult(93000, "invalid webhook url", null)));
+    }
+
+    @Test
+    public void shouldTreatThrottleCodesAsThrottled() {
+        assertEquals(FailureClass.THROTTLED,
+                FailureClassifier.classify(RobotType.DING_TALK, new SendResult(130101, "send too fast", null)));
+    }
+
+    @Test
+    public void shouldClassifyHttpStatuses() {
+        SendResult gone = SendResult.fail("HTTP 404");
+        gone.setHttpStatus(404);
+        SendResult unavailable = SendResult.fail("HTTP 502");
+        unavailable.setHttpStatus(502);
+
+        assertEquals(FailureClass.PERMANENT, FailureClassifier.classify(RobotType.LARK, gone));
+        assertEquals(FailureClass.RETRYABLE, FailureClassifier.classify(RobotType.LARK, unavailable));
+    }
+
+    @Test
+    public void shouldKeepTransportErrorsRetryableAndHonorStampedClass() {
+        assertEquals(FailureClass.RETRYABLE, FailureClassifier.classify(null, SendResult.fail("IO error: reset")));
+        assertEquals(FailureClass.RETRYABLE, FailureClassifier.classify(null, null));
+        assertEquals(FailureClass.PERMANENT, FailureClassifier.classify(null, SendResult.permanentFail("unsupported")));
+    }
+}
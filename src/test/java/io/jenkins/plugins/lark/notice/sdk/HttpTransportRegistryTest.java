@@ -0,0 +1,74 @@
+package io.jenkins.plugins.lark.notice.sdk;
+
+import org.junit.Test;
+
+import java.time.Duration;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for client sharing in {@link HttpTransportRegistry}.
+ */
+public class HttpTransportRegistryTest {
+
+    @Test
+    public void shouldReuseTransportForSameProfile() {
+        HttpTransportRegistry registry = new HttpTransportRegistry();
+
+        HttpTransport first = registry.obtain(null, false);
+        HttpTransport second = registry.obtain(null, false);
+
+        assertSame(first, second);
+        assertSame(first.client(), second.client());
+        assertEquals(1, registry.size());
+    }
+
+    @Test
+    public void shouldSeparateTransportsBySslMode() {
+        HttpTransportRegistry registry = new HttpTransportRegistry();
+
+        HttpTransport verified = registry.obtain(null, false);
+        HttpTransport insecure = registry.obtain(null, true);
+
+        assertNotSame(verified, insecure);
+        assertEquals(2, registry.size());
+        assertEquals(2, registry.stats().size());
+    }
+
+    @Test
+    public void shouldRebuildClientAfterInvalidate() {
+        HttpTransportRegistry registry = new HttpTransportRegistry();
+        HttpTransport before = registry.obtain(null, false);
+
+        registry.invalidate();
+
+        assertTrue(registry.stats().isEmpty());
+        assertNotSame(before, registry.obtain(null, false));
+    }
+
+    @Test
+    public void shouldShutDownClientOnInvalidate() throws InterruptedException {
+        HttpTransportRegistry registry = new HttpTransportRegistry();
+        HttpTransport before = registry.obtain(null, false);
+
+        registry.invalidate();
+
+        assertTrue(before.client().awaitTermination(Duration.ofSeconds(5)));
+    }
+
+    @Test
+    public void shouldCountRequestsWithoutTlsSession() {
+        HttpTransportRegistry registry = new HttpTransportRegistry();
+        HttpTransport transport = registry.obtain(null, false);
+
+        transport.record(null);
+        transport.record(null);
+
+        HttpTransportStats stats = transport.stats();
+        assertEquals(2, stats.requests());
+        assertEquals(0, stats.newSessions());
+    }
+}
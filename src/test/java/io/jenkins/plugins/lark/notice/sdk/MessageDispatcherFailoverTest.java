@@ -0,0 +1,174 @@
+package io.jenkins.plugins.lark.notice.sdk;
+
+import io.jenkins.plugins.lark.notice.config.LarkRetryConfig;
+import io.jenkins.plugins.lark.notice.enums.MsgTypeEnum;
+import io.jenkins.plugins.lark.notice.model.MessageModel;
+import io.jenkins.plugins.lark.notice.sdk.model.SendResult;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for failover in {@link MessageDispatcher}.
+ */
+public class MessageDispatcherFailoverTest {
+
+    private static final MessageModel MESSAGE = MessageModel.builder().type(MsgTypeEnum.TEXT).text("hello").build();
+
+    private final CircuitBreakerRegistry breakers = new CircuitBreakerRegistry();
+
+    private final MessageDispatcher dispatcher = new MessageDispatcher(MessageSenderRegistry.getInstance(), null,
+            RateLimiterRegistry.getInstance(), breakers, ConcurrencyLimiterRegistry.getInstance());
+
+    @Test
+    public void shouldNotFailOverSuccessfulSends() {
+        assertFalse(dispatcher.shouldFailover("robot", new SendResult(0, "ok", null)));
+    }
+
+    @Test
+    public void shouldFailOverPermanentAndThrottledFailures() {
+        assertTrue(dispatcher.shouldFailover("robot", SendResult.permanentFail("webhook deleted")));
+
+        SendResult throttled = SendResult.fail("too many requests");
+        throttled.setFailureClass(FailureClass.THROTTLED);
+        assertTrue(dispatcher.shouldFailover("robot", throttled));
+    }
+
+    @Test
+    public void shouldKeepRetryableFailuresWhileCircuitIsClosed() {
+        SendResult failed = SendResult.fail("timeout");
+        failed.setFailureClass(FailureClass.RETRYABLE);
+
+        assertFalse(dispatcher.shouldFailover("robot", failed));
+    }
+
+    @Test
+    public void shouldFailOverWhenRobotFailedRepeatedly() {
+        for (int i = 0; i < RobotCircuitBreaker.FAILURE_THRESHOLD; i++) {
+            breakers.record("robot", true, 0L);
+        }
+        SendResult failed = SendResult.fail("connection refused");
+        failed.setFailureClass(FailureClass.RETRYABLE);
+
+        assertTrue(dispatcher.shouldFailover("robot", failed));
+    }
+
+    @Test
+    public void shouldFailOverWithoutRetryingThrottledPrimary() throws Exception {
+        AtomicInteger primarySends = new AtomicInteger();
+        MessageDispatcher chain = chain(5_000L, Map.of(
+                "robot", sender(() -> {
+                    primarySends.incrementAndGet();
+                    SendResult throttled = SendResult.fail("too many requests");
+                    throttled.setFailureClass(FailureClass.THROTTLED);
+                    return CompletableFuture.completedFuture(throttled);
+                }),
+                "backup", sender(() -> CompletableFuture.completedFuture(new SendResult(0, "ok", null)))));
+
+        SendResult result = chain.sendAsync(null, "robot", MESSAGE).get(5, TimeUnit.SECONDS);
+
+        assertTrue(result.isOk());
+        assertEquals("backup", result.getDeliveredBy());
+        assertEquals(1, primarySends.get());
+    }
+
+    @Test
+    public void shouldLeaveDeliveredByUnsetWhenEveryRobotFailed() throws Exception {
+        MessageDispatcher chain = chain(5_000L, Map.of(
+                "robot", sender(() -> CompletableFuture.completedFuture(SendResult.permanentFail("webhook deleted"))),
+                "backup", sender(() -> CompletableFuture.completedFuture(SendResult.permanentFail("webhook deleted")))));
+
+        SendResult result = chain.sendAsync(null, "robot", MESSAGE).get(5, TimeUnit.SECONDS);
+
+        assertFalse(result.isOk());
+        assertNull(result.getDeliveredBy());
+    }
+
+    @Test
+    public void shouldShareOneDeadlineAcrossFallbacks() throws Exception {
+        MessageDispatcher chain = chain(400L, Map.of(
+                "robot", sender(() -> CompletableFuture.supplyAsync(
+                        () -> SendResult.permanentFail("webhook deleted"),
+                        CompletableFuture.delayedExecutor(250L, TimeUnit.MILLISECONDS))),
+                "backup", sender(CompletableFuture::new)));
+
+        long start = System.nanoTime();
+        SendResult result = chain.sendAsync(null, "robot", MESSAGE).get(5, TimeUnit.SECONDS);
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertFalse(result.isOk());
+        assertTrue("took " + elapsedMs + " ms", elapsedMs < 600L);
+    }
+
+    @Test
+    public void shouldFailOverReplayedMessages() throws Exception {
+        MessageDispatcher chain = chain(5_000L, Map.of(
+                "robot", sender(() -> CompletableFuture.completedFuture(SendResult.permanentFail("webhook deleted"))),
+                "backup", sender(() -> CompletableFuture.completedFuture(new SendResult(0, "ok", null)))));
+
+        SendResult result = chain.replayAsync(null, "robot", MESSAGE, chain.resolveSender("robot"))
+                .get(5, TimeUnit.SECONDS);
+
+        assertTrue(result.isOk());
+        assertEquals("backup", result.getDeliveredBy());
+    }
+
+    private static MessageDispatcher chain(long deadlineMs, Map<String, MessageSender> senders) {
+        return new MessageDispatcher(MessageSenderRegistry.getInstance(), MessageDispatcher.RETRY_SCHEDULER,
+                new RateLimiterRegistry(), new CircuitBreakerRegistry(), new ConcurrencyLimiterRegistry()) {
+            @Override
+            MessageSender resolveSender(String robotId) {
+                return senders.get(robotId);
+            }
+
+            @Override
+            List<String> resolveFallbackRobotIds(String robotId) {
+                return "robot".equals(robotId) ? List.of("backup") : List.of();
+            }
+
+            @Override
+            RetryPolicy resolveRetryPolicy(String robotId) {
+                return RetryPolicy.from(new LarkRetryConfig(true, 5, 0, 0, 1.0, 0.0));
+            }
+
+            @Override
+            long resolveDeadlineMs(String robotId) {
+                return deadlineMs;
+            }
+
+            @Override
+            RateLimitPolicy resolveRateLimitPolicy(String robotId) {
+                return RateLimitPolicy.unlimited();
+            }
+        };
+    }
+
+    private static MessageSender sender(Supplier<CompletableFuture<SendResult>> send) {
+        return new MessageSender() {
+            @Override
+            public SendResult sendText(MessageModel msg) {
+                return send.get().join();
+            }
+
+            @Override
+            public SendResult sendMarkdown(MessageModel msg) {
+                return sendText(msg);
+            }
+
+            @Override
+            public CompletableFuture<SendResult> sendTextAsync(MessageModel msg) {
+                return send.get();
+            }
+        };
+    }
+}
@@ -1,12 +1,20 @@
 package io.jenkins.plugins.lark.notice.sdk;
 
+import io.jenkins.plugins.lark.notice.config.LarkRateLimitConfig;
 import io.jenkins.plugins.lark.notice.config.LarkRetryConfig;
 import io.jenkins.plugins.lark.notice.enums.MsgTypeEnum;
 import io.jenkins.plugins.lark.notice.model.MessageModel;
 import io.jenkins.plugins.lark.notice.sdk.model.SendResult;
 import org.junit.Test;
 
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
@@ -75,11 +83,185 @@ public class MessageDispatcherRetryTest {
         assertEquals(2, attempts.get());
     }
 
+    @Test
+    public void shouldNotRetryPermanentFailures() {
+        RetryPolicy policy = RetryPolicy.from(new LarkRetryConfig(true, 3, 0, 0, 1.0, 0.0));
+        TestDispatcher dispatcher = new TestDispatcher(policy);
+
+        AtomicInteger attempts = new AtomicInteger();
+        MessageSender sender = new MessageSender() {
+            @Override
+            public SendResult sendText(MessageModel msg) {
+                attempts.incrementAndGet();
+                return SendResult.permanentFail("sign match fail");
+            }
+
+            @Override
+            public SendResult sendMarkdown(MessageModel msg) {
+                return sendText(msg);
+            }
+        };
+
+        MessageModel message = MessageModel.builder()
+                .type(MsgTypeEnum.TEXT)
+                .text("hello")
+                .build();
+
+        SendResult result = dispatcher.send(null, null, message, sender);
+        assertFalse(result.isOk());
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    public void shouldStopRetryingWhenDeadlineWouldPass() {
+        RetryPolicy policy = RetryPolicy.from(new LarkRetryConfig(true, 3, 5000, 5000, 1.0, 0.0));
+        MessageDispatcher dispatcher = new MessageDispatcher(MessageSenderRegistry.getInstance(),
+                MessageDispatcher.RETRY_SCHEDULER, RateLimiterRegistry.getInstance(),
+                CircuitBreakerRegistry.getInstance(), ConcurrencyLimiterRegistry.getInstance()) {
+            @Override
+            RetryPolicy resolveRetryPolicy(String robotId) {
+                return policy;
+            }
+
+            @Override
+            long resolveDeadlineMs(String robotId) {
+                return 1000L;
+            }
+        };
+
+        AtomicInteger attempts = new AtomicInteger();
+        MessageSender sender = new MessageSender() {
+            @Override
+            public SendResult sendText(MessageModel msg) {
+                attempts.incrementAndGet();
+                return SendResult.fail("fail");
+            }
+
+            @Override
+            public SendResult sendMarkdown(MessageModel msg) {
+                return sendText(msg);
+            }
+        };
+
+        MessageModel message = MessageModel.builder()
+                .type(MsgTypeEnum.TEXT)
+                .text("hello")
+                .build();
+
+        SendResult result = dispatcher.send(null, null, message, sender);
+        assertFalse(result.isOk());
+        assertEquals(1, attempts.get());
+        assertTrue(result.getMsg().contains("1000"));
+    }
+
+    @Test
+    public void shouldReleaseCallerWhileWaitingForRetry() throws Exception {
+        RetryPolicy policy = RetryPolicy.from(new LarkRetryConfig(true, 2, 1000, 1000, 1.0, 0.0));
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        try {
+            MessageDispatcher dispatcher = new MessageDispatcher(MessageSenderRegistry.getInstance(), scheduler,
+                    RateLimiterRegistry.getInstance(), CircuitBreakerRegistry.getInstance(),
+                    ConcurrencyLimiterRegistry.getInstance()) {
+                @Override
+                RetryPolicy resolveRetryPolicy(String robotId) {
+                    return policy;
+                }
+            };
+
+            AtomicInteger attempts = new AtomicInteger();
+            MessageSender sender = new MessageSender() {
+                @Override
+                public SendResult sendText(MessageModel msg) {
+                    return attempts.incrementAndGet() < 2 ? SendResult.fail("fail") : new SendResult(0, "ok", null);
+                }
+
+                @Override
+                public SendResult sendMarkdown(MessageModel msg) {
+                    return sendText(msg);
+                }
+            };
+
+            MessageModel message = MessageModel.builder()
+                    .type(MsgTypeEnum.TEXT)
+                    .text("hello")
+                    .build();
+
+            long start = System.nanoTime();
+            CompletableFuture<SendResult> future = dispatcher.sendAsync(null, null, message, sender);
+            assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 1000);
+            assertFalse(future.isDone());
+            assertEquals(1, attempts.get());
+
+            SendResult result = future.get(15, TimeUnit.SECONDS);
+            assertTrue(result.isOk());
+            assertEquals(2, attempts.get());
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test
+    public void shouldRetryOnAnotherPoolMemberWithoutHoldingTheRobot() {
+        RateLimitPolicy rateLimit = RateLimitPolicy.from(new LarkRateLimitConfig(true, 100, 0, 10_000L), null);
+        RateLimiterRegistry rateLimiters = new RateLimiterRegistry();
+        MessageDispatcher dispatcher = new MessageDispatcher(MessageSenderRegistry.getInstance(),
+                MessageDispatcher.RETRY_SCHEDULER, rateLimiters, new CircuitBreakerRegistry(),
+                new ConcurrencyLimiterRegistry()) {
+            @Override
+            RetryPolicy resolveRetryPolicy(String robotId) {
+                return RetryPolicy.from(new LarkRetryConfig(true, 2, 0, 0, 1.0, 0.0));
+            }
+
+            @Override
+            long resolveDeadlineMs(String robotId) {
+                return 5_000L;
+            }
+
+            @Override
+            RateLimitPolicy resolveRateLimitPolicy(String robotId) {
+                return rateLimit;
+            }
+        };
+        AtomicInteger throttledCalls = new AtomicInteger();
+        PooledMessageSender pool = new PooledMessageSender(List.of(
+                new PooledMessageSender.Member("throttled", 1, textSender(() -> {
+                    throttledCalls.incrementAndGet();
+                    SendResult result = SendResult.fail("HTTP 429");
+                    result.setHttpStatus(429);
+                    result.setHeaders(Map.of("Retry-After", List.of("60")));
+                    return result;
+                })),
+                new PooledMessageSender.Member("free", 1, textSender(() -> new SendResult(0, "ok", null)))));
+        MessageModel message = MessageModel.builder().type(MsgTypeEnum.TEXT).text("hello").build();
+
+        SendResult result = dispatcher.send(null, "pooled", message, pool);
+
+        assertTrue(result.isOk());
+        assertEquals(1, throttledCalls.get());
+        assertEquals(0L, rateLimiters.reserve("pooled", rateLimit));
+    }
+
+    private static MessageSender textSender(Supplier<SendResult> send) {
+        return new MessageSender() {
+            @Override
+            public SendResult sendText(MessageModel msg) {
+                return send.get();
+            }
+
+            @Override
+            public SendResult sendMarkdown(MessageModel msg) {
+                return send.get();
+            }
+        };
+    }
+
     private static final class TestDispatcher extends MessageDispatcher {
         private final RetryPolicy retryPolicy;
 
         private TestDispatcher(RetryPolicy retryPolicy) {
-            super(MessageSenderRegistry.getInstance());
+            super(MessageSenderRegistry.getInstance(), MessageDispatcher.RETRY_SCHEDULER,
+                    RateLimiterRegistry.getInstance(), CircuitBreakerRegistry.getInstance(),
+                    ConcurrencyLimiterRegistry.getInstance());
             this.retryPolicy = retryPolicy;
         }
 
@@ -0,0 +1,193 @@
+package io.jenkins.plugins.lark.notice.sdk;
+
+import io.jenkins.plugins.lark.notice.config.LarkRateLimitConfig;
+import io.jenkins.plugins.lark.notice.config.LarkRetryConfig;
+import io.jenkins.plugins.lark.notice.enums.MsgTypeEnum;
+import io.jenkins.plugins.lark.notice.model.MessageModel;
+import io.jenkins.plugins.lark.notice.sdk.model.SendResult;
+import org.junit.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests that {@link MessageDispatcher} returns concurrency slots however a send ends, and never sends once
+ * the delivery deadline has passed.
+ */
+public class MessageDispatcherSlotTest {
+
+    private static final String ROBOT_ID = "robot";
+
+    private static final MessageModel MESSAGE = MessageModel.builder().type(MsgTypeEnum.TEXT).text("hello").build();
+
+    private final ConcurrencyLimiterRegistry concurrencyLimiters = new ConcurrencyLimiterRegistry();
+
+    private final MessageDispatcher dispatcher = new MessageDispatcher(MessageSenderRegistry.getInstance(),
+            MessageDispatcher.RETRY_SCHEDULER, new RateLimiterRegistry(), new CircuitBreakerRegistry(),
+            concurrencyLimiters) {
+        @Override
+        RetryPolicy resolveRetryPolicy(String robotId) {
+            return RetryPolicy.from(new LarkRetryConfig(false, 1, 0, 0, 1.0, 0.0));
+        }
+
+        @Override
+        long resolveDeadlineMs(String robotId) {
+            return TimeUnit.SECONDS.toMillis(10);
+        }
+
+        @Override
+        RateLimitPolicy resolveRateLimitPolicy(String robotId) {
+            return RateLimitPolicy.unlimited();
+        }
+    };
+
+    @Test
+    public void shouldReleaseSlotWhenSenderThrows() throws Exception {
+        MessageSender sender = new MessageSender() {
+            @Override
+            public SendResult sendText(MessageModel msg) {
+                throw new IllegalArgumentException("template has the wrong shape");
+            }
+
+            @Override
+            public SendResult sendMarkdown(MessageModel msg) {
+                return sendText(msg);
+            }
+        };
+
+        for (int i = 0; i < RobotConcurrencyLimiter.MAX_LIMIT + 1; i++) {
+            SendResult result = dispatcher.sendAsync(null, ROBOT_ID, MESSAGE, sender).get(5, TimeUnit.SECONDS);
+            assertFalse(result.isOk());
+        }
+
+        assertEquals(0, concurrencyLimiters.inFlight(ROBOT_ID));
+    }
+
+    @Test
+    public void shouldReleaseSlotWhenSendCompletesExceptionally() throws Exception {
+        MessageSender sender = new MessageSender() {
+            @Override
+            public SendResult sendText(MessageModel msg) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public CompletableFuture<SendResult> sendTextAsync(MessageModel msg) {
+                return CompletableFuture.failedFuture(new IllegalStateException("connection reset"));
+            }
+
+            @Override
+            public SendResult sendMarkdown(MessageModel msg) {
+                return sendText(msg);
+            }
+        };
+
+        SendResult result = dispatcher.sendAsync(null, ROBOT_ID, MESSAGE, sender).get(5, TimeUnit.SECONDS);
+
+        assertFalse(result.isOk());
+        assertTrue(result.getMsg().contains("connection reset"));
+        assertEquals(0, concurrencyLimiters.inFlight(ROBOT_ID));
+    }
+
+    @Test
+    public void shouldNotSendWhenPermitArrivesAfterDeadline() throws Exception {
+        MessageDispatcher limited = new MessageDispatcher(MessageSenderRegistry.getInstance(),
+                MessageDispatcher.RETRY_SCHEDULER, new RateLimiterRegistry(), new CircuitBreakerRegistry(),
+                concurrencyLimiters) {
+            @Override
+            RetryPolicy resolveRetryPolicy(String robotId) {
+                return RetryPolicy.from(new LarkRetryConfig(false, 1, 0, 0, 1.0, 0.0));
+            }
+
+            @Override
+            long resolveDeadlineMs(String robotId) {
+                return 200L;
+            }
+
+            @Override
+            RateLimitPolicy resolveRateLimitPolicy(String robotId) {
+                return RateLimitPolicy.from(new LarkRateLimitConfig(true, 1, 0, 5_000L), null);
+            }
+        };
+        AtomicInteger sends = new AtomicInteger();
+        MessageSender sender = new MessageSender() {
+            @Override
+            public SendResult sendText(MessageModel msg) {
+                sends.incrementAndGet();
+                return new SendResult(0, "ok", null);
+            }
+
+            @Override
+            public SendResult sendMarkdown(MessageModel msg) {
+                return sendText(msg);
+            }
+        };
+
+        assertTrue(limited.sendAsync(null, ROBOT_ID, MESSAGE, sender).get(5, TimeUnit.SECONDS).isOk());
+        SendResult late = limited.sendAsync(null, ROBOT_ID, MESSAGE, sender).get(5, TimeUnit.SECONDS);
+        Thread.sleep(1_500L);
+
+        assertFalse(late.isOk());
+        assertTrue(late.getMsg().contains("200"));
+        assertEquals(1, sends.get());
+        // the refused permit was not taken, so the bucket refilled on schedule
+        assertTrue(limited.sendAsync(null, ROBOT_ID, MESSAGE, sender).get(5, TimeUnit.SECONDS).isOk());
+        assertEquals(2, sends.get());
+        assertEquals(0, concurrencyLimiters.inFlight(ROBOT_ID));
+    }
+
+    @Test
+    public void shouldCutOffSendStillInFlightAtDeadline() throws Exception {
+        MessageDispatcher shortDeadline = new MessageDispatcher(MessageSenderRegistry.getInstance(),
+                MessageDispatcher.RETRY_SCHEDULER, new RateLimiterRegistry(), new CircuitBreakerRegistry(),
+                concurrencyLimiters) {
+            @Override
+            RetryPolicy resolveRetryPolicy(String robotId) {
+                return RetryPolicy.from(new LarkRetryConfig(false, 1, 0, 0, 1.0, 0.0));
+            }
+
+            @Override
+            long resolveDeadlineMs(String robotId) {
+                return 200L;
+            }
+
+            @Override
+            RateLimitPolicy resolveRateLimitPolicy(String robotId) {
+                return RateLimitPolicy.unlimited();
+            }
+        };
+        CompletableFuture<SendResult> inFlight = new CompletableFuture<>();
+        MessageSender sender = new MessageSender() {
+            @Override
+            public SendResult sendText(MessageModel msg) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public CompletableFuture<SendResult> sendTextAsync(MessageModel msg) {
+                return inFlight;
+            }
+
+            @Override
+            public SendResult sendMarkdown(MessageModel msg) {
+                return sendText(msg);
+            }
+        };
+
+        SendResult result = shortDeadline.sendAsync(null, ROBOT_ID, MESSAGE, sender).get(5, TimeUnit.SECONDS);
+        for (int i = 0; i < 100 && !inFlight.isDone(); i++) {
+            Thread.sleep(10L);
+        }
+
+        assertFalse(result.isOk());
+        assertTrue(result.getMsg().contains("200"));
+        assertTrue(inFlight.isCompletedExceptionally());
+        assertFalse(inFlight.complete(new SendResult(0, "late", null)));
+        assertEquals(0, concurrencyLimiters.inFlight(ROBOT_ID));
+    }
+}
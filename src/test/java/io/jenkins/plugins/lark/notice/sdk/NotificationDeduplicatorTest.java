@@ -0,0 +1,174 @@
+package io.jenkins.plugins.lark.notice.sdk;
+
+import io.jenkins.plugins.lark.notice.sdk.model.SendResult;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link NotificationDeduplicator}.
+ */
+public class NotificationDeduplicatorTest {
+
+    private static final long WINDOW_MS = 10_000L;
+
+    private static final long MAX_WAIT_MS = 5_000L;
+
+    private static final NotificationDeduplicator.Key KEY = new NotificationDeduplicator.Key("robot-a", 42L);
+
+    @Test
+    public void shouldSuppressDuplicateOfDeliveredMessage() {
+        NotificationDeduplicator deduplicator = new NotificationDeduplicator(16);
+        AtomicInteger sends = new AtomicInteger();
+
+        SendResult first = deduplicator.deduplicate(KEY, WINDOW_MS, MAX_WAIT_MS, 0L, () -> send(sends, 0)).join();
+        SendResult second = deduplicator.deduplicate(KEY, WINDOW_MS, MAX_WAIT_MS, 1L, () -> send(sends, 0)).join();
+
+        assertEquals(1, sends.get());
+        assertFalse(first.isDeduplicated());
+        assertTrue(second.isOk());
+        assertTrue(second.isDeduplicated());
+        assertEquals("robot-a", second.getDeliveredBy());
+        assertNull(second.getRequestBody());
+        assertEquals(1L, deduplicator.stats().suppressed());
+        assertEquals(50, deduplicator.stats().hitPercent());
+    }
+
+    @Test
+    public void shouldWaitForInFlightOriginal() {
+        NotificationDeduplicator deduplicator = new NotificationDeduplicator(16);
+        CompletableFuture<SendResult> original = new CompletableFuture<>();
+        AtomicInteger sends = new AtomicInteger();
+
+        deduplicator.deduplicate(KEY, WINDOW_MS, MAX_WAIT_MS, 0L, () -> original);
+        CompletableFuture<SendResult> duplicate = deduplicator.deduplicate(KEY, WINDOW_MS, MAX_WAIT_MS, 1L,
+                () -> send(sends, 0));
+        assertFalse(duplicate.isDone());
+
+        original.complete(delivered(0));
+        assertTrue(duplicate.join().isDeduplicated());
+        assertEquals(0, sends.get());
+    }
+
+    @Test
+    public void shouldSendDuplicateWhenOriginalFailed() {
+        NotificationDeduplicator deduplicator = new NotificationDeduplicator(16);
+        AtomicInteger sends = new AtomicInteger();
+
+        deduplicator.deduplicate(KEY, WINDOW_MS, MAX_WAIT_MS, 0L, () -> send(sends, -1)).join();
+        SendResult retried = deduplicator.deduplicate(KEY, WINDOW_MS, MAX_WAIT_MS, 1L, () -> send(sends, 0)).join();
+
+        assertEquals(2, sends.get());
+        assertTrue(retried.isOk());
+        assertFalse(retried.isDeduplicated());
+        assertEquals(1, deduplicator.size());
+    }
+
+    @Test
+    public void shouldSendAgainOnceWindowHasPassed() {
+        NotificationDeduplicator deduplicator = new NotificationDeduplicator(16);
+        AtomicInteger sends = new AtomicInteger();
+        long windowNanos = TimeUnit.MILLISECONDS.toNanos(WINDOW_MS);
+
+        deduplicator.deduplicate(KEY, WINDOW_MS, MAX_WAIT_MS, 0L, () -> send(sends, 0)).join();
+        SendResult later = deduplicator.deduplicate(KEY, WINDOW_MS, MAX_WAIT_MS, windowNanos,
+                () -> send(sends, 0)).join();
+
+        assertEquals(2, sends.get());
+        assertFalse(later.isDeduplicated());
+    }
+
+    @Test
+    public void shouldKeepDifferentRobotsAndPayloadsApart() {
+        NotificationDeduplicator deduplicator = new NotificationDeduplicator(16);
+        AtomicInteger sends = new AtomicInteger();
+
+        deduplicator.deduplicate(KEY, WINDOW_MS, MAX_WAIT_MS, 0L, () -> send(sends, 0)).join();
+        deduplicator.deduplicate(new NotificationDeduplicator.Key("robot-b", 42L), WINDOW_MS, MAX_WAIT_MS, 0L,
+                () -> send(sends, 0)).join();
+        deduplicator.deduplicate(new NotificationDeduplicator.Key("robot-a", 43L), WINDOW_MS, MAX_WAIT_MS, 0L,
+                () -> send(sends, 0)).join();
+
+        assertEquals(3, sends.get());
+    }
+
+    @Test
+    public void shouldEvictOldestEntriesBeyondCapacity() {
+        NotificationDeduplicator deduplicator = new NotificationDeduplicator(4);
+        AtomicInteger sends = new AtomicInteger();
+
+        for (int i = 0; i < 10; i++) {
+            deduplicator.deduplicate(new NotificationDeduplicator.Key("robot-a", i), WINDOW_MS, MAX_WAIT_MS, i,
+                    () -> send(sends, 0)).join();
+        }
+
+        assertEquals(4, deduplicator.size());
+        assertEquals(4, deduplicator.stats().entries());
+        assertTrue(deduplicator.stats().approximateBytes() >= 4L * NotificationDeduplicator.ENTRY_OVERHEAD_BYTES);
+        deduplicator.deduplicate(new NotificationDeduplicator.Key("robot-a", 0), WINDOW_MS, MAX_WAIT_MS, 10L,
+                () -> send(sends, 0)).join();
+        assertEquals(11, sends.get());
+    }
+
+    @Test
+    public void shouldForgetOriginalWhoseSendThrows() {
+        NotificationDeduplicator deduplicator = new NotificationDeduplicator(16);
+        AtomicInteger sends = new AtomicInteger();
+
+        assertThrows(IllegalStateException.class, () -> deduplicator.deduplicate(KEY, WINDOW_MS, MAX_WAIT_MS, 0L,
+                () -> {
+                    throw new IllegalStateException("render failed");
+                }));
+        SendResult next = deduplicator.deduplicate(KEY, WINDOW_MS, MAX_WAIT_MS, 1L, () -> send(sends, 0))
+                .orTimeout(5, TimeUnit.SECONDS).join();
+
+        assertTrue(next.isOk());
+        assertFalse(next.isDeduplicated());
+        assertEquals(1, sends.get());
+    }
+
+    @Test
+    public void shouldStopWaitingForSlowOriginalAfterCallerDeadline() {
+        NotificationDeduplicator deduplicator = new NotificationDeduplicator(16);
+        CompletableFuture<SendResult> original = new CompletableFuture<>();
+        AtomicInteger sends = new AtomicInteger();
+
+        deduplicator.deduplicate(KEY, WINDOW_MS, MAX_WAIT_MS, 0L, () -> original);
+        SendResult duplicate = deduplicator.deduplicate(KEY, WINDOW_MS, 50L, 1L, () -> send(sends, 0))
+                .orTimeout(5, TimeUnit.SECONDS).join();
+
+        assertFalse(duplicate.isDeduplicated());
+        assertEquals(1, sends.get());
+        assertFalse(original.isDone());
+    }
+
+    @Test
+    public void shouldSpreadSimilarPayloads() {
+        long first = NotificationDeduplicator.hash64("build #41 succeeded".getBytes(StandardCharsets.UTF_8));
+        long second = NotificationDeduplicator.hash64("build #42 succeeded".getBytes(StandardCharsets.UTF_8));
+
+        assertNotEquals(first, second);
+        assertEquals(first, NotificationDeduplicator.hash64("build #41 succeeded".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static CompletableFuture<SendResult> send(AtomicInteger sends, int code) {
+        sends.incrementAndGet();
+        return CompletableFuture.completedFuture(delivered(code));
+    }
+
+    private static SendResult delivered(int code) {
+        SendResult result = new SendResult(code, code == 0 ? "ok" : "failed", "{\"msg_type\":\"text\"}");
+        result.setDeliveredBy("robot-a");
+        return result;
+    }
+}
@@ -0,0 +1,129 @@
+package io.jenkins.plugins.lark.notice.sdk;
+
+import io.jenkins.plugins.lark.notice.model.MessageModel;
+import io.jenkins.plugins.lark.notice.sdk.model.SendResult;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for member selection in {@link PooledMessageSender}.
+ */
+public class PooledMessageSenderTest {
+
+    @Test
+    public void shouldRotateOverEquallyLoadedMembers() {
+        PooledMessageSender.Member first = member("first", 1);
+        PooledMessageSender.Member second = member("second", 1);
+        PooledMessageSender pool = new PooledMessageSender(List.of(first, second));
+
+        assertEquals("first", pool.select(0L).label());
+        assertEquals("second", pool.select(0L).label());
+        assertEquals("first", pool.select(0L).label());
+    }
+
+    @Test
+    public void shouldFollowWeights() {
+        PooledMessageSender.Member light = member("light", 1);
+        PooledMessageSender.Member heavy = member("heavy", 3);
+        PooledMessageSender pool = new PooledMessageSender(List.of(light, heavy));
+        long now = System.nanoTime();
+
+        for (int i = 0; i < 8; i++) {
+            pool.select(now);
+        }
+
+        List<PoolMemberStats> stats = pool.stats();
+        assertEquals(2, stats.get(0).recentSends());
+        assertEquals(6, stats.get(1).recentSends());
+    }
+
+    @Test
+    public void shouldForgetSendsOutsideTheQuotaWindow() {
+        PooledMessageSender.Member first = member("first", 1);
+        PooledMessageSender.Member second = member("second", 1);
+        PooledMessageSender pool = new PooledMessageSender(List.of(first, second));
+        pool.select(0L);
+        pool.select(0L);
+        pool.select(0L);
+
+        assertEquals("second", pool.select(PooledMessageSender.LOAD_WINDOW_NANOS).label());
+    }
+
+    @Test
+    public void shouldSkipUnhealthyMemberUntilCoolDownEnds() {
+        PooledMessageSender.Member flaky = member("flaky", 1);
+        PooledMessageSender.Member steady = member("steady", 1);
+        PooledMessageSender pool = new PooledMessageSender(List.of(flaky, steady));
+        for (int i = 0; i < PooledMessageSender.UNHEALTHY_FAILURES; i++) {
+            pool.record(flaky, false, 0L);
+        }
+
+        assertEquals("steady", pool.select(1L).label());
+        assertEquals("steady", pool.select(1L).label());
+        assertEquals("flaky", pool.select(PooledMessageSender.UNHEALTHY_NANOS).label());
+    }
+
+    @Test
+    public void shouldStillSendWhenEveryMemberIsUnhealthy() {
+        PooledMessageSender.Member only = member("only", 1);
+        PooledMessageSender pool = new PooledMessageSender(List.of(only));
+        for (int i = 0; i < PooledMessageSender.UNHEALTHY_FAILURES; i++) {
+            pool.record(only, false, 0L);
+        }
+
+        assertEquals("only", pool.select(1L).label());
+    }
+
+    @Test
+    public void shouldSkipThrottledMemberUntilItsHoldEnds() {
+        PooledMessageSender.Member throttled = member("throttled", 1);
+        PooledMessageSender.Member free = member("free", 1);
+        PooledMessageSender pool = new PooledMessageSender(List.of(throttled, free));
+
+        pool.record(throttled, throttledResult("2"), 0L);
+
+        assertEquals(0L, pool.remainingHoldMs(1L));
+        assertEquals("free", pool.select(1L).label());
+        assertEquals("free", pool.select(1L).label());
+        assertEquals("throttled", pool.select(TimeUnit.SECONDS.toNanos(2)).label());
+    }
+
+    @Test
+    public void shouldHoldPoolOnlyWhileEveryMemberIsHeld() {
+        PooledMessageSender.Member first = member("first", 1);
+        PooledMessageSender.Member second = member("second", 1);
+        PooledMessageSender pool = new PooledMessageSender(List.of(first, second));
+
+        pool.record(first, throttledResult("5"), 0L);
+        pool.record(second, throttledResult("2"), 0L);
+
+        assertEquals(2_000L, pool.remainingHoldMs(0L));
+        assertEquals(0L, pool.remainingHoldMs(TimeUnit.SECONDS.toNanos(2)));
+    }
+
+    private static SendResult throttledResult(String retryAfterSeconds) {
+        SendResult result = SendResult.fail("HTTP 429");
+        result.setHttpStatus(429);
+        result.setHeaders(Map.of("Retry-After", List.of(retryAfterSeconds)));
+        return result;
+    }
+
+    private static PooledMessageSender.Member member(String label, int weight) {
+        return new PooledMessageSender.Member(label, weight, new MessageSender() {
+            @Override
+            public SendResult sendText(MessageModel msg) {
+                return new SendResult(0, "ok", null);
+            }
+
+            @Override
+            public SendResult sendMarkdown(MessageModel msg) {
+                return new SendResult(0, "ok", null);
+            }
+        });
+    }
+}
@@ -0,0 +1,51 @@
+package io.jenkins.plugins.lark.notice.sdk;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for the sliding-window {@link RetryBudget}.
+ */
+public class RetryBudgetTest {
+
+    @Test
+    public void shouldAllowMinimumRetriesWithoutTraffic() {
+        RetryBudget budget = new RetryBudget();
+        for (int i = 0; i < RetryBudget.MIN_RETRIES; i++) {
+            assertTrue(budget.tryAcquireRetry(0L));
+        }
+
+        assertFalse(budget.tryAcquireRetry(0L));
+        assertEquals(1L, budget.stats(0L).exhausted());
+        assertEquals(100, budget.stats(0L).usagePercent());
+    }
+
+    @Test
+    public void shouldScaleWithFirstAttempts() {
+        RetryBudget budget = new RetryBudget();
+        for (int i = 0; i < 100; i++) {
+            budget.recordAttempt(0L);
+        }
+
+        int granted = 0;
+        while (budget.tryAcquireRetry(0L)) {
+            granted++;
+        }
+        assertEquals(20, granted);
+    }
+
+    @Test
+    public void shouldRefillOnceRetriesLeaveTheWindow() {
+        RetryBudget budget = new RetryBudget();
+        for (int i = 0; i < RetryBudget.MIN_RETRIES; i++) {
+            budget.tryAcquireRetry(0L);
+        }
+        assertFalse(budget.tryAcquireRetry(RetryBudget.WINDOW_NANOS - 1));
+
+        assertTrue(budget.tryAcquireRetry(RetryBudget.WINDOW_NANOS));
+        assertEquals(1L, budget.stats(RetryBudget.WINDOW_NANOS).retries());
+    }
+}
@@ -0,0 +1,79 @@
+package io.jenkins.plugins.lark.notice.sdk;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link RobotCircuitBreaker} state transitions.
+ */
+public class RobotCircuitBreakerTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(100);
+
+    @Test
+    public void shouldOpenAfterConsecutiveFailuresAndFailFast() {
+        RobotCircuitBreaker breaker = new RobotCircuitBreaker("robot");
+        for (int i = 1; i < RobotCircuitBreaker.FAILURE_THRESHOLD; i++) {
+            assertTrue(breaker.tryAcquire(0L));
+            assertNull(breaker.record(true, FAST, 0L));
+        }
+
+        assertEquals(CircuitState.OPEN, breaker.record(true, FAST, 0L));
+        assertFalse(breaker.tryAcquire(RobotCircuitBreaker.OPEN_NANOS - 1));
+        assertEquals(1L, breaker.stats("robot", 0L).rejected());
+    }
+
+    @Test
+    public void shouldOpenWhenMostRecentCallsAreSlow() {
+        RobotCircuitBreaker breaker = new RobotCircuitBreaker("robot");
+        long slow = RobotCircuitBreaker.SLOW_CALL_NANOS + 1;
+        CircuitState transition = null;
+        for (int i = 0; i < RobotCircuitBreaker.MIN_CALLS && transition == null; i++) {
+            transition = breaker.record(false, slow, 0L);
+        }
+
+        assertEquals(CircuitState.OPEN, transition);
+    }
+
+    @Test
+    public void shouldCloseAfterSuccessfulProbes() {
+        RobotCircuitBreaker breaker = openBreaker();
+        long probeTime = RobotCircuitBreaker.OPEN_NANOS;
+
+        for (int i = 0; i < RobotCircuitBreaker.PROBE_CALLS; i++) {
+            assertTrue(breaker.tryAcquire(probeTime));
+        }
+        assertFalse(breaker.tryAcquire(probeTime));
+        assertEquals(CircuitState.HALF_OPEN, breaker.state());
+
+        assertNull(breaker.record(false, FAST, probeTime));
+        assertEquals(CircuitState.CLOSED, breaker.record(false, FAST, probeTime));
+        assertTrue(breaker.tryAcquire(probeTime));
+    }
+
+    @Test
+    public void shouldReopenWhenProbeFails() {
+        RobotCircuitBreaker breaker = openBreaker();
+        long probeTime = RobotCircuitBreaker.OPEN_NANOS;
+
+        assertTrue(breaker.tryAcquire(probeTime));
+        assertEquals(CircuitState.OPEN, breaker.record(true, FAST, probeTime));
+        assertFalse(breaker.tryAcquire(probeTime + 1));
+        assertEquals(2L, breaker.stats("robot", probeTime).opened());
+    }
+
+    private static RobotCircuitBreaker openBreaker() {
+        RobotCircuitBreaker breaker = new RobotCircuitBreaker("robot");
+        for (int i = 0; i < RobotCircuitBreaker.FAILURE_THRESHOLD; i++) {
+            breaker.record(true, FAST, 0L);
+        }
+        assertEquals(CircuitState.OPEN, breaker.state());
+        return breaker;
+    }
+}
@@ -0,0 +1,74 @@
+package io.jenkins.plugins.lark.notice.sdk;
+
+import org.junit.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link RobotConcurrencyLimiter}.
+ */
+public class RobotConcurrencyLimiterTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(50);
+
+    @Test
+    public void shouldQueueRequestsAboveTheLimitAndAdmitThemOnRelease() {
+        RobotConcurrencyLimiter limiter = new RobotConcurrencyLimiter("robot");
+        for (int i = 0; i < RobotConcurrencyLimiter.INITIAL_LIMIT; i++) {
+            assertTrue(limiter.acquire().join());
+        }
+
+        CompletableFuture<Boolean> queued = limiter.acquire();
+        assertFalse(queued.isDone());
+        assertEquals(1, limiter.stats("robot").waiting());
+
+        limiter.release(FAST, false);
+        assertTrue(queued.join());
+        assertEquals(0, limiter.stats("robot").waiting());
+        assertEquals(RobotConcurrencyLimiter.INITIAL_LIMIT, limiter.stats("robot").inFlight());
+    }
+
+    @Test
+    public void shouldGrowWhileLatencyStaysLow() {
+        RobotConcurrencyLimiter limiter = new RobotConcurrencyLimiter("robot");
+        for (int i = 0; i < 40; i++) {
+            assertTrue(limiter.acquire().join());
+            limiter.release(FAST, false);
+        }
+
+        assertTrue(limiter.currentLimit() > RobotConcurrencyLimiter.INITIAL_LIMIT);
+    }
+
+    @Test
+    public void shouldScaleLimitWithPoolSize() {
+        RobotConcurrencyLimiter limiter = new RobotConcurrencyLimiter("robot");
+        for (int i = 0; i < RobotConcurrencyLimiter.INITIAL_LIMIT * 3; i++) {
+            assertTrue(limiter.acquire(3).join());
+        }
+
+        assertFalse(limiter.acquire(3).isDone());
+        assertEquals(RobotConcurrencyLimiter.INITIAL_LIMIT * 3, limiter.currentLimit());
+    }
+
+    @Test
+    public void shouldShrinkOnSlowOrFailedCalls() {
+        RobotConcurrencyLimiter limiter = new RobotConcurrencyLimiter("robot");
+        assertTrue(limiter.acquire().join());
+        limiter.release(FAST, false);
+
+        assertTrue(limiter.acquire().join());
+        limiter.release(FAST * 10, false);
+        assertTrue(limiter.currentLimit() < RobotConcurrencyLimiter.INITIAL_LIMIT);
+
+        for (int i = 0; i < 10; i++) {
+            assertTrue(limiter.acquire().join());
+            limiter.release(FAST, true);
+        }
+        assertEquals(RobotConcurrencyLimiter.MIN_LIMIT, limiter.currentLimit());
+    }
+}
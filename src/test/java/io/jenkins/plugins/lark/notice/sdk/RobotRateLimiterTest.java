@@ -0,0 +1,73 @@
+package io.jenkins.plugins.lark.notice.sdk;
+
+import io.jenkins.plugins.lark.notice.config.LarkRateLimitConfig;
+import io.jenkins.plugins.lark.notice.enums.RobotType;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for the per-robot token buckets.
+ */
+public class RobotRateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    public void shouldUseLarkPlatformDefaultsWhenLimitsAreUnset() {
+        RateLimitPolicy policy = RateLimitPolicy.from(LarkRateLimitConfig.defaultConfig(), RobotType.LARK);
+
+        assertEquals(5, policy.getRequestsPerSecond());
+        assertEquals(100, policy.getRequestsPerMinute());
+    }
+
+    @Test
+    public void shouldDelayPermitsBeyondTheBurst() {
+        RobotRateLimiter limiter = new RobotRateLimiter("robot");
+        RateLimitPolicy policy = RateLimitPolicy.from(new LarkRateLimitConfig(true, 5, 0, 10_000L), null);
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0L, limiter.reserve(policy, 0L));
+        }
+        long wait = limiter.reserve(policy, 0L);
+
+        assertEquals(SECOND / 5, wait);
+        assertEquals(2 * SECOND / 5, limiter.reserve(policy, 0L));
+        assertEquals(7, limiter.stats("robot").granted());
+        assertEquals(2, limiter.stats("robot").delayed());
+    }
+
+    @Test
+    public void shouldRejectWhenPermitArrivesAfterDeadline() {
+        RobotRateLimiter limiter = new RobotRateLimiter("robot");
+        RateLimitPolicy policy = RateLimitPolicy.from(new LarkRateLimitConfig(true, 0, 1, 1_000L), null);
+
+        assertEquals(0L, limiter.reserve(policy, 0L));
+        assertEquals(-1L, limiter.reserve(policy, 0L));
+        assertEquals(0L, limiter.reserve(policy, TimeUnit.MINUTES.toNanos(1)));
+        assertEquals(1, limiter.stats("robot").rejected());
+    }
+
+    @Test
+    public void shouldNotLimitWhenDisabled() {
+        RateLimitPolicy policy = RateLimitPolicy.from(new LarkRateLimitConfig(false, 1, 1, 0L), RobotType.LARK);
+
+        assertTrue(policy.isUnlimited());
+        assertEquals(0L, new RateLimiterRegistry().reserve("robot", policy));
+    }
+
+    @Test
+    public void shouldHoldPermitsUntilServerHint() {
+        RobotRateLimiter limiter = new RobotRateLimiter("robot");
+        RateLimitPolicy policy = RateLimitPolicy.from(new LarkRateLimitConfig(false, 0, 0, 10_000L), null);
+
+        limiter.holdUntil(3 * SECOND);
+
+        assertEquals(3 * SECOND, limiter.reserve(policy, 0L));
+        assertEquals(0L, limiter.reserve(policy, 4 * SECOND));
+        assertEquals(1, limiter.stats("robot").throttled());
+    }
+}
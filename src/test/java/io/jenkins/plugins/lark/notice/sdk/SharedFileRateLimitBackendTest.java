@@ -0,0 +1,147 @@
+package io.jenkins.plugins.lark.notice.sdk;
+
+import io.jenkins.plugins.lark.notice.config.LarkRateLimitConfig;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for rate-limit state shared through a memory-mapped file.
+ */
+public class SharedFileRateLimitBackendTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Rule
+    public TemporaryFolder temp = new TemporaryFolder();
+
+    private final AtomicLong clock = new AtomicLong(1_000 * SECOND);
+
+    @Test
+    public void shouldShareBucketsBetweenBackendsOnTheSameFile() throws IOException {
+        Path file = temp.getRoot().toPath().resolve("rate-limits");
+        RateLimitPolicy policy = RateLimitPolicy.from(new LarkRateLimitConfig(true, 2, 0, 10_000L), null);
+        try (SharedFileRateLimitBackend first = new SharedFileRateLimitBackend(file, clock::get);
+             SharedFileRateLimitBackend second = new SharedFileRateLimitBackend(file, clock::get)) {
+            RateLimitState one = first.stateFor("robot");
+            RateLimitState other = second.stateFor("robot");
+
+            assertEquals(0L, one.reserve(policy, 0L));
+            assertEquals(0L, other.reserve(policy, 0L));
+            assertEquals(SECOND / 2, one.reserve(policy, 0L));
+
+            clock.addAndGet(SECOND);
+            assertEquals(0L, other.reserve(policy, 0L));
+        }
+    }
+
+    @Test
+    public void shouldKeepRobotsApart() throws IOException {
+        RateLimitPolicy policy = RateLimitPolicy.from(new LarkRateLimitConfig(true, 1, 0, 0L), null);
+        try (SharedFileRateLimitBackend backend = backend()) {
+            assertEquals(0L, backend.stateFor("a").reserve(policy, 0L));
+            assertEquals(0L, backend.stateFor("b").reserve(policy, 0L));
+            assertEquals(-1L, backend.stateFor("a").reserve(policy, 0L));
+        }
+    }
+
+    @Test
+    public void shouldNotConsumePermitsWhenRejected() throws IOException {
+        RateLimitPolicy policy = RateLimitPolicy.from(new LarkRateLimitConfig(true, 10, 1, 0L), null);
+        try (SharedFileRateLimitBackend backend = backend()) {
+            RateLimitState state = backend.stateFor("robot");
+
+            assertEquals(0L, state.reserve(policy, 0L));
+            for (int i = 0; i < 20; i++) {
+                assertEquals(-1L, state.reserve(policy, 0L));
+            }
+
+            clock.addAndGet(60 * SECOND);
+            assertEquals(0L, state.reserve(policy, 0L));
+        }
+    }
+
+    @Test
+    public void shouldKeepSecondBucketUntouchedWhenMinuteBucketRejects() throws IOException {
+        RateLimitPolicy minuteOnly = RateLimitPolicy.from(new LarkRateLimitConfig(true, 0, 1, 0L), null);
+        RateLimitPolicy both = RateLimitPolicy.from(new LarkRateLimitConfig(true, 1, 1, 0L), null);
+        RateLimitPolicy secondOnly = RateLimitPolicy.from(new LarkRateLimitConfig(true, 1, 0, 0L), null);
+        try (SharedFileRateLimitBackend backend = backend()) {
+            RateLimitState state = backend.stateFor("robot");
+
+            assertEquals(0L, state.reserve(minuteOnly, 0L));
+            assertEquals(-1L, state.reserve(both, 0L));
+
+            assertEquals(0L, state.reserve(secondOnly, 0L));
+        }
+    }
+
+    @Test
+    public void shouldHoldUntilServerHintAcrossBackends() throws IOException {
+        Path file = temp.getRoot().toPath().resolve("rate-limits");
+        RateLimitPolicy policy = RateLimitPolicy.from(new LarkRateLimitConfig(false, 0, 0, 10_000L), null);
+        try (SharedFileRateLimitBackend first = new SharedFileRateLimitBackend(file, clock::get);
+             SharedFileRateLimitBackend second = new SharedFileRateLimitBackend(file, clock::get)) {
+            first.stateFor("robot").holdUntil(5 * SECOND, 2 * SECOND);
+
+            assertEquals(3 * SECOND, second.stateFor("robot").reserve(policy, 0L));
+        }
+    }
+
+    @Test
+    public void shouldFallBackToMemoryOnceEverySlotIsTaken() throws IOException {
+        try (SharedFileRateLimitBackend backend = backend()) {
+            for (int i = 0; i < SharedFileRateLimitBackend.SLOTS; i++) {
+                assertFalse(backend.stateFor("robot-" + i) instanceof InMemoryRateLimitState);
+            }
+
+            assertTrue(backend.stateFor("one-too-many") instanceof InMemoryRateLimitState);
+            assertFalse(backend.stateFor("robot-0") instanceof InMemoryRateLimitState);
+        }
+    }
+
+    @Test
+    public void shouldRecognizeNetworkFileSystems() {
+        assertTrue(SharedFileRateLimitBackend.isNetworkFileSystem("nfs4"));
+        assertTrue(SharedFileRateLimitBackend.isNetworkFileSystem("NFS"));
+        assertTrue(SharedFileRateLimitBackend.isNetworkFileSystem("cifs"));
+        assertTrue(SharedFileRateLimitBackend.isNetworkFileSystem("fuse.sshfs"));
+        assertFalse(SharedFileRateLimitBackend.isNetworkFileSystem("ext4"));
+        assertFalse(SharedFileRateLimitBackend.isNetworkFileSystem("tmpfs"));
+        assertFalse(SharedFileRateLimitBackend.isNetworkFileSystem("apfs"));
+    }
+
+    @Test
+    public void shouldRejectForeignFiles() throws IOException {
+        Path file = temp.newFile("foreign").toPath();
+        Files.write(file, new byte[]{1, 2, 3, 4, 5, 6, 7, 8});
+
+        assertThrows(IOException.class, () -> new SharedFileRateLimitBackend(file, clock::get));
+    }
+
+    @Test
+    public void shouldFallBackToMemoryWhenFileCannotBeOpened() throws IOException {
+        RateLimiterRegistry registry = new RateLimiterRegistry();
+        RateLimitPolicy policy = RateLimitPolicy.from(new LarkRateLimitConfig(true, 1, 0, 0L), null);
+
+        registry.useSharedStateFile(temp.newFolder("dir").getAbsolutePath());
+
+        assertEquals(0L, registry.reserve("robot", policy));
+        assertEquals(-1L, registry.reserve("robot", policy));
+    }
+
+    private SharedFileRateLimitBackend backend() throws IOException {
+        return new SharedFileRateLimitBackend(temp.getRoot().toPath().resolve("rate-limits"), clock::get);
+    }
+}
@@ -0,0 +1,59 @@
+package io.jenkins.plugins.lark.notice.sdk;
+
+import io.jenkins.plugins.lark.notice.sdk.model.SendResult;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for server throttling hint detection.
+ */
+public class ThrottleSignalsTest {
+
+    @Test
+    public void shouldReadRetryAfterSecondsFromHttp429() {
+        SendResult result = SendResult.fail("HTTP 429");
+        result.setHttpStatus(429);
+        result.setHeaders(Map.of("retry-after", List.of("7")));
+
+        assertEquals(Optional.of(7_000L), ThrottleSignals.retryAfterMs(result, 0L));
+    }
+
+    @Test
+    public void shouldReadRetryAfterHttpDate() {
+        assertEquals(30_000L, ThrottleSignals.parseRetryAfter("Thu, 01 Jan 1970 00:00:30 GMT", 0L));
+        assertEquals(-1L, ThrottleSignals.parseRetryAfter("soon", 0L));
+    }
+
+    @Test
+    public void shouldFallBackToProviderDefaultForThrottleCodes() {
+        SendResult wecom = new SendResult(45009, "api freq out of limit", null);
+        SendResult lark = new SendResult(9499, "too many request", null);
+
+        assertEquals(Optional.of(60_000L), ThrottleSignals.retryAfterMs(wecom, 0L));
+        assertEquals(Optional.of(1_000L), ThrottleSignals.retryAfterMs(lark, 0L));
+    }
+
+    @Test
+    public void shouldIgnoreOrdinaryFailures() {
+        SendResult result = new SendResult(19021, "sign match fail", null);
+        result.setHttpStatus(200);
+
+        assertTrue(ThrottleSignals.retryAfterMs(result, 0L).isEmpty());
+        assertTrue(ThrottleSignals.retryAfterMs(null, 0L).isEmpty());
+    }
+
+    @Test
+    public void shouldCapExcessiveHints() {
+        SendResult result = SendResult.fail("HTTP 503");
+        result.setHttpStatus(503);
+        result.setHeaders(Map.of("Retry-After", List.of("86400")));
+
+        assertEquals(Optional.of(ThrottleSignals.MAX_HINT_MS), ThrottleSignals.retryAfterMs(result, 0L));
+    }
+}
@@ -0,0 +1,102 @@
+package io.jenkins.plugins.lark.notice.sdk.impl;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.sun.net.httpserver.HttpServer;
+import io.jenkins.plugins.lark.notice.enums.MsgTypeEnum;
+import io.jenkins.plugins.lark.notice.enums.RobotType;
+import io.jenkins.plugins.lark.notice.model.MessageModel;
+import io.jenkins.plugins.lark.notice.model.RobotConfigModel;
+import io.jenkins.plugins.lark.notice.sdk.model.SendResult;
+import io.jenkins.plugins.lark.notice.tools.JsonUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for Lark payload rendering.
+ */
+public class LarkMessageSenderTest {
+
+    private HttpServer server;
+
+    private List<String> requestBodies;
+
+    @Before
+    public void setUp() throws IOException {
+        requestBodies = new CopyOnWriteArrayList<>();
+        server = HttpServer.create(new InetSocketAddress(0), 0);
+        server.createContext("/open-apis/bot/v2/hook/token", exchange -> {
+            requestBodies.add(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            byte[] response = "{\"code\":0,\"msg\":\"success\"}".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, response.length);
+            exchange.getResponseBody().write(response);
+            exchange.close();
+        });
+        server.start();
+    }
+
+    @After
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    public void repeatedSendsShouldAddKeywordOnceWithoutChangingTheMessage() {
+        LarkMessageSender sender = new LarkMessageSender(robotConfig("release"));
+        MessageModel message = MessageModel.builder()
+                .type(MsgTypeEnum.MARKDOWN)
+                .title("Build Notice")
+                .text("build ok")
+                .build();
+
+        SendResult first = sender.sendMarkdown(message);
+        SendResult retried = sender.sendMarkdown(message);
+
+        assertTrue(first.isOk());
+        assertTrue(retried.isOk());
+        assertEquals("Build Notice", message.getTitle());
+        assertEquals("Build Notice release", headerTitle(requestBodies.get(0)));
+        assertEquals("Build Notice release", headerTitle(requestBodies.get(1)));
+    }
+
+    @Test
+    public void oneMessageShouldRenderPerRobotInParallel() {
+        MessageModel message = MessageModel.builder()
+                .type(MsgTypeEnum.CARD)
+                .title("Build Notice")
+                .text("build ok")
+                .build();
+
+        CompletableFuture.allOf(
+                new LarkMessageSender(robotConfig("alpha")).sendCardAsync(message),
+                new LarkMessageSender(robotConfig("beta")).sendCardAsync(message)).join();
+
+        assertEquals(2, requestBodies.size());
+        assertTrue(requestBodies.stream().map(LarkMessageSenderTest::headerTitle)
+                .allMatch(title -> title.equals("Build Notice alpha") || title.equals("Build Notice beta")));
+        assertEquals("Build Notice", message.getTitle());
+    }
+
+    private RobotConfigModel robotConfig(String keys) {
+        RobotConfigModel robotConfig = new RobotConfigModel();
+        robotConfig.setRobotType(RobotType.LARK);
+        robotConfig.setWebhook("http://localhost:" + server.getAddress().getPort() + "/open-apis/bot/v2/hook/token");
+        robotConfig.setKeys(keys);
+        return robotConfig;
+    }
+
+    private static String headerTitle(String requestBody) {
+        JsonNode root = JsonUtils.readTree(requestBody);
+        return root.path("card").path("header").path("title").path("content").asText();
+    }
+}
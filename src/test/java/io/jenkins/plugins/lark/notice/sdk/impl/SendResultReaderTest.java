@@ -0,0 +1,62 @@
+package io.jenkins.plugins.lark.notice.sdk.impl;
+
+import io.jenkins.plugins.lark.notice.sdk.model.SendResult;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for the streaming webhook answer reader.
+ */
+public class SendResultReaderTest {
+
+    @Test
+    public void shouldReadLarkAnswerAndSkipData() throws IOException {
+        SendResult result = SendResultReader.read(bytes("{\"data\":{\"items\":[1,2,{\"code\":7}]},\"code\":0,\"msg\":\"success\"}"));
+
+        assertTrue(result.isOk());
+        assertEquals("success", result.getMsg());
+    }
+
+    @Test
+    public void shouldReadDingTalkAndWeComFieldNames() throws IOException {
+        SendResult result = SendResultReader.read(bytes("{\"errcode\":310000,\"errmsg\":\"keywords not in content\"}"));
+
+        assertEquals(Integer.valueOf(310000), result.getCode());
+        assertEquals("keywords not in content", result.getMsg());
+    }
+
+    @Test
+    public void shouldAcceptCodeAsString() throws IOException {
+        assertEquals(Integer.valueOf(9499), SendResultReader.read("{'code':'9499','msg':'Bad Request'}").getCode());
+    }
+
+    @Test
+    public void shouldKeepFieldsReadBeforeTruncation() throws IOException {
+        SendResult result = SendResultReader.read(bytes("{\"code\":11232,\"msg\":\"frequency limited\",\"data\":{\"detail\":\"abc"));
+
+        assertEquals(Integer.valueOf(11232), result.getCode());
+        assertEquals("frequency limited", result.getMsg());
+    }
+
+    @Test
+    public void shouldRejectHtmlBodies() {
+        assertThrows(IOException.class, () -> SendResultReader.read(bytes("<html><body>Bad Gateway</body></html>")));
+    }
+
+    @Test
+    public void shouldReturnNullForEmptyBodies() throws IOException {
+        assertNull(SendResultReader.read(bytes(" \n")));
+        assertNull(SendResultReader.read(""));
+    }
+
+    private static byte[] bytes(String body) {
+        return body.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,63 @@
+package io.jenkins.plugins.lark.notice.sdk.impl;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.jenkins.plugins.lark.notice.sdk.model.lark.LarkTextMessage;
+import io.jenkins.plugins.lark.notice.tools.JsonUtils;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests that single-pass signed encoding matches the former tree-based encoding byte for byte.
+ */
+public class SignedPayloadEncoderTest {
+
+    @Test
+    public void shouldMatchTreeEncodingForSignedLarkMessages() {
+        LarkTextMessage message = LarkTextMessage.build(null, "build #42 succeeded");
+
+        assertEquals(treeEncoded(message, "1700000000", "c2lnbg=="),
+                new String(SignedPayloadEncoder.encode(message, "1700000000", "c2lnbg=="), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void shouldAppendSignatureToTheRootObjectOnly() {
+        Payload payload = new Payload("card", 7L, List.of(Map.of("tag", "div")), new Payload.Nested("中文 \"quoted\""));
+
+        String encoded = new String(SignedPayloadEncoder.encode(payload, "1", "s"), StandardCharsets.UTF_8);
+
+        assertEquals(treeEncoded(payload, "1", "s"), encoded);
+        assertEquals("{\"msgType\":\"card\",\"id\":\"7\",\"elements\":[{\"tag\":\"div\"}],"
+                + "\"nested\":{\"text\":\"中文 \\\"quoted\\\"\"},\"timestamp\":\"1\",\"sign\":\"s\"}", encoded);
+    }
+
+    @Test
+    public void shouldEncodeUnsignedMessagesAsPlainJson() {
+        LarkTextMessage message = LarkTextMessage.build(null, "hello");
+
+        assertEquals(JsonUtils.toJson(message), new String(SignedPayloadEncoder.encode(message), StandardCharsets.UTF_8));
+    }
+
+    private static String treeEncoded(Object message, String timestamp, String sign) {
+        ObjectNode objectNode = JsonUtils.valueToTree(message);
+        objectNode.put("timestamp", timestamp);
+        objectNode.put("sign", sign);
+        return JsonUtils.toJson(objectNode);
+    }
+
+    /**
+     * Message-shaped bean with a nested object, a list and a {@code Long} written as a string.
+     */
+    public record Payload(String msgType, Long id, List<Map<String, String>> elements, Nested nested) {
+
+        /**
+         * Nested object that must not receive the signature.
+         */
+        public record Nested(String text) {
+        }
+    }
+}
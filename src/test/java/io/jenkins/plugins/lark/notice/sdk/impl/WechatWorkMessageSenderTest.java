@@ -22,6 +22,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Locale;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.Assert.assertEquals;
@@ -81,6 +82,42 @@ public class WechatWorkMessageSenderTest {
         assertTrue(requestBody.get().contains("\"mentioned_mobile_list\":[\"13800138000\"]"));
     }
 
+    @Test
+    public void sendTextAsyncShouldCompleteWithWebhookResult() throws Exception {
+        RobotConfigModel robotConfig = new RobotConfigModel();
+        robotConfig.setRobotType(RobotType.WECHAT_WORK);
+        robotConfig.setWebhook("http://localhost:" + server.getAddress().getPort() + "/cgi-bin/webhook/send?key=token");
+        WechatWorkMessageSender sender = new WechatWorkMessageSender(robotConfig);
+
+        MessageModel message = MessageModel.builder()
+                .type(MsgTypeEnum.LINK)
+                .title("Build Notice")
+                .text("hello")
+                .build();
+
+        SendResult result = MessageDispatcher.getInstance().sendAsync(null, null, message, sender)
+                .get(10, TimeUnit.SECONDS);
+
+        assertTrue(result.isOk());
+        assertEquals(requestBody.get(), result.getRequestBody());
+        assertTrue(requestBody.get().contains("\"msgtype\":\"markdown\""));
+    }
+
+    @Test
+    public void sendAsyncShouldCompleteWithFailureWhenWebhookIsUnreachable() throws Exception {
+        RobotConfigModel robotConfig = new RobotConfigModel();
+        robotConfig.setRobotType(RobotType.WECHAT_WORK);
+        robotConfig.setWebhook("http://localhost:" + server.getAddress().getPort() + "/cgi-bin/webhook/send?key=token");
+        server.stop(0);
+        server = null;
+        WechatWorkMessageSender sender = new WechatWorkMessageSender(robotConfig);
+
+        SendResult result = sender.sendTextAsync(MessageModel.builder().text("hello").build())
+                .get(10, TimeUnit.SECONDS);
+
+        assertFalse(result.isOk());
+    }
+
     @Test
     public void cardMessageShouldUseNewsNoticeTemplateCardPayload() {
         RobotConfigModel robotConfig = new RobotConfigModel();
@@ -0,0 +1,127 @@
+package io.jenkins.plugins.lark.notice.sdk.outbox;
+
+import io.jenkins.plugins.lark.notice.enums.MsgTypeEnum;
+import io.jenkins.plugins.lark.notice.model.MessageModel;
+import io.jenkins.plugins.lark.notice.sdk.model.SendResult;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for the on-disk notification outbox journal.
+ */
+public class NotificationOutboxTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void shouldReplayPendingEntriesAfterReopen() throws Exception {
+        Path dir = folder.getRoot().toPath();
+        NotificationOutbox outbox = new NotificationOutbox(dir);
+        String delivered = outbox.append("robot-a", message("first"));
+        String undelivered = outbox.append("robot-a", message("second"));
+        outbox.settle(delivered, new SendResult(0, "ok", null));
+        outbox.close();
+
+        NotificationOutbox reopened = new NotificationOutbox(dir);
+        List<OutboxEntry> due = reopened.due(10);
+
+        assertEquals(1, due.size());
+        assertEquals(undelivered, due.get(0).id());
+        assertEquals("second", due.get(0).message().getText());
+        assertEquals(MsgTypeEnum.TEXT, due.get(0).message().getType());
+        assertEquals(1, reopened.stats().segments());
+        reopened.close();
+    }
+
+    @Test
+    public void shouldMoveExhaustedEntriesToDeadLettersAndReplayThem() throws Exception {
+        Path dir = folder.getRoot().toPath();
+        NotificationOutbox outbox = new NotificationOutbox(dir);
+        String id = outbox.append("robot-a", message("flaky"));
+        for (int i = 0; i <= NotificationOutbox.MAX_REPLAYS; i++) {
+            outbox.settle(id, SendResult.fail("boom"));
+        }
+        assertEquals(0, outbox.stats().pending());
+        assertEquals(1, outbox.stats().deadLetters());
+        outbox.close();
+
+        NotificationOutbox reopened = new NotificationOutbox(dir);
+        assertEquals(1, reopened.stats().deadLetters());
+        assertEquals(1, reopened.replayDeadLetters());
+
+        List<OutboxEntry> due = reopened.due(10);
+        assertEquals(1, due.size());
+        assertEquals(0, due.get(0).attempts());
+        assertEquals("boom", due.get(0).lastError());
+        assertEquals(0, reopened.stats().deadLetters());
+        reopened.close();
+    }
+
+    @Test
+    public void shouldDelayRetriesWithCappedExponentialBackoff() {
+        assertEquals(60_000L, NotificationOutbox.backoffMs(1));
+        assertEquals(120_000L, NotificationOutbox.backoffMs(2));
+        assertEquals(3_600_000L, NotificationOutbox.backoffMs(NotificationOutbox.MAX_REPLAYS));
+    }
+
+    @Test
+    public void shouldLeaveFreshEntriesToTheirInlineSend() {
+        NotificationOutbox outbox = new NotificationOutbox(folder.getRoot().toPath());
+        assertNotNull(outbox.append("robot-a", message("in flight")));
+        assertTrue(outbox.due(10).isEmpty());
+        outbox.close();
+    }
+
+    @Test
+    public void shouldNotReplayEntryWhileADrainerSendHoldsIt() {
+        NotificationOutbox outbox = new NotificationOutbox(folder.getRoot().toPath());
+        String id = outbox.append("robot-a", message("slow inline send"));
+        outbox.release(id);
+
+        assertEquals(1, outbox.due(10).size());
+        assertTrue(outbox.due(10).isEmpty());
+
+        outbox.settle(id, new SendResult(0, "ok", null));
+        assertTrue(outbox.due(10).isEmpty());
+        assertEquals(0, outbox.stats().pending());
+        outbox.close();
+    }
+
+    @Test
+    public void shouldDropOldestDeadLettersBeyondTheLimit() throws Exception {
+        Path dir = folder.getRoot().toPath();
+        NotificationOutbox outbox = new NotificationOutbox(dir);
+        String oldest = outbox.append("robot-a", message("oldest"));
+        outbox.bury(oldest, "permanent");
+        for (int i = 0; i < 2 * NotificationOutbox.MAX_DEAD_LETTERS; i++) {
+            outbox.bury(outbox.append("robot-a", message("dead " + i)), "permanent");
+        }
+        assertEquals(NotificationOutbox.MAX_DEAD_LETTERS, outbox.stats().deadLetters());
+        outbox.close();
+
+        long lines = Files.readAllLines(dir.resolve("dead-letter.ndjson")).size();
+        assertTrue("dead-letter file holds " + lines + " records", lines <= 2L * NotificationOutbox.MAX_DEAD_LETTERS);
+
+        NotificationOutbox reopened = new NotificationOutbox(dir);
+        assertEquals(NotificationOutbox.MAX_DEAD_LETTERS, reopened.stats().deadLetters());
+        assertEquals(NotificationOutbox.MAX_DEAD_LETTERS,
+                Files.readAllLines(dir.resolve("dead-letter.ndjson")).size());
+        assertFalse(Files.readString(dir.resolve("dead-letter.ndjson")).contains(oldest));
+        reopened.close();
+    }
+
+    private static MessageModel message(String text) {
+        return MessageModel.builder().type(MsgTypeEnum.TEXT).title("title").text(text).build();
+    }
+}
@@ -0,0 +1,114 @@
+package io.jenkins.plugins.lark.notice.sdk.relay;
+
+import io.jenkins.plugins.lark.notice.sdk.WebhookRequest;
+import io.jenkins.plugins.lark.notice.sdk.WebhookResponse;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for sending through the reference relay over a Unix domain socket, using an in-process relay whose
+ * handler stands in for the real webhook calls.
+ */
+public class LocalRelayTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void exchangeShouldStreamAnswersBackOutOfOrder() throws Exception {
+        Path socket = folder.getRoot().toPath().resolve("relay.sock");
+        CountDownLatch slowStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        try (LocalRelay ignored = LocalRelay.start(socket, 4, 0d, request -> {
+            if (request.body().equals("slow")) {
+                slowStarted.countDown();
+                await(release);
+            }
+            return new WebhookResponse(200, Map.of(), "echo:" + request.body());
+        })) {
+            RelayWebhookExchange exchange = new RelayWebhookExchange(socket);
+
+            CompletableFuture<WebhookResponse> slow = exchange.exchange(request("slow"));
+            assertTrue(slowStarted.await(5, TimeUnit.SECONDS));
+            WebhookResponse fast = exchange.exchange(request("fast")).get(5, TimeUnit.SECONDS);
+
+            assertEquals("echo:fast", fast.body());
+            assertFalse(slow.isDone());
+            release.countDown();
+            assertEquals("echo:slow", slow.get(5, TimeUnit.SECONDS).body());
+            assertEquals(0, exchange.inFlight());
+        }
+    }
+
+    @Test
+    public void handlerFailuresShouldFailOnlyTheirRequest() throws Exception {
+        Path socket = folder.getRoot().toPath().resolve("relay.sock");
+        try (LocalRelay ignored = LocalRelay.start(socket, 2, 0d, request -> {
+            if (request.body().equals("boom")) {
+                throw new IllegalStateException("upstream refused");
+            }
+            return new WebhookResponse(200, Map.of(), "ok");
+        })) {
+            RelayWebhookExchange exchange = new RelayWebhookExchange(socket);
+
+            CompletionException failure = assertThrows(CompletionException.class,
+                    () -> exchange.exchange(request("boom")).join());
+            assertTrue(failure.getCause().getMessage().contains("upstream refused"));
+            assertEquals("ok", exchange.exchange(request("next")).get(5, TimeUnit.SECONDS).body());
+        }
+    }
+
+    @Test
+    public void relayShouldSpaceRequestsToTheSameHost() throws Exception {
+        Path socket = folder.getRoot().toPath().resolve("relay.sock");
+        List<Long> handledAt = new ArrayList<>();
+        try (LocalRelay ignored = LocalRelay.start(socket, 4, 20d, request -> {
+            synchronized (handledAt) {
+                handledAt.add(System.nanoTime());
+            }
+            return new WebhookResponse(200, Map.of(), "ok");
+        })) {
+            RelayWebhookExchange exchange = new RelayWebhookExchange(socket);
+            CompletableFuture.allOf(exchange.exchange(request("a")), exchange.exchange(request("b")),
+                    exchange.exchange(request("c"))).get(5, TimeUnit.SECONDS);
+        }
+        handledAt.sort(Long::compare);
+        assertTrue(handledAt.get(2) - handledAt.get(0) >= TimeUnit.MILLISECONDS.toNanos(90));
+    }
+
+    @Test
+    public void missingRelayShouldFailTheRequest() {
+        RelayWebhookExchange exchange = new RelayWebhookExchange(folder.getRoot().toPath().resolve("absent.sock"));
+
+        CompletionException failure = assertThrows(CompletionException.class,
+                () -> exchange.exchange(request("x")).join());
+        assertTrue(failure.getCause().getMessage().contains("not reachable"));
+    }
+
+    private static WebhookRequest request(String body) {
+        return new WebhookRequest("http://127.0.0.1/hook", Map.of(), body, 5000L, 1000L, false);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
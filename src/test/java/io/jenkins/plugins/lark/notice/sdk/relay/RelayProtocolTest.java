@@ -0,0 +1,69 @@
+package io.jenkins.plugins.lark.notice.sdk.relay;
+
+import io.jenkins.plugins.lark.notice.sdk.WebhookRequest;
+import io.jenkins.plugins.lark.notice.sdk.WebhookResponse;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+
+/**
+ * Tests for the length-prefixed relay wire format.
+ */
+public class RelayProtocolTest {
+
+    @Test
+    public void requestShouldRoundTripThroughAFrame() throws IOException {
+        WebhookRequest request = new WebhookRequest("https://open.feishu.cn/open-apis/bot/v2/hook/t",
+                Map.of("Content-Type", List.of("application/json")), "{\"text\":\"构建成功\"}", 3000L, 1000L, true);
+
+        RelayProtocol.Request decoded = RelayProtocol.decodeRequest(
+                RelayProtocol.readFrame(channel(RelayProtocol.encode(new RelayProtocol.Request(42L, request)))));
+
+        assertEquals(42L, decoded.id());
+        assertEquals(request, decoded.request());
+    }
+
+    @Test
+    public void responsesShouldCarryAnswersOrErrors() throws IOException {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        WebhookResponse answer = new WebhookResponse(429, Map.of("Retry-After", List.of("2")), null);
+        stream.write(RelayProtocol.encode(new RelayProtocol.Response(1L, answer, null)));
+        stream.write(RelayProtocol.encode(new RelayProtocol.Response(2L, null, "connect timed out")));
+        ReadableByteChannel channel = channel(stream.toByteArray());
+
+        RelayProtocol.Response first = RelayProtocol.decodeResponse(RelayProtocol.readFrame(channel));
+        RelayProtocol.Response second = RelayProtocol.decodeResponse(RelayProtocol.readFrame(channel));
+
+        assertEquals(answer, first.response());
+        assertNull(first.error());
+        assertEquals(2L, second.id());
+        assertEquals("connect timed out", second.error());
+        assertNull(RelayProtocol.readFrame(channel));
+    }
+
+    @Test
+    public void truncatedOrOversizedFramesShouldBeRejected() {
+        byte[] frame = RelayProtocol.encode(new RelayProtocol.Response(1L, null, "x"));
+        assertThrows(EOFException.class, () -> RelayProtocol.readFrame(channel(Arrays.copyOf(frame, frame.length - 1))));
+
+        byte[] oversized = ByteBuffer.allocate(Integer.BYTES).putInt(RelayProtocol.MAX_FRAME_BYTES + 1).array();
+        assertThrows(IOException.class, () -> RelayProtocol.readFrame(channel(oversized)));
+    }
+
+    private static ReadableByteChannel channel(byte[] bytes) {
+        return Channels.newChannel(new ByteArrayInputStream(bytes));
+    }
+}
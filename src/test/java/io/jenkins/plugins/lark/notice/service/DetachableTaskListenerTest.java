@@ -0,0 +1,56 @@
+package io.jenkins.plugins.lark.notice.service;
+
+import hudson.util.StreamTaskListener;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link DetachableTaskListener}.
+ */
+public class DetachableTaskListenerTest {
+
+    @Test
+    public void shouldStopWritingToBuildLogOnceRunCompleted() {
+        ByteArrayOutputStream buildLog = new ByteArrayOutputStream();
+        AtomicBoolean building = new AtomicBoolean(true);
+        DetachableTaskListener listener = new DetachableTaskListener(
+                new StreamTaskListener(buildLog, StandardCharsets.UTF_8), "job#1", building::get);
+
+        listener.getLogger().println("while building");
+        building.set(false);
+        listener.getLogger().println("late result");
+
+        assertFalse(listener.isAttached());
+        assertEquals("while building" + System.lineSeparator(), buildLog.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void shouldWriteToBuildLogWhileRunIsBuilding() {
+        ByteArrayOutputStream buildLog = new ByteArrayOutputStream();
+        DetachableTaskListener listener = new DetachableTaskListener(
+                new StreamTaskListener(buildLog, StandardCharsets.UTF_8), "job#1", () -> true);
+
+        listener.getLogger().printf("[Lark] %s%n", "background result");
+
+        assertTrue(listener.isAttached());
+        assertEquals("[Lark] background result" + System.lineSeparator(), buildLog.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void shouldStayDetachedWithoutBuildListener() {
+        DetachableTaskListener listener = new DetachableTaskListener(null, "job#1", () -> true);
+
+        listener.getLogger().println("no build log");
+
+        assertFalse(listener.isAttached());
+        assertNotNull(listener.getLogger());
+    }
+}
@@ -0,0 +1,98 @@
+package io.jenkins.plugins.lark.notice.service;
+
+import io.jenkins.plugins.lark.notice.config.LarkDeliveryQueueConfig;
+import org.junit.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for the bounded background delivery queue.
+ */
+public class NotificationDeliveryQueueTest {
+
+    private static final LarkDeliveryQueueConfig ONE_SLOT = new LarkDeliveryQueueConfig(true, 1, 1, 1);
+
+    @Test
+    public void shouldDeliverQueuedBatchOnWorkerThread() throws Exception {
+        NotificationDeliveryQueue queue = new NotificationDeliveryQueue();
+        AtomicInteger delivered = new AtomicInteger();
+
+        CompletableFuture<Void> delivery = queue.submit(ONE_SLOT, delivered::incrementAndGet);
+
+        assertTrue(queue.await(delivery, 5));
+        assertEquals(1, delivered.get());
+        NotificationDeliveryQueueStats stats = queue.stats(ONE_SLOT);
+        assertEquals(1, stats.submitted());
+        assertEquals(1, stats.completed());
+        assertEquals(0, stats.dropped());
+    }
+
+    @Test
+    public void shouldDropBatchWhenQueueIsFull() throws Exception {
+        NotificationDeliveryQueue queue = new NotificationDeliveryQueue();
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+
+        CompletableFuture<Void> running = queue.submit(ONE_SLOT, () -> {
+            started.countDown();
+            awaitQuietly(release);
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Void> queued = queue.submit(ONE_SLOT, () -> { });
+        CompletableFuture<Void> rejected = queue.submit(ONE_SLOT, () -> { });
+
+        assertTrue(rejected.isCompletedExceptionally());
+        assertEquals(1, queue.depth());
+        assertEquals(1, queue.stats(ONE_SLOT).dropped());
+
+        release.countDown();
+        assertTrue(queue.await(running, 5));
+        assertTrue(queue.await(queued, 5));
+    }
+
+    @Test
+    public void shouldFreeWorkerWhileAsyncBatchIsSending() throws Exception {
+        NotificationDeliveryQueue queue = new NotificationDeliveryQueue();
+        CompletableFuture<Void> sending = new CompletableFuture<>();
+        AtomicInteger delivered = new AtomicInteger();
+
+        CompletableFuture<Void> pending = queue.submitAsync(ONE_SLOT, () -> sending);
+        CompletableFuture<Void> next = queue.submit(ONE_SLOT, delivered::incrementAndGet);
+
+        assertTrue(queue.await(next, 5));
+        assertEquals(1, delivered.get());
+        assertFalse(pending.isDone());
+        assertEquals(1, queue.stats(ONE_SLOT).completed());
+
+        sending.complete(null);
+        assertTrue(queue.await(pending, 5));
+        assertEquals(2, queue.stats(ONE_SLOT).completed());
+    }
+
+    @Test
+    public void shouldCountBuildWaitTimeout() {
+        NotificationDeliveryQueue queue = new NotificationDeliveryQueue();
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<Void> delivery = queue.submit(ONE_SLOT, () -> awaitQuietly(release));
+
+        assertFalse(queue.await(delivery, 0));
+        assertEquals(1, queue.stats(ONE_SLOT).waitTimeouts());
+        release.countDown();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package io.jenkins.plugins.lark.notice.service;
+
+import com.sun.net.httpserver.HttpServer;
+import io.jenkins.plugins.lark.notice.enums.RobotType;
+import io.jenkins.plugins.lark.notice.model.MessageModel;
+import io.jenkins.plugins.lark.notice.sdk.HttpTransport;
+import io.jenkins.plugins.lark.notice.sdk.HttpTransportRegistry;
+import io.jenkins.plugins.lark.notice.sdk.MessageSender;
+import io.jenkins.plugins.lark.notice.sdk.model.SendResult;
+import org.junit.Test;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for the startup warm-up of the notification path.
+ */
+public class NotificationWarmUpTest {
+
+    private static final MessageSender SENDER = new MessageSender() {
+        @Override
+        public SendResult sendText(MessageModel msg) {
+            return new SendResult(0, "ok", null);
+        }
+
+        @Override
+        public SendResult sendMarkdown(MessageModel msg) {
+            return new SendResult(0, "ok", null);
+        }
+    };
+
+    @Test
+    public void warmSerializersBuildsOnePayloadPerRobotType() {
+        assertEquals(RobotType.values().length, NotificationWarmUp.warmSerializers());
+    }
+
+    @Test
+    public void prebuildSendersResolvesEveryRobotWithinBudget() {
+        List<String> resolved = new ArrayList<>();
+        long deadline = System.nanoTime() + NotificationWarmUp.TIME_BUDGET.toNanos();
+
+        int built = NotificationWarmUp.prebuildSenders(List.of("robot-a", "missing", "robot-b"), robotId -> {
+            resolved.add(robotId);
+            return "missing".equals(robotId) ? null : SENDER;
+        }, deadline);
+
+        assertEquals(2, built);
+        assertEquals(List.of("robot-a", "missing", "robot-b"), resolved);
+    }
+
+    @Test
+    public void prebuildSendersStopsOnceBudgetIsSpent() {
+        List<String> resolved = new ArrayList<>();
+
+        int built = NotificationWarmUp.prebuildSenders(List.of("robot-a", "robot-b"), robotId -> {
+            resolved.add(robotId);
+            return SENDER;
+        }, System.nanoTime() - 1);
+
+        assertEquals(0, built);
+        assertTrue(resolved.isEmpty());
+    }
+
+    @Test
+    public void connectSendsHeadToTheOriginThroughTheRobotTransport() throws Exception {
+        AtomicReference<String> method = new AtomicReference<>();
+        AtomicReference<String> path = new AtomicReference<>();
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", http -> {
+            method.set(http.getRequestMethod());
+            path.set(http.getRequestURI().getPath());
+            http.sendResponseHeaders(404, -1);
+            http.close();
+        });
+        server.start();
+        try {
+            HttpTransport transport = HttpTransportRegistry.getInstance().obtain(null, false);
+            long requests = transport.stats().requests();
+
+            boolean connected = NotificationWarmUp.connect(transport,
+                    "http://127.0.0.1:" + server.getAddress().getPort()).get(10, TimeUnit.SECONDS);
+
+            assertTrue(connected);
+            assertEquals("HEAD", method.get());
+            assertEquals("/", path.get());
+            assertEquals(requests + 1, transport.stats().requests());
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    public void connectLeavesUnreachableOriginCold() throws Exception {
+        HttpTransport transport = HttpTransportRegistry.getInstance().obtain(null, false);
+
+        assertFalse(NotificationWarmUp.connect(transport, "http://127.0.0.1:1").get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void awaitConnectionsGivesUpOnSlowOriginsAtTheDeadline() {
+        Map<String, CompletableFuture<Boolean>> probes = new LinkedHashMap<>();
+        probes.put("fast", CompletableFuture.completedFuture(true));
+        probes.put("refused", CompletableFuture.completedFuture(false));
+        probes.put("stalled", new CompletableFuture<>());
+        long started = System.nanoTime();
+
+        int[] connections = NotificationWarmUp.awaitConnections(probes,
+                started + TimeUnit.MILLISECONDS.toNanos(100));
+
+        assertArrayEquals(new int[]{1, 3}, connections);
+        assertTrue(System.nanoTime() - started < NotificationWarmUp.TIME_BUDGET.toNanos());
+    }
+
+    @Test
+    public void warmUpRunsOnADaemonThread() throws Exception {
+        CountDownLatch ran = new CountDownLatch(1);
+        AtomicBoolean daemon = new AtomicBoolean();
+
+        Thread thread = NotificationWarmUp.start(() -> {
+            daemon.set(Thread.currentThread().isDaemon());
+            ran.countDown();
+        });
+
+        assertTrue(ran.await(5, TimeUnit.SECONDS));
+        assertTrue(daemon.get());
+        assertTrue(thread.isDaemon());
+        assertEquals("lark-notice-warm-up", thread.getName());
+    }
+}